@@ -0,0 +1,67 @@
+package com.doodle.scheduler.application.adapter.in.cli.importtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.timeslotimport.parser.CsvTimeSlotImportParser;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportRejection;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportedTimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Imports the CSV file given as {@code --file=<path>} and lets the application exit. The rows of a CSV
+ * name their owner, so this import is run by an operator as a job (the {@code import} profile) and is
+ * not offered over HTTP. A missing or unreadable file fails the job with a non-zero exit status;
+ * rejected rows are logged and do not.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.import.job", name = "enabled", havingValue = "true")
+public class ImportTimeSlotsJobRunner implements ApplicationRunner {
+
+    static final String FILE_OPTION = "file";
+
+    private final ImportTimeSlotsUseCase importTimeSlotsUseCase;
+    private final CsvTimeSlotImportParser csvTimeSlotImportParser;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        List<String> files = args.getOptionValues(FILE_OPTION);
+        if (files == null || files.size() != 1) {
+            throw new IllegalArgumentException("Pass the CSV file to import as --" + FILE_OPTION + "=<path>");
+        }
+        ImportTimeSlotsQueryResult result = importFile(Path.of(files.get(0)));
+        for (ImportRejection rejection : result.rejections()) {
+            log.warn("Line {} rejected: {}", rejection.lineNumber(), rejection.reason());
+        }
+        if (result.rejected() > result.rejections().size()) {
+            log.warn("{} further rejected rows not listed", result.rejected() - result.rejections().size());
+        }
+    }
+
+    public ImportTimeSlotsQueryResult importFile(Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        Stream<ImportedTimeSlot> rows;
+        try {
+            rows = csvTimeSlotImportParser.parse(reader);
+        } catch (RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        return importTimeSlotsUseCase.execute(new ImportTimeSlotsCommand(file.toString(), rows));
+    }
+}
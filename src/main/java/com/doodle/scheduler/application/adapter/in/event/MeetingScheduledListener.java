@@ -0,0 +1,21 @@
+package com.doodle.scheduler.application.adapter.in.event;
+
+import com.doodle.scheduler.application.domain.common.events.MeetingScheduledEvent;
+import com.doodle.scheduler.application.domain.common.events.Subscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class MeetingScheduledListener implements Subscriber<MeetingScheduledEvent> {
+
+    @Override
+    public void update(MeetingScheduledEvent event) {
+        log.info("MeetingScheduledEvent received: Meeting ID={}, TimeSlot ID={}, Owner ID={}, Participants={}, Timestamp={}",
+                event.meeting().getId(),
+                event.meeting().getSlotId(),
+                event.ownerId(),
+                event.meeting().getDetails().participants().size(),
+                event.timestamp());
+    }
+}
@@ -0,0 +1,27 @@
+package com.doodle.scheduler.application.adapter.in.event;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.common.events.RecurringAvailabilityCreatedEvent;
+import com.doodle.scheduler.application.domain.common.events.Subscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class RecurringAvailabilityCreatedListener implements Subscriber<RecurringAvailabilityCreatedEvent> {
+
+    @Override
+    public void update(RecurringAvailabilityCreatedEvent event) {
+        RecurrenceRule rule = event.recurringAvailability().getRule();
+        log.info("RecurringAvailabilityCreatedEvent received: RecurringAvailability ID={}, Owner ID={}, Days={}, Start={} {}, Duration={} minutes, Valid={}..{}, Timestamp={}",
+                event.recurringAvailability().getId(),
+                event.recurringAvailability().getOwnerId(),
+                rule.daysOfWeek(),
+                rule.startTime(),
+                rule.zone(),
+                rule.durationMinutes(),
+                rule.validFrom(),
+                rule.validUntil(),
+                event.timestamp());
+    }
+}
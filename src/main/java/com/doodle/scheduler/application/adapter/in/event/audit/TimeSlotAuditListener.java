@@ -0,0 +1,41 @@
+package com.doodle.scheduler.application.adapter.in.event.audit;
+
+import com.doodle.scheduler.application.domain.calendar.model.audit.TimeSlotAuditEntry;
+import com.doodle.scheduler.application.domain.common.events.TimeSlotCreatedEvent;
+import com.doodle.scheduler.application.domain.common.events.TimeSlotDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Adds time slot events to the audit trail once the transaction that raised them has committed. Events
+ * of a rolled back attempt, including the attempts an optimistic lock retry gives up on, leave no entry.
+ */
+@Component
+@RequiredArgsConstructor
+public class TimeSlotAuditListener {
+
+    private final TimeSlotAuditTrail timeSlotAuditTrail;
+
+    public void onTimeSlotCreated(TimeSlotCreatedEvent event) {
+        recordAfterCommit(TimeSlotAuditEntry.of(event));
+    }
+
+    public void onTimeSlotDeleted(TimeSlotDeletedEvent event) {
+        recordAfterCommit(TimeSlotAuditEntry.of(event));
+    }
+
+    private void recordAfterCommit(TimeSlotAuditEntry entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            timeSlotAuditTrail.record(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                timeSlotAuditTrail.record(entry);
+            }
+        });
+    }
+}
@@ -0,0 +1,167 @@
+package com.doodle.scheduler.application.adapter.in.event.audit;
+
+import com.doodle.scheduler.application.domain.calendar.model.audit.TimeSlotAuditEntry;
+import com.doodle.scheduler.application.domain.calendar.port.out.timeslotaudit.AppendTimeSlotAuditEntriesPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Buffers audit entries in memory and writes them from a single background thread, so that recording an
+ * entry costs the caller one CAS instead of an INSERT.
+ *
+ * <p>The writer wakes up every {@code flush-interval}, or as soon as a full batch is waiting, and writes
+ * everything pending in batches of {@code batch-size}. The buffer holds at most {@code buffer-capacity}
+ * entries; entries arriving while it is full are dropped and counted rather than slowing down requests.
+ * A batch the database rejects is dropped and counted as well. On shutdown the writer drains the buffer
+ * once more after the web server has stopped taking requests.
+ *
+ * <p>Metrics: {@code scheduler.audit.pending} (entries waiting), {@code scheduler.audit.lag} (age of the
+ * oldest entry of each written batch), {@code scheduler.audit.written} and {@code scheduler.audit.dropped}
+ * tagged with the reason.
+ */
+@Slf4j
+@Component
+public class TimeSlotAuditTrail implements SmartLifecycle {
+
+    // Stops after the web server's graceful shutdown (DEFAULT_PHASE - 1024) has let in-flight requests finish.
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    private final AppendTimeSlotAuditEntriesPort appendTimeSlotAuditEntriesPort;
+    private final AuditRingBuffer<Pending> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Timer lag;
+    private final Counter written;
+    private final Counter droppedBufferFull;
+    private final Counter droppedWriteFailed;
+    private final Counter droppedAfterShutdown;
+
+    private volatile Thread writer;
+    private volatile boolean running;
+    private volatile boolean stopped;
+
+    public TimeSlotAuditTrail(AppendTimeSlotAuditEntriesPort appendTimeSlotAuditEntriesPort,
+                              MeterRegistry meterRegistry,
+                              @Value("${scheduler.audit.buffer-capacity:8192}") int bufferCapacity,
+                              @Value("${scheduler.audit.batch-size:500}") int batchSize,
+                              @Value("${scheduler.audit.flush-interval:200ms}") Duration flushInterval) {
+        this.appendTimeSlotAuditEntriesPort = appendTimeSlotAuditEntriesPort;
+        this.buffer = new AuditRingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        meterRegistry.gauge("scheduler.audit.pending", buffer, AuditRingBuffer::size);
+        this.lag = meterRegistry.timer("scheduler.audit.lag");
+        this.written = meterRegistry.counter("scheduler.audit.written");
+        this.droppedBufferFull = meterRegistry.counter("scheduler.audit.dropped", "reason", "buffer-full");
+        this.droppedWriteFailed = meterRegistry.counter("scheduler.audit.dropped", "reason", "write-failed");
+        this.droppedAfterShutdown = meterRegistry.counter("scheduler.audit.dropped", "reason", "shutdown");
+    }
+
+    /**
+     * Never blocks. Safe to call from any thread.
+     */
+    public void record(TimeSlotAuditEntry entry) {
+        if (stopped) {
+            droppedAfterShutdown.increment();
+            return;
+        }
+        if (!buffer.offer(new Pending(entry, System.nanoTime()))) {
+            droppedBufferFull.increment();
+            return;
+        }
+        Thread current = writer;
+        if (current != null && buffer.size() >= batchSize) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        stopped = false;
+        Thread thread = new Thread(this::writeUntilStopped, "audit-trail-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread thread = writer;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(SHUTDOWN_TIMEOUT.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("Audit trail writer did not finish within {}; {} entries may be lost",
+                    SHUTDOWN_TIMEOUT, buffer.size());
+        }
+        stopped = true;
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void writeUntilStopped() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            if (buffer.size() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            writePending(batch);
+        }
+        writePending(batch);
+    }
+
+    private void writePending(List<Pending> batch) {
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        List<TimeSlotAuditEntry> entries = batch.stream().map(Pending::entry).toList();
+        try {
+            appendTimeSlotAuditEntriesPort.appendTimeSlotAuditEntries(entries);
+            written.increment(entries.size());
+            lag.record(System.nanoTime() - batch.get(0).recordedAtNanos(), TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            // holding on to the batch would let a database outage grow the backlog without bound
+            droppedWriteFailed.increment(entries.size());
+            log.error("Could not write {} audit entries; they are dropped", entries.size(), e);
+        }
+    }
+
+    private record Pending(TimeSlotAuditEntry entry, long recordedAtNanos) {
+    }
+}
@@ -6,6 +6,7 @@ package com.doodle.scheduler.application.adapter.in.rest.common;
  */
 public class ControllerConstants {
     public static final String USERNAME = "authenticated-user";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
     private ControllerConstants() {
     }
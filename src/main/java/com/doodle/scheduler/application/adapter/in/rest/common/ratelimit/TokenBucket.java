@@ -0,0 +1,51 @@
+package com.doodle.scheduler.application.adapter.in.rest.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket kept in a single atomic timestamp: the {@link System#nanoTime()} at which the bucket
+ * would be full again. Taking a token pushes that instant one refill interval further out; a take that
+ * would push it beyond the bucket's capacity is refused. Callers never block and never lock, and
+ * concurrent takes settle with a compare-and-set.
+ */
+public final class TokenBucket {
+
+    private final long nanosPerToken;
+    private final long capacityNanos;
+    private final AtomicLong fullAt;
+
+    public TokenBucket(double tokensPerSecond, int capacity, long nanoTime) {
+        if (tokensPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("tokensPerSecond must be > 0 and capacity >= 1");
+        }
+        this.nanosPerToken = Math.max(1, Math.round(1_000_000_000 / tokensPerSecond));
+        this.capacityNanos = nanosPerToken * capacity;
+        this.fullAt = new AtomicLong(nanoTime);
+    }
+
+    /**
+     * Takes one token. Returns 0 when a token was taken, otherwise the nanoseconds until one will be
+     * available.
+     */
+    public long tryAcquire(long nanoTime) {
+        while (true) {
+            long current = fullAt.get();
+            long next = (current - nanoTime > 0 ? current : nanoTime) + nanosPerToken;
+            long overdraft = next - nanoTime - capacityNanos;
+            if (overdraft > 0) {
+                return overdraft;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Whether every token has been refilled, so the bucket can be dropped and recreated without
+     * anyone noticing.
+     */
+    public boolean isFull(long nanoTime) {
+        return fullAt.get() - nanoTime <= 0;
+    }
+}
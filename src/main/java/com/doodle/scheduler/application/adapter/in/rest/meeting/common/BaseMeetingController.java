@@ -0,0 +1,24 @@
+package com.doodle.scheduler.application.adapter.in.rest.meeting.common;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Base controller for all meeting-related endpoints.
+ * Provides common configuration for REST controllers handling meeting operations.
+ *
+ * <p>This abstract class centralizes:
+ * <ul>
+ *   <li>Base path mapping: {@code /api/v1/meetings}</li>
+ *   <li>Validation support</li>
+ *   <li>Swagger documentation grouping</li>
+ * </ul>
+ */
+@RequestMapping("/api/v1/meetings")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Meetings", description = "APIs for scheduling meetings on user time slots")
+public abstract class BaseMeetingController {
+}
@@ -0,0 +1,108 @@
+package com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.ControllerConstants;
+import com.doodle.scheduler.application.adapter.in.rest.meeting.common.BaseMeetingController;
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.MeetingResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.ScheduleMeetingRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.mapper.MeetingDtoMapper;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingCommand;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class ScheduleMeetingController extends BaseMeetingController {
+
+    private final ScheduleMeetingUseCase scheduleMeetingUseCase;
+    private final MeetingDtoMapper meetingDtoMapper;
+
+    public ScheduleMeetingController(ScheduleMeetingUseCase scheduleMeetingUseCase, MeetingDtoMapper meetingDtoMapper) {
+        this.scheduleMeetingUseCase = scheduleMeetingUseCase;
+        this.meetingDtoMapper = meetingDtoMapper;
+    }
+
+    @PostMapping
+    @Operation(
+            summary = "Schedule a meeting",
+            description = "Books one of the authenticated user's AVAILABLE time slots for a meeting. "
+                    + "The slot is reserved with a single conditional update, so when several requests "
+                    + "race for the same slot exactly one succeeds and the others receive 409."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Meeting successfully scheduled",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = MeetingResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request body - missing or invalid fields",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Missing participants",
+                                    value = "{\"timestamp\": \"2026-02-07T09:15:00Z\", \"status\": 400, \"error\": \"Bad Request\", \"message\": \"Validation failed\", \"path\": \"/api/v1/meetings\", \"fieldErrors\": [{\"field\": \"participants\", \"message\": \"participants must not be empty\"}]}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "User or time slot not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Time slot not found",
+                                    value = "{\"timestamp\": \"2026-02-07T09:15:00Z\", \"status\": 404, \"error\": \"Not Found\", \"message\": \"Time slot not found with id: 550e8400-e29b-41d4-a716-446655440000\", \"path\": \"/api/v1/meetings\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Time slot is already booked",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Time slot not available",
+                                    value = "{\"timestamp\": \"2026-02-07T09:15:00Z\", \"status\": 409, \"error\": \"Conflict\", \"message\": \"time slot is not available: 550e8400-e29b-41d4-a716-446655440000\", \"path\": \"/api/v1/meetings\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Server error",
+                                    value = "{\"timestamp\": \"2026-02-07T09:15:00Z\", \"status\": 500, \"error\": \"Internal Server Error\", \"message\": \"An unexpected error occurred\", \"path\": \"/api/v1/meetings\"}"
+                            )
+                    )
+            )
+    })
+    public ResponseEntity<MeetingResponseDto> scheduleMeeting(
+            @Valid @RequestBody ScheduleMeetingRequestDto requestDto) {
+        var command = new ScheduleMeetingCommand(
+                ControllerConstants.USERNAME,
+                requestDto.getTimeSlotId(),
+                requestDto.getTitle(),
+                requestDto.getDescription(),
+                requestDto.getParticipants()
+        );
+        var meeting = scheduleMeetingUseCase.execute(command);
+        var responseDto = meetingDtoMapper.toResponseDto(meeting);
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
+    }
+}
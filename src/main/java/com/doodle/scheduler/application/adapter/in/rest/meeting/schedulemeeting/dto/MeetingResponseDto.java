@@ -0,0 +1,65 @@
+package com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+        name = "MeetingResponse",
+        description = "Response payload containing meeting details",
+        example = "{\"id\": \"9b2f4f3e-1c7a-4d1e-8f6a-2b3c4d5e6f70\", \"time_slot_id\": \"550e8400-e29b-41d4-a716-446655440000\", \"title\": \"Sprint planning\", \"description\": \"Q3 goals\", \"participants\": [\"7c9e6679-7425-40de-944b-e07fc1f90ae7\"], \"state\": \"SCHEDULED\"}"
+)
+public class MeetingResponseDto {
+
+    @JsonProperty("id")
+    @Schema(
+            description = "Unique identifier of the meeting",
+            example = "9b2f4f3e-1c7a-4d1e-8f6a-2b3c4d5e6f70"
+    )
+    private UUID id;
+
+    @JsonProperty("time_slot_id")
+    @Schema(
+            description = "Identifier of the booked time slot",
+            example = "550e8400-e29b-41d4-a716-446655440000"
+    )
+    private UUID timeSlotId;
+
+    @JsonProperty("title")
+    @Schema(
+            description = "Title of the meeting",
+            example = "Sprint planning"
+    )
+    private String title;
+
+    @JsonProperty("description")
+    @Schema(
+            description = "Description of the meeting",
+            example = "Q3 goals"
+    )
+    private String description;
+
+    @JsonProperty("participants")
+    @Schema(
+            description = "Identifiers of the meeting participants",
+            example = "[\"7c9e6679-7425-40de-944b-e07fc1f90ae7\"]"
+    )
+    private Set<UUID> participants;
+
+    @JsonProperty("state")
+    @Schema(
+            description = "Current state of the meeting",
+            example = "SCHEDULED"
+    )
+    private String state;
+}
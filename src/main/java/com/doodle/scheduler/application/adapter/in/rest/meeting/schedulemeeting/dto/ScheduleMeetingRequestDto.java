@@ -0,0 +1,60 @@
+package com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+        name = "ScheduleMeetingRequest",
+        description = "Request payload for scheduling a meeting on an available time slot",
+        example = "{\"time_slot_id\": \"550e8400-e29b-41d4-a716-446655440000\", \"title\": \"Sprint planning\", \"description\": \"Q3 goals\", \"participants\": [\"7c9e6679-7425-40de-944b-e07fc1f90ae7\"]}"
+)
+public class ScheduleMeetingRequestDto {
+
+    @JsonProperty("time_slot_id")
+    @NotNull(message = "time slot id must not be null")
+    @Schema(
+            description = "Identifier of the AVAILABLE time slot to book",
+            example = "550e8400-e29b-41d4-a716-446655440000",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private UUID timeSlotId;
+
+    @JsonProperty("title")
+    @NotBlank(message = "title must not be blank")
+    @Size(max = 255, message = "title must be at most 255 characters")
+    @Schema(
+            description = "Title of the meeting",
+            example = "Sprint planning",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private String title;
+
+    @JsonProperty("description")
+    @Schema(
+            description = "Optional description of the meeting",
+            example = "Q3 goals"
+    )
+    private String description;
+
+    @JsonProperty("participants")
+    @NotEmpty(message = "participants must not be empty")
+    @Schema(
+            description = "Identifiers of the meeting participants",
+            example = "[\"7c9e6679-7425-40de-944b-e07fc1f90ae7\"]",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private Set<@NotNull(message = "participant id must not be null") UUID> participants;
+}
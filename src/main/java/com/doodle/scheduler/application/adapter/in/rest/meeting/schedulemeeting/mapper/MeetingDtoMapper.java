@@ -0,0 +1,18 @@
+package com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.mapper;
+
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.MeetingResponseDto;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface MeetingDtoMapper {
+
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "timeSlotId", source = "slotId")
+    @Mapping(target = "title", source = "title")
+    @Mapping(target = "description", source = "description")
+    @Mapping(target = "participants", source = "details.participants")
+    @Mapping(target = "state", source = "stateString")
+    MeetingResponseDto toResponseDto(Meeting meeting);
+}
@@ -0,0 +1,24 @@
+package com.doodle.scheduler.application.adapter.in.rest.recurringavailability.common;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Base controller for all recurring availability endpoints.
+ * Provides common configuration for REST controllers handling recurring availability rules.
+ *
+ * <p>This abstract class centralizes:
+ * <ul>
+ *   <li>Base path mapping: {@code /api/v1/recurring-availabilities}</li>
+ *   <li>Validation support</li>
+ *   <li>Swagger documentation grouping</li>
+ * </ul>
+ */
+@RequestMapping("/api/v1/recurring-availabilities")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Recurring Availability", description = "APIs for managing weekly recurring availability")
+public abstract class BaseRecurringAvailabilityController {
+}
@@ -0,0 +1,101 @@
+package com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.ControllerConstants;
+import com.doodle.scheduler.application.adapter.in.rest.recurringavailability.common.BaseRecurringAvailabilityController;
+import com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.dto.CreateRecurringAvailabilityRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.dto.RecurringAvailabilityResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.mapper.RecurringAvailabilityDtoMapper;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.ZoneId;
+
+@RestController
+public class CreateRecurringAvailabilityController extends BaseRecurringAvailabilityController {
+
+    private final CreateRecurringAvailabilityUseCase createRecurringAvailabilityUseCase;
+    private final RecurringAvailabilityDtoMapper recurringAvailabilityDtoMapper;
+
+    public CreateRecurringAvailabilityController(CreateRecurringAvailabilityUseCase createRecurringAvailabilityUseCase,
+                                                 RecurringAvailabilityDtoMapper recurringAvailabilityDtoMapper) {
+        this.createRecurringAvailabilityUseCase = createRecurringAvailabilityUseCase;
+        this.recurringAvailabilityDtoMapper = recurringAvailabilityDtoMapper;
+    }
+
+    @PostMapping
+    @Operation(
+            summary = "Create a weekly recurring availability",
+            description = "Stores one rule (e.g. every weekday 09:00-12:00) instead of one time slot per day. "
+                    + "Occurrences appear in time slot searches with stable ids and can be booked like any "
+                    + "AVAILABLE slot; an occurrence is only stored as a time slot once it is booked."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Recurring availability successfully created",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = RecurringAvailabilityResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request body, rule or time zone",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Unknown time zone",
+                                    value = "{\"timestamp\": \"2026-02-07T09:15:00Z\", \"status\": 400, \"error\": \"Bad Request\", \"message\": \"Unknown time-zone ID: Mars/Olympus\", \"path\": \"/api/v1/recurring-availabilities\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "User not found",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "An occurrence overlaps an existing time slot or recurring availability",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Collision",
+                                    value = "{\"timestamp\": \"2026-02-07T09:15:00Z\", \"status\": 409, \"error\": \"Conflict\", \"message\": \"recurring availability overlaps an existing slot: 550e8400-e29b-41d4-a716-446655440000\", \"path\": \"/api/v1/recurring-availabilities\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<RecurringAvailabilityResponseDto> createRecurringAvailability(
+            @Valid @RequestBody CreateRecurringAvailabilityRequestDto requestDto) {
+        var command = new CreateRecurringAvailabilityCommand(
+                ControllerConstants.USERNAME,
+                requestDto.getDaysOfWeek(),
+                requestDto.getStartTime(),
+                requestDto.getDurationMinutes(),
+                ZoneId.of(requestDto.getTimeZone()),
+                requestDto.getValidFrom(),
+                requestDto.getValidUntil()
+        );
+        var recurringAvailability = createRecurringAvailabilityUseCase.execute(command);
+        var responseDto = recurringAvailabilityDtoMapper.toResponseDto(recurringAvailability);
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
+    }
+}
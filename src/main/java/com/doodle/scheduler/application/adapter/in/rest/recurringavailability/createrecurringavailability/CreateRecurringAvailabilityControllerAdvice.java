@@ -0,0 +1,233 @@
+package com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.ErrorResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.ValidationErrorResponseDto;
+import com.doodle.scheduler.application.domain.calendar.exception.InvalidRecurrenceRuleException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotCollisionException;
+import com.doodle.scheduler.application.domain.common.exception.DomainException;
+import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+
+/**
+ * Exception handler for CreateRecurringAvailabilityController.
+ * Handles all exceptions that can occur while creating a recurring availability and provides
+ * standardized error responses with appropriate HTTP status codes and logging.
+ */
+@RestControllerAdvice(assignableTypes = CreateRecurringAvailabilityController.class)
+@Slf4j
+public class CreateRecurringAvailabilityControllerAdvice {
+
+    /**
+     * Handles validation errors from @Valid annotation on request body.
+     * Returns 400 Bad Request with field-level error details.
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ValidationErrorResponseDto> handleMethodArgumentNotValid(
+            MethodArgumentNotValidException ex,
+            HttpServletRequest request) {
+
+        log.warn("Validation failed for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ValidationErrorResponseDto errorResponse = new ValidationErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "Validation failed",
+                request.getRequestURI()
+        );
+
+        for (FieldError fieldError : ex.getBindingResult().getFieldErrors()) {
+            errorResponse.addFieldError(fieldError.getField(), fieldError.getDefaultMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles HttpMessageNotReadableException (malformed JSON body, unknown day or time format).
+     * Returns 400 Bad Request.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponseDto> handleHttpMessageNotReadable(
+            HttpMessageNotReadableException ex,
+            HttpServletRequest request) {
+
+        log.warn("Unreadable request body for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "Malformed request body",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles unknown or malformed time zone ids.
+     * Returns 400 Bad Request.
+     */
+    @ExceptionHandler(DateTimeException.class)
+    public ResponseEntity<ErrorResponseDto> handleDateTime(
+            DateTimeException ex,
+            HttpServletRequest request) {
+
+        log.warn("Invalid time zone for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles recurrence rules rejected by the domain (e.g. validUntil before validFrom).
+     * Returns 400 Bad Request.
+     */
+    @ExceptionHandler(InvalidRecurrenceRuleException.class)
+    public ResponseEntity<ErrorResponseDto> handleInvalidRecurrenceRule(
+            InvalidRecurrenceRuleException ex,
+            HttpServletRequest request) {
+
+        log.warn("Invalid recurrence rule for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles user not found exceptions.
+     * Returns 404 Not Found.
+     */
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleUserNotFound(
+            UserNotFoundException ex,
+            HttpServletRequest request) {
+
+        log.warn("User not found for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.NOT_FOUND.value(),
+                HttpStatus.NOT_FOUND.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Handles occurrences that overlap an existing time slot or recurring availability.
+     * Returns 409 Conflict.
+     */
+    @ExceptionHandler(TimeSlotCollisionException.class)
+    public ResponseEntity<ErrorResponseDto> handleTimeSlotCollision(
+            TimeSlotCollisionException ex,
+            HttpServletRequest request) {
+
+        log.warn("Recurring availability collision for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles generic data access exceptions from the database layer.
+     * Returns 500 Internal Server Error.
+     */
+    @ExceptionHandler(DataAccessException.class)
+    public ResponseEntity<ErrorResponseDto> handleDataAccessException(
+            DataAccessException ex,
+            HttpServletRequest request) {
+
+        log.error("Data access error for request to {}: {}", request.getRequestURI(), ex.getMessage(), ex);
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                "An error occurred while accessing the database",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+
+    /**
+     * Handles any other domain exceptions not explicitly caught above.
+     * Returns 500 Internal Server Error.
+     */
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponseDto> handleDomainException(
+            DomainException ex,
+            HttpServletRequest request) {
+
+        log.error("Domain exception for request to {}: {}", request.getRequestURI(), ex.getMessage(), ex);
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+
+    /**
+     * Handles any unexpected exceptions as a last resort.
+     * Returns 500 Internal Server Error.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponseDto> handleGenericException(
+            Exception ex,
+            HttpServletRequest request) {
+
+        log.error("Unexpected exception for request to {}: {}", request.getRequestURI(), ex.getMessage(), ex);
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                "An unexpected error occurred",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+}
@@ -0,0 +1,84 @@
+package com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+        name = "CreateRecurringAvailabilityRequest",
+        description = "Request payload for a weekly recurring availability rule",
+        example = "{\"days_of_week\": [\"MONDAY\", \"TUESDAY\", \"WEDNESDAY\", \"THURSDAY\", \"FRIDAY\"], \"start_time\": \"09:00\", \"duration_minutes\": 180, \"time_zone\": \"Europe/Berlin\", \"valid_from\": \"2026-02-09\", \"valid_until\": null}"
+)
+public class CreateRecurringAvailabilityRequestDto {
+
+    @JsonProperty("days_of_week")
+    @NotEmpty(message = "days of week must not be empty")
+    @Schema(
+            description = "Days of the week the availability repeats on",
+            example = "[\"MONDAY\", \"FRIDAY\"]",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private Set<@NotNull(message = "day of week must not be null") DayOfWeek> daysOfWeek;
+
+    @JsonProperty("start_time")
+    @NotNull(message = "start time must not be null")
+    @Schema(
+            description = "Local start time of each occurrence in the given time zone",
+            example = "09:00",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private LocalTime startTime;
+
+    @JsonProperty("duration_minutes")
+    @NotNull(message = "duration in minutes must not be null")
+    @Positive(message = "duration in minutes must be positive")
+    @Max(value = 1440, message = "duration in minutes must be at most 1440")
+    @Schema(
+            description = "Duration of each occurrence in minutes",
+            example = "180",
+            requiredMode = Schema.RequiredMode.REQUIRED,
+            minimum = "1",
+            maximum = "1440"
+    )
+    private Integer durationMinutes;
+
+    @JsonProperty("time_zone")
+    @NotBlank(message = "time zone must not be blank")
+    @Schema(
+            description = "IANA time zone the start time is expressed in",
+            example = "Europe/Berlin",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private String timeZone;
+
+    @JsonProperty("valid_from")
+    @NotNull(message = "valid from must not be null")
+    @Schema(
+            description = "First day (inclusive) the rule applies",
+            example = "2026-02-09",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private LocalDate validFrom;
+
+    @JsonProperty("valid_until")
+    @Schema(
+            description = "Last day (inclusive) the rule applies. Optional; open-ended when omitted.",
+            example = "2026-06-30"
+    )
+    private LocalDate validUntil;
+}
@@ -0,0 +1,54 @@
+package com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+        name = "RecurringAvailabilityResponse",
+        description = "Response payload containing a recurring availability rule",
+        example = "{\"id\": \"0190b3a2-7c1e-7d4a-9f00-2b6c5f4e8a11\", \"days_of_week\": [\"MONDAY\", \"FRIDAY\"], \"start_time\": \"09:00:00\", \"duration_minutes\": 180, \"time_zone\": \"Europe/Berlin\", \"valid_from\": \"2026-02-09\", \"valid_until\": null}"
+)
+public class RecurringAvailabilityResponseDto {
+
+    @JsonProperty("id")
+    @Schema(description = "Unique identifier of the recurring availability", example = "0190b3a2-7c1e-7d4a-9f00-2b6c5f4e8a11")
+    private UUID id;
+
+    @JsonProperty("days_of_week")
+    @Schema(description = "Days of the week the availability repeats on", example = "[\"MONDAY\", \"FRIDAY\"]")
+    private Set<DayOfWeek> daysOfWeek;
+
+    @JsonProperty("start_time")
+    @Schema(description = "Local start time of each occurrence", example = "09:00:00")
+    private LocalTime startTime;
+
+    @JsonProperty("duration_minutes")
+    @Schema(description = "Duration of each occurrence in minutes", example = "180")
+    private Integer durationMinutes;
+
+    @JsonProperty("time_zone")
+    @Schema(description = "IANA time zone of the start time", example = "Europe/Berlin")
+    private String timeZone;
+
+    @JsonProperty("valid_from")
+    @Schema(description = "First day (inclusive) the rule applies", example = "2026-02-09")
+    private LocalDate validFrom;
+
+    @JsonProperty("valid_until")
+    @Schema(description = "Last day (inclusive) the rule applies; null when open-ended", example = "2026-06-30")
+    private LocalDate validUntil;
+}
@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.mapper;
+
+import com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.dto.RecurringAvailabilityResponseDto;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface RecurringAvailabilityDtoMapper {
+
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "daysOfWeek", source = "rule.daysOfWeek")
+    @Mapping(target = "startTime", source = "rule.startTime")
+    @Mapping(target = "durationMinutes", source = "rule.durationMinutes")
+    @Mapping(target = "timeZone", expression = "java(recurringAvailability.getRule().zone().getId())")
+    @Mapping(target = "validFrom", source = "rule.validFrom")
+    @Mapping(target = "validUntil", source = "rule.validUntil")
+    RecurringAvailabilityResponseDto toResponseDto(RecurringAvailability recurringAvailability);
+}
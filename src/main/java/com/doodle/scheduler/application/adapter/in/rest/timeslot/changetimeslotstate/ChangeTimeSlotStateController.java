@@ -0,0 +1,138 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.changetimeslotstate;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.ControllerConstants;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.changetimeslotstate.dto.ChangeTimeSlotStateRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.common.BaseTimeSlotController;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.mapper.TimeSlotDtoMapper;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+public class ChangeTimeSlotStateController extends BaseTimeSlotController {
+
+    private final ChangeTimeSlotStateUseCase changeTimeSlotStateUseCase;
+    private final TimeSlotDtoMapper timeSlotDtoMapper;
+
+    public ChangeTimeSlotStateController(ChangeTimeSlotStateUseCase changeTimeSlotStateUseCase,
+                                         TimeSlotDtoMapper timeSlotDtoMapper) {
+        this.changeTimeSlotStateUseCase = changeTimeSlotStateUseCase;
+        this.timeSlotDtoMapper = timeSlotDtoMapper;
+    }
+
+    @PatchMapping("/{id}/state")
+    @Operation(
+            summary = "Mark a time slot busy or available",
+            description = "Moves a time slot of the authenticated user from AVAILABLE to BUSY or back. A slot that is assigned to a meeting keeps its state."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Time slot state successfully changed",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TimeSlotResponseDto.class),
+                            examples = @ExampleObject(
+                                    name = "Success response",
+                                    description = "Time slot marked busy",
+                                    value = "{\"id\": \"550e8400-e29b-41d4-a716-446655440000\", \"start\": \"2026-02-07T10:00:00Z\", \"end\": \"2026-02-07T11:00:00Z\", \"duration_minutes\": 60, \"state\": \"BUSY\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid UUID format or invalid state",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Invalid UUID format",
+                                            description = "The provided ID is not a valid UUID",
+                                            value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 400, \"error\": \"Bad Request\", \"message\": \"Invalid UUID format for parameter 'id'\", \"path\": \"/api/v1/timeslots/invalid-uuid/state\"}"
+                                    ),
+                                    @ExampleObject(
+                                            name = "Invalid state",
+                                            description = "The requested state is neither AVAILABLE nor BUSY",
+                                            value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 400, \"error\": \"Bad Request\", \"message\": \"Validation failed\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000/state\", \"fieldErrors\": [{\"field\": \"state\", \"message\": \"state must be AVAILABLE or BUSY\"}]}"
+                                    )
+                            }
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Time slot not found or does not belong to the user",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Time slot not found",
+                                    description = "The time slot does not exist or does not belong to the authenticated user",
+                                    value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 404, \"error\": \"Not Found\", \"message\": \"Time slot not found with id: 550e8400-e29b-41d4-a716-446655440000\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000/state\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Time slot is already in the requested state or is assigned to a meeting",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Invalid transition",
+                                            description = "The time slot is already in the requested state",
+                                            value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 409, \"error\": \"Conflict\", \"message\": \"Cannot markBusy from BusyState\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000/state\"}"
+                                    ),
+                                    @ExampleObject(
+                                            name = "Slot assigned to meeting",
+                                            description = "The time slot is booked by a meeting",
+                                            value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 409, \"error\": \"Conflict\", \"message\": \"time slot is used by a meeting and its state cannot be changed\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000/state\"}"
+                                    )
+                            }
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Server error",
+                                    description = "An unexpected error occurred on the server",
+                                    value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 500, \"error\": \"Internal Server Error\", \"message\": \"An unexpected error occurred\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000/state\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many writes in flight; retry after the Retry-After seconds",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Overloaded",
+                                    description = "The request was refused before it started because the service is saturated",
+                                    value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 503, \"error\": \"Service Unavailable\", \"message\": \"Too many concurrent requests, retry after 1s\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000/state\"}"
+                            )
+                    )
+            )
+    })
+    public ResponseEntity<TimeSlotResponseDto> changeTimeSlotState(
+            @PathVariable UUID id,
+            @Valid @RequestBody ChangeTimeSlotStateRequestDto requestDto) {
+        var command = new ChangeTimeSlotStateCommand(ControllerConstants.USERNAME, id, requestDto.getState());
+        var timeSlot = changeTimeSlotStateUseCase.execute(command);
+        return ResponseEntity.ok(timeSlotDtoMapper.toResponseDto(timeSlot));
+    }
+}
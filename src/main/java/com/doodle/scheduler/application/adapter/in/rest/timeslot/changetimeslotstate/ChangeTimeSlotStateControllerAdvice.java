@@ -0,0 +1,263 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.changetimeslotstate;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.ErrorResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.ValidationErrorResponseDto;
+import com.doodle.scheduler.application.domain.calendar.exception.InvalidSlotStateTransitionException;
+import com.doodle.scheduler.application.domain.calendar.exception.SlotAssignedToMeetingException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.common.exception.ServiceOverloadedException;
+import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.time.Instant;
+
+/**
+ * Exception handler for ChangeTimeSlotStateController.
+ * Handles all exceptions that can occur while marking a timeslot busy or available and provides
+ * standardized error responses with appropriate HTTP status codes and logging.
+ */
+@RestControllerAdvice(assignableTypes = ChangeTimeSlotStateController.class)
+@Slf4j
+public class ChangeTimeSlotStateControllerAdvice {
+
+    /**
+     * Handles validation errors from @Valid annotation on request body.
+     * Returns 400 Bad Request with field-level error details.
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ValidationErrorResponseDto> handleMethodArgumentNotValid(
+            MethodArgumentNotValidException ex,
+            HttpServletRequest request) {
+
+        log.warn("Validation failed for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ValidationErrorResponseDto errorResponse = new ValidationErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "Validation failed",
+                request.getRequestURI()
+        );
+
+        for (FieldError fieldError : ex.getBindingResult().getFieldErrors()) {
+            errorResponse.addFieldError(fieldError.getField(), fieldError.getDefaultMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles HttpMessageNotReadableException (malformed JSON body).
+     * Returns 400 Bad Request.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponseDto> handleHttpMessageNotReadable(
+            HttpMessageNotReadableException ex,
+            HttpServletRequest request) {
+
+        log.warn("Unreadable request body for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "Malformed request body",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles MethodArgumentTypeMismatchException (invalid UUID format).
+     * Returns 400 Bad Request.
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponseDto> handleMethodArgumentTypeMismatchException(
+            MethodArgumentTypeMismatchException ex,
+            HttpServletRequest request) {
+
+        log.warn("Invalid argument type for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        String message = String.format("Invalid UUID format for parameter '%s'", ex.getName());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                message,
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles TimeSlotNotFoundException (time slot not found or not owned by user).
+     * Returns 404 Not Found.
+     */
+    @ExceptionHandler(TimeSlotNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleTimeSlotNotFoundException(
+            TimeSlotNotFoundException ex,
+            HttpServletRequest request) {
+
+        log.warn("Time slot not found for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.NOT_FOUND.value(),
+                HttpStatus.NOT_FOUND.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Handles user not found exceptions.
+     * Returns 404 Not Found.
+     */
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleUserNotFound(
+            UserNotFoundException ex,
+            HttpServletRequest request) {
+
+        log.warn("User not found for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.NOT_FOUND.value(),
+                HttpStatus.NOT_FOUND.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * Handles InvalidSlotStateTransitionException (time slot already in the requested state).
+     * Returns 409 Conflict.
+     */
+    @ExceptionHandler(InvalidSlotStateTransitionException.class)
+    public ResponseEntity<ErrorResponseDto> handleInvalidSlotStateTransitionException(
+            InvalidSlotStateTransitionException ex,
+            HttpServletRequest request) {
+
+        log.warn("Invalid state transition for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles SlotAssignedToMeetingException (time slot assigned to a meeting).
+     * Returns 409 Conflict.
+     */
+    @ExceptionHandler(SlotAssignedToMeetingException.class)
+    public ResponseEntity<ErrorResponseDto> handleSlotAssignedToMeetingException(
+            SlotAssignedToMeetingException ex,
+            HttpServletRequest request) {
+
+        log.warn("Cannot change time slot state for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles ServiceOverloadedException (too many writes in flight, refused before it started).
+     * Returns 503 Service Unavailable with Retry-After.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponseDto> handleServiceOverloadedException(
+            ServiceOverloadedException ex,
+            HttpServletRequest request) {
+
+        log.warn("Request to {} shed under load: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(errorResponse);
+    }
+
+    /**
+     * Handles generic DataAccessException (database errors).
+     * Returns 500 Internal Server Error.
+     */
+    @ExceptionHandler(DataAccessException.class)
+    public ResponseEntity<ErrorResponseDto> handleDataAccessException(
+            DataAccessException ex,
+            HttpServletRequest request) {
+
+        log.error("Database error during time slot state change for request to {}: {}",
+                request.getRequestURI(), ex.getMessage(), ex);
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                "An unexpected error occurred",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+
+    /**
+     * Handles generic exceptions.
+     * Returns 500 Internal Server Error.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponseDto> handleGenericException(
+            Exception ex,
+            HttpServletRequest request) {
+
+        log.error("Unexpected error during time slot state change for request to {}: {}",
+                request.getRequestURI(), ex.getMessage(), ex);
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                "An unexpected error occurred",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+}
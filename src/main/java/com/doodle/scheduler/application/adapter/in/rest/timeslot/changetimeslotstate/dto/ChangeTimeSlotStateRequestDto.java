@@ -0,0 +1,32 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.changetimeslotstate.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+        name = "ChangeTimeSlotStateRequest",
+        description = "Request payload for marking a time slot busy or available",
+        example = "{\"state\": \"BUSY\"}"
+)
+public class ChangeTimeSlotStateRequestDto {
+
+    @JsonProperty("state")
+    @NotNull(message = "state must not be null")
+    @Pattern(regexp = "AVAILABLE|BUSY", message = "state must be AVAILABLE or BUSY")
+    @Schema(
+            description = "The state the time slot should be in",
+            example = "BUSY",
+            allowableValues = {"AVAILABLE", "BUSY"},
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private String state;
+}
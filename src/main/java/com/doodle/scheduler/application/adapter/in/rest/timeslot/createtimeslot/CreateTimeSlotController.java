@@ -8,6 +8,7 @@ import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.
 import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotCommand;
 import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotUseCase;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 
 @RestController
 public class CreateTimeSlotController extends BaseTimeSlotController {
@@ -102,6 +104,18 @@ public class CreateTimeSlotController extends BaseTimeSlotController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Idempotency-Key already used for a different request",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Idempotency key reused",
+                                    description = "The key was first sent with another request; a retry must repeat the original request",
+                                    value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 422, \"error\": \"Unprocessable Entity\", \"message\": \"Idempotency-Key 5f0c... was already used for a different request\", \"path\": \"/api/v1/timeslots\"}"
+                            )
+                    )
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Internal server error",
@@ -115,14 +129,31 @@ public class CreateTimeSlotController extends BaseTimeSlotController {
                                     )
                             }
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many writes in flight; retry after the Retry-After seconds",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Overloaded",
+                                    description = "The request was refused before it started because the service is saturated",
+                                    value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 503, \"error\": \"Service Unavailable\", \"message\": \"Too many concurrent requests, retry after 1s\", \"path\": \"/api/v1/timeslots\"}"
+                            )
+                    )
             )
     })
     public ResponseEntity<TimeSlotResponseDto> createTimeSlot(
-            @Valid @RequestBody CreateTimeSlotRequestDto requestDto) {
+            @Valid @RequestBody CreateTimeSlotRequestDto requestDto,
+            @Parameter(description = "Client-chosen key; a retry with the same key and body returns the original response without creating another slot",
+                    example = "5f0c6b2e-8f3a-4c1e-9d2b-7a6e4b1c0d3f")
+            @RequestHeader(name = ControllerConstants.IDEMPOTENCY_KEY_HEADER, required = false)
+            @Size(max = 255, message = "Idempotency-Key must be at most 255 characters") String idempotencyKey) {
         var command = new CreateTimeSlotCommand(
                 ControllerConstants.USERNAME,
                 requestDto.getStart(),
-                requestDto.getDurationMinutes()
+                requestDto.getDurationMinutes(),
+                idempotencyKey
         );
         var timeSlot = createTimeSlotUseCase.execute(command);
         var responseDto = timeSlotDtoMapper.toResponseDto(timeSlot);
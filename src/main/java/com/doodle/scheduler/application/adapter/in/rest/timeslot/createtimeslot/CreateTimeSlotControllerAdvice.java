@@ -2,11 +2,13 @@ package com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot
 
 import com.doodle.scheduler.application.adapter.in.rest.common.dto.ErrorResponseDto;
 import com.doodle.scheduler.application.adapter.in.rest.common.dto.ValidationErrorResponseDto;
+import com.doodle.scheduler.application.domain.calendar.exception.IdempotencyKeyReusedException;
 import com.doodle.scheduler.application.domain.calendar.exception.InvalidTimeRangeException;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeRangeInvalidDurationException;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotCollisionException;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotInvalidIdException;
 import com.doodle.scheduler.application.domain.common.exception.DomainException;
+import com.doodle.scheduler.application.domain.common.exception.ServiceOverloadedException;
 import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
@@ -14,6 +16,7 @@ import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -173,6 +176,28 @@ public class CreateTimeSlotControllerAdvice {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * Handles IdempotencyKeyReusedException (Idempotency-Key already used for a different request).
+     * Returns 422 Unprocessable Entity.
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponseDto> handleIdempotencyKeyReusedException(
+            IdempotencyKeyReusedException ex,
+            HttpServletRequest request) {
+
+        log.warn("Idempotency key reused for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
     /**
      * Handles timeslot invalid ID exceptions (ID collision - very rare).
      * Returns 500 Internal Server Error.
@@ -217,6 +242,30 @@ public class CreateTimeSlotControllerAdvice {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    /**
+     * Handles ServiceOverloadedException (too many writes in flight, refused before it started).
+     * Returns 503 Service Unavailable with Retry-After.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponseDto> handleServiceOverloadedException(
+            ServiceOverloadedException ex,
+            HttpServletRequest request) {
+
+        log.warn("Request to {} shed under load: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(errorResponse);
+    }
+
     /**
      * Handles generic data access exceptions from the database layer.
      * Returns 500 Internal Server Error.
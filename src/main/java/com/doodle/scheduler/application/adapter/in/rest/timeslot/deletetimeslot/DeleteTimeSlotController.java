@@ -5,13 +5,16 @@ import com.doodle.scheduler.application.adapter.in.rest.timeslot.common.BaseTime
 import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotCommand;
 import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotUseCase;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Size;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
@@ -72,6 +75,18 @@ public class DeleteTimeSlotController extends BaseTimeSlotController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "422",
+                    description = "Idempotency-Key already used for a different request",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Idempotency key reused",
+                                    description = "The key was first sent with another request; a retry must repeat the original request",
+                                    value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 422, \"error\": \"Unprocessable Entity\", \"message\": \"Idempotency-Key 5f0c... was already used for a different request\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000\"}"
+                            )
+                    )
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Internal server error",
@@ -83,10 +98,27 @@ public class DeleteTimeSlotController extends BaseTimeSlotController {
                                     value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 500, \"error\": \"Internal Server Error\", \"message\": \"An unexpected error occurred\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000\"}"
                             )
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many writes in flight; retry after the Retry-After seconds",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Overloaded",
+                                    description = "The request was refused before it started because the service is saturated",
+                                    value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 503, \"error\": \"Service Unavailable\", \"message\": \"Too many concurrent requests, retry after 1s\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000\"}"
+                            )
+                    )
             )
     })
-    public ResponseEntity<Void> deleteTimeSlot(@PathVariable UUID id) {
-        var command = new DeleteTimeSlotCommand(ControllerConstants.USERNAME, id);
+    public ResponseEntity<Void> deleteTimeSlot(
+            @PathVariable UUID id,
+            @Parameter(description = "Client-chosen key; a retry with the same key returns 204 again instead of 404",
+                    example = "5f0c6b2e-8f3a-4c1e-9d2b-7a6e4b1c0d3f")
+            @RequestHeader(name = ControllerConstants.IDEMPOTENCY_KEY_HEADER, required = false)
+            @Size(max = 255, message = "Idempotency-Key must be at most 255 characters") String idempotencyKey) {
+        var command = new DeleteTimeSlotCommand(ControllerConstants.USERNAME, id, idempotencyKey);
         deleteTimeSlotUseCase.execute(command);
         return ResponseEntity.noContent().build();
     }
@@ -1,11 +1,17 @@
 package com.doodle.scheduler.application.adapter.in.rest.timeslot.deletetimeslot;
 
 import com.doodle.scheduler.application.adapter.in.rest.common.dto.ErrorResponseDto;
+import com.doodle.scheduler.application.domain.calendar.exception.IdempotencyKeyReusedException;
 import com.doodle.scheduler.application.domain.calendar.exception.SlotAssignedToMeetingException;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.common.exception.ServiceOverloadedException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -91,6 +97,101 @@ public class DeleteTimeSlotControllerAdvice {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * Handles IdempotencyKeyReusedException (Idempotency-Key already used for a different request).
+     * Returns 422 Unprocessable Entity.
+     */
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ErrorResponseDto> handleIdempotencyKeyReusedException(
+            IdempotencyKeyReusedException ex,
+            HttpServletRequest request) {
+
+        log.warn("Idempotency key reused for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+
+    /**
+     * Handles constraint violations of request headers (Idempotency-Key too long).
+     * Returns 400 Bad Request.
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponseDto> handleConstraintViolationException(
+            ConstraintViolationException ex,
+            HttpServletRequest request) {
+
+        log.warn("Constraint violation for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        String message = ex.getConstraintViolations().stream()
+                .map(ConstraintViolation::getMessage)
+                .findFirst()
+                .orElse("Validation failed");
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                message,
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles OptimisticLockingFailureException (time slot kept changing concurrently after all retries).
+     * Returns 409 Conflict.
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDto> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        log.warn("Concurrent modification of time slot for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                "time slot was modified concurrently, please retry",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handles ServiceOverloadedException (too many writes in flight, refused before it started).
+     * Returns 503 Service Unavailable with Retry-After.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponseDto> handleServiceOverloadedException(
+            ServiceOverloadedException ex,
+            HttpServletRequest request) {
+
+        log.warn("Request to {} shed under load: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(errorResponse);
+    }
+
     /**
      * Handles generic DataAccessException (database errors).
      * Returns 500 Internal Server Error.
@@ -0,0 +1,53 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+
+/**
+ * Writes search responses as CBOR (RFC 8949) for clients that send {@code Accept: application/cbor}.
+ * The keys are those of the JSON response, but ids are 16-byte strings and instants epoch milliseconds;
+ * maps and arrays have definite lengths. JSON stays the default because the search mappings list it first.
+ */
+@Component
+public class SearchTimeSlotsCborConverter extends AbstractHttpMessageConverter<SearchTimeSlotsResponseDto> {
+
+    private final CBORFactory cborFactory = new CBORFactory();
+
+    public SearchTimeSlotsCborConverter() {
+        super(MediaType.APPLICATION_CBOR);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SearchTimeSlotsResponseDto.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected SearchTimeSlotsResponseDto readInternal(Class<? extends SearchTimeSlotsResponseDto> clazz,
+                                                      HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Search responses are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(SearchTimeSlotsResponseDto response, HttpOutputMessage outputMessage)
+            throws IOException {
+        try (JsonGenerator generator = cborFactory.createGenerator(StreamUtils.nonClosing(outputMessage.getBody()))) {
+            new SearchTimeSlotsCborWriter(generator).write(response);
+        }
+    }
+}
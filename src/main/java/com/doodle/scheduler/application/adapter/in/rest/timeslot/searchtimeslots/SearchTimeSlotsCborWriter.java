@@ -0,0 +1,38 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Compact encoding for service-to-service calls: ids are 16-byte strings (most significant byte
+ * first) and instants are epoch milliseconds, so neither side formats or parses text.
+ */
+final class SearchTimeSlotsCborWriter extends SearchTimeSlotsResponseWriter {
+
+    private final byte[] idBuffer = new byte[16];
+
+    SearchTimeSlotsCborWriter(JsonGenerator generator) {
+        super(generator);
+    }
+
+    @Override
+    protected void writeId(UUID id) throws IOException {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        for (int i = 7; i >= 0; i--) {
+            idBuffer[i] = (byte) msb;
+            idBuffer[i + 8] = (byte) lsb;
+            msb >>>= 8;
+            lsb >>>= 8;
+        }
+        generator.writeBinary(idBuffer, 0, idBuffer.length);
+    }
+
+    @Override
+    protected void writeInstant(Instant instant) throws IOException {
+        generator.writeNumber(instant.toEpochMilli());
+    }
+}
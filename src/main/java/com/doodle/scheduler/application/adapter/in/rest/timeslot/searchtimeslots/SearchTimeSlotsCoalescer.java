@@ -0,0 +1,62 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsQueryResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Lets identical searches that arrive while one is running share its execution and its result
+ * (single flight), failures included. A search only joins a flight started for the same command at
+ * the same calendar version: that flight began after the version was read, so the shared page is
+ * never older than the version in the joining request's ETag.
+ */
+@Component
+public class SearchTimeSlotsCoalescer {
+
+    private final ConcurrentMap<Flight, CompletableFuture<SearchTimeSlotsQueryResult>> flights = new ConcurrentHashMap<>();
+
+    public SearchTimeSlotsQueryResult execute(SearchTimeSlotsCommand command,
+                                              long calendarVersion,
+                                              Supplier<SearchTimeSlotsQueryResult> search) {
+        Flight flight = new Flight(command, calendarVersion);
+        CompletableFuture<SearchTimeSlotsQueryResult> started = new CompletableFuture<>();
+        CompletableFuture<SearchTimeSlotsQueryResult> running = flights.putIfAbsent(flight, started);
+        if (running != null) {
+            return join(running);
+        }
+
+        try {
+            SearchTimeSlotsQueryResult result = search.get();
+            started.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            started.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(flight, started);
+        }
+    }
+
+    private static SearchTimeSlotsQueryResult join(CompletableFuture<SearchTimeSlotsQueryResult> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Flight(SearchTimeSlotsCommand command, long calendarVersion) {
+    }
+}
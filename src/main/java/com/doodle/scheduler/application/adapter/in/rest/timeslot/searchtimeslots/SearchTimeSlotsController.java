@@ -5,44 +5,70 @@ import com.doodle.scheduler.application.adapter.in.rest.timeslot.common.BaseTime
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsRequestDto;
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.mapper.SearchTimeSlotsDtoMapper;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionUseCase;
 import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsCommand;
 import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsUseCase;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
+import java.util.Set;
+
 @RestController
 public class SearchTimeSlotsController extends BaseTimeSlotController {
 
     private final SearchTimeSlotsUseCase searchTimeSlotsUseCase;
+    private final GetCalendarVersionUseCase getCalendarVersionUseCase;
     private final SearchTimeSlotsDtoMapper searchTimeSlotsDtoMapper;
+    private final SearchTimeSlotsCoalescer searchTimeSlotsCoalescer;
 
     public SearchTimeSlotsController(SearchTimeSlotsUseCase searchTimeSlotsUseCase,
-                                     SearchTimeSlotsDtoMapper searchTimeSlotsDtoMapper) {
+                                     GetCalendarVersionUseCase getCalendarVersionUseCase,
+                                     SearchTimeSlotsDtoMapper searchTimeSlotsDtoMapper,
+                                     SearchTimeSlotsCoalescer searchTimeSlotsCoalescer) {
         this.searchTimeSlotsUseCase = searchTimeSlotsUseCase;
+        this.getCalendarVersionUseCase = getCalendarVersionUseCase;
         this.searchTimeSlotsDtoMapper = searchTimeSlotsDtoMapper;
+        this.searchTimeSlotsCoalescer = searchTimeSlotsCoalescer;
     }
 
-    @PostMapping("/search")
+    @PostMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
     @Operation(
             summary = "Search time slots with filters and pagination",
             description = "Search for time slots belonging to the authenticated user. " +
                          "Supports optional filtering by status (AVAILABLE/BUSY) and time frame (start/end time). " +
-                         "Results are paginated."
+                         "Results are paginated. Responses carry a strong ETag; sending it back in " +
+                         "If-None-Match returns 304 Not Modified while the calendar is unchanged. " +
+                         "Send Accept: application/cbor for a CBOR body with the same keys, 16-byte ids and " +
+                         "epoch-millisecond instants; JSON is the default. The fields parameter limits each time " +
+                         "slot to the listed fields."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
                     description = "Time slots retrieved successfully",
-                    content = @Content(
+                    content = {@Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = SearchTimeSlotsResponseDto.class),
                             examples = @ExampleObject(
@@ -66,7 +92,14 @@ public class SearchTimeSlotsController extends BaseTimeSlotController {
                                             }
                                             """
                             )
-                    )
+                    ), @Content(
+                            mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                            schema = @Schema(implementation = SearchTimeSlotsResponseDto.class)
+                    )}
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Calendar unchanged since the ETag sent in If-None-Match"
             ),
             @ApiResponse(
                     responseCode = "400",
@@ -92,6 +125,18 @@ public class SearchTimeSlotsController extends BaseTimeSlotController {
                             )
                     )
             ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Search rate limit of the owner exceeded; retry after the Retry-After seconds",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Rate limited",
+                                    description = "The owner sent more searches than the rate limit allows",
+                                    value = "{\"timestamp\": \"2026-02-08T09:15:00Z\", \"status\": 429, \"error\": \"Too Many Requests\", \"message\": \"Too many search requests, retry after 1s\", \"path\": \"/api/v1/timeslots/search\"}"
+                            )
+                    )
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Internal server error",
@@ -106,7 +151,14 @@ public class SearchTimeSlotsController extends BaseTimeSlotController {
             )
     })
     public ResponseEntity<SearchTimeSlotsResponseDto> searchTimeSlots(
-            @Valid @RequestBody SearchTimeSlotsRequestDto requestDto) {
+            @Valid @RequestBody SearchTimeSlotsRequestDto requestDto,
+            @Parameter(description = "Comma-separated time slot fields to return (id, start, end, duration_minutes, state); all by default",
+                    example = "id,start,end")
+            @RequestParam(name = "fields", required = false)
+            @Pattern(regexp = TimeSlotField.LIST_PATTERN,
+                    message = "fields must be a comma-separated list of id, start, end, duration_minutes, state") String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
 
         var command = new SearchTimeSlotsCommand(
                 ControllerConstants.USERNAME,
@@ -117,9 +169,100 @@ public class SearchTimeSlotsController extends BaseTimeSlotController {
                 requestDto.getSize()
         );
 
-        var result = searchTimeSlotsUseCase.execute(command);
-        var responseDto = searchTimeSlotsDtoMapper.toSearchResponseDto(result);
+        return conditionalSearch(command, TimeSlotField.parse(fields), ifNoneMatch, accept);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+            summary = "Search time slots with query parameters",
+            description = "Cacheable variant of POST /search with the same filters, pagination, field selection, " +
+                          "ETag and CBOR support."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Time slots retrieved successfully",
+                    content = {
+                            @Content(
+                                    mediaType = "application/json",
+                                    schema = @Schema(implementation = SearchTimeSlotsResponseDto.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    schema = @Schema(implementation = SearchTimeSlotsResponseDto.class)
+                            )
+                    }
+            ),
+            @ApiResponse(responseCode = "304", description = "Calendar unchanged since the ETag sent in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "429", description = "Search rate limit of the owner exceeded")
+    })
+    public ResponseEntity<SearchTimeSlotsResponseDto> searchTimeSlotsByQuery(
+            @Parameter(description = "Filter by time slot status", example = "AVAILABLE")
+            @RequestParam(name = "status", required = false)
+            @Pattern(regexp = "^(AVAILABLE|BUSY)?$", message = "status must be either AVAILABLE or BUSY") String status,
+            @Parameter(description = "Filter time slots starting from this time (ISO 8601)", example = "2026-02-08T00:00:00Z")
+            @RequestParam(name = "start_time", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant startTime,
+            @Parameter(description = "Filter time slots ending before this time (ISO 8601)", example = "2026-02-15T23:59:59Z")
+            @RequestParam(name = "end_time", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant endTime,
+            @RequestParam(name = "page", defaultValue = "0")
+            @Min(value = 0, message = "page must be greater than or equal to 0") int page,
+            @RequestParam(name = "size", defaultValue = "10")
+            @Min(value = 1, message = "size must be greater than 0") int size,
+            @Parameter(description = "Comma-separated time slot fields to return (id, start, end, duration_minutes, state); all by default",
+                    example = "id,start,end")
+            @RequestParam(name = "fields", required = false)
+            @Pattern(regexp = TimeSlotField.LIST_PATTERN,
+                    message = "fields must be a comma-separated list of id, start, end, duration_minutes, state") String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+
+        var command = new SearchTimeSlotsCommand(
+                ControllerConstants.USERNAME,
+                status,
+                startTime,
+                endTime,
+                page,
+                size
+        );
+
+        return conditionalSearch(command, TimeSlotField.parse(fields), ifNoneMatch, accept);
+    }
+
+    /**
+     * Reads the calendar version before searching: a write racing with the search can only make
+     * the tag older than the data (costing one extra 200 later), never newer, so 304 is never
+     * returned for a page the client has not seen. Concurrent identical searches at the same
+     * version share one execution.
+     */
+    private ResponseEntity<SearchTimeSlotsResponseDto> conditionalSearch(SearchTimeSlotsCommand command,
+                                                                         Set<TimeSlotField> fields,
+                                                                         String ifNoneMatch,
+                                                                         String accept) {
+        MediaType representation = SearchTimeSlotsRepresentation.negotiate(accept);
+        long calendarVersion = getCalendarVersionUseCase.execute(new GetCalendarVersionCommand(command.username()));
+        String etag = SearchTimeSlotsETag.of(calendarVersion, command, representation, fields);
+
+        if (SearchTimeSlotsETag.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+
+        var result = searchTimeSlotsCoalescer.execute(command, calendarVersion,
+                () -> searchTimeSlotsUseCase.execute(command));
+        var responseDto = searchTimeSlotsDtoMapper.toSearchResponseDto(result, fields);
 
-        return ResponseEntity.ok(responseDto);
+        return ResponseEntity.ok()
+                .contentType(representation)
+                .eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(responseDto);
     }
 }
@@ -0,0 +1,69 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsCommand;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Strong entity tag for a search response: the owner's calendar version plus a digest of the
+ * search parameters. Any write to the calendar changes the version, so an unchanged tag
+ * guarantees an identical result page. A field selection is part of the digest, and
+ * representations other than JSON carry a suffix, because a strong tag promises identical bytes.
+ */
+final class SearchTimeSlotsETag {
+
+    private static final int DIGEST_BYTES = 12;
+
+    private SearchTimeSlotsETag() {
+    }
+
+    static String of(long calendarVersion, SearchTimeSlotsCommand command, MediaType representation,
+                     Set<TimeSlotField> fields) {
+        String parameters = String.join("|",
+                command.username(),
+                String.valueOf(command.status()),
+                String.valueOf(command.startTime()),
+                String.valueOf(command.endTime()),
+                String.valueOf(command.page()),
+                String.valueOf(command.size()));
+        if (!fields.containsAll(TimeSlotField.ALL)) {
+            parameters += "|" + fields;
+        }
+        String suffix = MediaType.APPLICATION_JSON.equals(representation) ? "" : "-" + representation.getSubtype();
+        return "\"" + calendarVersion + "-" + digest(parameters) + suffix + "\"";
+    }
+
+    /**
+     * Returns true when the {@code If-None-Match} header value lists the given tag or is {@code *}.
+     * Uses the weak comparison required for {@code If-None-Match}, so {@code W/} prefixes are ignored.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, DIGEST_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+
+/**
+ * Writes search responses as JSON without going through the ObjectMapper's reflective serializers.
+ * Spring Boot registers converter beans ahead of the default Jackson converter, so this one answers
+ * every {@code application/json} search response while other media types fall through to the defaults.
+ * The generator still comes from the application ObjectMapper's factory, keeping its output settings.
+ */
+@Component
+public class SearchTimeSlotsJsonConverter extends AbstractHttpMessageConverter<SearchTimeSlotsResponseDto> {
+
+    private final ObjectMapper objectMapper;
+
+    public SearchTimeSlotsJsonConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return SearchTimeSlotsResponseDto.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected SearchTimeSlotsResponseDto readInternal(Class<? extends SearchTimeSlotsResponseDto> clazz,
+                                                      HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Search responses are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(SearchTimeSlotsResponseDto response, HttpOutputMessage outputMessage)
+            throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            if (objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)) {
+                generator.useDefaultPrettyPrinter();
+            }
+            new SearchTimeSlotsJsonWriter(generator).write(response);
+        }
+    }
+}
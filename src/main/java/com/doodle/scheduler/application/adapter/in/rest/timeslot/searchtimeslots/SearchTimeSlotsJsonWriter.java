@@ -0,0 +1,116 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Produces the same JSON as the default ObjectMapper. Instants and UUIDs are formatted into one char
+ * buffer per response and handed to the generator as a slice of it, so a row costs no allocation
+ * beyond the generator's own output buffer.
+ */
+final class SearchTimeSlotsJsonWriter extends SearchTimeSlotsResponseWriter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final long SECONDS_PER_DAY = 86_400;
+    // 0000-01-01T00:00:00Z and 9999-12-31T23:59:59Z: ISO_INSTANT signs years outside this range
+    private static final long MIN_FOUR_DIGIT_YEAR_SECOND = -62_167_219_200L;
+    private static final long MAX_FOUR_DIGIT_YEAR_SECOND = 253_402_300_799L;
+    // a UUID; an instant ("yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ") needs 30
+    private static final int BUFFER_LENGTH = 36;
+
+    private final char[] buffer = new char[BUFFER_LENGTH];
+
+    SearchTimeSlotsJsonWriter(JsonGenerator generator) {
+        super(generator);
+    }
+
+    @Override
+    protected void writeId(UUID id) throws IOException {
+        long msb = id.getMostSignificantBits();
+        long lsb = id.getLeastSignificantBits();
+        hex(msb >>> 32, 0, 8);
+        buffer[8] = '-';
+        hex(msb >>> 16, 9, 4);
+        buffer[13] = '-';
+        hex(msb, 14, 4);
+        buffer[18] = '-';
+        hex(lsb >>> 48, 19, 4);
+        buffer[23] = '-';
+        hex(lsb, 24, 12);
+        generator.writeString(buffer, 0, 36);
+    }
+
+    private void hex(long bits, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
+    }
+
+    /**
+     * Same text as {@link DateTimeFormatter#ISO_INSTANT}: seconds always present, the fraction in
+     * groups of three digits and only when non-zero.
+     */
+    @Override
+    protected void writeInstant(Instant instant) throws IOException {
+        long epochSecond = instant.getEpochSecond();
+        if (epochSecond < MIN_FOUR_DIGIT_YEAR_SECOND || epochSecond > MAX_FOUR_DIGIT_YEAR_SECOND) {
+            generator.writeString(DateTimeFormatter.ISO_INSTANT.format(instant));
+            return;
+        }
+
+        // civil date from days since the epoch, after Howard Hinnant's days_from_civil inverse
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        long shifted = epochDay + 719_468;
+        long era = Math.floorDiv(shifted, 146_097);
+        int dayOfEra = (int) (shifted - era * 146_097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+        digits(year, 0, 4);
+        buffer[4] = '-';
+        digits(month, 5, 2);
+        buffer[7] = '-';
+        digits(day, 8, 2);
+        buffer[10] = 'T';
+        digits(secondOfDay / 3_600, 11, 2);
+        buffer[13] = ':';
+        digits(secondOfDay / 60 % 60, 14, 2);
+        buffer[16] = ':';
+        digits(secondOfDay % 60, 17, 2);
+        int length = 19;
+
+        int nano = instant.getNano();
+        if (nano != 0) {
+            buffer[length++] = '.';
+            if (nano % 1_000_000 == 0) {
+                digits(nano / 1_000_000, length, 3);
+                length += 3;
+            } else if (nano % 1_000 == 0) {
+                digits(nano / 1_000, length, 6);
+                length += 6;
+            } else {
+                digits(nano, length, 9);
+                length += 9;
+            }
+        }
+        buffer[length++] = 'Z';
+        generator.writeString(buffer, 0, length);
+    }
+
+    private void digits(int value, int offset, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
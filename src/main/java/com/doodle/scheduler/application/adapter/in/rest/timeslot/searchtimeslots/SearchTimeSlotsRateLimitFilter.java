@@ -0,0 +1,102 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.ControllerConstants;
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.ErrorResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.common.ratelimit.TokenBucket;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the search endpoints to {@code requests-per-second} per owner, with bursts of up to
+ * {@code burst} requests. Requests over the limit get {@code 429 Too Many Requests} and a
+ * {@code Retry-After} before any query runs. Buckets that have refilled completely are dropped once
+ * more than {@code MAX_IDLE_BUCKETS} owners are tracked, since a new bucket starts full as well.
+ */
+@Component
+@ConditionalOnProperty(prefix = "scheduler.search.rate-limit", name = "enabled", havingValue = "true")
+@Slf4j
+public class SearchTimeSlotsRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String SEARCH_BY_QUERY_PATH = "/api/v1/timeslots";
+    private static final String SEARCH_PATH = "/api/v1/timeslots/search";
+    private static final int MAX_IDLE_BUCKETS = 10_000;
+
+    private final ObjectMapper objectMapper;
+    private final double requestsPerSecond;
+    private final int burst;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public SearchTimeSlotsRateLimitFilter(ObjectMapper objectMapper,
+                                          @Value("${scheduler.search.rate-limit.requests-per-second:20}") double requestsPerSecond,
+                                          @Value("${scheduler.search.rate-limit.burst:40}") int burst) {
+        if (requestsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("requests-per-second must be > 0 and burst >= 1");
+        }
+        this.objectMapper = objectMapper;
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !(HttpMethod.GET.matches(request.getMethod()) && SEARCH_BY_QUERY_PATH.equals(path))
+                && !(HttpMethod.POST.matches(request.getMethod()) && SEARCH_PATH.equals(path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String owner = ControllerConstants.USERNAME;
+        long now = System.nanoTime();
+        long waitNanos = bucketOf(owner, now).tryAcquire(now);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+        log.debug("Search rate limit exceeded for username={}, retry after {}s", owner, retryAfterSeconds);
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                "Too many search requests, retry after " + retryAfterSeconds + "s",
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private TokenBucket bucketOf(String owner, long now) {
+        TokenBucket bucket = buckets.get(owner);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= MAX_IDLE_BUCKETS) {
+            buckets.values().removeIf(idle -> idle.isFull(now));
+        }
+        return buckets.computeIfAbsent(owner, ignored -> new TokenBucket(requestsPerSecond, burst, now));
+    }
+}
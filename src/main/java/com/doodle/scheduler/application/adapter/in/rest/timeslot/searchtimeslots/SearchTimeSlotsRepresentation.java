@@ -0,0 +1,31 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Picks the encoding of a search response from the {@code Accept} header before the search runs, so
+ * the entity tag can name the representation it belongs to. CBOR is chosen only when the client
+ * ranks it above JSON; a missing header, {@code *}{@code /*} and ties all get JSON.
+ */
+final class SearchTimeSlotsRepresentation {
+
+    private SearchTimeSlotsRepresentation() {
+    }
+
+    static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        double json = 0;
+        double cbor = 0;
+        for (MediaType acceptable : MediaType.parseMediaTypes(accept)) {
+            if (acceptable.includes(MediaType.APPLICATION_JSON)) {
+                json = Math.max(json, acceptable.getQualityValue());
+            }
+            if (acceptable.includes(MediaType.APPLICATION_CBOR)) {
+                cbor = Math.max(cbor, acceptable.getQualityValue());
+            }
+        }
+        return cbor > json ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON;
+    }
+}
@@ -0,0 +1,107 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes a search response field by field on a Jackson generator, in the field order of the DTO.
+ * Time slots get only the fields selected for the response. Subclasses decide how ids and instants
+ * are encoded for their format; objects and arrays are started with their size, which binary formats
+ * use to write definite lengths.
+ */
+abstract class SearchTimeSlotsResponseWriter {
+
+    private static final SerializableString TIME_SLOTS = new SerializedString("time_slots");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("total_elements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("total_pages");
+    private static final SerializableString CURRENT_PAGE = new SerializedString("current_page");
+    private static final SerializableString PAGE_SIZE = new SerializedString("page_size");
+
+    private static final int RESPONSE_FIELDS = 5;
+
+    protected final JsonGenerator generator;
+
+    SearchTimeSlotsResponseWriter(JsonGenerator generator) {
+        this.generator = generator;
+    }
+
+    void write(SearchTimeSlotsResponseDto response) throws IOException {
+        Set<TimeSlotField> fields = response.getFields() == null ? TimeSlotField.ALL : response.getFields();
+        generator.writeStartObject(response, RESPONSE_FIELDS);
+        generator.writeFieldName(TIME_SLOTS);
+        writeTimeSlots(response.getTimeSlots(), fields.toArray(new TimeSlotField[0]));
+        generator.writeFieldName(TOTAL_ELEMENTS);
+        generator.writeNumber(response.getTotalElements());
+        generator.writeFieldName(TOTAL_PAGES);
+        generator.writeNumber(response.getTotalPages());
+        generator.writeFieldName(CURRENT_PAGE);
+        generator.writeNumber(response.getCurrentPage());
+        generator.writeFieldName(PAGE_SIZE);
+        generator.writeNumber(response.getPageSize());
+        generator.writeEndObject();
+    }
+
+    protected abstract void writeId(UUID id) throws IOException;
+
+    protected abstract void writeInstant(Instant instant) throws IOException;
+
+    private void writeTimeSlots(List<TimeSlotResponseDto> timeSlots, TimeSlotField[] fields) throws IOException {
+        if (timeSlots == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray(timeSlots, timeSlots.size());
+        for (TimeSlotResponseDto timeSlot : timeSlots) {
+            if (timeSlot == null) {
+                generator.writeNull();
+            } else {
+                writeTimeSlot(timeSlot, fields);
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeTimeSlot(TimeSlotResponseDto timeSlot, TimeSlotField[] fields) throws IOException {
+        generator.writeStartObject(timeSlot, fields.length);
+        for (TimeSlotField field : fields) {
+            generator.writeFieldName(field.serializedName());
+            switch (field) {
+                case ID -> {
+                    if (timeSlot.getId() == null) {
+                        generator.writeNull();
+                    } else {
+                        writeId(timeSlot.getId());
+                    }
+                }
+                case START -> writeNullableInstant(timeSlot.getStart());
+                case END -> writeNullableInstant(timeSlot.getEnd());
+                case DURATION_MINUTES -> {
+                    if (timeSlot.getDurationMinutes() == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeNumber(timeSlot.getDurationMinutes());
+                    }
+                }
+                case STATE -> generator.writeString(timeSlot.getState());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeNullableInstant(Instant instant) throws IOException {
+        if (instant == null) {
+            generator.writeNull();
+        } else {
+            writeInstant(instant);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The time slot fields a search client can select with {@code fields=id,start,end}, in response order.
+ */
+public enum TimeSlotField {
+
+    ID("id"),
+    START("start"),
+    END("end"),
+    DURATION_MINUTES("duration_minutes"),
+    STATE("state");
+
+    public static final Set<TimeSlotField> ALL = Collections.unmodifiableSet(EnumSet.allOf(TimeSlotField.class));
+
+    public static final String LIST_PATTERN = "^((id|start|end|duration_minutes|state)(,(id|start|end|duration_minutes|state))*)?$";
+
+    private final SerializableString name;
+
+    TimeSlotField(String name) {
+        this.name = new SerializedString(name);
+    }
+
+    SerializableString serializedName() {
+        return name;
+    }
+
+    /**
+     * Parses a comma-separated field list already checked against {@link #LIST_PATTERN}; no list
+     * selects every field.
+     */
+    public static Set<TimeSlotField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<TimeSlotField> selected = EnumSet.noneOf(TimeSlotField.class);
+        for (String field : fields.split(",")) {
+            for (TimeSlotField candidate : values()) {
+                if (candidate.name.getValue().equals(field)) {
+                    selected.add(candidate);
+                }
+            }
+        }
+        return selected.size() == ALL.size() ? ALL : Collections.unmodifiableSet(selected);
+    }
+}
@@ -1,6 +1,8 @@
 package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto;
 
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.TimeSlotField;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -9,6 +11,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.util.List;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -39,4 +42,16 @@ public class SearchTimeSlotsResponseDto {
     @JsonProperty("page_size")
     @Schema(description = "Number of items per page", example = "10")
     private int pageSize;
+
+    /**
+     * Time slot fields that were mapped and are written for each row.
+     */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Set<TimeSlotField> fields = TimeSlotField.ALL;
+
+    public SearchTimeSlotsResponseDto(List<TimeSlotResponseDto> timeSlots, long totalElements, int totalPages,
+                                      int currentPage, int pageSize) {
+        this(timeSlots, totalElements, totalPages, currentPage, pageSize, TimeSlotField.ALL);
+    }
 }
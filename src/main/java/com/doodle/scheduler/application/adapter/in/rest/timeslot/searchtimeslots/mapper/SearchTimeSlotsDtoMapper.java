@@ -1,6 +1,7 @@
 package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.mapper;
 
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.TimeSlotField;
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
 import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
 import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsQueryResult;
@@ -8,6 +9,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
 import java.util.List;
+import java.util.Set;
 
 @Mapper(componentModel = "spring")
 public interface SearchTimeSlotsDtoMapper {
@@ -20,8 +22,13 @@ public interface SearchTimeSlotsDtoMapper {
     TimeSlotResponseDto toResponseDto(TimeSlot timeSlot);
 
     default SearchTimeSlotsResponseDto toSearchResponseDto(SearchTimeSlotsQueryResult result) {
+        return toSearchResponseDto(result, TimeSlotField.ALL);
+    }
+
+    default SearchTimeSlotsResponseDto toSearchResponseDto(SearchTimeSlotsQueryResult result, Set<TimeSlotField> fields) {
+        boolean allFields = fields.containsAll(TimeSlotField.ALL);
         List<TimeSlotResponseDto> timeSlotDtos = result.timeSlots().stream()
-                .map(this::toResponseDto)
+                .map(timeSlot -> allFields ? toResponseDto(timeSlot) : toSparseResponseDto(timeSlot, fields))
                 .toList();
 
         return new SearchTimeSlotsResponseDto(
@@ -29,7 +36,31 @@ public interface SearchTimeSlotsDtoMapper {
                 result.totalElements(),
                 result.totalPages(),
                 result.currentPage(),
-                result.pageSize()
+                result.pageSize(),
+                fields
         );
     }
+
+    /**
+     * Maps only the selected fields; the others stay null and are not written.
+     */
+    default TimeSlotResponseDto toSparseResponseDto(TimeSlot timeSlot, Set<TimeSlotField> fields) {
+        TimeSlotResponseDto dto = new TimeSlotResponseDto();
+        if (fields.contains(TimeSlotField.ID)) {
+            dto.setId(timeSlot.getId());
+        }
+        if (fields.contains(TimeSlotField.START)) {
+            dto.setStart(timeSlot.getRange().start());
+        }
+        if (fields.contains(TimeSlotField.END)) {
+            dto.setEnd(timeSlot.getRange().end());
+        }
+        if (fields.contains(TimeSlotField.DURATION_MINUTES)) {
+            dto.setDurationMinutes((int) timeSlot.getDurationMinutes());
+        }
+        if (fields.contains(TimeSlotField.STATE)) {
+            dto.setState(timeSlot.getStateString());
+        }
+        return dto;
+    }
 }
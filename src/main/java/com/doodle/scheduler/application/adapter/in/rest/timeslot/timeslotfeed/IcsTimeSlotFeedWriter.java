@@ -0,0 +1,222 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.timeslotfeed;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeRange;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotfeed.CalendarStamp;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.WriteTimeSlotFeedPort;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Writes an export as an iCalendar (RFC 5545) feed straight to the servlet response, one VEVENT per
+ * entry. Recurring availability becomes a weekly RRULE event, and a booked occurrence overrides its
+ * instance of that event through {@code RECURRENCE-ID}.
+ *
+ * <p>The conditional request is answered in {@link #begin}, before the calendar is read: an
+ * {@code If-None-Match} or {@code If-Modified-Since} that still matches gets 304, and a feed already
+ * cached for the calendar version is written from the cache. {@code DTSTAMP} is the instant the calendar
+ * last changed rather than the time of the request, so the rendered bytes only depend on the version.
+ */
+public class IcsTimeSlotFeedWriter implements WriteTimeSlotFeedPort {
+
+    public static final String TEXT_CALENDAR = "text/calendar";
+
+    private static final String PRODUCT_ID = "-//Doodle Scheduler//Time Slot Feed//EN";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final DateTimeFormatter UTC_DATE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final DateTimeFormatter LOCAL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private final ServletWebRequest webRequest;
+    private final HttpServletResponse response;
+    private final TimeSlotFeedCache cache;
+    private final String owner;
+
+    private TimeSlotFeedCache.Recording recording;
+    private Writer out;
+    private String dtStamp;
+
+    public IcsTimeSlotFeedWriter(ServletWebRequest webRequest, TimeSlotFeedCache cache, String owner) {
+        this.webRequest = webRequest;
+        this.response = Objects.requireNonNull(webRequest.getResponse(), "response must not be null");
+        this.cache = cache;
+        this.owner = owner;
+    }
+
+    @Override
+    public boolean begin(CalendarStamp stamp) {
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (webRequest.checkNotModified("\"" + stamp.version() + "\"", stamp.updatedAt().toEpochMilli())) {
+            return false;
+        }
+        response.setContentType(TEXT_CALENDAR + ";charset=UTF-8");
+
+        try {
+            byte[] cached = cache.get(owner, stamp.version());
+            if (cached != null) {
+                response.setContentLength(cached.length);
+                response.getOutputStream().write(cached);
+                return false;
+            }
+            recording = cache.record(response.getOutputStream(), owner, stamp.version());
+            out = new BufferedWriter(new OutputStreamWriter(recording, StandardCharsets.UTF_8), 8 * 1024);
+            dtStamp = UTC_DATE_TIME.format(stamp.updatedAt());
+
+            line("BEGIN:VCALENDAR");
+            line("VERSION:2.0");
+            line("PRODID:" + PRODUCT_ID);
+            line("CALSCALE:GREGORIAN");
+            line("METHOD:PUBLISH");
+            line("X-WR-CALNAME:" + text(owner));
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the time slot feed", e);
+        }
+    }
+
+    @Override
+    public void writeRecurringAvailability(RecurringAvailability recurringAvailability) {
+        RecurrenceRule rule = recurringAvailability.getRule();
+        Instant from = rule.firstPossibleStart();
+        TimeRange first = rule.occurrencesOverlapping(from, from.plus(Duration.ofDays(8))).findFirst().orElse(null);
+        if (first == null) {
+            // the validity window holds none of the rule's weekdays
+            return;
+        }
+        ZoneId zone = rule.zone().normalized();
+        boolean fixedOffset = zone instanceof ZoneOffset;
+        int dayShift = fixedOffset
+                ? (int) (first.start().atZone(ZoneOffset.UTC).toLocalDate().toEpochDay()
+                        - first.start().atZone(zone).toLocalDate().toEpochDay())
+                : 0;
+        String byDay = rule.daysOfWeek().stream()
+                .map(day -> day.plus(dayShift))
+                .sorted()
+                .map(IcsTimeSlotFeedWriter::weekday)
+                .collect(Collectors.joining(","));
+        String until = rule.validUntil() == null
+                ? ""
+                : ";UNTIL=" + UTC_DATE_TIME.format(rule.validUntil().plusDays(1).atStartOfDay(zone).toInstant().minusSeconds(1));
+
+        event(() -> {
+            line("UID:" + recurringAvailability.getId());
+            line("DTSTAMP:" + dtStamp);
+            line("DTSTART" + occurrenceStart(first.start(), zone));
+            line("DURATION:PT" + rule.durationMinutes() + "M");
+            line("RRULE:FREQ=WEEKLY;BYDAY=" + byDay + until);
+            line("SUMMARY:Available");
+            line("TRANSP:TRANSPARENT");
+        });
+    }
+
+    @Override
+    public void writeTimeSlot(TimeSlot timeSlot) {
+        event(() -> {
+            line("UID:" + timeSlot.getId());
+            line("DTSTAMP:" + dtStamp);
+            slot(timeSlot);
+        });
+    }
+
+    @Override
+    public void writeBookedOccurrence(TimeSlot timeSlot, RecurringAvailability recurringAvailability) {
+        event(() -> {
+            line("UID:" + recurringAvailability.getId());
+            line("RECURRENCE-ID" + occurrenceStart(timeSlot.getRange().start(), recurringAvailability.getRule().zone().normalized()));
+            line("DTSTAMP:" + dtStamp);
+            slot(timeSlot);
+        });
+    }
+
+    @Override
+    public void end() {
+        try {
+            line("END:VCALENDAR");
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the time slot feed", e);
+        }
+        recording.commit();
+    }
+
+    private void slot(TimeSlot timeSlot) throws IOException {
+        boolean available = "AVAILABLE".equals(timeSlot.getStateString());
+        line("DTSTART:" + UTC_DATE_TIME.format(timeSlot.getRange().start()));
+        line("DTEND:" + UTC_DATE_TIME.format(timeSlot.getRange().end()));
+        line("SEQUENCE:" + Objects.requireNonNullElse(timeSlot.getVersion(), 0L));
+        line(available ? "SUMMARY:Available" : "SUMMARY:Busy");
+        line(available ? "TRANSP:TRANSPARENT" : "TRANSP:OPAQUE");
+    }
+
+    private void event(EventBody body) {
+        try {
+            line("BEGIN:VEVENT");
+            body.write();
+            line("END:VEVENT");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write the time slot feed", e);
+        }
+    }
+
+    /**
+     * Writes one content line, folded so that no physical line exceeds 75 octets.
+     */
+    private void line(String content) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            int width = c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isHighSurrogate(c) ? 4 : Character.isLowSurrogate(c) ? 0 : 3;
+            if (octets + width > MAX_LINE_OCTETS) {
+                out.write("\r\n ");
+                octets = 1;
+            }
+            out.write(c);
+            octets += width;
+        }
+        out.write("\r\n");
+    }
+
+    /**
+     * Olson zones are referenced by TZID without VTIMEZONE components, which calendar clients resolve from
+     * their own zone database. A fixed offset has no TZID, so its occurrences are written in UTC.
+     */
+    private static String occurrenceStart(Instant start, ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            return ":" + UTC_DATE_TIME.format(start);
+        }
+        return ";TZID=" + zone.getId() + ":" + LOCAL_DATE_TIME.format(LocalDateTime.ofInstant(start, zone));
+    }
+
+    private static String weekday(DayOfWeek day) {
+        return day.name().substring(0, 2);
+    }
+
+    private static String text(String value) {
+        return value.replace("\\", "\\\\").replace(";", "\\;").replace(",", "\\,").replace("\n", "\\n");
+    }
+
+    @FunctionalInterface
+    private interface EventBody {
+        void write() throws IOException;
+    }
+}
@@ -0,0 +1,109 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.timeslotfeed;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rendered feeds by owner, each valid for exactly one calendar version. A feed is captured while it is
+ * streamed to the first client that asks for that version; feeds larger than {@code maxFeedBytes} are
+ * not captured and are rendered again on every request. At most {@code maxEntries} owners are kept,
+ * least recently used first out.
+ */
+@Component
+public class TimeSlotFeedCache {
+
+    private final int maxFeedBytes;
+    private final Map<String, CachedFeed> feeds;
+
+    public TimeSlotFeedCache(@Value("${scheduler.feed.cache.max-entries:1000}") int maxEntries,
+                             @Value("${scheduler.feed.cache.max-feed-bytes:262144}") int maxFeedBytes) {
+        this.maxFeedBytes = maxFeedBytes;
+        this.feeds = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedFeed> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * The feed rendered for {@code calendarVersion}, or null when the owner's cached feed is missing or
+     * belongs to another version.
+     */
+    public byte[] get(String owner, long calendarVersion) {
+        CachedFeed feed = feeds.get(owner);
+        return feed != null && feed.calendarVersion() == calendarVersion ? feed.body() : null;
+    }
+
+    /**
+     * Passes everything written on to {@code target} and keeps a copy until it outgrows the size limit;
+     * {@link Recording#commit()} caches the copy once the feed is complete.
+     */
+    public Recording record(OutputStream target, String owner, long calendarVersion) {
+        return new Recording(target, owner, calendarVersion);
+    }
+
+    private void put(String owner, long calendarVersion, byte[] body) {
+        // a slow render of an older version must not replace a newer feed
+        feeds.merge(owner, new CachedFeed(calendarVersion, body),
+                (cached, rendered) -> rendered.calendarVersion() >= cached.calendarVersion() ? rendered : cached);
+    }
+
+    private record CachedFeed(long calendarVersion, byte[] body) {
+    }
+
+    public final class Recording extends OutputStream {
+
+        private final OutputStream target;
+        private final String owner;
+        private final long calendarVersion;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream(8 * 1024);
+
+        private Recording(OutputStream target, String owner, long calendarVersion) {
+            this.target = target;
+            this.owner = owner;
+            this.calendarVersion = calendarVersion;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+            if (keeps(1)) {
+                copy.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target.write(b, off, len);
+            if (keeps(len)) {
+                copy.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+
+        public void commit() {
+            if (copy != null) {
+                put(owner, calendarVersion, copy.toByteArray());
+            }
+        }
+
+        private boolean keeps(int length) {
+            if (copy != null && copy.size() + length > maxFeedBytes) {
+                copy = null;
+            }
+            return copy != null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.timeslotfeed;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.ControllerConstants;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.common.BaseTimeSlotController;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * Calendar subscription endpoint for external calendar apps, which poll it periodically. The feed is
+ * written to the response while the time slots are read from the database, and polls that find the
+ * calendar unchanged are answered without reading it.
+ */
+@RestController
+public class TimeSlotFeedController extends BaseTimeSlotController {
+
+    private final ExportTimeSlotFeedUseCase exportTimeSlotFeedUseCase;
+    private final TimeSlotFeedCache timeSlotFeedCache;
+
+    public TimeSlotFeedController(ExportTimeSlotFeedUseCase exportTimeSlotFeedUseCase,
+                                  TimeSlotFeedCache timeSlotFeedCache) {
+        this.exportTimeSlotFeedUseCase = exportTimeSlotFeedUseCase;
+        this.timeSlotFeedCache = timeSlotFeedCache;
+    }
+
+    @GetMapping(value = "/feed.ics", produces = IcsTimeSlotFeedWriter.TEXT_CALENDAR)
+    @Operation(
+            summary = "Subscribe to time slots as an iCalendar feed",
+            description = "Returns every time slot of the authenticated user as an iCalendar (RFC 5545) feed. " +
+                         "Recurring availability is published as weekly recurring events. Responses carry an ETag " +
+                         "and Last-Modified; sending them back in If-None-Match or If-Modified-Since returns " +
+                         "304 Not Modified while the calendar is unchanged."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Calendar feed",
+                    content = @Content(mediaType = IcsTimeSlotFeedWriter.TEXT_CALENDAR)
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Calendar unchanged since the ETag or date sent in If-None-Match or If-Modified-Since"
+            ),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    public void getTimeSlotFeed(ServletWebRequest webRequest) {
+        var feed = new IcsTimeSlotFeedWriter(webRequest, timeSlotFeedCache, ControllerConstants.USERNAME);
+        exportTimeSlotFeedUseCase.execute(new ExportTimeSlotFeedCommand(ControllerConstants.USERNAME, feed));
+    }
+}
@@ -0,0 +1,79 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.timeslotfeed;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.ErrorResponseDto;
+import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Exception handler for TimeSlotFeedController.
+ * The feed is written while it is read, so only failures raised before the first event can still
+ * change the status code; later errors cut the response short. Error bodies are JSON even though the
+ * endpoint produces text/calendar.
+ */
+@RestControllerAdvice(assignableTypes = TimeSlotFeedController.class)
+@Slf4j
+public class TimeSlotFeedControllerAdvice {
+
+    /**
+     * Handles user not found exceptions.
+     * Returns 404 Not Found.
+     */
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handleUserNotFound(
+            UserNotFoundException ex,
+            HttpServletRequest request) {
+
+        log.warn("User not found for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        return error(HttpStatus.NOT_FOUND, ex.getMessage(), request);
+    }
+
+    /**
+     * Handles a client that went away while the feed was being written.
+     * Nothing can be sent anymore, so no body is returned.
+     */
+    @ExceptionHandler(UncheckedIOException.class)
+    public void handleUncheckedIOException(
+            UncheckedIOException ex,
+            HttpServletRequest request) {
+
+        log.debug("Time slot feed for request to {} was not delivered: {}", request.getRequestURI(), ex.getMessage());
+    }
+
+    /**
+     * Handles generic DataAccessException (database errors).
+     * Returns 500 Internal Server Error.
+     */
+    @ExceptionHandler(DataAccessException.class)
+    public ResponseEntity<ErrorResponseDto> handleDataAccessException(
+            DataAccessException ex,
+            HttpServletRequest request) {
+
+        log.error("Database error while exporting the time slot feed for request to {}: {}",
+                request.getRequestURI(), ex.getMessage(), ex);
+
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", request);
+    }
+
+    private static ResponseEntity<ErrorResponseDto> error(HttpStatus status, String message, HttpServletRequest request) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+}
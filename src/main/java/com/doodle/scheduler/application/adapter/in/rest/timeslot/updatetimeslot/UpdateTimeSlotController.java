@@ -0,0 +1,142 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.updatetimeslot;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.ControllerConstants;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.common.BaseTimeSlotController;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.mapper.TimeSlotDtoMapper;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.updatetimeslot.dto.UpdateTimeSlotRequestDto;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+public class UpdateTimeSlotController extends BaseTimeSlotController {
+
+    private final UpdateTimeSlotUseCase updateTimeSlotUseCase;
+    private final TimeSlotDtoMapper timeSlotDtoMapper;
+
+    public UpdateTimeSlotController(UpdateTimeSlotUseCase updateTimeSlotUseCase, TimeSlotDtoMapper timeSlotDtoMapper) {
+        this.updateTimeSlotUseCase = updateTimeSlotUseCase;
+        this.timeSlotDtoMapper = timeSlotDtoMapper;
+    }
+
+    @PutMapping("/{id}")
+    @Operation(
+            summary = "Reschedule a time slot",
+            description = "Moves a time slot of the authenticated user to a new start time and duration. The new range must not overlap any other time slot or recurring availability of the user."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Time slot successfully rescheduled",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TimeSlotResponseDto.class),
+                            examples = @ExampleObject(
+                                    name = "Success response",
+                                    description = "Time slot moved to the new range",
+                                    value = "{\"id\": \"550e8400-e29b-41d4-a716-446655440000\", \"start\": \"2026-02-07T12:00:00Z\", \"end\": \"2026-02-07T12:45:00Z\", \"duration_minutes\": 45, \"state\": \"AVAILABLE\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid UUID format or invalid request body",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Invalid UUID format",
+                                            description = "The provided ID is not a valid UUID",
+                                            value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 400, \"error\": \"Bad Request\", \"message\": \"Invalid UUID format for parameter 'id'\", \"path\": \"/api/v1/timeslots/invalid-uuid\"}"
+                                    ),
+                                    @ExampleObject(
+                                            name = "Invalid duration",
+                                            description = "Duration must be a positive number",
+                                            value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 400, \"error\": \"Bad Request\", \"message\": \"Validation failed\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000\", \"fieldErrors\": [{\"field\": \"durationMinutes\", \"message\": \"duration in minutes must be positive\"}]}"
+                                    )
+                            }
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Time slot not found or does not belong to the user",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Time slot not found",
+                                    description = "The time slot does not exist or does not belong to the authenticated user",
+                                    value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 404, \"error\": \"Not Found\", \"message\": \"Time slot not found with id: 550e8400-e29b-41d4-a716-446655440000\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "The new range overlaps another time slot, or the slot kept changing concurrently",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Timeslot collision",
+                                            description = "The new range overlaps an existing time slot",
+                                            value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 409, \"error\": \"Conflict\", \"message\": \"time slot overlaps an existing slot: 660e8400-e29b-41d4-a716-446655440000\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000\"}"
+                                    ),
+                                    @ExampleObject(
+                                            name = "Concurrent modification",
+                                            description = "The time slot was changed by another request on every retry",
+                                            value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 409, \"error\": \"Conflict\", \"message\": \"time slot was modified concurrently, please retry\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000\"}"
+                                    )
+                            }
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Server error",
+                                    description = "An unexpected error occurred on the server",
+                                    value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 500, \"error\": \"Internal Server Error\", \"message\": \"An unexpected error occurred\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many writes in flight; retry after the Retry-After seconds",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(
+                                    name = "Overloaded",
+                                    description = "The request was refused before it started because the service is saturated",
+                                    value = "{\"timestamp\": \"2026-02-08T10:15:00Z\", \"status\": 503, \"error\": \"Service Unavailable\", \"message\": \"Too many concurrent requests, retry after 1s\", \"path\": \"/api/v1/timeslots/550e8400-e29b-41d4-a716-446655440000\"}"
+                            )
+                    )
+            )
+    })
+    public ResponseEntity<TimeSlotResponseDto> updateTimeSlot(
+            @PathVariable UUID id,
+            @Valid @RequestBody UpdateTimeSlotRequestDto requestDto) {
+        var command = new UpdateTimeSlotCommand(
+                ControllerConstants.USERNAME,
+                id,
+                requestDto.getStart(),
+                requestDto.getDurationMinutes()
+        );
+        var timeSlot = updateTimeSlotUseCase.execute(command);
+        return ResponseEntity.ok(timeSlotDtoMapper.toResponseDto(timeSlot));
+    }
+}
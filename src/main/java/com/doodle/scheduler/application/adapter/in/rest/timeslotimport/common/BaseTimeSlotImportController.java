@@ -0,0 +1,24 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslotimport.common;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Base controller for all time slot import endpoints.
+ * Provides common configuration for REST controllers handling bulk imports of calendars.
+ *
+ * <p>This abstract class centralizes:
+ * <ul>
+ *   <li>Base path mapping: {@code /api/v1/timeslot-imports}</li>
+ *   <li>Validation support</li>
+ *   <li>Swagger documentation grouping</li>
+ * </ul>
+ */
+@RequestMapping("/api/v1/timeslot-imports")
+@RequiredArgsConstructor
+@Validated
+@Tag(name = "Time Slot Import", description = "APIs for importing calendars in bulk")
+public abstract class BaseTimeSlotImportController {
+}
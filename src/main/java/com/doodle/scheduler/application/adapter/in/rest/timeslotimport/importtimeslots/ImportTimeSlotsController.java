@@ -0,0 +1,79 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.ControllerConstants;
+import com.doodle.scheduler.application.adapter.in.rest.timeslotimport.common.BaseTimeSlotImportController;
+import com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots.dto.ImportTimeSlotsResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots.mapper.ImportTimeSlotsDtoMapper;
+import com.doodle.scheduler.application.adapter.in.timeslotimport.parser.IcsTimeSlotImportParser;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Bulk import endpoint for the caller's own calendar. The request body is handed to the parser as a
+ * stream and parsed while it is loaded into the database, so neither the body nor the parsed rows are
+ * held in memory. CSV files, whose rows name their owner, are imported by the {@code import} job instead.
+ */
+@RestController
+public class ImportTimeSlotsController extends BaseTimeSlotImportController {
+
+    static final String TEXT_CALENDAR = "text/calendar";
+
+    private final ImportTimeSlotsUseCase importTimeSlotsUseCase;
+    private final ImportTimeSlotsDtoMapper importTimeSlotsDtoMapper;
+    private final IcsTimeSlotImportParser icsTimeSlotImportParser;
+
+    public ImportTimeSlotsController(ImportTimeSlotsUseCase importTimeSlotsUseCase,
+                                     ImportTimeSlotsDtoMapper importTimeSlotsDtoMapper,
+                                     IcsTimeSlotImportParser icsTimeSlotImportParser) {
+        this.importTimeSlotsUseCase = importTimeSlotsUseCase;
+        this.importTimeSlotsDtoMapper = importTimeSlotsDtoMapper;
+        this.icsTimeSlotImportParser = icsTimeSlotImportParser;
+    }
+
+    @PostMapping(consumes = TEXT_CALENDAR)
+    @Operation(
+            summary = "Import the events of an iCalendar file as time slots",
+            description = "Each VEVENT with a fixed start and end becomes a time slot of the caller; transparent "
+                    + "events are imported as AVAILABLE, all others as BUSY. All-day, floating, recurring and "
+                    + "cancelled events are skipped and reported, as are events overlapping a stored slot, a "
+                    + "recurring availability or an earlier event of the file."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished; rejected events are listed in the response",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ImportTimeSlotsResponseDto.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "The body is not an iCalendar object",
+                    content = @Content(mediaType = "application/json")
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error; nothing was imported",
+                    content = @Content(mediaType = "application/json")
+            )
+    })
+    public ResponseEntity<ImportTimeSlotsResponseDto> importIcs(InputStream body) {
+        var rows = icsTimeSlotImportParser.parse(
+                new InputStreamReader(body, StandardCharsets.UTF_8), ControllerConstants.USERNAME);
+        var result = importTimeSlotsUseCase.execute(new ImportTimeSlotsCommand(TEXT_CALENDAR, rows));
+        return ResponseEntity.ok(importTimeSlotsDtoMapper.toResponseDto(result));
+    }
+}
@@ -0,0 +1,135 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.ErrorResponseDto;
+import com.doodle.scheduler.application.adapter.in.timeslotimport.parser.MalformedImportException;
+import com.doodle.scheduler.application.domain.common.exception.DomainException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Exception handler for ImportTimeSlotsController.
+ * Row-level problems never reach this class: they are part of the import result. Only failures that
+ * abort the whole import are mapped here, after the transaction has been rolled back.
+ */
+@RestControllerAdvice(assignableTypes = ImportTimeSlotsController.class)
+@Slf4j
+public class ImportTimeSlotsControllerAdvice {
+
+    /**
+     * Handles import bodies that cannot be parsed at all (no VCALENDAR).
+     * Returns 400 Bad Request.
+     */
+    @ExceptionHandler(MalformedImportException.class)
+    public ResponseEntity<ErrorResponseDto> handleMalformedImport(
+            MalformedImportException ex,
+            HttpServletRequest request) {
+
+        log.warn("Malformed import body for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles request bodies that break off while they are being read.
+     * Returns 400 Bad Request.
+     */
+    @ExceptionHandler(UncheckedIOException.class)
+    public ResponseEntity<ErrorResponseDto> handleUnreadableBody(
+            UncheckedIOException ex,
+            HttpServletRequest request) {
+
+        log.warn("Import body could not be read for request to {}: {}", request.getRequestURI(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "The import body could not be read",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles generic data access exceptions from the database layer.
+     * Returns 500 Internal Server Error.
+     */
+    @ExceptionHandler(DataAccessException.class)
+    public ResponseEntity<ErrorResponseDto> handleDataAccessException(
+            DataAccessException ex,
+            HttpServletRequest request) {
+
+        log.error("Data access error for request to {}: {}", request.getRequestURI(), ex.getMessage(), ex);
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                "An error occurred while accessing the database",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+
+    /**
+     * Handles any other domain exceptions not explicitly caught above.
+     * Returns 500 Internal Server Error.
+     */
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ErrorResponseDto> handleDomainException(
+            DomainException ex,
+            HttpServletRequest request) {
+
+        log.error("Domain exception for request to {}: {}", request.getRequestURI(), ex.getMessage(), ex);
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+
+    /**
+     * Handles any unexpected exceptions as a last resort.
+     * Returns 500 Internal Server Error.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponseDto> handleGenericException(
+            Exception ex,
+            HttpServletRequest request) {
+
+        log.error("Unexpected exception for request to {}: {}", request.getRequestURI(), ex.getMessage(), ex);
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                "An unexpected error occurred",
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+}
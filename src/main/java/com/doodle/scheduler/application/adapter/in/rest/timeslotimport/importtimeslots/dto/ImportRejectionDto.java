@@ -0,0 +1,24 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(name = "ImportRejection", description = "A row of the import that was not stored")
+public class ImportRejectionDto {
+
+    @JsonProperty("line")
+    @Schema(description = "Line of the row in the import body (for iCalendar, the BEGIN:VEVENT line)", example = "42")
+    private Long line;
+
+    @JsonProperty("reason")
+    @Schema(description = "Why the row was rejected", example = "time slot overlaps an existing slot: 0190b3a2-7c1e-7d4a-9f00-2b6c5f4e8a11")
+    private String reason;
+}
@@ -0,0 +1,51 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(
+        name = "ImportTimeSlotsResponse",
+        description = "Outcome of a bulk import",
+        example = "{\"import_id\": \"0190b3a2-7c1e-7d4a-9f00-2b6c5f4e8a11\", \"rows_read\": 1000000, \"imported\": 999998, \"rejected\": 2, \"rejections\": [{\"line\": 17, \"reason\": \"durationMinutes must be > 0\"}, {\"line\": 9001, \"reason\": \"time slot overlaps line 9000 of the import\"}], \"elapsed_ms\": 8210, \"rows_per_second\": 121802}"
+)
+public class ImportTimeSlotsResponseDto {
+
+    @JsonProperty("import_id")
+    @Schema(description = "Identifier of the import, also used in the server logs", example = "0190b3a2-7c1e-7d4a-9f00-2b6c5f4e8a11")
+    private UUID importId;
+
+    @JsonProperty("rows_read")
+    @Schema(description = "Number of rows read from the body", example = "1000000")
+    private Long rowsRead;
+
+    @JsonProperty("imported")
+    @Schema(description = "Number of time slots stored", example = "999998")
+    private Long imported;
+
+    @JsonProperty("rejected")
+    @Schema(description = "Number of rows that were not stored", example = "2")
+    private Long rejected;
+
+    @JsonProperty("rejections")
+    @Schema(description = "The first rejected rows, ordered by line; capped by scheduler.import.max-reported-rejections")
+    private List<ImportRejectionDto> rejections;
+
+    @JsonProperty("elapsed_ms")
+    @Schema(description = "Time the import took on the server in milliseconds", example = "8210")
+    private Long elapsedMs;
+
+    @JsonProperty("rows_per_second")
+    @Schema(description = "Throughput of the import", example = "121802")
+    private Long rowsPerSecond;
+}
@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots.mapper;
+
+import com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots.dto.ImportRejectionDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots.dto.ImportTimeSlotsResponseDto;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportRejection;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsQueryResult;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface ImportTimeSlotsDtoMapper {
+
+    @Mapping(target = "elapsedMs", expression = "java(result.elapsed().toMillis())")
+    @Mapping(target = "rowsPerSecond", expression = "java(result.rowsPerSecond())")
+    ImportTimeSlotsResponseDto toResponseDto(ImportTimeSlotsQueryResult result);
+
+    @Mapping(target = "line", source = "lineNumber")
+    ImportRejectionDto toRejectionDto(ImportRejection rejection);
+}
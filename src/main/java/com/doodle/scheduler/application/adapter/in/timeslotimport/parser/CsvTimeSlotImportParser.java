@@ -0,0 +1,106 @@
+package com.doodle.scheduler.application.adapter.in.timeslotimport.parser;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportedTimeSlot;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Reads {@code username,start,duration_minutes[,state]} rows one line at a time. {@code start} is an
+ * ISO-8601 instant and {@code state} defaults to AVAILABLE. Fields are not quoted, since none of them
+ * can contain a comma.
+ */
+@Component
+public class CsvTimeSlotImportParser {
+
+    static final String HEADER = "username,start,duration_minutes";
+    static final String HEADER_WITH_STATE = HEADER + ",state";
+    private static final String DEFAULT_STATE = "AVAILABLE";
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    public Stream<ImportedTimeSlot> parse(Reader source) {
+        BufferedReader reader = new BufferedReader(source, 64 * 1024);
+        int columns = readHeader(reader);
+        return ImportRows.stream(reader, new RowReader(reader, columns));
+    }
+
+    private static int readHeader(BufferedReader reader) {
+        String header;
+        try {
+            header = reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the import body", e);
+        }
+        if (header != null && !header.isEmpty() && header.charAt(0) == BYTE_ORDER_MARK) {
+            header = header.substring(1);
+        }
+        String normalized = header == null ? "" : header.replace(" ", "").toLowerCase(Locale.ROOT);
+        if (normalized.equals(HEADER)) {
+            return 3;
+        }
+        if (normalized.equals(HEADER_WITH_STATE)) {
+            return 4;
+        }
+        throw new MalformedImportException("CSV header must be '" + HEADER + "' or '" + HEADER_WITH_STATE + "'");
+    }
+
+    private static final class RowReader implements ImportRows.RowReader {
+
+        private final BufferedReader reader;
+        private final int columns;
+        private long lineNumber = 1;
+
+        private RowReader(BufferedReader reader, int columns) {
+            this.reader = reader;
+            this.columns = columns;
+        }
+
+        @Override
+        public ImportedTimeSlot read() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+            return parseRow(line);
+        }
+
+        private ImportedTimeSlot parseRow(String line) {
+            String[] fields = line.split(",", -1);
+            if (fields.length != columns) {
+                return ImportedTimeSlot.malformed(lineNumber,
+                        "expected " + columns + " columns but found " + fields.length);
+            }
+            String username = fields[0].trim();
+            if (username.isEmpty()) {
+                return ImportedTimeSlot.malformed(lineNumber, "username is missing");
+            }
+            Instant start;
+            try {
+                start = Instant.parse(fields[1].trim());
+            } catch (DateTimeParseException e) {
+                return ImportedTimeSlot.malformed(lineNumber, "start is not an ISO-8601 instant: " + fields[1].trim());
+            }
+            int durationMinutes;
+            try {
+                durationMinutes = Integer.parseInt(fields[2].trim());
+            } catch (NumberFormatException e) {
+                return ImportedTimeSlot.malformed(lineNumber, "duration_minutes is not a number: " + fields[2].trim());
+            }
+            String state = columns == 4 && !fields[3].isBlank()
+                    ? fields[3].trim().toUpperCase(Locale.ROOT)
+                    : DEFAULT_STATE;
+            return ImportedTimeSlot.of(lineNumber, username, start, durationMinutes, state);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.doodle.scheduler.application.adapter.in.timeslotimport.parser;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportedTimeSlot;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Reads the VEVENTs of an iCalendar (RFC 5545) body one event at a time, each becoming a time slot of
+ * the given owner. Events marked {@code TRANSP:TRANSPARENT} are imported as AVAILABLE, all others as BUSY.
+ *
+ * <p>Only events with a fixed start and end can be imported: all-day events, floating times without a
+ * TZID, recurring events and cancelled events are reported as rejected rows. Line numbers refer to the
+ * {@code BEGIN:VEVENT} line of each event.
+ */
+@Component
+public class IcsTimeSlotImportParser {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final Pattern WEEKS = Pattern.compile("([+-]?)P(\\d+)W");
+
+    public Stream<ImportedTimeSlot> parse(Reader source, String username) {
+        ContentLines lines = new ContentLines(new BufferedReader(source, 64 * 1024));
+        ContentLine first;
+        try {
+            first = lines.next();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the import body", e);
+        }
+        if (first == null || !first.is("BEGIN", "VCALENDAR")) {
+            throw new MalformedImportException("iCalendar body must start with BEGIN:VCALENDAR");
+        }
+        return ImportRows.stream(lines, () -> nextEvent(lines, username));
+    }
+
+    private static ImportedTimeSlot nextEvent(ContentLines lines, String username) throws IOException {
+        ContentLine line;
+        while ((line = lines.next()) != null) {
+            if (line.is("BEGIN", "VEVENT")) {
+                return readEvent(lines, line.lineNumber(), username);
+            }
+        }
+        return null;
+    }
+
+    private static ImportedTimeSlot readEvent(ContentLines lines, long lineNumber, String username) throws IOException {
+        Map<String, ContentLine> properties = new HashMap<>();
+        int nestedComponents = 0;
+        ContentLine line;
+        while ((line = lines.next()) != null) {
+            if (line.name().equals("BEGIN")) {
+                nestedComponents++;
+            } else if (line.name().equals("END")) {
+                if (nestedComponents == 0) {
+                    return line.is("END", "VEVENT")
+                            ? toTimeSlot(lineNumber, username, properties)
+                            : ImportedTimeSlot.malformed(lineNumber, "event is not terminated by END:VEVENT");
+                }
+                nestedComponents--;
+            } else if (nestedComponents == 0) {
+                // properties of a VALARM (which has its own DURATION) must not leak into the event
+                properties.putIfAbsent(line.name(), line);
+            }
+        }
+        return ImportedTimeSlot.malformed(lineNumber, "event is not terminated by END:VEVENT");
+    }
+
+    private static ImportedTimeSlot toTimeSlot(long lineNumber, String username, Map<String, ContentLine> properties) {
+        if (properties.containsKey("RRULE") || properties.containsKey("RDATE")) {
+            return ImportedTimeSlot.malformed(lineNumber, "recurring events are not imported");
+        }
+        ContentLine status = properties.get("STATUS");
+        if (status != null && status.value().equalsIgnoreCase("CANCELLED")) {
+            return ImportedTimeSlot.malformed(lineNumber, "cancelled events are not imported");
+        }
+        ContentLine dtStart = properties.get("DTSTART");
+        if (dtStart == null) {
+            return ImportedTimeSlot.malformed(lineNumber, "event has no DTSTART");
+        }
+        try {
+            Instant start = toInstant(dtStart);
+            Instant end;
+            if (properties.containsKey("DTEND")) {
+                end = toInstant(properties.get("DTEND"));
+            } else if (properties.containsKey("DURATION")) {
+                end = start.plus(toDuration(properties.get("DURATION").value()));
+            } else {
+                return ImportedTimeSlot.malformed(lineNumber, "event has neither DTEND nor DURATION");
+            }
+            Duration length = Duration.between(start, end);
+            if (length.toSecondsPart() != 0 || length.toNanosPart() != 0) {
+                return ImportedTimeSlot.malformed(lineNumber, "event length is not a whole number of minutes");
+            }
+            ContentLine transparency = properties.get("TRANSP");
+            String state = transparency != null && transparency.value().equalsIgnoreCase("TRANSPARENT")
+                    ? "AVAILABLE"
+                    : "BUSY";
+            return ImportedTimeSlot.of(lineNumber, username, start, Math.toIntExact(length.toMinutes()), state);
+        } catch (DateTimeException | ArithmeticException e) {
+            return ImportedTimeSlot.malformed(lineNumber, e.getMessage());
+        }
+    }
+
+    private static Instant toInstant(ContentLine line) {
+        String value = line.value();
+        if ("DATE".equalsIgnoreCase(line.parameters().get("VALUE")) || value.length() == 8) {
+            throw new DateTimeException("all-day events are not imported");
+        }
+        if (value.endsWith("Z")) {
+            return LocalDateTime.parse(value.substring(0, value.length() - 1), DATE_TIME).toInstant(ZoneOffset.UTC);
+        }
+        String tzid = line.parameters().get("TZID");
+        if (tzid == null) {
+            throw new DateTimeException(line.name() + " is a floating time without TZID: " + value);
+        }
+        return LocalDateTime.parse(value, DATE_TIME).atZone(ZoneId.of(tzid.startsWith("/") ? tzid.substring(1) : tzid))
+                .toInstant();
+    }
+
+    private static Duration toDuration(String value) {
+        Matcher weeks = WEEKS.matcher(value);
+        if (weeks.matches()) {
+            Duration duration = Duration.ofDays(7 * Long.parseLong(weeks.group(2)));
+            return weeks.group(1).equals("-") ? duration.negated() : duration;
+        }
+        return Duration.parse(value);
+    }
+
+    /**
+     * One unfolded content line: {@code NAME;PARAM=value:VALUE}.
+     */
+    private record ContentLine(long lineNumber, String name, Map<String, String> parameters, String value) {
+
+        static ContentLine parse(long lineNumber, String line) {
+            int colon = -1;
+            boolean quoted = false;
+            for (int i = 0; i < line.length() && colon < 0; i++) {
+                char c = line.charAt(i);
+                if (c == '"') {
+                    quoted = !quoted;
+                } else if (c == ':' && !quoted) {
+                    colon = i;
+                }
+            }
+            String head = colon < 0 ? line : line.substring(0, colon);
+            String value = colon < 0 ? "" : line.substring(colon + 1).trim();
+            String[] parts = head.split(";");
+            Map<String, String> parameters = new HashMap<>();
+            for (int i = 1; i < parts.length; i++) {
+                int equals = parts[i].indexOf('=');
+                if (equals > 0) {
+                    parameters.put(parts[i].substring(0, equals).trim().toUpperCase(Locale.ROOT),
+                            parts[i].substring(equals + 1).replace("\"", "").trim());
+                }
+            }
+            return new ContentLine(lineNumber, parts[0].trim().toUpperCase(Locale.ROOT), parameters, value);
+        }
+
+        boolean is(String name, String value) {
+            return this.name.equals(name) && this.value.equalsIgnoreCase(value);
+        }
+    }
+
+    /**
+     * Joins folded physical lines (continuations start with a space or tab) into content lines, reading
+     * one physical line ahead.
+     */
+    private static final class ContentLines implements Closeable {
+
+        private final BufferedReader reader;
+        private long physicalLineNumber;
+        private String lookahead;
+        private long lookaheadLineNumber;
+        private boolean started;
+
+        private ContentLines(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        ContentLine next() throws IOException {
+            String line;
+            long lineNumber;
+            if (started) {
+                line = lookahead;
+                lineNumber = lookaheadLineNumber;
+            } else {
+                line = readPhysical();
+                lineNumber = physicalLineNumber;
+                started = true;
+            }
+            while (line != null && line.isBlank()) {
+                line = readPhysical();
+                lineNumber = physicalLineNumber;
+            }
+            if (line == null) {
+                return null;
+            }
+            StringBuilder unfolded = new StringBuilder(line);
+            String following;
+            while ((following = readPhysical()) != null && isContinuation(following)) {
+                unfolded.append(following, 1, following.length());
+            }
+            lookahead = following;
+            lookaheadLineNumber = physicalLineNumber;
+            return ContentLine.parse(lineNumber, unfolded.toString());
+        }
+
+        private String readPhysical() throws IOException {
+            String line = reader.readLine();
+            if (line != null) {
+                physicalLineNumber++;
+                if (physicalLineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                    line = line.substring(1);
+                }
+            }
+            return line;
+        }
+
+        private static boolean isContinuation(String line) {
+            return !line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t');
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
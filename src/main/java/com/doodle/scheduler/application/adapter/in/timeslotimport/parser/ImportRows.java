@@ -0,0 +1,56 @@
+package com.doodle.scheduler.application.adapter.in.timeslotimport.parser;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportedTimeSlot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Adapts a row-at-a-time reader to a lazy stream that closes its source when the stream is closed.
+ */
+final class ImportRows {
+
+    @FunctionalInterface
+    interface RowReader {
+        /**
+         * @return the next row, or null at the end of the input
+         */
+        ImportedTimeSlot read() throws IOException;
+    }
+
+    static Stream<ImportedTimeSlot> stream(Closeable source, RowReader rowReader) {
+        Spliterator<ImportedTimeSlot> rows = new Spliterators.AbstractSpliterator<>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super ImportedTimeSlot> action) {
+                ImportedTimeSlot row;
+                try {
+                    row = rowReader.read();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not read the import body", e);
+                }
+                if (row == null) {
+                    return false;
+                }
+                action.accept(row);
+                return true;
+            }
+        };
+        return StreamSupport.stream(rows, false).onClose(() -> {
+            try {
+                source.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private ImportRows() {
+    }
+}
@@ -0,0 +1,11 @@
+package com.doodle.scheduler.application.adapter.in.timeslotimport.parser;
+
+/**
+ * Thrown when an import body cannot be read as a whole (e.g. a missing CSV header). Problems confined
+ * to one row are reported as rejected rows instead.
+ */
+public class MalformedImportException extends RuntimeException {
+    public MalformedImportException(String message) {
+        super(message);
+    }
+}
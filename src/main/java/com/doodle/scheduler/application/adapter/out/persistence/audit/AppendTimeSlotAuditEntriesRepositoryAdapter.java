@@ -0,0 +1,47 @@
+package com.doodle.scheduler.application.adapter.out.persistence.audit;
+
+import com.doodle.scheduler.application.domain.calendar.model.audit.TimeSlotAuditEntry;
+import com.doodle.scheduler.application.domain.calendar.port.out.timeslotaudit.AppendTimeSlotAuditEntriesPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Writes a batch of entries as one JDBC batch in a transaction of its own; with
+ * {@code reWriteBatchedInserts} the PostgreSQL driver sends it as a few multi-row INSERTs. The writer
+ * thread has no surrounding transaction, and connections may be handed out with autocommit disabled
+ * (production profile), so the batch is committed explicitly.
+ */
+@Component
+public class AppendTimeSlotAuditEntriesRepositoryAdapter implements AppendTimeSlotAuditEntriesPort {
+
+    private static final String INSERT =
+            "INSERT INTO audit_events (event_type, time_slot_id, owner_id, occurred_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public AppendTimeSlotAuditEntriesRepositoryAdapter(JdbcTemplate jdbcTemplate,
+                                                       PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public void appendTimeSlotAuditEntries(List<TimeSlotAuditEntry> entries) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT, entries, entries.size(), (statement, entry) -> {
+                    statement.setString(1, entry.eventType());
+                    statement.setObject(2, entry.timeSlotId());
+                    statement.setObject(3, entry.ownerId());
+                    statement.setObject(4, OffsetDateTime.ofInstant(entry.occurredAt(), ZoneOffset.UTC));
+                }));
+    }
+}
@@ -0,0 +1,29 @@
+package com.doodle.scheduler.application.adapter.out.persistence.idempotency;
+
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyKey;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.ClaimIdempotencyKeyPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code ON CONFLICT DO NOTHING} makes the insert wait on the primary key for a concurrent transaction
+ * holding the same key: it inserts if that transaction rolls back and does nothing if it commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClaimIdempotencyKeyRepositoryAdapter implements ClaimIdempotencyKeyPort {
+
+    private static final String INSERT = """
+            INSERT INTO idempotency_keys (username, idempotency_key, request_fingerprint)
+            VALUES (?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean claimIdempotencyKey(IdempotencyKey key, String requestFingerprint) {
+        return jdbcTemplate.update(INSERT, key.username(), key.value(), requestFingerprint) == 1;
+    }
+}
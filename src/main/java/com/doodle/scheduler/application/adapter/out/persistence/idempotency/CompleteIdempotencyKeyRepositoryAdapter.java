@@ -0,0 +1,37 @@
+package com.doodle.scheduler.application.adapter.out.persistence.idempotency;
+
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyKey;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.CompleteIdempotencyKeyPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+@Component
+@RequiredArgsConstructor
+public class CompleteIdempotencyKeyRepositoryAdapter implements CompleteIdempotencyKeyPort {
+
+    private static final String UPDATE = """
+            UPDATE idempotency_keys
+            SET time_slot_id = ?, owner_id = ?, start_time = ?, duration_minutes = ?, state = ?, version = ?
+            WHERE username = ? AND idempotency_key = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void completeIdempotencyKey(IdempotencyKey key, TimeSlot result) {
+        jdbcTemplate.update(UPDATE,
+                result.getId(),
+                result.getOwnerId(),
+                OffsetDateTime.ofInstant(result.getRange().start(), ZoneOffset.UTC),
+                (int) result.getDurationMinutes(),
+                result.getStateString(),
+                result.getVersion() == null ? 0L : result.getVersion(),
+                key.username(),
+                key.value());
+    }
+}
@@ -0,0 +1,47 @@
+package com.doodle.scheduler.application.adapter.out.persistence.idempotency;
+
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.DeleteExpiredIdempotencyKeysPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Each batch is committed in a transaction of its own, so a large backlog of expired keys never holds
+ * row locks or bloats one transaction for long. The cleaner thread has no surrounding transaction and
+ * connections may be handed out with autocommit disabled (production profile), hence the explicit one.
+ */
+@Component
+public class DeleteExpiredIdempotencyKeysRepositoryAdapter implements DeleteExpiredIdempotencyKeysPort {
+
+    private static final String DELETE = """
+            DELETE FROM idempotency_keys
+            WHERE (username, idempotency_key) IN (SELECT username, idempotency_key
+                                                  FROM idempotency_keys
+                                                  WHERE created_at < ?
+                                                  ORDER BY created_at
+                                                  LIMIT ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public DeleteExpiredIdempotencyKeysRepositoryAdapter(JdbcTemplate jdbcTemplate,
+                                                         PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public int deleteExpiredIdempotencyKeys(Instant createdBefore, int batchSize) {
+        Integer deleted = transactionTemplate.execute(status ->
+                jdbcTemplate.update(DELETE, OffsetDateTime.ofInstant(createdBefore, ZoneOffset.UTC), batchSize));
+        return deleted == null ? 0 : deleted;
+    }
+}
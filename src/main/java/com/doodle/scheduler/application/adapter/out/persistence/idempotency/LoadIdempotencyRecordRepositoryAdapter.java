@@ -0,0 +1,50 @@
+package com.doodle.scheduler.application.adapter.out.persistence.idempotency;
+
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyKey;
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyRecord;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.LoadIdempotencyRecordPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class LoadIdempotencyRecordRepositoryAdapter implements LoadIdempotencyRecordPort {
+
+    private static final String SELECT = """
+            SELECT request_fingerprint, time_slot_id, owner_id, start_time, duration_minutes, state, version, created_at
+            FROM idempotency_keys
+            WHERE username = ? AND idempotency_key = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<IdempotencyRecord> loadIdempotencyRecord(IdempotencyKey key) {
+        return jdbcTemplate.query(SELECT, (resultSet, rowNum) -> toRecord(resultSet), key.username(), key.value())
+                .stream()
+                .findFirst();
+    }
+
+    private static IdempotencyRecord toRecord(ResultSet resultSet) throws SQLException {
+        UUID timeSlotId = resultSet.getObject("time_slot_id", UUID.class);
+        TimeSlot result = timeSlotId == null ? null : TimeSlot.reconstitute(
+                timeSlotId,
+                resultSet.getObject("owner_id", UUID.class),
+                resultSet.getObject("start_time", OffsetDateTime.class).toInstant(),
+                resultSet.getInt("duration_minutes"),
+                resultSet.getString("state"),
+                resultSet.getLong("version"));
+        return new IdempotencyRecord(
+                resultSet.getString("request_fingerprint"),
+                result,
+                resultSet.getObject("created_at", OffsetDateTime.class).toInstant());
+    }
+}
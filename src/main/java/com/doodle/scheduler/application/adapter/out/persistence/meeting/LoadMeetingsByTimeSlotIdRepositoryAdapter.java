@@ -0,0 +1,26 @@
+package com.doodle.scheduler.application.adapter.out.persistence.meeting;
+
+import com.doodle.scheduler.application.adapter.out.persistence.meeting.common.MeetingJpaMapper;
+import com.doodle.scheduler.application.adapter.out.persistence.meeting.common.MeetingJpaRepository;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.port.out.loadmeetings.LoadMeetingsByTimeSlotIdPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class LoadMeetingsByTimeSlotIdRepositoryAdapter implements LoadMeetingsByTimeSlotIdPort {
+
+    private final MeetingJpaRepository meetingJpaRepository;
+    private final MeetingJpaMapper meetingJpaMapper;
+
+    @Override
+    public List<Meeting> loadMeetingsByTimeSlotId(UUID timeSlotId) {
+        return meetingJpaRepository.findByTimeSlotId(timeSlotId).stream()
+                .map(meetingJpaMapper::toDomain)
+                .toList();
+    }
+}
@@ -0,0 +1,25 @@
+package com.doodle.scheduler.application.adapter.out.persistence.meeting;
+
+import com.doodle.scheduler.application.adapter.out.persistence.meeting.common.MeetingJpaMapper;
+import com.doodle.scheduler.application.adapter.out.persistence.meeting.common.MeetingJpaRepository;
+import com.doodle.scheduler.application.adapter.out.persistence.user.common.UserJpaRepository;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.SaveMeetingPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SaveMeetingRepositoryAdapter implements SaveMeetingPort {
+
+    private final MeetingJpaRepository meetingJpaRepository;
+    private final MeetingJpaMapper meetingJpaMapper;
+    private final UserJpaRepository userJpaRepository;
+
+    @Override
+    public Meeting saveMeeting(Meeting meeting) {
+        var saved = meetingJpaRepository.save(meetingJpaMapper.toJpaEntity(meeting));
+        userJpaRepository.incrementCalendarVersionByTimeSlotId(saved.getTimeSlotId());
+        return meetingJpaMapper.toDomain(saved);
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -30,4 +32,9 @@ public class MeetingJpaEntity {
 
     @Column(name = "state", nullable = false)
     private String state;
+
+    @ElementCollection
+    @CollectionTable(name = "meeting_participants", joinColumns = @JoinColumn(name = "meeting_id"))
+    @Column(name = "participant_id", nullable = false)
+    private Set<UUID> participants = new HashSet<>();
 }
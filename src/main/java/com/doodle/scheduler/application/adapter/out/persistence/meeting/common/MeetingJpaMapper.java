@@ -7,11 +7,6 @@ import com.doodle.scheduler.application.domain.meeting.model.MeetingDescription;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.UUID;
-
 @Mapper(componentModel = "spring")
 public interface MeetingJpaMapper {
 
@@ -21,9 +16,8 @@ public interface MeetingJpaMapper {
         MeetingDescription description = new MeetingDescription(
             entity.getDescription() != null ? entity.getDescription() : ""
         );
-        Set<UUID> participants = new HashSet<>();
-        MeetingDetails details = new MeetingDetails(title, description, participants);
-        return Meeting.create(details, List.of(entity.getTimeSlotId()));
+        MeetingDetails details = new MeetingDetails(title, description, entity.getParticipants());
+        return Meeting.reconstitute(entity.getId(), details, entity.getTimeSlotId(), entity.getState());
     }
 
     @Mapping(target = "id", source = "id")
@@ -31,5 +25,6 @@ public interface MeetingJpaMapper {
     @Mapping(target = "description", expression = "java(meeting.getDescription())")
     @Mapping(target = "timeSlotId", expression = "java(meeting.getSlotId())")
     @Mapping(target = "state", expression = "java(meeting.getStateString())")
+    @Mapping(target = "participants", expression = "java(new java.util.HashSet<>(meeting.getDetails().participants()))")
     MeetingJpaEntity toJpaEntity(Meeting meeting);
 }
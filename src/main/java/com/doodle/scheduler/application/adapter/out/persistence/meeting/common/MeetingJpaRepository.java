@@ -1,7 +1,13 @@
 package com.doodle.scheduler.application.adapter.out.persistence.meeting.common;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
 import java.util.UUID;
 
 public interface MeetingJpaRepository extends CrudRepository<MeetingJpaEntity, UUID> {
+
+    @EntityGraph(attributePaths = "participants")
+    List<MeetingJpaEntity> findByTimeSlotId(UUID timeSlotId);
 }
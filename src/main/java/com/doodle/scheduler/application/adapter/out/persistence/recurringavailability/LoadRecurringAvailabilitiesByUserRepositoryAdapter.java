@@ -0,0 +1,26 @@
+package com.doodle.scheduler.application.adapter.out.persistence.recurringavailability;
+
+import com.doodle.scheduler.application.adapter.out.persistence.recurringavailability.common.RecurringAvailabilityJpaMapper;
+import com.doodle.scheduler.application.adapter.out.persistence.recurringavailability.common.RecurringAvailabilityJpaRepository;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class LoadRecurringAvailabilitiesByUserRepositoryAdapter implements LoadRecurringAvailabilitiesByUserPort {
+
+    private final RecurringAvailabilityJpaRepository recurringAvailabilityJpaRepository;
+    private final RecurringAvailabilityJpaMapper recurringAvailabilityJpaMapper;
+
+    @Override
+    public List<RecurringAvailability> loadRecurringAvailabilitiesByUserId(UUID userId) {
+        return recurringAvailabilityJpaRepository.findByOwnerId(userId).stream()
+                .map(recurringAvailabilityJpaMapper::toDomain)
+                .toList();
+    }
+}
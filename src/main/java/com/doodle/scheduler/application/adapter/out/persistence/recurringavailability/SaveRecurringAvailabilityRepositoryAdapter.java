@@ -0,0 +1,25 @@
+package com.doodle.scheduler.application.adapter.out.persistence.recurringavailability;
+
+import com.doodle.scheduler.application.adapter.out.persistence.recurringavailability.common.RecurringAvailabilityJpaMapper;
+import com.doodle.scheduler.application.adapter.out.persistence.recurringavailability.common.RecurringAvailabilityJpaRepository;
+import com.doodle.scheduler.application.adapter.out.persistence.user.common.UserJpaRepository;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.port.out.createrecurringavailability.SaveRecurringAvailabilityPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SaveRecurringAvailabilityRepositoryAdapter implements SaveRecurringAvailabilityPort {
+
+    private final RecurringAvailabilityJpaRepository recurringAvailabilityJpaRepository;
+    private final RecurringAvailabilityJpaMapper recurringAvailabilityJpaMapper;
+    private final UserJpaRepository userJpaRepository;
+
+    @Override
+    public RecurringAvailability saveRecurringAvailability(RecurringAvailability recurringAvailability) {
+        var saved = recurringAvailabilityJpaRepository.save(recurringAvailabilityJpaMapper.toJpaEntity(recurringAvailability));
+        userJpaRepository.incrementCalendarVersion(saved.getOwnerId());
+        return recurringAvailabilityJpaMapper.toDomain(saved);
+    }
+}
@@ -0,0 +1,45 @@
+package com.doodle.scheduler.application.adapter.out.persistence.recurringavailability.common;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "recurring_availabilities", indexes = {
+    @Index(name = "idx_recurring_availabilities_owner_id", columnList = "owner_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecurringAvailabilityJpaEntity {
+
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "owner_id", nullable = false)
+    private UUID ownerId;
+
+    @Column(name = "by_day", nullable = false, length = 20)
+    private String byDay;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @Column(name = "duration_minutes", nullable = false)
+    private Integer durationMinutes;
+
+    @Column(name = "time_zone", nullable = false, length = 64)
+    private String timeZone;
+
+    @Column(name = "valid_from", nullable = false)
+    private LocalDate validFrom;
+
+    @Column(name = "valid_until")
+    private LocalDate validUntil;
+}
@@ -0,0 +1,68 @@
+package com.doodle.scheduler.application.adapter.out.persistence.recurringavailability.common;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import org.mapstruct.Mapper;
+
+import java.time.DayOfWeek;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Days are stored as an iCalendar {@code BYDAY} list ({@code MO,TU,WE}), matching the two-letter
+ * prefix of {@link DayOfWeek} names.
+ */
+@Mapper(componentModel = "spring")
+public interface RecurringAvailabilityJpaMapper {
+
+    default RecurringAvailability toDomain(RecurringAvailabilityJpaEntity entity) {
+        if (entity == null) return null;
+        RecurrenceRule rule = new RecurrenceRule(
+            parseByDay(entity.getByDay()),
+            entity.getStartTime(),
+            entity.getDurationMinutes(),
+            ZoneId.of(entity.getTimeZone()),
+            entity.getValidFrom(),
+            entity.getValidUntil()
+        );
+        return RecurringAvailability.reconstitute(entity.getId(), entity.getOwnerId(), rule);
+    }
+
+    default RecurringAvailabilityJpaEntity toJpaEntity(RecurringAvailability recurringAvailability) {
+        if (recurringAvailability == null) return null;
+        RecurrenceRule rule = recurringAvailability.getRule();
+        RecurringAvailabilityJpaEntity entity = new RecurringAvailabilityJpaEntity();
+        entity.setId(recurringAvailability.getId());
+        entity.setOwnerId(recurringAvailability.getOwnerId());
+        entity.setByDay(formatByDay(rule.daysOfWeek()));
+        entity.setStartTime(rule.startTime());
+        entity.setDurationMinutes(rule.durationMinutes());
+        entity.setTimeZone(rule.zone().getId());
+        entity.setValidFrom(rule.validFrom());
+        entity.setValidUntil(rule.validUntil());
+        return entity;
+    }
+
+    default String formatByDay(Set<DayOfWeek> days) {
+        return days.stream()
+            .sorted()
+            .map(day -> day.name().substring(0, 2))
+            .collect(Collectors.joining(","));
+    }
+
+    default Set<DayOfWeek> parseByDay(String byDay) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String code : byDay.split(",")) {
+            Arrays.stream(DayOfWeek.values())
+                .filter(day -> day.name().startsWith(code.trim()))
+                .findFirst()
+                .ifPresentOrElse(days::add, () -> {
+                    throw new IllegalStateException("Unknown BYDAY code: " + code);
+                });
+        }
+        return days;
+    }
+}
@@ -0,0 +1,10 @@
+package com.doodle.scheduler.application.adapter.out.persistence.recurringavailability.common;
+
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface RecurringAvailabilityJpaRepository extends CrudRepository<RecurringAvailabilityJpaEntity, UUID> {
+    List<RecurringAvailabilityJpaEntity> findByOwnerId(UUID ownerId);
+}
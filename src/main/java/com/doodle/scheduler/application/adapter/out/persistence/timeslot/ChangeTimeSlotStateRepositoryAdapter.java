@@ -0,0 +1,56 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.state.SlotState;
+import com.doodle.scheduler.application.domain.calendar.port.out.changetimeslotstate.ChangeTimeSlotStatePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Changes the state, bumps the owner's calendar version and returns the new row in one statement,
+ * so the happy path is a single round-trip and the row lock is released with the transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeTimeSlotStateRepositoryAdapter implements ChangeTimeSlotStatePort {
+
+    private static final String CHANGE_STATE = """
+            WITH changed AS (
+                UPDATE time_slots t SET state = ?, version = t.version + 1
+                WHERE t.id = ? AND t.owner_id = ? AND t.state = ?
+                  AND NOT EXISTS (SELECT 1 FROM meetings m WHERE m.time_slot_id = t.id)
+                RETURNING t.id, t.owner_id, t.start_time, t.duration_minutes, t.state, t.version
+            ), bumped AS (
+                UPDATE users SET calendar_version = calendar_version + 1, calendar_updated_at = CURRENT_TIMESTAMP
+                WHERE id IN (SELECT owner_id FROM changed)
+            )
+            SELECT id, owner_id, start_time, duration_minutes, state, version FROM changed
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<TimeSlot> changeTimeSlotState(UUID timeSlotId, UUID ownerId, SlotState from, SlotState to) {
+        return jdbcTemplate.query(CHANGE_STATE, (resultSet, rowNum) -> toTimeSlot(resultSet),
+                        to.getStateString(), timeSlotId, ownerId, from.getStateString())
+                .stream()
+                .findFirst();
+    }
+
+    private static TimeSlot toTimeSlot(ResultSet resultSet) throws SQLException {
+        return TimeSlot.reconstitute(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getObject("owner_id", UUID.class),
+                resultSet.getObject("start_time", OffsetDateTime.class).toInstant(),
+                resultSet.getInt("duration_minutes"),
+                resultSet.getString("state"),
+                resultSet.getLong("version"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
 
 import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaRepository;
+import com.doodle.scheduler.application.adapter.out.persistence.user.common.UserJpaRepository;
 import com.doodle.scheduler.application.domain.calendar.port.out.deletetimeslot.DeleteTimeSlotPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -12,9 +13,11 @@ import java.util.UUID;
 public class DeleteTimeSlotRepositoryAdapter implements DeleteTimeSlotPort {
 
     private final TimeSlotJpaRepository timeSlotJpaRepository;
+    private final UserJpaRepository userJpaRepository;
 
     @Override
     public void deleteTimeSlot(UUID timeSlotId) {
+        userJpaRepository.incrementCalendarVersionByTimeSlotId(timeSlotId);
         timeSlotJpaRepository.deleteById(timeSlotId);
     }
 }
@@ -0,0 +1,34 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaMapper;
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaRepository;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.updatetimeslot.LoadNeighbouringTimeSlotsPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class LoadNeighbouringTimeSlotsRepositoryAdapter implements LoadNeighbouringTimeSlotsPort {
+
+    private final TimeSlotJpaRepository timeSlotJpaRepository;
+    private final TimeSlotJpaMapper timeSlotJpaMapper;
+
+    @Override
+    public List<TimeSlot> loadNeighbouringTimeSlots(UUID ownerId, UUID excludedTimeSlotId, Instant start, Instant end) {
+        List<TimeSlot> neighbours = new ArrayList<>();
+        timeSlotJpaRepository
+                .findFirstByOwnerIdAndIdNotAndStartTimeLessThanOrderByStartTimeDesc(ownerId, excludedTimeSlotId, start)
+                .map(timeSlotJpaMapper::toDomain)
+                .ifPresent(neighbours::add);
+        timeSlotJpaRepository.findStartingWithin(ownerId, excludedTimeSlotId, start, end).stream()
+                .map(timeSlotJpaMapper::toDomain)
+                .forEach(neighbours::add);
+        return neighbours;
+    }
+}
@@ -0,0 +1,26 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaRepository;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadStoredTimeSlotIdsPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Answered from the primary key index: PostgreSQL orders uuid values byte by byte, which is their
+ * unsigned order.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadStoredTimeSlotIdsRepositoryAdapter implements LoadStoredTimeSlotIdsPort {
+
+    private final TimeSlotJpaRepository timeSlotJpaRepository;
+
+    @Override
+    public Set<UUID> loadStoredTimeSlotIdsBetween(UUID ownerId, UUID fromId, UUID toId) {
+        return new HashSet<>(timeSlotJpaRepository.findIdsBetween(ownerId, fromId, toId));
+    }
+}
@@ -0,0 +1,24 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaRepository;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.MaterializeOccurrencePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MaterializeOccurrenceRepositoryAdapter implements MaterializeOccurrencePort {
+
+    private final TimeSlotJpaRepository timeSlotJpaRepository;
+
+    @Override
+    public void materializeOccurrence(TimeSlot occurrence) {
+        timeSlotJpaRepository.insertAvailableIfAbsent(
+                occurrence.getId(),
+                occurrence.getOwnerId(),
+                occurrence.getRange().start(),
+                occurrence.getRange().end(),
+                (int) occurrence.getDurationMinutes());
+    }
+}
@@ -0,0 +1,20 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaRepository;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.ReserveTimeSlotPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ReserveTimeSlotRepositoryAdapter implements ReserveTimeSlotPort {
+
+    private final TimeSlotJpaRepository timeSlotJpaRepository;
+
+    @Override
+    public boolean reserveTimeSlot(UUID timeSlotId, UUID ownerId) {
+        return timeSlotJpaRepository.reserveIfAvailable(timeSlotId, ownerId) == 1;
+    }
+}
@@ -2,6 +2,7 @@ package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
 
 import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaMapper;
 import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaRepository;
+import com.doodle.scheduler.application.adapter.out.persistence.user.common.UserJpaRepository;
 import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
 import com.doodle.scheduler.application.domain.calendar.port.out.createtimeslot.SaveTimeSlotPort;
 import lombok.RequiredArgsConstructor;
@@ -13,11 +14,13 @@ public class SaveTimeSlotRepositoryAdapter implements SaveTimeSlotPort {
 
     private final TimeSlotJpaRepository timeSlotJpaRepository;
     private final TimeSlotJpaMapper timeSlotJpaMapper;
+    private final UserJpaRepository userJpaRepository;
 
     @Override
     public TimeSlot saveTimeSlot(TimeSlot timeSlot) {
         var jpaEntity = timeSlotJpaMapper.toJpaEntity(timeSlot);
         var saved = timeSlotJpaRepository.save(jpaEntity);
+        userJpaRepository.incrementCalendarVersion(saved.getOwnerId());
         return timeSlotJpaMapper.toDomain(saved);
     }
 }
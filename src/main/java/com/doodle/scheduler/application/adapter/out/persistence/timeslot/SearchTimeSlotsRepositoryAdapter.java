@@ -1,155 +1,185 @@
 package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
 
 import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaEntity;
-import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaEntity_;
 import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaMapper;
 import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
 import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.SearchTimeSlotsPort;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
-import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.persistence.criteria.CriteriaQuery;
-import jakarta.persistence.criteria.Predicate;
-import jakarta.persistence.criteria.Root;
-import lombok.RequiredArgsConstructor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * Searches time slots with one precompiled query per filter shape.
+ * The optional filters (status, start time, end time) give 2^3 shapes; each shape's HQL is
+ * rendered once, so Hibernate parses it once and then serves it from its query plan cache.
+ * <p>
+ * In single round-trip mode (default) the page and the total are read by one native statement
+ * using {@code count(*) OVER ()}; the separate count query only runs when a page past the
+ * first one comes back empty, since the window total is then unavailable. An offset beyond the
+ * range JPA can page to returns no rows without a select.
+ */
 @Component
-@RequiredArgsConstructor
 public class SearchTimeSlotsRepositoryAdapter implements SearchTimeSlotsPort {
 
+    private static final int STATUS_FILTER = 1;
+    private static final int START_TIME_FILTER = 1 << 1;
+    private static final int END_TIME_FILTER = 1 << 2;
+    private static final String TOTAL_ELEMENTS_COLUMN = "total_elements";
+
+    private static final SearchQueries[] QUERIES_BY_SHAPE = SearchQueries.precompile();
+
     private final EntityManager entityManager;
     private final TimeSlotJpaMapper timeSlotJpaMapper;
+    private final boolean singleRoundTrip;
+
+    public SearchTimeSlotsRepositoryAdapter(EntityManager entityManager,
+                                            TimeSlotJpaMapper timeSlotJpaMapper,
+                                            @Value("${scheduler.search.single-round-trip:true}") boolean singleRoundTrip) {
+        this.entityManager = entityManager;
+        this.timeSlotJpaMapper = timeSlotJpaMapper;
+        this.singleRoundTrip = singleRoundTrip;
+    }
 
     @Override
-    public SearchResult searchTimeSlots(UUID ownerId, String status, Instant startTime, Instant endTime, int page, int size) {
-        TimeSlotQueryBuilder builder = TimeSlotQueryBuilder.forEntity(entityManager)
-                .filterByOwner(ownerId)
-                .filterByStatus(status)
-                .filterByTimeRange(startTime, endTime)
-                .paginate(page, size);
-
-        List<TimeSlot> timeSlots = builder.findAll()
-                .orderByStartTimeAsc()
-                .getResults()
+    public SearchResult searchTimeSlots(UUID ownerId, String status, Instant startTime, Instant endTime,
+                                        long offset, int limit) {
+        if (ownerId == null) {
+            throw new IllegalArgumentException("ownerId cannot be null");
+        }
+        int shape = shapeOf(status, startTime, endTime);
+        SearchQueries queries = QUERIES_BY_SHAPE[shape];
+
+        if (offset > Integer.MAX_VALUE) {
+            return new SearchResult(List.of(), count(queries, shape, ownerId, status, startTime, endTime));
+        }
+        return singleRoundTrip
+                ? searchWithWindowCount(queries, shape, ownerId, status, startTime, endTime, (int) offset, limit)
+                : searchWithSeparateCount(queries, shape, ownerId, status, startTime, endTime, (int) offset, limit);
+    }
+
+    private SearchResult searchWithSeparateCount(SearchQueries queries, int shape, UUID ownerId, String status,
+                                                 Instant startTime, Instant endTime, int offset, int limit) {
+        TypedQuery<TimeSlotJpaEntity> selectQuery = entityManager.createQuery(queries.select(), TimeSlotJpaEntity.class);
+        bindParameters(selectQuery, shape, ownerId, status, startTime, endTime);
+        selectQuery.setFirstResult(offset);
+        selectQuery.setMaxResults(limit);
+
+        List<TimeSlot> timeSlots = selectQuery.getResultList()
                 .stream()
                 .map(timeSlotJpaMapper::toDomain)
                 .toList();
 
-        long totalElements = builder.count();
-
-        return new SearchResult(timeSlots, totalElements);
+        return new SearchResult(timeSlots, count(queries, shape, ownerId, status, startTime, endTime));
     }
 
-    @RequiredArgsConstructor(staticName = "forEntity")
-    private static class TimeSlotQueryBuilder {
-        private final EntityManager entityManager;
-        private final List<PredicateBuilder> predicateBuilders = new ArrayList<>();
-        private int page = 0;
-        private int size = Integer.MAX_VALUE;
-
-        private TimeSlotQueryBuilder filterByOwner(UUID ownerId) {
-            if (ownerId == null) {
-                throw new IllegalArgumentException("ownerId cannot be null");
-            }
-            predicateBuilders.add((cb, root) -> cb.equal(root.get(TimeSlotJpaEntity_.ownerId), ownerId));
-            return this;
+    @SuppressWarnings("unchecked")
+    private SearchResult searchWithWindowCount(SearchQueries queries, int shape, UUID ownerId, String status,
+                                               Instant startTime, Instant endTime, int offset, int limit) {
+        Query selectQuery = entityManager.createNativeQuery(queries.nativeSelectWithTotal())
+                .unwrap(NativeQuery.class)
+                .addEntity(TimeSlotJpaEntity.class)
+                .addScalar(TOTAL_ELEMENTS_COLUMN, StandardBasicTypes.LONG);
+        bindParameters(selectQuery, shape, ownerId, status, startTime, endTime);
+        selectQuery.setFirstResult(offset);
+        selectQuery.setMaxResults(limit);
+
+        List<Object[]> rows = selectQuery.getResultList();
+        if (rows.isEmpty()) {
+            long totalElements = offset == 0 ? 0 : count(queries, shape, ownerId, status, startTime, endTime);
+            return new SearchResult(List.of(), totalElements);
         }
 
-        private TimeSlotQueryBuilder filterByStatus(String status) {
-            if (status != null && !status.isEmpty()) {
-                predicateBuilders.add((cb, root) -> cb.equal(root.get(TimeSlotJpaEntity_.state), status));
-            }
-            return this;
-        }
+        List<TimeSlot> timeSlots = rows.stream()
+                .map(row -> timeSlotJpaMapper.toDomain((TimeSlotJpaEntity) row[0]))
+                .toList();
 
-        private TimeSlotQueryBuilder filterByTimeRange(Instant startTime, Instant endTime) {
-            if (startTime != null) {
-                predicateBuilders.add((cb, root) ->
-                    cb.greaterThanOrEqualTo(root.get(TimeSlotJpaEntity_.startTime), startTime));
-            }
-            if (endTime != null) {
-                predicateBuilders.add((cb, root) ->
-                    cb.lessThanOrEqualTo(root.get(TimeSlotJpaEntity_.endTime), endTime));
-            }
-            return this;
-        }
+        return new SearchResult(timeSlots, (Long) rows.get(0)[1]);
+    }
 
-        private TimeSlotQueryBuilder paginate(int page, int size) {
-            this.page = page;
-            this.size = size;
-            return this;
-        }
+    private long count(SearchQueries queries, int shape, UUID ownerId, String status, Instant startTime, Instant endTime) {
+        TypedQuery<Long> countQuery = entityManager.createQuery(queries.count(), Long.class);
+        bindParameters(countQuery, shape, ownerId, status, startTime, endTime);
+        return countQuery.getSingleResult();
+    }
 
-        private QueryExecutor findAll() {
-            return new QueryExecutor(entityManager, predicateBuilders, page, size);
+    private static int shapeOf(String status, Instant startTime, Instant endTime) {
+        int shape = 0;
+        if (status != null && !status.isEmpty()) {
+            shape |= STATUS_FILTER;
         }
-
-        private long count() {
-            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-            CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
-            Root<TimeSlotJpaEntity> root = query.from(TimeSlotJpaEntity.class);
-
-            List<Predicate> predicates = buildPredicates(criteriaBuilder, root);
-            query.select(criteriaBuilder.count(root))
-                 .where(predicates.toArray(Predicate[]::new));
-
-            return entityManager.createQuery(query).getSingleResult();
+        if (startTime != null) {
+            shape |= START_TIME_FILTER;
         }
-
-        private List<Predicate> buildPredicates(CriteriaBuilder criteriaBuilder, Root<TimeSlotJpaEntity> root) {
-            return predicateBuilders.stream()
-                    .map(builder -> builder.build(criteriaBuilder, root))
-                    .toList();
+        if (endTime != null) {
+            shape |= END_TIME_FILTER;
         }
+        return shape;
+    }
 
-        @FunctionalInterface
-        private interface PredicateBuilder {
-            Predicate build(CriteriaBuilder criteriaBuilder, Root<TimeSlotJpaEntity> root);
+    private static void bindParameters(Query query, int shape, UUID ownerId, String status,
+                                       Instant startTime, Instant endTime) {
+        query.setParameter("ownerId", ownerId);
+        if ((shape & STATUS_FILTER) != 0) {
+            query.setParameter("state", status);
+        }
+        if ((shape & START_TIME_FILTER) != 0) {
+            query.setParameter("startTime", startTime);
+        }
+        if ((shape & END_TIME_FILTER) != 0) {
+            query.setParameter("endTime", endTime);
         }
     }
 
-    @RequiredArgsConstructor
-    private static class QueryExecutor {
-        private final EntityManager entityManager;
-        private final List<TimeSlotQueryBuilder.PredicateBuilder> predicateBuilders;
-        private final int page;
-        private final int size;
-        private boolean orderByStartTime = false;
-
-        private QueryExecutor orderByStartTimeAsc() {
-            this.orderByStartTime = true;
-            return this;
+    private record SearchQueries(String select, String count, String nativeSelectWithTotal) {
+
+        private static SearchQueries[] precompile() {
+            SearchQueries[] queries = new SearchQueries[8];
+            for (int shape = 0; shape < queries.length; shape++) {
+                queries[shape] = new SearchQueries(
+                        "select t from TimeSlotJpaEntity t" + hqlWhereClause(shape) + " order by t.startTime asc",
+                        "select count(t) from TimeSlotJpaEntity t" + hqlWhereClause(shape),
+                        "select t.id, t.owner_id, t.start_time, t.end_time, t.duration_minutes, t.state, t.version, "
+                                + "count(*) over () as " + TOTAL_ELEMENTS_COLUMN
+                                + " from time_slots t" + sqlWhereClause(shape)
+                                + " order by t.start_time asc");
+            }
+            return queries;
         }
 
-        private List<TimeSlotJpaEntity> getResults() {
-            CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
-            CriteriaQuery<TimeSlotJpaEntity> query = criteriaBuilder.createQuery(TimeSlotJpaEntity.class);
-            Root<TimeSlotJpaEntity> root = query.from(TimeSlotJpaEntity.class);
-
-            List<Predicate> predicates = buildPredicates(criteriaBuilder, root);
-            query.where(predicates.toArray(Predicate[]::new));
-
-            if (orderByStartTime) {
-                query.orderBy(criteriaBuilder.asc(root.get(TimeSlotJpaEntity_.startTime)));
+        private static String hqlWhereClause(int shape) {
+            StringBuilder where = new StringBuilder(" where t.ownerId = :ownerId");
+            if ((shape & STATUS_FILTER) != 0) {
+                where.append(" and t.state = :state");
             }
-
-            TypedQuery<TimeSlotJpaEntity> typedQuery = entityManager.createQuery(query);
-            typedQuery.setFirstResult(page * size);
-            typedQuery.setMaxResults(size);
-
-            return typedQuery.getResultList();
+            if ((shape & START_TIME_FILTER) != 0) {
+                where.append(" and t.startTime >= :startTime");
+            }
+            if ((shape & END_TIME_FILTER) != 0) {
+                where.append(" and t.endTime <= :endTime");
+            }
+            return where.toString();
         }
 
-        private List<Predicate> buildPredicates(CriteriaBuilder criteriaBuilder, Root<TimeSlotJpaEntity> root) {
-            return predicateBuilders.stream()
-                    .map(builder -> builder.build(criteriaBuilder, root))
-                    .toList();
+        private static String sqlWhereClause(int shape) {
+            StringBuilder where = new StringBuilder(" where t.owner_id = :ownerId");
+            if ((shape & STATUS_FILTER) != 0) {
+                where.append(" and t.state = :state");
+            }
+            if ((shape & START_TIME_FILTER) != 0) {
+                where.append(" and t.start_time >= :startTime");
+            }
+            if ((shape & END_TIME_FILTER) != 0) {
+                where.append(" and t.end_time <= :endTime");
+            }
+            return where.toString();
         }
     }
 }
@@ -0,0 +1,60 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.StreamTimeSlotsByOwnerPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Reads the owner's slots through a server-side cursor. PostgreSQL only honours the fetch size inside a
+ * transaction, so callers must hold one for as long as the stream is open; without it the driver would
+ * load the whole result before handing over the first row.
+ */
+@Component
+public class StreamTimeSlotsByOwnerRepositoryAdapter implements StreamTimeSlotsByOwnerPort {
+
+    private static final String SELECT = """
+            SELECT id, owner_id, start_time, duration_minutes, state, version
+            FROM time_slots
+            WHERE owner_id = ?
+            ORDER BY start_time
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public StreamTimeSlotsByOwnerRepositoryAdapter(JdbcTemplate jdbcTemplate,
+                                                   @Value("${scheduler.feed.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<TimeSlot> streamTimeSlotsByOwnerId(UUID ownerId) {
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT);
+            statement.setFetchSize(fetchSize);
+            statement.setObject(1, ownerId);
+            return statement;
+        }, (resultSet, rowNum) -> toDomain(resultSet));
+    }
+
+    private static TimeSlot toDomain(ResultSet resultSet) throws SQLException {
+        return TimeSlot.reconstitute(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getObject("owner_id", UUID.class),
+                resultSet.getObject("start_time", OffsetDateTime.class).toInstant(),
+                resultSet.getInt("duration_minutes"),
+                resultSet.getString("state"),
+                resultSet.getLong("version")
+        );
+    }
+}
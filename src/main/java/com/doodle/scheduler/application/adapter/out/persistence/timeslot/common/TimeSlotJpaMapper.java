@@ -14,7 +14,8 @@ public interface TimeSlotJpaMapper {
             entity.getOwnerId(),
             entity.getStartTime(),
             entity.getDurationMinutes(),
-            entity.getState()
+            entity.getState(),
+            entity.getVersion()
         );
     }
 
@@ -24,5 +25,6 @@ public interface TimeSlotJpaMapper {
     @Mapping(target = "endTime", source = "range.end")
     @Mapping(target = "durationMinutes", expression = "java((int) timeSlot.getDurationMinutes())")
     @Mapping(target = "state", expression = "java(timeSlot.getStateString())")
+    @Mapping(target = "version", source = "version")
     TimeSlotJpaEntity toJpaEntity(TimeSlot timeSlot);
 }
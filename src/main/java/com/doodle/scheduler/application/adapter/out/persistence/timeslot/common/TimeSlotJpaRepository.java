@@ -1,10 +1,42 @@
 package com.doodle.scheduler.application.adapter.out.persistence.timeslot.common;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TimeSlotJpaRepository extends CrudRepository<TimeSlotJpaEntity, UUID> {
     List<TimeSlotJpaEntity> findByOwnerId(UUID ownerId);
+
+    Optional<TimeSlotJpaEntity> findFirstByOwnerIdAndIdNotAndStartTimeLessThanOrderByStartTimeDesc(
+            UUID ownerId, UUID excludedId, Instant start);
+
+    @Query("select t from TimeSlotJpaEntity t where t.ownerId = :ownerId and t.id <> :excludedId "
+            + "and t.startTime >= :start and t.startTime < :end order by t.startTime")
+    List<TimeSlotJpaEntity> findStartingWithin(@Param("ownerId") UUID ownerId, @Param("excludedId") UUID excludedId,
+                                               @Param("start") Instant start, @Param("end") Instant end);
+
+    @Modifying
+    @Query("update TimeSlotJpaEntity t set t.state = 'BUSY', t.version = t.version + 1 "
+            + "where t.id = :timeSlotId and t.ownerId = :ownerId and t.state = 'AVAILABLE'")
+    int reserveIfAvailable(@Param("timeSlotId") UUID timeSlotId, @Param("ownerId") UUID ownerId);
+
+    @Query("select t.id from TimeSlotJpaEntity t where t.ownerId = :ownerId and t.id between :fromId and :toId")
+    List<UUID> findIdsBetween(@Param("ownerId") UUID ownerId, @Param("fromId") UUID fromId, @Param("toId") UUID toId);
+
+    /**
+     * Concurrent callers for the same id serialise on the primary key; all but the first insert nothing.
+     */
+    @Modifying
+    @Query(value = "insert into time_slots (id, owner_id, start_time, end_time, duration_minutes, state, version) "
+            + "values (:id, :ownerId, :startTime, :endTime, :durationMinutes, 'AVAILABLE', 0) "
+            + "on conflict do nothing", nativeQuery = true)
+    int insertAvailableIfAbsent(@Param("id") UUID id, @Param("ownerId") UUID ownerId,
+                                @Param("startTime") Instant startTime, @Param("endTime") Instant endTime,
+                                @Param("durationMinutes") int durationMinutes);
 }
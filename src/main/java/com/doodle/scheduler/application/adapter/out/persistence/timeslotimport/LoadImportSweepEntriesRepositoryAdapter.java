@@ -0,0 +1,64 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslotimport;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportSweepEntry;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.LoadImportSweepEntriesPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Component
+public class LoadImportSweepEntriesRepositoryAdapter implements LoadImportSweepEntriesPort {
+
+    private static final String SELECT = """
+            SELECT u.id AS owner_id, s.username, s.line_number, s.id, s.start_time, s.end_time
+            FROM time_slot_imports s
+            LEFT JOIN users u ON u.username = s.username
+            WHERE s.import_id = ?
+            UNION ALL
+            SELECT t.owner_id, CAST(NULL AS VARCHAR(255)), CAST(NULL AS BIGINT), t.id, t.start_time, t.end_time
+            FROM time_slots t
+            WHERE t.owner_id IN (SELECT u.id FROM users u
+                                 JOIN time_slot_imports s ON s.username = u.username
+                                 WHERE s.import_id = ?)
+            ORDER BY owner_id, start_time, line_number NULLS FIRST
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public LoadImportSweepEntriesRepositoryAdapter(JdbcTemplate jdbcTemplate,
+                                                   @Value("${scheduler.import.fetch-size:10000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Stream<ImportSweepEntry> loadImportSweepEntries(UUID importId) {
+        return jdbcTemplate.queryForStream(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT);
+            statement.setFetchSize(fetchSize);
+            statement.setObject(1, importId);
+            statement.setObject(2, importId);
+            return statement;
+        }, (resultSet, rowNum) -> toEntry(resultSet));
+    }
+
+    private static ImportSweepEntry toEntry(ResultSet resultSet) throws SQLException {
+        long lineNumber = resultSet.getLong("line_number");
+        Long line = resultSet.wasNull() ? null : lineNumber;
+        return new ImportSweepEntry(
+                resultSet.getObject("owner_id", UUID.class),
+                resultSet.getString("username"),
+                line,
+                resultSet.getObject("id", UUID.class),
+                resultSet.getObject("start_time", OffsetDateTime.class).toInstant(),
+                resultSet.getObject("end_time", OffsetDateTime.class).toInstant());
+    }
+}
@@ -0,0 +1,43 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslotimport;
+
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.MergeStagedTimeSlotsPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Merges with one statement per step instead of one per slot. The calendar version of every owner that
+ * received slots is bumped once, so search ETags issued before the import stop matching.
+ */
+@Component
+@RequiredArgsConstructor
+public class MergeStagedTimeSlotsRepositoryAdapter implements MergeStagedTimeSlotsPort {
+
+    private static final String INSERT = """
+            INSERT INTO time_slots (id, owner_id, start_time, end_time, duration_minutes, state, version)
+            SELECT s.id, u.id, s.start_time, s.end_time, s.duration_minutes, s.state, 0
+            FROM time_slot_imports s
+            JOIN users u ON u.username = s.username
+            WHERE s.import_id = ? AND s.rejection IS NULL
+            """;
+    private static final String BUMP_CALENDAR_VERSIONS = """
+            UPDATE users SET calendar_version = calendar_version + 1, calendar_updated_at = CURRENT_TIMESTAMP
+            WHERE username IN (SELECT s.username FROM time_slot_imports s
+                               WHERE s.import_id = ? AND s.rejection IS NULL)
+            """;
+    private static final String CLEAR_STAGING = "DELETE FROM time_slot_imports WHERE import_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long mergeStagedTimeSlots(UUID importId) {
+        long inserted = jdbcTemplate.update(INSERT, importId);
+        if (inserted > 0) {
+            jdbcTemplate.update(BUMP_CALENDAR_VERSIONS, importId);
+        }
+        jdbcTemplate.update(CLEAR_STAGING, importId);
+        return inserted;
+    }
+}
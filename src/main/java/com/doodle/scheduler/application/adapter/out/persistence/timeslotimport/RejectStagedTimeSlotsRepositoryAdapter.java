@@ -0,0 +1,30 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslotimport;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportRejection;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.RejectStagedTimeSlotsPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class RejectStagedTimeSlotsRepositoryAdapter implements RejectStagedTimeSlotsPort {
+
+    private static final String UPDATE = "UPDATE time_slot_imports SET rejection = ? WHERE import_id = ? AND line_number = ?";
+    private static final int MAX_REASON_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void rejectStagedTimeSlots(UUID importId, List<ImportRejection> rejections) {
+        jdbcTemplate.batchUpdate(UPDATE, rejections, rejections.size(), (statement, rejection) -> {
+            String reason = rejection.reason();
+            statement.setString(1, reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason);
+            statement.setObject(2, importId);
+            statement.setLong(3, rejection.lineNumber());
+        });
+    }
+}
@@ -0,0 +1,94 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslotimport;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.StagedTimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.StageImportedTimeSlotsPort;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Loads staged rows with PostgreSQL's {@code COPY ... FROM STDIN}. Rows are encoded as CSV into a
+ * fixed-size buffer that is handed to the server whenever it fills up, so memory stays flat however
+ * large the import is, and the server parses the whole load as a single statement.
+ */
+@Slf4j
+@Component
+public class StageImportedTimeSlotsRepositoryAdapter implements StageImportedTimeSlotsPort {
+
+    private static final String COPY = "COPY time_slot_imports"
+            + " (import_id, line_number, id, username, start_time, end_time, duration_minutes, state)"
+            + " FROM STDIN (FORMAT csv)";
+    private static final int BUFFER_CHARS = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long progressInterval;
+
+    public StageImportedTimeSlotsRepositoryAdapter(JdbcTemplate jdbcTemplate,
+                                                   @Value("${scheduler.import.progress-interval:100000}") long progressInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.progressInterval = progressInterval;
+    }
+
+    @Override
+    public long stageTimeSlots(UUID importId, Stream<StagedTimeSlot> timeSlots) {
+        Long staged = jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+                copy(connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY), importId, timeSlots));
+        return staged == null ? 0 : staged;
+    }
+
+    private long copy(CopyIn copyIn, UUID importId, Stream<StagedTimeSlot> timeSlots) throws SQLException {
+        try {
+            long startedAt = System.nanoTime();
+            long rows = 0;
+            StringBuilder buffer = new StringBuilder(BUFFER_CHARS + 512);
+            Iterator<StagedTimeSlot> iterator = timeSlots.iterator();
+            while (iterator.hasNext()) {
+                appendRow(buffer, importId, iterator.next());
+                if (buffer.length() >= BUFFER_CHARS) {
+                    write(copyIn, buffer);
+                }
+                if (++rows % progressInterval == 0) {
+                    long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                    log.info("Import {}: staged {} rows ({} rows/s)", importId, rows, rows * 1000 / elapsedMillis);
+                }
+            }
+            write(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void appendRow(StringBuilder buffer, UUID importId, StagedTimeSlot timeSlot) {
+        buffer.append(importId).append(',')
+                .append(timeSlot.lineNumber()).append(',')
+                .append(timeSlot.id()).append(',')
+                .append('"').append(timeSlot.username().replace("\"", "\"\"")).append('"').append(',')
+                .append(timeSlot.start()).append(',')
+                .append(timeSlot.end()).append(',')
+                .append(timeSlot.durationMinutes()).append(',')
+                .append(timeSlot.state()).append('\n');
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
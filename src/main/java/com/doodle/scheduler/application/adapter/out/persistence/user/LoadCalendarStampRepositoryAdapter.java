@@ -0,0 +1,22 @@
+package com.doodle.scheduler.application.adapter.out.persistence.user;
+
+import com.doodle.scheduler.application.adapter.out.persistence.user.common.UserJpaRepository;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotfeed.CalendarStamp;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.LoadCalendarStampPort;
+import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LoadCalendarStampRepositoryAdapter implements LoadCalendarStampPort {
+
+    private final UserJpaRepository userJpaRepository;
+
+    @Override
+    public CalendarStamp loadCalendarStampByUsername(String username) {
+        return userJpaRepository.findByUsername(username)
+                .map(user -> new CalendarStamp(user.getId(), user.getCalendarVersion(), user.getCalendarUpdatedAt()))
+                .orElseThrow(() -> new UserNotFoundException("User not found with username: " + username));
+    }
+}
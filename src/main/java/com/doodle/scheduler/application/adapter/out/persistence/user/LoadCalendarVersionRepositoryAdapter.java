@@ -0,0 +1,20 @@
+package com.doodle.scheduler.application.adapter.out.persistence.user;
+
+import com.doodle.scheduler.application.adapter.out.persistence.user.common.UserJpaRepository;
+import com.doodle.scheduler.application.domain.calendar.port.out.getcalendarversion.LoadCalendarVersionPort;
+import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LoadCalendarVersionRepositoryAdapter implements LoadCalendarVersionPort {
+
+    private final UserJpaRepository userJpaRepository;
+
+    @Override
+    public long loadCalendarVersionByUsername(String username) {
+        return userJpaRepository.findCalendarVersionByUsername(username)
+                .orElseThrow(() -> new UserNotFoundException("User not found with username: " + username));
+    }
+}
@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.Instant;
 import java.util.UUID;
 
 @Entity
@@ -21,4 +24,12 @@ public class UserJpaEntity {
 
     @Column(name = "username", nullable = false, unique = true)
     private String username;
+
+    @Column(name = "calendar_version", nullable = false)
+    @ColumnDefault("0")
+    private long calendarVersion;
+
+    @Column(name = "calendar_updated_at", nullable = false)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    private Instant calendarUpdatedAt;
 }
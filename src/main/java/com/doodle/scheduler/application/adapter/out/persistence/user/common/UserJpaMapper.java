@@ -2,6 +2,7 @@ package com.doodle.scheduler.application.adapter.out.persistence.user.common;
 
 import com.doodle.scheduler.application.domain.user.model.User;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface UserJpaMapper {
@@ -11,5 +12,7 @@ public interface UserJpaMapper {
         return User.reconstitute(entity.getId(), entity.getUsername());
     }
 
+    @Mapping(target = "calendarVersion", ignore = true)
+    @Mapping(target = "calendarUpdatedAt", ignore = true)
     UserJpaEntity toJpaEntity(User user);
 }
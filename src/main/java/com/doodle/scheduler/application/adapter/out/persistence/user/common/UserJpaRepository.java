@@ -1,9 +1,26 @@
 package com.doodle.scheduler.application.adapter.out.persistence.user.common;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserJpaRepository extends CrudRepository<UserJpaEntity, UUID> {
     Optional<UserJpaEntity> findByUsername(String username);
+
+    @Query("select u.calendarVersion from UserJpaEntity u where u.username = :username")
+    Optional<Long> findCalendarVersionByUsername(@Param("username") String username);
+
+    @Modifying
+    @Query("update UserJpaEntity u set u.calendarVersion = u.calendarVersion + 1, "
+            + "u.calendarUpdatedAt = current_instant where u.id = :userId")
+    int incrementCalendarVersion(@Param("userId") UUID userId);
+
+    @Modifying
+    @Query("update UserJpaEntity u set u.calendarVersion = u.calendarVersion + 1, u.calendarUpdatedAt = current_instant "
+            + "where u.id = (select t.ownerId from TimeSlotJpaEntity t where t.id = :timeSlotId)")
+    int incrementCalendarVersionByTimeSlotId(@Param("timeSlotId") UUID timeSlotId);
 }
@@ -0,0 +1,61 @@
+package com.doodle.scheduler.application.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Fails startup when the Hikari pool does not follow the sizing guide.
+ * With virtual threads the request concurrency is unbounded, so the connection pool
+ * becomes the only throttle in front of PostgreSQL and has to be sized deliberately.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(HikariPoolSizingProperties.class)
+@ConditionalOnProperty(prefix = "scheduler.datasource.pool-sizing", name = "enforced", havingValue = "true")
+public class HikariPoolSizingConfig {
+
+    private final DataSource dataSource;
+    private final HikariPoolSizingProperties properties;
+
+    @PostConstruct
+    public void verifyPoolSizing() throws SQLException {
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            log.warn("Pool sizing enforcement skipped: data source is not a HikariDataSource");
+            return;
+        }
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        int recommended = properties.recommendedMaximumPoolSize();
+        if (hikari.getMaximumPoolSize() > recommended) {
+            throw new IllegalStateException(String.format(
+                    "spring.datasource.hikari.maximum-pool-size=%d exceeds the recommended %d "
+                            + "((db-cores %d * 2) + effective-spindles %d)",
+                    hikari.getMaximumPoolSize(), recommended,
+                    properties.dbCores(), properties.effectiveSpindles()));
+        }
+
+        long maxTimeout = properties.maxConnectionTimeout().toMillis();
+        if (hikari.getConnectionTimeout() > maxTimeout) {
+            throw new IllegalStateException(String.format(
+                    "spring.datasource.hikari.connection-timeout=%dms exceeds the allowed %dms",
+                    hikari.getConnectionTimeout(), maxTimeout));
+        }
+
+        if (hikari.getMinimumIdle() != hikari.getMaximumPoolSize()) {
+            log.warn("Hikari minimum-idle ({}) differs from maximum-pool-size ({}); a fixed-size pool is recommended",
+                    hikari.getMinimumIdle(), hikari.getMaximumPoolSize());
+        }
+
+        log.info("Hikari pool sizing verified: maximum-pool-size={}, connection-timeout={}ms",
+                hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+    }
+}
@@ -0,0 +1,23 @@
+package com.doodle.scheduler.application.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Hikari pool sizing guide, expressed as configuration.
+ * The recommended pool size is {@code (dbCores * 2) + effectiveSpindles} of the database server.
+ */
+@ConfigurationProperties(prefix = "scheduler.datasource.pool-sizing")
+public record HikariPoolSizingProperties(
+        @DefaultValue("false") boolean enforced,
+        @DefaultValue("4") int dbCores,
+        @DefaultValue("1") int effectiveSpindles,
+        @DefaultValue("5s") Duration maxConnectionTimeout
+) {
+
+    public int recommendedMaximumPoolSize() {
+        return (dbCores * 2) + effectiveSpindles;
+    }
+}
@@ -0,0 +1,33 @@
+package com.doodle.scheduler.application.config.datasource.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * PostgreSQL streaming replicas that serve read-only transactions.
+ * A replica whose replay lags the primary by more than {@code maxLag} is taken out of rotation until it
+ * catches up, and an owner who wrote within {@code readYourWritesWindow} reads from the primary.
+ */
+@ConfigurationProperties(prefix = "scheduler.datasource.read-replicas")
+public record ReadReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5") int maximumPoolSize,
+        @DefaultValue("1s") Duration maxLag,
+        @DefaultValue("500ms") Duration lagCheckInterval,
+        @DefaultValue("2s") Duration readYourWritesWindow
+) {
+
+    /**
+     * Connection to one replica. Username and password fall back to {@code spring.datasource.*}.
+     */
+    public record Replica(
+            String url,
+            String username,
+            String password
+    ) {
+    }
+}
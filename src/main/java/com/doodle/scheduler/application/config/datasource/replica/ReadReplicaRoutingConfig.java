@@ -0,0 +1,95 @@
+package com.doodle.scheduler.application.config.datasource.replica;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to streaming replicas and everything else to the primary.
+ *
+ * <p>The application {@link DataSource} becomes a {@link LazyConnectionDataSourceProxy}: it only fetches a
+ * physical connection at the first statement, once the transaction manager has marked the connection
+ * read-only, and then takes it from {@link ReplicaRoutingDataSource} instead of the primary pool.
+ * Replica pools copy the primary's Hikari settings and are deliberately not beans, so Spring Boot still
+ * sees a single application {@code DataSource}.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "scheduler.datasource.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(initMethod = "start")
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") HikariDataSource primary,
+            ReadReplicaProperties properties) {
+        if (properties.replicas().isEmpty()) {
+            throw new IllegalStateException("scheduler.datasource.read-replicas.replicas must list at least one replica when read replicas are enabled");
+        }
+        if (properties.readYourWritesWindow().compareTo(properties.maxLag().plus(properties.lagCheckInterval())) < 0) {
+            throw new IllegalStateException("scheduler.datasource.read-replicas.read-your-writes-window must cover max-lag plus lag-check-interval");
+        }
+
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            String name = "replica-" + i;
+            pools.put(name, replicaPool(primary, properties, properties.replicas().get(i), name));
+        }
+        log.info("Read replicas enabled: {} replica(s), max-lag={}, read-your-writes-window={}",
+                pools.size(), properties.maxLag(), properties.readYourWritesWindow());
+        return new ReplicaLagMonitor(primary, pools, properties.maxLag(), properties.lagCheckInterval());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.readYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primary,
+            ReplicaLagMonitor replicaLagMonitor,
+            ReadYourWritesTracker readYourWritesTracker) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replicaLagMonitor, readYourWritesTracker));
+        return dataSource;
+    }
+
+    private static HikariDataSource replicaPool(HikariDataSource primary, ReadReplicaProperties properties,
+                                                ReadReplicaProperties.Replica replica, String name) {
+        if (replica.url() == null || replica.url().isBlank()) {
+            throw new IllegalStateException("scheduler.datasource.read-replicas.replicas[].url must be set");
+        }
+        HikariConfig config = new HikariConfig();
+        primary.copyStateTo(config);
+        config.setPoolName("scheduler-" + name);
+        config.setJdbcUrl(replica.url());
+        config.setUsername(replica.username() != null ? replica.username() : primary.getUsername());
+        config.setPassword(replica.password() != null ? replica.password() : primary.getPassword());
+        config.setMaximumPoolSize(properties.maximumPoolSize());
+        config.setReadOnly(true);
+        // A replica that is down at startup stays out of rotation instead of failing the application.
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,41 @@
+package com.doodle.scheduler.application.config.datasource.replica;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which owners changed their calendar recently. Their reads go to the primary until the
+ * window has passed, by which time every replica still in rotation has replayed the write.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWriteByOwner = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void recordWrite(String owner) {
+        long now = System.nanoTime();
+        lastWriteByOwner.put(owner, now);
+        if (lastWriteByOwner.size() > PURGE_THRESHOLD) {
+            lastWriteByOwner.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+    }
+
+    public boolean requiresPrimary(String owner) {
+        Long writtenAt = lastWriteByOwner.get(owner);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt <= windowNanos) {
+            return true;
+        }
+        lastWriteByOwner.remove(owner, writtenAt);
+        return false;
+    }
+}
@@ -0,0 +1,138 @@
+package com.doodle.scheduler.application.config.datasource.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Owns the replica pools and periodically checks how far each replica trails the primary.
+ *
+ * <p>A replica that has replayed the primary's current WAL position has no lag. Otherwise its lag is the
+ * age of the last transaction it replayed; comparing LSNs first keeps an idle primary from making every
+ * replica look stale. Replicas that cannot be reached, are not in recovery, or trail by more than
+ * {@code maxLag} are left out of rotation until a later check finds them healthy again.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+    private static final String REPLICA_LAG_SQL = """
+            SELECT pg_is_in_recovery(),
+                   pg_wal_lsn_diff(?::pg_lsn, pg_last_wal_replay_lsn()) <= 0,
+                   EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000
+            """;
+
+    private final DataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaLagMonitor(DataSource primary, Map<String, HikariDataSource> replicas,
+                             Duration maxLag, Duration checkInterval) {
+        this.primary = primary;
+        this.replicas = Map.copyOf(replicas);
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    public void start() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                check();
+            } catch (RuntimeException e) {
+                // an escaping exception would cancel every later check
+                log.error("Replica lag check failed", e);
+            }
+        }, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Map<String, HikariDataSource> replicaDataSources() {
+        return replicas;
+    }
+
+    /**
+     * Replicas currently within the lag budget, sorted by name.
+     */
+    public List<String> healthyReplicas() {
+        return healthyReplicas;
+    }
+
+    void check() {
+        List<String> healthy = new ArrayList<>();
+        String primaryLsn = primaryLsn();
+        if (primaryLsn != null) {
+            replicas.keySet().stream().sorted()
+                    .filter(name -> isWithinLagBudget(name, replicas.get(name), primaryLsn))
+                    .forEach(healthy::add);
+        }
+        List<String> previous = healthyReplicas;
+        healthyReplicas = List.copyOf(healthy);
+        if (!previous.equals(healthyReplicas)) {
+            log.info("Replicas serving read-only transactions: {}", healthyReplicas);
+        }
+    }
+
+    private String primaryLsn() {
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(PRIMARY_LSN_SQL)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        } catch (SQLException e) {
+            log.warn("Could not read the primary WAL position; routing all reads to the primary: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isWithinLagBudget(String name, DataSource replica, String primaryLsn) {
+        try (Connection connection = replica.getConnection();
+             PreparedStatement statement = connection.prepareStatement(REPLICA_LAG_SQL)) {
+            statement.setString(1, primaryLsn);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                if (!resultSet.getBoolean(1)) {
+                    log.warn("Replica {} is not in recovery; keeping it out of rotation", name);
+                    return false;
+                }
+                if (resultSet.getBoolean(2)) {
+                    return true;
+                }
+                double lagMillis = resultSet.getDouble(3);
+                if (resultSet.wasNull() || lagMillis > maxLag.toMillis()) {
+                    log.debug("Replica {} lags {} ms behind the primary", name, lagMillis);
+                    return false;
+                }
+                return true;
+            }
+        } catch (SQLException e) {
+            log.warn("Lag check failed for replica {}: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,33 @@
+package com.doodle.scheduler.application.config.datasource.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * Names the calendar owner a read-only use case runs for, so that {@link ReplicaRoutingDataSource}
+ * can keep that owner on one replica, or on the primary right after they wrote.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<String> OWNER = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static <T> T callAs(String owner, Supplier<T> work) {
+        String previous = OWNER.get();
+        OWNER.set(owner);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                OWNER.remove();
+            } else {
+                OWNER.set(previous);
+            }
+        }
+    }
+
+    static String currentOwner() {
+        return OWNER.get();
+    }
+}
@@ -0,0 +1,81 @@
+package com.doodle.scheduler.application.config.datasource.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks the data source for a read-only transaction. Only consulted for read-only connections;
+ * everything else goes straight to the primary.
+ *
+ * <p>An owner is pinned to one replica by rendezvous hashing, so the calendar version behind an ETag and
+ * the page it guards are read from the same replica in replay order. Each owner ranks the replicas by a
+ * hash of owner and replica name and reads from the best-ranked healthy one; a replica leaving or
+ * rejoining rotation only moves the owners that rank it first. Reads without an owner are spread
+ * round-robin. The primary serves the read when no replica is within the lag budget or the owner wrote
+ * recently.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaLagMonitor lagMonitor,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>(lagMonitor.replicaDataSources());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String owner = ReplicaRoutingContext.currentOwner();
+        if (owner != null && readYourWritesTracker.requiresPrimary(owner)) {
+            return PRIMARY;
+        }
+        List<String> healthy = lagMonitor.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+        if (owner == null) {
+            return healthy.get(Math.floorMod(nextReplica.getAndIncrement(), healthy.size()));
+        }
+        String best = null;
+        long bestScore = Long.MIN_VALUE;
+        for (String replica : healthy) {
+            long score = score(owner, replica);
+            if (best == null || score > bestScore) {
+                best = replica;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Ranks a replica for an owner. The finalizer of MurmurHash3 spreads the combined string hashes, which
+     * are stable across JVMs, so every instance ranks the replicas the same way.
+     */
+    static long score(String owner, String replica) {
+        long hash = ((long) owner.hashCode() << 32) ^ (replica.hashCode() & 0xffffffffL);
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
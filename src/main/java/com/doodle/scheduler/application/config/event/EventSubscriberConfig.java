@@ -1,8 +1,13 @@
 package com.doodle.scheduler.application.config.event;
 
+import com.doodle.scheduler.application.adapter.in.event.MeetingScheduledListener;
+import com.doodle.scheduler.application.adapter.in.event.RecurringAvailabilityCreatedListener;
 import com.doodle.scheduler.application.adapter.in.event.TimeSlotCreatedListener;
 import com.doodle.scheduler.application.adapter.in.event.TimeSlotDeletedListener;
+import com.doodle.scheduler.application.adapter.in.event.audit.TimeSlotAuditListener;
+import com.doodle.scheduler.application.domain.common.events.MeetingScheduledEvent;
 import com.doodle.scheduler.application.domain.common.events.Publisher;
+import com.doodle.scheduler.application.domain.common.events.RecurringAvailabilityCreatedEvent;
 import com.doodle.scheduler.application.domain.common.events.TimeSlotCreatedEvent;
 import com.doodle.scheduler.application.domain.common.events.TimeSlotDeletedEvent;
 import jakarta.annotation.PostConstruct;
@@ -17,6 +22,9 @@ public class EventSubscriberConfig {
 
     private final TimeSlotCreatedListener timeSlotCreatedListener;
     private final TimeSlotDeletedListener timeSlotDeletedListener;
+    private final MeetingScheduledListener meetingScheduledListener;
+    private final RecurringAvailabilityCreatedListener recurringAvailabilityCreatedListener;
+    private final TimeSlotAuditListener timeSlotAuditListener;
 
     @PostConstruct
     public void registerSubscribers() {
@@ -24,6 +32,10 @@ public class EventSubscriberConfig {
 
         Publisher.INSTANCE.attach(TimeSlotCreatedEvent.class, timeSlotCreatedListener);
         Publisher.INSTANCE.attach(TimeSlotDeletedEvent.class, timeSlotDeletedListener);
+        Publisher.INSTANCE.attach(MeetingScheduledEvent.class, meetingScheduledListener);
+        Publisher.INSTANCE.attach(RecurringAvailabilityCreatedEvent.class, recurringAvailabilityCreatedListener);
+        Publisher.INSTANCE.attach(TimeSlotCreatedEvent.class, timeSlotAuditListener::onTimeSlotCreated);
+        Publisher.INSTANCE.attach(TimeSlotDeletedEvent.class, timeSlotAuditListener::onTimeSlotDeleted);
 
         log.info("Domain event subscribers registered successfully");
     }
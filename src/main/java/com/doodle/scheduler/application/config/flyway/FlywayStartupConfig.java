@@ -0,0 +1,28 @@
+package com.doodle.scheduler.application.config.flyway;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Decides at runtime, not through {@code spring.flyway.enabled}, whether a start migrates: that
+ * condition would be frozen into the AOT-generated context, this property is read on every start.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(FlywayStartupProperties.class)
+public class FlywayStartupConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(FlywayStartupProperties properties) {
+        return flyway -> {
+            switch (properties.onStartup()) {
+                case MIGRATE -> flyway.migrate();
+                case VALIDATE -> flyway.validate();
+                case NONE -> log.info("Flyway migrations are not checked on startup");
+            }
+        };
+    }
+}
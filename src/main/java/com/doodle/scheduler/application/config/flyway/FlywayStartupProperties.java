@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.config.flyway;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * What an application start does with the Flyway migrations. Replicas that leave migrating to a
+ * one-shot job (the {@code migrate} profile) use {@code validate} to refuse a schema the job has not
+ * brought up to date yet, or {@code none} to skip the check.
+ */
+@ConfigurationProperties(prefix = "scheduler.flyway")
+public record FlywayStartupProperties(@DefaultValue("migrate") OnStartup onStartup) {
+
+    public enum OnStartup {
+        MIGRATE,
+        VALIDATE,
+        NONE
+    }
+}
@@ -0,0 +1,47 @@
+package com.doodle.scheduler.application.config.startup;
+
+import com.doodle.scheduler.application.config.event.EventSubscriberConfig;
+import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsUseCase;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingUseCase;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Beans that stay eager when {@code spring.main.lazy-initialization} is on (the {@code fast-startup}
+ * and {@code migrate} profiles). Everything else is created on first use.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    /**
+     * Flyway has no dependants that would pull it in, so a lazy initializer would never migrate.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerFlywayMigration() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class);
+    }
+
+    /**
+     * The decorator chains behind the busiest endpoints, so that their first requests do not pay for
+     * building them, and the event subscribers, which must be attached before any use case publishes.
+     */
+    @Bean
+    @ConditionalOnWebApplication
+    public static LazyInitializationExcludeFilter eagerHotPaths() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                EventSubscriberConfig.class,
+                CreateTimeSlotUseCase.class,
+                SearchTimeSlotsUseCase.class,
+                DeleteTimeSlotUseCase.class,
+                GetCalendarVersionUseCase.class,
+                ExportTimeSlotFeedUseCase.class,
+                ScheduleMeetingUseCase.class);
+    }
+}
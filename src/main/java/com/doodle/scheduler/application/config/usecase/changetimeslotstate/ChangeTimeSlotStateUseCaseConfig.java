@@ -0,0 +1,60 @@
+package com.doodle.scheduler.application.config.usecase.changetimeslotstate;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.config.usecase.changetimeslotstate.decorators.ConcurrencyLimitedChangeTimeSlotStateUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.changetimeslotstate.decorators.LoggedChangeTimeSlotStateUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.changetimeslotstate.decorators.ReadYourWritesChangeTimeSlotStateUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.changetimeslotstate.decorators.TransactionalChangeTimeSlotStateUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.common.AdaptiveConcurrencyLimiter;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.changetimeslotstate.ChangeTimeSlotStatePort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
+import com.doodle.scheduler.application.domain.calendar.service.ChangeTimeSlotStateServiceImpl;
+import com.doodle.scheduler.application.domain.meeting.port.out.loadmeetings.LoadMeetingsByTimeSlotIdPort;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@RequiredArgsConstructor
+public class ChangeTimeSlotStateUseCaseConfig {
+
+    @Bean
+    public ChangeTimeSlotStateUseCase coreChangeTimeSlotStateUseCase(
+            LoadUserByUsernamePort loadUserByUsernamePort,
+            LoadTimeSlotByIdPort loadTimeSlotByIdPort,
+            LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort,
+            ChangeTimeSlotStatePort changeTimeSlotStatePort) {
+        return new ChangeTimeSlotStateServiceImpl(
+                loadUserByUsernamePort, loadTimeSlotByIdPort, loadMeetingsByTimeSlotIdPort, changeTimeSlotStatePort);
+    }
+
+    @Bean
+    public ChangeTimeSlotStateUseCase transactionalChangeTimeSlotStateUseCase(
+            @Qualifier("coreChangeTimeSlotStateUseCase") ChangeTimeSlotStateUseCase core) {
+        return new TransactionalChangeTimeSlotStateUseCaseDecorator(core);
+    }
+
+    @Bean
+    public ChangeTimeSlotStateUseCase loggedChangeTimeSlotStateUseCase(
+            @Qualifier("transactionalChangeTimeSlotStateUseCase") ChangeTimeSlotStateUseCase transactional,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return new LoggedChangeTimeSlotStateUseCaseDecorator(tracker == null
+                ? transactional
+                : new ReadYourWritesChangeTimeSlotStateUseCaseDecorator(transactional, tracker));
+    }
+
+    @Bean
+    @Primary
+    public ChangeTimeSlotStateUseCase changeTimeSlotStateUseCase(
+            @Qualifier("loggedChangeTimeSlotStateUseCase") ChangeTimeSlotStateUseCase logged,
+            ObjectProvider<AdaptiveConcurrencyLimiter> writeConcurrencyLimiter) {
+        AdaptiveConcurrencyLimiter limiter = writeConcurrencyLimiter.getIfAvailable();
+        return limiter == null ? logged : new ConcurrencyLimitedChangeTimeSlotStateUseCaseDecorator(logged, limiter);
+    }
+}
@@ -0,0 +1,17 @@
+package com.doodle.scheduler.application.config.usecase.changetimeslotstate.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateUseCase;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public abstract class BaseChangeTimeSlotStateUseCaseDecorator implements ChangeTimeSlotStateUseCase {
+
+    protected final ChangeTimeSlotStateUseCase delegate;
+
+    @Override
+    public TimeSlot execute(ChangeTimeSlotStateCommand command) {
+        return delegate.execute(command);
+    }
+}
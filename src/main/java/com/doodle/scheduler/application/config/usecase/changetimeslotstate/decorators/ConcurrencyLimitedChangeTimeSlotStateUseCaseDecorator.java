@@ -0,0 +1,21 @@
+package com.doodle.scheduler.application.config.usecase.changetimeslotstate.decorators;
+
+import com.doodle.scheduler.application.config.usecase.common.AdaptiveConcurrencyLimiter;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateUseCase;
+
+public class ConcurrencyLimitedChangeTimeSlotStateUseCaseDecorator extends BaseChangeTimeSlotStateUseCaseDecorator {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedChangeTimeSlotStateUseCaseDecorator(ChangeTimeSlotStateUseCase delegate, AdaptiveConcurrencyLimiter limiter) {
+        super(delegate);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public TimeSlot execute(ChangeTimeSlotStateCommand command) {
+        return limiter.execute("ChangeTimeSlotStateUseCase", () -> super.execute(command));
+    }
+}
@@ -0,0 +1,31 @@
+package com.doodle.scheduler.application.config.usecase.changetimeslotstate.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateUseCase;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoggedChangeTimeSlotStateUseCaseDecorator extends BaseChangeTimeSlotStateUseCaseDecorator {
+
+    public LoggedChangeTimeSlotStateUseCaseDecorator(ChangeTimeSlotStateUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public TimeSlot execute(ChangeTimeSlotStateCommand command) {
+        log.info("Executing ChangeTimeSlotStateUseCase for username={}, timeSlotId={}, state={}",
+                command.username(), command.timeSlotId(), command.state());
+
+        try {
+            TimeSlot result = super.execute(command);
+            log.info("Successfully changed state of time slot with id={} to {} for username={}",
+                    result.getId(), result.getStateString(), command.username());
+            return result;
+        } catch (Exception e) {
+            log.error("Error changing state of time slot with id={} for username={}: {}",
+                    command.timeSlotId(), command.username(), e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.doodle.scheduler.application.config.usecase.changetimeslotstate.decorators;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateUseCase;
+
+public class ReadYourWritesChangeTimeSlotStateUseCaseDecorator extends BaseChangeTimeSlotStateUseCaseDecorator {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadYourWritesChangeTimeSlotStateUseCaseDecorator(ChangeTimeSlotStateUseCase delegate, ReadYourWritesTracker readYourWritesTracker) {
+        super(delegate);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public TimeSlot execute(ChangeTimeSlotStateCommand command) {
+        TimeSlot result = super.execute(command);
+        readYourWritesTracker.recordWrite(command.username());
+        return result;
+    }
+}
@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.config.usecase.changetimeslotstate.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateUseCase;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TransactionalChangeTimeSlotStateUseCaseDecorator extends BaseChangeTimeSlotStateUseCaseDecorator {
+
+    public TransactionalChangeTimeSlotStateUseCaseDecorator(ChangeTimeSlotStateUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    @Transactional
+    public TimeSlot execute(ChangeTimeSlotStateCommand command) {
+        return super.execute(command);
+    }
+}
@@ -0,0 +1,148 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import com.doodle.scheduler.application.domain.common.exception.DomainException;
+import com.doodle.scheduler.application.domain.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Admits at most {@code limit} units of work at a time and refuses the rest at once with
+ * {@link ServiceOverloadedException}, instead of letting them queue for a database connection.
+ *
+ * <p>The limit follows latency the way TCP Vegas sizes its window. The fastest call seen is taken as the
+ * latency without load; a call taking longer means some of the calls in flight were waiting, and
+ * {@code limit * (1 - noLoadLatency / latency)} estimates how many. While fewer than {@code 3 log10(limit)}
+ * wait, the limit grows by {@code log10(limit)}; beyond {@code 6 log10(limit)} it shrinks by as much.
+ * Calls made while fewer than half the permits were in use leave the limit alone, because they say
+ * nothing about how much more the database can take. A call failing with anything but a
+ * {@link DomainException} shrinks the limit as well, as timeouts and pool exhaustion show up that way;
+ * business rule violations do not count. Every {@code PROBE_INTERVAL * limit} calls the no-load
+ * latency is measured afresh, so a database that became slower for good is not mistaken for a queue.
+ * Admission is a compare-and-set on the in-flight count; only the limit update after a call is
+ * synchronized.
+ *
+ * <p>Metrics: {@code scheduler.usecase.concurrency.limit}, {@code scheduler.usecase.concurrency.in-flight}
+ * and {@code scheduler.usecase.concurrency.rejected} tagged with the operation.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int PROBE_INTERVAL = 30;
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // guarded by this
+    private double estimatedLimit;
+    private long noLoadRttNanos;
+    private long probeMinRttNanos = Long.MAX_VALUE;
+    private long samplesSinceProbe;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        if (properties.minLimit() < 1 || properties.maxLimit() < properties.minLimit()
+                || properties.initialLimit() < properties.minLimit() || properties.initialLimit() > properties.maxLimit()) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (properties.smoothing() <= 0 || properties.smoothing() > 1) {
+            throw new IllegalArgumentException("smoothing must be in (0, 1]");
+        }
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.limit = properties.initialLimit();
+        this.estimatedLimit = properties.initialLimit();
+        meterRegistry.gauge("scheduler.usecase.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit);
+        meterRegistry.gauge("scheduler.usecase.concurrency.in-flight", inFlight);
+    }
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        int admittedAt = tryAcquire();
+        if (admittedAt < 0) {
+            meterRegistry.counter("scheduler.usecase.concurrency.rejected", "operation", operation).increment();
+            throw new ServiceOverloadedException(
+                    "Too many concurrent requests, retry after " + properties.retryAfter().toSeconds() + "s",
+                    properties.retryAfter());
+        }
+        long start = System.nanoTime();
+        try {
+            T result = work.get();
+            onSample(System.nanoTime() - start, admittedAt, false);
+            return result;
+        } catch (DomainException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            onSample(System.nanoTime() - start, admittedAt, true);
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public void run(String operation, Runnable work) {
+        execute(operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Takes a permit. Returns the number of calls in flight including this one, or -1 when the limit is
+     * reached.
+     */
+    private int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtStart, boolean failed) {
+        double step = Math.max(1, Math.log10(estimatedLimit));
+        if (failed) {
+            update(estimatedLimit - step);
+            return;
+        }
+        long rtt = Math.max(1, rttNanos);
+        probeMinRttNanos = Math.min(probeMinRttNanos, rtt);
+        if (++samplesSinceProbe >= PROBE_INTERVAL * (long) limit) {
+            noLoadRttNanos = probeMinRttNanos;
+            probeMinRttNanos = Long.MAX_VALUE;
+            samplesSinceProbe = 0;
+            return;
+        }
+        if (noLoadRttNanos == 0 || rtt < noLoadRttNanos) {
+            noLoadRttNanos = rtt;
+            return;
+        }
+        if (inFlightAtStart * 2 < estimatedLimit) {
+            return;
+        }
+        double queued = estimatedLimit * (1 - (double) noLoadRttNanos / rtt);
+        if (queued < 3 * step) {
+            update(estimatedLimit + step);
+        } else if (queued > 6 * step) {
+            update(estimatedLimit - step);
+        }
+    }
+
+    private void update(double target) {
+        double smoothed = estimatedLimit + (target - estimatedLimit) * properties.smoothing();
+        estimatedLimit = Math.max(properties.minLimit(), Math.min(properties.maxLimit(), smoothed));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,22 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Bounds of the adaptive limit on concurrent write use cases. The limit starts at {@code initialLimit}
+ * and moves between {@code minLimit} and {@code maxLimit}; each adjustment covers {@code smoothing} of
+ * the way to the new estimate. Refused callers are told to come back after {@code retryAfter}.
+ */
+@ConfigurationProperties(prefix = "scheduler.usecase.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10") int initialLimit,
+        @DefaultValue("2") int minLimit,
+        @DefaultValue("100") int maxLimit,
+        @DefaultValue("1.0") double smoothing,
+        @DefaultValue("1s") Duration retryAfter
+) {
+}
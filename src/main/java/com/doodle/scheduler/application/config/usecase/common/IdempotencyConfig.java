@@ -0,0 +1,35 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.ClaimIdempotencyKeyPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.CompleteIdempotencyKeyPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.DeleteExpiredIdempotencyKeysPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.LoadIdempotencyRecordPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    /**
+     * One store for creates and deletes: a key identifies one request of a user, whichever endpoint it
+     * was sent to.
+     */
+    @Bean
+    public IdempotencyKeyStore idempotencyKeyStore(ClaimIdempotencyKeyPort claimIdempotencyKeyPort,
+                                                   LoadIdempotencyRecordPort loadIdempotencyRecordPort,
+                                                   CompleteIdempotencyKeyPort completeIdempotencyKeyPort,
+                                                   IdempotencyProperties properties,
+                                                   MeterRegistry meterRegistry) {
+        return new IdempotencyKeyStore(claimIdempotencyKeyPort, loadIdempotencyRecordPort,
+                completeIdempotencyKeyPort, properties, meterRegistry);
+    }
+
+    @Bean
+    public IdempotencyKeyCleaner idempotencyKeyCleaner(DeleteExpiredIdempotencyKeysPort deleteExpiredIdempotencyKeysPort,
+                                                       IdempotencyProperties properties) {
+        return new IdempotencyKeyCleaner(deleteExpiredIdempotencyKeysPort, properties);
+    }
+}
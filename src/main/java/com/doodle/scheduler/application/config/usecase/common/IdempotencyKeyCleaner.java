@@ -0,0 +1,87 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.DeleteExpiredIdempotencyKeysPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes idempotency keys older than the TTL every {@code cleanup-interval} from a background thread.
+ * Each run deletes batches of {@code cleanup-batch-size} until a batch comes back short, so a backlog is
+ * worked off in short statements. A failed run is logged and left to the next one.
+ */
+@Slf4j
+public class IdempotencyKeyCleaner implements SmartLifecycle {
+
+    private final DeleteExpiredIdempotencyKeysPort deleteExpiredIdempotencyKeysPort;
+    private final IdempotencyProperties properties;
+
+    private ScheduledExecutorService executor;
+
+    public IdempotencyKeyCleaner(DeleteExpiredIdempotencyKeysPort deleteExpiredIdempotencyKeysPort,
+                                 IdempotencyProperties properties) {
+        if (properties.cleanupBatchSize() < 1) {
+            throw new IllegalArgumentException("cleanupBatchSize must be >= 1");
+        }
+        this.deleteExpiredIdempotencyKeysPort = deleteExpiredIdempotencyKeysPort;
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the number of keys deleted.
+     */
+    public long deleteExpiredKeys() {
+        Instant createdBefore = Instant.now().minus(properties.ttl());
+        long deleted = 0;
+        int batch;
+        do {
+            batch = deleteExpiredIdempotencyKeysPort.deleteExpiredIdempotencyKeys(createdBefore, properties.cleanupBatchSize());
+            deleted += batch;
+        } while (batch == properties.cleanupBatchSize() && !Thread.currentThread().isInterrupted());
+        return deleted;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "idempotency-key-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.cleanupInterval().toMillis();
+        executor.scheduleWithFixedDelay(this::runCleanup, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        executor = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    private void runCleanup() {
+        try {
+            long deleted = deleteExpiredKeys();
+            if (deleted > 0) {
+                log.debug("Deleted {} expired idempotency keys", deleted);
+            }
+        } catch (RuntimeException e) {
+            // an exception escaping a scheduled task would cancel every later run
+            log.warn("Could not delete expired idempotency keys", e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import com.doodle.scheduler.application.domain.calendar.exception.IdempotencyKeyReusedException;
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyKey;
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyRecord;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.ClaimIdempotencyKeyPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.CompleteIdempotencyKeyPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.LoadIdempotencyRecordPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Runs a write at most once per idempotency key and answers every retry with what the first run returned.
+ * Must sit inside the transactional decorator: the key is claimed in the write's transaction, so it is
+ * recorded exactly when the write commits, and a retry arriving while the first request still runs waits
+ * for it instead of running as well.
+ *
+ * <p>The answers of the last {@code cache-max-entries} keys are also kept in memory, least recently used
+ * first out, so a retry reaching the same instance reads neither the table nor the calendar. A key sent
+ * again with a different request is refused with {@link IdempotencyKeyReusedException}. A write that
+ * fails leaves no key behind, so its retry runs again.
+ *
+ * <p>Metrics: {@code scheduler.idempotency.replayed} tagged with the source, {@code cache} or
+ * {@code database}.
+ */
+public class IdempotencyKeyStore {
+
+    private final ClaimIdempotencyKeyPort claimIdempotencyKeyPort;
+    private final LoadIdempotencyRecordPort loadIdempotencyRecordPort;
+    private final CompleteIdempotencyKeyPort completeIdempotencyKeyPort;
+    private final IdempotencyProperties properties;
+    private final Map<IdempotencyKey, IdempotencyRecord> recent;
+    private final Counter replayedFromCache;
+    private final Counter replayedFromDatabase;
+
+    public IdempotencyKeyStore(ClaimIdempotencyKeyPort claimIdempotencyKeyPort,
+                               LoadIdempotencyRecordPort loadIdempotencyRecordPort,
+                               CompleteIdempotencyKeyPort completeIdempotencyKeyPort,
+                               IdempotencyProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.claimIdempotencyKeyPort = claimIdempotencyKeyPort;
+        this.loadIdempotencyRecordPort = loadIdempotencyRecordPort;
+        this.completeIdempotencyKeyPort = completeIdempotencyKeyPort;
+        this.properties = properties;
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<IdempotencyKey, IdempotencyRecord> eldest) {
+                return size() > properties.cacheMaxEntries();
+            }
+        });
+        this.replayedFromCache = meterRegistry.counter("scheduler.idempotency.replayed", "source", "cache");
+        this.replayedFromDatabase = meterRegistry.counter("scheduler.idempotency.replayed", "source", "database");
+    }
+
+    /**
+     * Runs {@code write} unless {@code key} was used before, and returns what the write returned the
+     * first time.
+     */
+    public TimeSlot execute(IdempotencyKey key, String requestFingerprint, Supplier<TimeSlot> write) {
+        IdempotencyRecord cached = recent.get(key);
+        if (cached != null && !isExpired(cached)) {
+            replayedFromCache.increment();
+            return replay(key, cached, requestFingerprint);
+        }
+        while (true) {
+            if (claimIdempotencyKeyPort.claimIdempotencyKey(key, requestFingerprint)) {
+                TimeSlot result = write.get();
+                if (result != null) {
+                    completeIdempotencyKeyPort.completeIdempotencyKey(key, result);
+                }
+                rememberAfterCommit(key, new IdempotencyRecord(requestFingerprint, result, Instant.now()));
+                return result;
+            }
+            Optional<IdempotencyRecord> stored = loadIdempotencyRecordPort.loadIdempotencyRecord(key);
+            if (stored.isPresent()) {
+                replayedFromDatabase.increment();
+                recent.put(key, stored.get());
+                return replay(key, stored.get(), requestFingerprint);
+            }
+            // the key expired and was deleted between the claim and the read; claim it again
+        }
+    }
+
+    private boolean isExpired(IdempotencyRecord record) {
+        return record.createdAt().isBefore(Instant.now().minus(properties.ttl()));
+    }
+
+    private static TimeSlot replay(IdempotencyKey key, IdempotencyRecord record, String requestFingerprint) {
+        if (!record.matches(requestFingerprint)) {
+            throw new IdempotencyKeyReusedException(
+                    "Idempotency-Key " + key.value() + " was already used for a different request");
+        }
+        return record.result();
+    }
+
+    private void rememberAfterCommit(IdempotencyKey key, IdempotencyRecord record) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recent.put(key, record);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recent.put(key, record);
+            }
+        });
+    }
+}
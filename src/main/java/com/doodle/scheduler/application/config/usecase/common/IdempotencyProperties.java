@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * How long idempotency keys are honoured, how many recent answers are kept in memory, and how often and
+ * in which batch size expired keys are deleted.
+ */
+@ConfigurationProperties(prefix = "scheduler.usecase.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("10000") int cacheMaxEntries,
+        @DefaultValue("10m") Duration cleanupInterval,
+        @DefaultValue("1000") int cleanupBatchSize
+) {
+}
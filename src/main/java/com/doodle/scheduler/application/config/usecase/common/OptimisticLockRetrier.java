@@ -0,0 +1,74 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a unit of work that failed because another transaction committed a newer version
+ * of the same row first. Must wrap the transactional decorator, never sit inside it, so that
+ * every attempt reloads the row in a fresh transaction.
+ */
+@Slf4j
+public class OptimisticLockRetrier {
+
+    private final OptimisticLockRetryProperties properties;
+
+    public OptimisticLockRetrier(OptimisticLockRetryProperties properties) {
+        if (properties.maxAttempts() < 1) {
+            throw new IllegalArgumentException("maxAttempts must be >= 1");
+        }
+        this.properties = properties;
+    }
+
+    public <T> T execute(String operation, Supplier<T> work) {
+        int attempt = 1;
+        while (true) {
+            try {
+                return work.get();
+            } catch (RuntimeException e) {
+                if (!isOptimisticLockFailure(e) || attempt >= properties.maxAttempts()) {
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict in {} (attempt {}/{}), retrying",
+                        operation, attempt, properties.maxAttempts());
+                backOff(attempt, e);
+                attempt++;
+            }
+        }
+    }
+
+    public void run(String operation, Runnable work) {
+        execute(operation, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private void backOff(int attempt, RuntimeException cause) {
+        long ceiling = Math.min(
+                properties.maxBackoff().toMillis(),
+                properties.initialBackoff().toMillis() << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private static boolean isOptimisticLockFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof OptimisticLockingFailureException || t instanceof OptimisticLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,15 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(OptimisticLockRetryProperties.class)
+public class OptimisticLockRetryConfig {
+
+    @Bean
+    public OptimisticLockRetrier optimisticLockRetrier(OptimisticLockRetryProperties properties) {
+        return new OptimisticLockRetrier(properties);
+    }
+}
@@ -0,0 +1,18 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * How often a use case is re-run after losing an optimistic-lock race, and how long to back off
+ * between attempts. The backoff doubles per attempt up to {@code maxBackoff} and is fully jittered.
+ */
+@ConfigurationProperties(prefix = "scheduler.usecase.optimistic-lock-retry")
+public record OptimisticLockRetryProperties(
+        @DefaultValue("3") int maxAttempts,
+        @DefaultValue("10ms") Duration initialBackoff,
+        @DefaultValue("100ms") Duration maxBackoff
+) {
+}
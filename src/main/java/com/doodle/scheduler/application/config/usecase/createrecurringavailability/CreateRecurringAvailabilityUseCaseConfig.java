@@ -0,0 +1,56 @@
+package com.doodle.scheduler.application.config.usecase.createrecurringavailability;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.config.usecase.createrecurringavailability.decorators.LoggedCreateRecurringAvailabilityUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.createrecurringavailability.decorators.ReadYourWritesCreateRecurringAvailabilityUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.createrecurringavailability.decorators.TransactionalCreateRecurringAvailabilityUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.createrecurringavailability.SaveRecurringAvailabilityPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotsByUserPort;
+import com.doodle.scheduler.application.domain.calendar.service.CreateRecurringAvailabilityServiceImpl;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@RequiredArgsConstructor
+public class CreateRecurringAvailabilityUseCaseConfig {
+
+    @Bean
+    public CreateRecurringAvailabilityUseCase coreCreateRecurringAvailabilityUseCase(
+            LoadUserByUsernamePort loadUserByUsernamePort,
+            LoadTimeSlotsByUserPort loadTimeSlotsByUserPort,
+            LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+            SaveRecurringAvailabilityPort saveRecurringAvailabilityPort) {
+        return new CreateRecurringAvailabilityServiceImpl(
+                loadUserByUsernamePort, loadTimeSlotsByUserPort, loadRecurringAvailabilitiesByUserPort, saveRecurringAvailabilityPort);
+    }
+
+    @Bean
+    public CreateRecurringAvailabilityUseCase transactionalCreateRecurringAvailabilityUseCase(
+            @Qualifier("coreCreateRecurringAvailabilityUseCase") CreateRecurringAvailabilityUseCase core) {
+        return new TransactionalCreateRecurringAvailabilityUseCaseDecorator(core);
+    }
+
+    @Bean
+    public CreateRecurringAvailabilityUseCase loggedCreateRecurringAvailabilityUseCase(
+            @Qualifier("transactionalCreateRecurringAvailabilityUseCase") CreateRecurringAvailabilityUseCase transactional,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return new LoggedCreateRecurringAvailabilityUseCaseDecorator(tracker == null
+                ? transactional
+                : new ReadYourWritesCreateRecurringAvailabilityUseCaseDecorator(transactional, tracker));
+    }
+
+    @Bean
+    @Primary
+    public CreateRecurringAvailabilityUseCase createRecurringAvailabilityUseCase(
+            @Qualifier("loggedCreateRecurringAvailabilityUseCase") CreateRecurringAvailabilityUseCase logged) {
+        return logged;
+    }
+}
@@ -0,0 +1,17 @@
+package com.doodle.scheduler.application.config.usecase.createrecurringavailability.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityUseCase;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public abstract class BaseCreateRecurringAvailabilityUseCaseDecorator implements CreateRecurringAvailabilityUseCase {
+
+    protected final CreateRecurringAvailabilityUseCase delegate;
+
+    @Override
+    public RecurringAvailability execute(CreateRecurringAvailabilityCommand command) {
+        return delegate.execute(command);
+    }
+}
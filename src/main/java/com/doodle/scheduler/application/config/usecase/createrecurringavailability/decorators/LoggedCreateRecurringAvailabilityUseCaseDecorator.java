@@ -0,0 +1,30 @@
+package com.doodle.scheduler.application.config.usecase.createrecurringavailability.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityUseCase;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoggedCreateRecurringAvailabilityUseCaseDecorator extends BaseCreateRecurringAvailabilityUseCaseDecorator {
+
+    public LoggedCreateRecurringAvailabilityUseCaseDecorator(CreateRecurringAvailabilityUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public RecurringAvailability execute(CreateRecurringAvailabilityCommand command) {
+        log.info("Executing CreateRecurringAvailabilityUseCase for username={}, daysOfWeek={}, startTime={}, durationMinutes={}, zone={}",
+                command.username(), command.daysOfWeek(), command.startTime(), command.durationMinutes(), command.zone());
+
+        try {
+            RecurringAvailability result = super.execute(command);
+            log.info("Successfully created recurring availability with id={} for username={}",
+                    result.getId(), command.username());
+            return result;
+        } catch (Exception e) {
+            log.error("Error creating recurring availability for username={}: {}", command.username(), e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.doodle.scheduler.application.config.usecase.createrecurringavailability.decorators;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityUseCase;
+
+public class ReadYourWritesCreateRecurringAvailabilityUseCaseDecorator extends BaseCreateRecurringAvailabilityUseCaseDecorator {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadYourWritesCreateRecurringAvailabilityUseCaseDecorator(CreateRecurringAvailabilityUseCase delegate, ReadYourWritesTracker readYourWritesTracker) {
+        super(delegate);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public RecurringAvailability execute(CreateRecurringAvailabilityCommand command) {
+        RecurringAvailability result = super.execute(command);
+        readYourWritesTracker.recordWrite(command.username());
+        return result;
+    }
+}
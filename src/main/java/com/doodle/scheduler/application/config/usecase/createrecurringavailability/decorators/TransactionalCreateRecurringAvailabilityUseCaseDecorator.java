@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.config.usecase.createrecurringavailability.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityUseCase;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TransactionalCreateRecurringAvailabilityUseCaseDecorator extends BaseCreateRecurringAvailabilityUseCaseDecorator {
+
+    public TransactionalCreateRecurringAvailabilityUseCaseDecorator(CreateRecurringAvailabilityUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    @Transactional
+    public RecurringAvailability execute(CreateRecurringAvailabilityCommand command) {
+        return super.execute(command);
+    }
+}
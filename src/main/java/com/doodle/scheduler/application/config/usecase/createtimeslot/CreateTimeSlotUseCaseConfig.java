@@ -1,8 +1,15 @@
 package com.doodle.scheduler.application.config.usecase.createtimeslot;
 
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.config.usecase.common.AdaptiveConcurrencyLimiter;
+import com.doodle.scheduler.application.config.usecase.common.IdempotencyKeyStore;
+import com.doodle.scheduler.application.config.usecase.createtimeslot.decorators.ConcurrencyLimitedCreateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.createtimeslot.decorators.IdempotentCreateTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.config.usecase.createtimeslot.decorators.LoggedCreateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.createtimeslot.decorators.ReadYourWritesCreateTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.config.usecase.createtimeslot.decorators.TransactionalCreateTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
 import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotsByUserPort;
 import com.doodle.scheduler.application.domain.calendar.port.out.createtimeslot.SaveTimeSlotPort;
 import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
@@ -10,6 +17,7 @@ import com.doodle.scheduler.application.domain.calendar.service.CreateTimeSlotSe
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 
@@ -21,26 +29,45 @@ public class CreateTimeSlotUseCaseConfig {
     public CreateTimeSlotUseCase coreCreateTimeSlotUseCase(
             LoadUserByUsernamePort loadUserByUsernamePort,
             LoadTimeSlotsByUserPort loadTimeSlotsByUserPort,
+            LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
             SaveTimeSlotPort saveTimeSlotPort) {
-        return new CreateTimeSlotServiceImpl(loadUserByUsernamePort, loadTimeSlotsByUserPort, saveTimeSlotPort);
+        return new CreateTimeSlotServiceImpl(
+                loadUserByUsernamePort, loadTimeSlotsByUserPort, loadRecurringAvailabilitiesByUserPort, saveTimeSlotPort);
+    }
+
+    @Bean
+    public CreateTimeSlotUseCase idempotentCreateTimeSlotUseCase(
+            @Qualifier("coreCreateTimeSlotUseCase") CreateTimeSlotUseCase core,
+            IdempotencyKeyStore idempotencyKeyStore) {
+        return new IdempotentCreateTimeSlotUseCaseDecorator(core, idempotencyKeyStore);
     }
 
     @Bean
     public CreateTimeSlotUseCase transactionalCreateTimeSlotUseCase(
-            @Qualifier("coreCreateTimeSlotUseCase") CreateTimeSlotUseCase core) {
-        return new TransactionalCreateTimeSlotUseCaseDecorator(core);
+            @Qualifier("idempotentCreateTimeSlotUseCase") CreateTimeSlotUseCase idempotent) {
+        return new TransactionalCreateTimeSlotUseCaseDecorator(idempotent);
     }
 
     @Bean
     public CreateTimeSlotUseCase loggedCreateTimeSlotUseCase(
-            @Qualifier("transactionalCreateTimeSlotUseCase") CreateTimeSlotUseCase transactional) {
-        return new LoggedCreateTimeSlotUseCaseDecorator(transactional);
+            @Qualifier("transactionalCreateTimeSlotUseCase") CreateTimeSlotUseCase transactional,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return new LoggedCreateTimeSlotUseCaseDecorator(tracker == null
+                ? transactional
+                : new ReadYourWritesCreateTimeSlotUseCaseDecorator(transactional, tracker));
     }
 
+    /**
+     * The concurrency limit sits outside logging, so that shedding a spike does not also log every
+     * refused request as an error.
+     */
     @Bean
     @Primary
     public CreateTimeSlotUseCase createTimeSlotUseCase(
-            @Qualifier("loggedCreateTimeSlotUseCase") CreateTimeSlotUseCase logged) {
-        return logged;
+            @Qualifier("loggedCreateTimeSlotUseCase") CreateTimeSlotUseCase logged,
+            ObjectProvider<AdaptiveConcurrencyLimiter> writeConcurrencyLimiter) {
+        AdaptiveConcurrencyLimiter limiter = writeConcurrencyLimiter.getIfAvailable();
+        return limiter == null ? logged : new ConcurrencyLimitedCreateTimeSlotUseCaseDecorator(logged, limiter);
     }
 }
@@ -0,0 +1,21 @@
+package com.doodle.scheduler.application.config.usecase.createtimeslot.decorators;
+
+import com.doodle.scheduler.application.config.usecase.common.AdaptiveConcurrencyLimiter;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotUseCase;
+
+public class ConcurrencyLimitedCreateTimeSlotUseCaseDecorator extends BaseCreateTimeSlotUseCaseDecorator {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedCreateTimeSlotUseCaseDecorator(CreateTimeSlotUseCase delegate, AdaptiveConcurrencyLimiter limiter) {
+        super(delegate);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public TimeSlot execute(CreateTimeSlotCommand command) {
+        return limiter.execute("CreateTimeSlotUseCase", () -> super.execute(command));
+    }
+}
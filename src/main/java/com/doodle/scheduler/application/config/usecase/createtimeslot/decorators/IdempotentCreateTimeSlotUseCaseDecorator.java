@@ -0,0 +1,28 @@
+package com.doodle.scheduler.application.config.usecase.createtimeslot.decorators;
+
+import com.doodle.scheduler.application.config.usecase.common.IdempotencyKeyStore;
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyKey;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotUseCase;
+
+public class IdempotentCreateTimeSlotUseCaseDecorator extends BaseCreateTimeSlotUseCaseDecorator {
+
+    private final IdempotencyKeyStore idempotencyKeyStore;
+
+    public IdempotentCreateTimeSlotUseCaseDecorator(CreateTimeSlotUseCase delegate, IdempotencyKeyStore idempotencyKeyStore) {
+        super(delegate);
+        this.idempotencyKeyStore = idempotencyKeyStore;
+    }
+
+    @Override
+    public TimeSlot execute(CreateTimeSlotCommand command) {
+        if (command.idempotencyKey() == null) {
+            return super.execute(command);
+        }
+        return idempotencyKeyStore.execute(
+                new IdempotencyKey(command.username(), command.idempotencyKey()),
+                "POST start=" + command.start() + " durationMinutes=" + command.durationMinutes(),
+                () -> super.execute(command));
+    }
+}
@@ -0,0 +1,23 @@
+package com.doodle.scheduler.application.config.usecase.createtimeslot.decorators;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotUseCase;
+
+public class ReadYourWritesCreateTimeSlotUseCaseDecorator extends BaseCreateTimeSlotUseCaseDecorator {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadYourWritesCreateTimeSlotUseCaseDecorator(CreateTimeSlotUseCase delegate, ReadYourWritesTracker readYourWritesTracker) {
+        super(delegate);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public TimeSlot execute(CreateTimeSlotCommand command) {
+        TimeSlot result = super.execute(command);
+        readYourWritesTracker.recordWrite(command.username());
+        return result;
+    }
+}
@@ -1,13 +1,23 @@
 package com.doodle.scheduler.application.config.usecase.deletetimeslot;
 
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.config.usecase.common.AdaptiveConcurrencyLimiter;
+import com.doodle.scheduler.application.config.usecase.common.IdempotencyKeyStore;
+import com.doodle.scheduler.application.config.usecase.common.OptimisticLockRetrier;
+import com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators.ConcurrencyLimitedDeleteTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators.IdempotentDeleteTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators.LoggedDeleteTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators.ReadYourWritesDeleteTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators.RetryingDeleteTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators.TransactionalDeleteTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotUseCase;
 import com.doodle.scheduler.application.domain.calendar.port.out.deletetimeslot.DeleteTimeSlotPort;
 import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
 import com.doodle.scheduler.application.domain.calendar.service.DeleteTimeSlotServiceImpl;
+import com.doodle.scheduler.application.domain.meeting.port.out.loadmeetings.LoadMeetingsByTimeSlotIdPort;
 import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,26 +31,48 @@ public class DeleteTimeSlotUseCaseConfig {
     public DeleteTimeSlotUseCase coreDeleteTimeSlotUseCase(
             LoadUserByUsernamePort loadUserByUsernamePort,
             LoadTimeSlotByIdPort loadTimeSlotByIdPort,
+            LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort,
             DeleteTimeSlotPort deleteTimeSlotPort) {
-        return new DeleteTimeSlotServiceImpl(loadUserByUsernamePort, loadTimeSlotByIdPort, deleteTimeSlotPort);
+        return new DeleteTimeSlotServiceImpl(
+                loadUserByUsernamePort, loadTimeSlotByIdPort, loadMeetingsByTimeSlotIdPort, deleteTimeSlotPort);
+    }
+
+    @Bean
+    public DeleteTimeSlotUseCase idempotentDeleteTimeSlotUseCase(
+            @Qualifier("coreDeleteTimeSlotUseCase") DeleteTimeSlotUseCase core,
+            IdempotencyKeyStore idempotencyKeyStore) {
+        return new IdempotentDeleteTimeSlotUseCaseDecorator(core, idempotencyKeyStore);
     }
 
     @Bean
     public DeleteTimeSlotUseCase transactionalDeleteTimeSlotUseCase(
-            @Qualifier("coreDeleteTimeSlotUseCase") DeleteTimeSlotUseCase core) {
-        return new TransactionalDeleteTimeSlotUseCaseDecorator(core);
+            @Qualifier("idempotentDeleteTimeSlotUseCase") DeleteTimeSlotUseCase idempotent) {
+        return new TransactionalDeleteTimeSlotUseCaseDecorator(idempotent);
+    }
+
+    @Bean
+    public DeleteTimeSlotUseCase retryingDeleteTimeSlotUseCase(
+            @Qualifier("transactionalDeleteTimeSlotUseCase") DeleteTimeSlotUseCase transactional,
+            OptimisticLockRetrier optimisticLockRetrier) {
+        return new RetryingDeleteTimeSlotUseCaseDecorator(transactional, optimisticLockRetrier);
     }
 
     @Bean
     public DeleteTimeSlotUseCase loggedDeleteTimeSlotUseCase(
-            @Qualifier("transactionalDeleteTimeSlotUseCase") DeleteTimeSlotUseCase transactional) {
-        return new LoggedDeleteTimeSlotUseCaseDecorator(transactional);
+            @Qualifier("retryingDeleteTimeSlotUseCase") DeleteTimeSlotUseCase retrying,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return new LoggedDeleteTimeSlotUseCaseDecorator(tracker == null
+                ? retrying
+                : new ReadYourWritesDeleteTimeSlotUseCaseDecorator(retrying, tracker));
     }
 
     @Bean
     @Primary
     public DeleteTimeSlotUseCase deleteTimeSlotUseCase(
-            @Qualifier("loggedDeleteTimeSlotUseCase") DeleteTimeSlotUseCase logged) {
-        return logged;
+            @Qualifier("loggedDeleteTimeSlotUseCase") DeleteTimeSlotUseCase logged,
+            ObjectProvider<AdaptiveConcurrencyLimiter> writeConcurrencyLimiter) {
+        AdaptiveConcurrencyLimiter limiter = writeConcurrencyLimiter.getIfAvailable();
+        return limiter == null ? logged : new ConcurrencyLimitedDeleteTimeSlotUseCaseDecorator(logged, limiter);
     }
 }
@@ -0,0 +1,20 @@
+package com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators;
+
+import com.doodle.scheduler.application.config.usecase.common.AdaptiveConcurrencyLimiter;
+import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotUseCase;
+
+public class ConcurrencyLimitedDeleteTimeSlotUseCaseDecorator extends BaseDeleteTimeSlotUseCaseDecorator {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedDeleteTimeSlotUseCaseDecorator(DeleteTimeSlotUseCase delegate, AdaptiveConcurrencyLimiter limiter) {
+        super(delegate);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public void execute(DeleteTimeSlotCommand command) {
+        limiter.run("DeleteTimeSlotUseCase", () -> super.execute(command));
+    }
+}
@@ -0,0 +1,31 @@
+package com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators;
+
+import com.doodle.scheduler.application.config.usecase.common.IdempotencyKeyStore;
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyKey;
+import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotUseCase;
+
+public class IdempotentDeleteTimeSlotUseCaseDecorator extends BaseDeleteTimeSlotUseCaseDecorator {
+
+    private final IdempotencyKeyStore idempotencyKeyStore;
+
+    public IdempotentDeleteTimeSlotUseCaseDecorator(DeleteTimeSlotUseCase delegate, IdempotencyKeyStore idempotencyKeyStore) {
+        super(delegate);
+        this.idempotencyKeyStore = idempotencyKeyStore;
+    }
+
+    @Override
+    public void execute(DeleteTimeSlotCommand command) {
+        if (command.idempotencyKey() == null) {
+            super.execute(command);
+            return;
+        }
+        idempotencyKeyStore.execute(
+                new IdempotencyKey(command.username(), command.idempotencyKey()),
+                "DELETE timeSlotId=" + command.timeSlotId(),
+                () -> {
+                    super.execute(command);
+                    return null;
+                });
+    }
+}
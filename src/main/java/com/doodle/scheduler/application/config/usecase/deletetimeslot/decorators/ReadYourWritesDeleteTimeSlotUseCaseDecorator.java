@@ -0,0 +1,21 @@
+package com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotUseCase;
+
+public class ReadYourWritesDeleteTimeSlotUseCaseDecorator extends BaseDeleteTimeSlotUseCaseDecorator {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadYourWritesDeleteTimeSlotUseCaseDecorator(DeleteTimeSlotUseCase delegate, ReadYourWritesTracker readYourWritesTracker) {
+        super(delegate);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public void execute(DeleteTimeSlotCommand command) {
+        super.execute(command);
+        readYourWritesTracker.recordWrite(command.username());
+    }
+}
@@ -0,0 +1,20 @@
+package com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators;
+
+import com.doodle.scheduler.application.config.usecase.common.OptimisticLockRetrier;
+import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotUseCase;
+
+public class RetryingDeleteTimeSlotUseCaseDecorator extends BaseDeleteTimeSlotUseCaseDecorator {
+
+    private final OptimisticLockRetrier retrier;
+
+    public RetryingDeleteTimeSlotUseCaseDecorator(DeleteTimeSlotUseCase delegate, OptimisticLockRetrier retrier) {
+        super(delegate);
+        this.retrier = retrier;
+    }
+
+    @Override
+    public void execute(DeleteTimeSlotCommand command) {
+        retrier.run("DeleteTimeSlotUseCase", () -> super.execute(command));
+    }
+}
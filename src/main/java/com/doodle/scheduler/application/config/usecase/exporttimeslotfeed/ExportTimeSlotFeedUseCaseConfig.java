@@ -0,0 +1,53 @@
+package com.doodle.scheduler.application.config.usecase.exporttimeslotfeed;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.config.usecase.exporttimeslotfeed.decorators.LoggedExportTimeSlotFeedUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.exporttimeslotfeed.decorators.ReplicaRoutedExportTimeSlotFeedUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.exporttimeslotfeed.decorators.TransactionalExportTimeSlotFeedUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.LoadCalendarStampPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.StreamTimeSlotsByOwnerPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.service.ExportTimeSlotFeedServiceImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@RequiredArgsConstructor
+public class ExportTimeSlotFeedUseCaseConfig {
+
+    @Bean
+    public ExportTimeSlotFeedUseCase coreExportTimeSlotFeedUseCase(
+            LoadCalendarStampPort loadCalendarStampPort,
+            LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+            StreamTimeSlotsByOwnerPort streamTimeSlotsByOwnerPort) {
+        return new ExportTimeSlotFeedServiceImpl(
+                loadCalendarStampPort, loadRecurringAvailabilitiesByUserPort, streamTimeSlotsByOwnerPort);
+    }
+
+    @Bean
+    public ExportTimeSlotFeedUseCase transactionalExportTimeSlotFeedUseCase(
+            @Qualifier("coreExportTimeSlotFeedUseCase") ExportTimeSlotFeedUseCase core) {
+        return new TransactionalExportTimeSlotFeedUseCaseDecorator(core);
+    }
+
+    @Bean
+    public ExportTimeSlotFeedUseCase loggedExportTimeSlotFeedUseCase(
+            @Qualifier("transactionalExportTimeSlotFeedUseCase") ExportTimeSlotFeedUseCase transactional,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        return new LoggedExportTimeSlotFeedUseCaseDecorator(readYourWritesTracker.getIfAvailable() == null
+                ? transactional
+                : new ReplicaRoutedExportTimeSlotFeedUseCaseDecorator(transactional));
+    }
+
+    @Bean
+    @Primary
+    public ExportTimeSlotFeedUseCase exportTimeSlotFeedUseCase(
+            @Qualifier("loggedExportTimeSlotFeedUseCase") ExportTimeSlotFeedUseCase logged) {
+        return logged;
+    }
+}
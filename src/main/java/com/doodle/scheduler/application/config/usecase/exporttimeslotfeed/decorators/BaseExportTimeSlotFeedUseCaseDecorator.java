@@ -0,0 +1,16 @@
+package com.doodle.scheduler.application.config.usecase.exporttimeslotfeed.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedUseCase;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public abstract class BaseExportTimeSlotFeedUseCaseDecorator implements ExportTimeSlotFeedUseCase {
+
+    protected final ExportTimeSlotFeedUseCase delegate;
+
+    @Override
+    public void execute(ExportTimeSlotFeedCommand command) {
+        delegate.execute(command);
+    }
+}
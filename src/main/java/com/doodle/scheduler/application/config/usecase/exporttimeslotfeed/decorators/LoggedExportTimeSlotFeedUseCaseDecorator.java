@@ -0,0 +1,26 @@
+package com.doodle.scheduler.application.config.usecase.exporttimeslotfeed.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedUseCase;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoggedExportTimeSlotFeedUseCaseDecorator extends BaseExportTimeSlotFeedUseCaseDecorator {
+
+    public LoggedExportTimeSlotFeedUseCaseDecorator(ExportTimeSlotFeedUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void execute(ExportTimeSlotFeedCommand command) {
+        log.debug("Executing ExportTimeSlotFeedUseCase for username={}", command.username());
+
+        try {
+            super.execute(command);
+            log.debug("Exported time slot feed for username={}", command.username());
+        } catch (Exception e) {
+            log.error("Error exporting time slot feed for username={}: {}", command.username(), e.getMessage(), e);
+            throw e;
+        }
+    }
+}
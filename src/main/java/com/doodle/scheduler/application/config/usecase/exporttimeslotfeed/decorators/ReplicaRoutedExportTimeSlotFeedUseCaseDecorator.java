@@ -0,0 +1,20 @@
+package com.doodle.scheduler.application.config.usecase.exporttimeslotfeed.decorators;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReplicaRoutingContext;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedUseCase;
+
+public class ReplicaRoutedExportTimeSlotFeedUseCaseDecorator extends BaseExportTimeSlotFeedUseCaseDecorator {
+
+    public ReplicaRoutedExportTimeSlotFeedUseCaseDecorator(ExportTimeSlotFeedUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public void execute(ExportTimeSlotFeedCommand command) {
+        ReplicaRoutingContext.callAs(command.username(), () -> {
+            super.execute(command);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,18 @@
+package com.doodle.scheduler.application.config.usecase.exporttimeslotfeed.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedUseCase;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TransactionalExportTimeSlotFeedUseCaseDecorator extends BaseExportTimeSlotFeedUseCaseDecorator {
+
+    public TransactionalExportTimeSlotFeedUseCaseDecorator(ExportTimeSlotFeedUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void execute(ExportTimeSlotFeedCommand command) {
+        super.execute(command);
+    }
+}
@@ -0,0 +1,48 @@
+package com.doodle.scheduler.application.config.usecase.getcalendarversion;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.config.usecase.getcalendarversion.decorators.LoggedGetCalendarVersionUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.getcalendarversion.decorators.ReplicaRoutedGetCalendarVersionUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.getcalendarversion.decorators.TransactionalGetCalendarVersionUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.getcalendarversion.LoadCalendarVersionPort;
+import com.doodle.scheduler.application.domain.calendar.service.GetCalendarVersionServiceImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@RequiredArgsConstructor
+public class GetCalendarVersionUseCaseConfig {
+
+    @Bean
+    public GetCalendarVersionUseCase coreGetCalendarVersionUseCase(
+            LoadCalendarVersionPort loadCalendarVersionPort) {
+        return new GetCalendarVersionServiceImpl(loadCalendarVersionPort);
+    }
+
+    @Bean
+    public GetCalendarVersionUseCase transactionalGetCalendarVersionUseCase(
+            @Qualifier("coreGetCalendarVersionUseCase") GetCalendarVersionUseCase core) {
+        return new TransactionalGetCalendarVersionUseCaseDecorator(core);
+    }
+
+    @Bean
+    public GetCalendarVersionUseCase loggedGetCalendarVersionUseCase(
+            @Qualifier("transactionalGetCalendarVersionUseCase") GetCalendarVersionUseCase transactional,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        return new LoggedGetCalendarVersionUseCaseDecorator(readYourWritesTracker.getIfAvailable() == null
+                ? transactional
+                : new ReplicaRoutedGetCalendarVersionUseCaseDecorator(transactional));
+    }
+
+    @Bean
+    @Primary
+    public GetCalendarVersionUseCase getCalendarVersionUseCase(
+            @Qualifier("loggedGetCalendarVersionUseCase") GetCalendarVersionUseCase logged) {
+        return logged;
+    }
+}
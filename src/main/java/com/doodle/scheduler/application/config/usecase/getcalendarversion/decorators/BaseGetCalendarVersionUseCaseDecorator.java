@@ -0,0 +1,16 @@
+package com.doodle.scheduler.application.config.usecase.getcalendarversion.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionUseCase;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public abstract class BaseGetCalendarVersionUseCaseDecorator implements GetCalendarVersionUseCase {
+
+    protected final GetCalendarVersionUseCase delegate;
+
+    @Override
+    public long execute(GetCalendarVersionCommand command) {
+        return delegate.execute(command);
+    }
+}
@@ -0,0 +1,27 @@
+package com.doodle.scheduler.application.config.usecase.getcalendarversion.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionUseCase;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoggedGetCalendarVersionUseCaseDecorator extends BaseGetCalendarVersionUseCaseDecorator {
+
+    public LoggedGetCalendarVersionUseCaseDecorator(GetCalendarVersionUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public long execute(GetCalendarVersionCommand command) {
+        log.debug("Executing GetCalendarVersionUseCase for username={}", command.username());
+
+        try {
+            long version = super.execute(command);
+            log.debug("Calendar version for username={} is {}", command.username(), version);
+            return version;
+        } catch (Exception e) {
+            log.error("Error loading calendar version for username={}: {}", command.username(), e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.doodle.scheduler.application.config.usecase.getcalendarversion.decorators;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReplicaRoutingContext;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionUseCase;
+
+public class ReplicaRoutedGetCalendarVersionUseCaseDecorator extends BaseGetCalendarVersionUseCaseDecorator {
+
+    public ReplicaRoutedGetCalendarVersionUseCaseDecorator(GetCalendarVersionUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public long execute(GetCalendarVersionCommand command) {
+        return ReplicaRoutingContext.callAs(command.username(), () -> super.execute(command));
+    }
+}
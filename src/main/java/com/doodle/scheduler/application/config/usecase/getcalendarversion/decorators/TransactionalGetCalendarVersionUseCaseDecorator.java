@@ -0,0 +1,18 @@
+package com.doodle.scheduler.application.config.usecase.getcalendarversion.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionUseCase;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TransactionalGetCalendarVersionUseCaseDecorator extends BaseGetCalendarVersionUseCaseDecorator {
+
+    public TransactionalGetCalendarVersionUseCaseDecorator(GetCalendarVersionUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long execute(GetCalendarVersionCommand command) {
+        return super.execute(command);
+    }
+}
@@ -0,0 +1,13 @@
+package com.doodle.scheduler.application.config.usecase.importtimeslots;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * How many rejected rows an import lists in its report; all of them are counted.
+ */
+@ConfigurationProperties(prefix = "scheduler.import")
+public record ImportProperties(
+        @DefaultValue("1000") int maxReportedRejections
+) {
+}
@@ -0,0 +1,63 @@
+package com.doodle.scheduler.application.config.usecase.importtimeslots;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.config.usecase.importtimeslots.decorators.LoggedImportTimeSlotsUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.importtimeslots.decorators.ReadYourWritesImportTimeSlotsUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.importtimeslots.decorators.TransactionalImportTimeSlotsUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.LoadImportSweepEntriesPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.MergeStagedTimeSlotsPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.RejectStagedTimeSlotsPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.StageImportedTimeSlotsPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.service.ImportTimeSlotsServiceImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@EnableConfigurationProperties(ImportProperties.class)
+@RequiredArgsConstructor
+public class ImportTimeSlotsUseCaseConfig {
+
+    @Bean
+    public ImportTimeSlotsUseCase coreImportTimeSlotsUseCase(
+            StageImportedTimeSlotsPort stageImportedTimeSlotsPort,
+            LoadImportSweepEntriesPort loadImportSweepEntriesPort,
+            RejectStagedTimeSlotsPort rejectStagedTimeSlotsPort,
+            MergeStagedTimeSlotsPort mergeStagedTimeSlotsPort,
+            LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+            ImportProperties importProperties) {
+        return new ImportTimeSlotsServiceImpl(
+                stageImportedTimeSlotsPort, loadImportSweepEntriesPort, rejectStagedTimeSlotsPort,
+                mergeStagedTimeSlotsPort, loadRecurringAvailabilitiesByUserPort,
+                importProperties.maxReportedRejections());
+    }
+
+    @Bean
+    public ImportTimeSlotsUseCase transactionalImportTimeSlotsUseCase(
+            @Qualifier("coreImportTimeSlotsUseCase") ImportTimeSlotsUseCase core) {
+        return new TransactionalImportTimeSlotsUseCaseDecorator(core);
+    }
+
+    @Bean
+    public ImportTimeSlotsUseCase loggedImportTimeSlotsUseCase(
+            @Qualifier("transactionalImportTimeSlotsUseCase") ImportTimeSlotsUseCase transactional,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return new LoggedImportTimeSlotsUseCaseDecorator(tracker == null
+                ? transactional
+                : new ReadYourWritesImportTimeSlotsUseCaseDecorator(transactional, tracker));
+    }
+
+    @Bean
+    @Primary
+    public ImportTimeSlotsUseCase importTimeSlotsUseCase(
+            @Qualifier("loggedImportTimeSlotsUseCase") ImportTimeSlotsUseCase logged) {
+        return logged;
+    }
+}
@@ -0,0 +1,17 @@
+package com.doodle.scheduler.application.config.usecase.importtimeslots.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public abstract class BaseImportTimeSlotsUseCaseDecorator implements ImportTimeSlotsUseCase {
+
+    protected final ImportTimeSlotsUseCase delegate;
+
+    @Override
+    public ImportTimeSlotsQueryResult execute(ImportTimeSlotsCommand command) {
+        return delegate.execute(command);
+    }
+}
@@ -0,0 +1,30 @@
+package com.doodle.scheduler.application.config.usecase.importtimeslots.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoggedImportTimeSlotsUseCaseDecorator extends BaseImportTimeSlotsUseCaseDecorator {
+
+    public LoggedImportTimeSlotsUseCaseDecorator(ImportTimeSlotsUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public ImportTimeSlotsQueryResult execute(ImportTimeSlotsCommand command) {
+        log.info("Executing ImportTimeSlotsUseCase for source={}", command.source());
+
+        try {
+            ImportTimeSlotsQueryResult result = super.execute(command);
+            log.info("Import {} from source={} finished: rowsRead={}, imported={}, rejected={}, elapsed={} ms, rowsPerSecond={}",
+                    result.importId(), command.source(), result.rowsRead(), result.imported(), result.rejected(),
+                    result.elapsed().toMillis(), result.rowsPerSecond());
+            return result;
+        } catch (Exception e) {
+            log.error("Error importing time slots from source={}: {}", command.source(), e.getMessage(), e);
+            throw e;
+        }
+    }
+}
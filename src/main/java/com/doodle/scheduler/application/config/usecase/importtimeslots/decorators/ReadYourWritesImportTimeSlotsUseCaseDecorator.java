@@ -0,0 +1,23 @@
+package com.doodle.scheduler.application.config.usecase.importtimeslots.decorators;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+
+public class ReadYourWritesImportTimeSlotsUseCaseDecorator extends BaseImportTimeSlotsUseCaseDecorator {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadYourWritesImportTimeSlotsUseCaseDecorator(ImportTimeSlotsUseCase delegate, ReadYourWritesTracker readYourWritesTracker) {
+        super(delegate);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public ImportTimeSlotsQueryResult execute(ImportTimeSlotsCommand command) {
+        ImportTimeSlotsQueryResult result = super.execute(command);
+        result.owners().forEach(readYourWritesTracker::recordWrite);
+        return result;
+    }
+}
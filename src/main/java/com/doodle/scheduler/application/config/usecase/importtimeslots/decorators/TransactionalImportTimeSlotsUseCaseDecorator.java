@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.config.usecase.importtimeslots.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TransactionalImportTimeSlotsUseCaseDecorator extends BaseImportTimeSlotsUseCaseDecorator {
+
+    public TransactionalImportTimeSlotsUseCaseDecorator(ImportTimeSlotsUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    @Transactional
+    public ImportTimeSlotsQueryResult execute(ImportTimeSlotsCommand command) {
+        return super.execute(command);
+    }
+}
@@ -0,0 +1,61 @@
+package com.doodle.scheduler.application.config.usecase.schedulemeeting;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.config.usecase.schedulemeeting.decorators.LoggedScheduleMeetingUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.schedulemeeting.decorators.ReadYourWritesScheduleMeetingUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.schedulemeeting.decorators.TransactionalScheduleMeetingUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingUseCase;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.MaterializeOccurrencePort;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.ReserveTimeSlotPort;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.SaveMeetingPort;
+import com.doodle.scheduler.application.domain.meeting.service.ScheduleMeetingServiceImpl;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@RequiredArgsConstructor
+public class ScheduleMeetingUseCaseConfig {
+
+    @Bean
+    public ScheduleMeetingUseCase coreScheduleMeetingUseCase(
+            LoadUserByUsernamePort loadUserByUsernamePort,
+            LoadTimeSlotByIdPort loadTimeSlotByIdPort,
+            LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+            MaterializeOccurrencePort materializeOccurrencePort,
+            ReserveTimeSlotPort reserveTimeSlotPort,
+            SaveMeetingPort saveMeetingPort) {
+        return new ScheduleMeetingServiceImpl(
+                loadUserByUsernamePort, loadTimeSlotByIdPort, loadRecurringAvailabilitiesByUserPort,
+                materializeOccurrencePort, reserveTimeSlotPort, saveMeetingPort);
+    }
+
+    @Bean
+    public ScheduleMeetingUseCase transactionalScheduleMeetingUseCase(
+            @Qualifier("coreScheduleMeetingUseCase") ScheduleMeetingUseCase core) {
+        return new TransactionalScheduleMeetingUseCaseDecorator(core);
+    }
+
+    @Bean
+    public ScheduleMeetingUseCase loggedScheduleMeetingUseCase(
+            @Qualifier("transactionalScheduleMeetingUseCase") ScheduleMeetingUseCase transactional,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return new LoggedScheduleMeetingUseCaseDecorator(tracker == null
+                ? transactional
+                : new ReadYourWritesScheduleMeetingUseCaseDecorator(transactional, tracker));
+    }
+
+    @Bean
+    @Primary
+    public ScheduleMeetingUseCase scheduleMeetingUseCase(
+            @Qualifier("loggedScheduleMeetingUseCase") ScheduleMeetingUseCase logged) {
+        return logged;
+    }
+}
@@ -0,0 +1,17 @@
+package com.doodle.scheduler.application.config.usecase.schedulemeeting.decorators;
+
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingCommand;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingUseCase;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public abstract class BaseScheduleMeetingUseCaseDecorator implements ScheduleMeetingUseCase {
+
+    protected final ScheduleMeetingUseCase delegate;
+
+    @Override
+    public Meeting execute(ScheduleMeetingCommand command) {
+        return delegate.execute(command);
+    }
+}
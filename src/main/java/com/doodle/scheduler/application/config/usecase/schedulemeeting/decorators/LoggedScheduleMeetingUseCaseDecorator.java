@@ -0,0 +1,32 @@
+package com.doodle.scheduler.application.config.usecase.schedulemeeting.decorators;
+
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingCommand;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingUseCase;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoggedScheduleMeetingUseCaseDecorator extends BaseScheduleMeetingUseCaseDecorator {
+
+    public LoggedScheduleMeetingUseCaseDecorator(ScheduleMeetingUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public Meeting execute(ScheduleMeetingCommand command) {
+        log.info("Executing ScheduleMeetingUseCase for username={}, timeSlotId={}, participants={}",
+                command.username(), command.timeSlotId(),
+                command.participants() != null ? command.participants().size() : 0);
+
+        try {
+            Meeting result = super.execute(command);
+            log.info("Successfully scheduled meeting with id={} on time slot id={} for username={}",
+                    result.getId(), result.getSlotId(), command.username());
+            return result;
+        } catch (Exception e) {
+            log.error("Error scheduling meeting on time slot id={} for username={}: {}",
+                    command.timeSlotId(), command.username(), e.getMessage(), e);
+            throw e;
+        }
+    }
+}
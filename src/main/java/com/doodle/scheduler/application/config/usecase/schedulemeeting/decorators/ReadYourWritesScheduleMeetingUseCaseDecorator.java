@@ -0,0 +1,23 @@
+package com.doodle.scheduler.application.config.usecase.schedulemeeting.decorators;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingCommand;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingUseCase;
+
+public class ReadYourWritesScheduleMeetingUseCaseDecorator extends BaseScheduleMeetingUseCaseDecorator {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadYourWritesScheduleMeetingUseCaseDecorator(ScheduleMeetingUseCase delegate, ReadYourWritesTracker readYourWritesTracker) {
+        super(delegate);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Meeting execute(ScheduleMeetingCommand command) {
+        Meeting result = super.execute(command);
+        readYourWritesTracker.recordWrite(command.username());
+        return result;
+    }
+}
@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.config.usecase.schedulemeeting.decorators;
+
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingCommand;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingUseCase;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TransactionalScheduleMeetingUseCaseDecorator extends BaseScheduleMeetingUseCaseDecorator {
+
+    public TransactionalScheduleMeetingUseCaseDecorator(ScheduleMeetingUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    @Transactional
+    public Meeting execute(ScheduleMeetingCommand command) {
+        return super.execute(command);
+    }
+}
@@ -0,0 +1,16 @@
+package com.doodle.scheduler.application.config.usecase.searchtimeslots;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * How far a search expands recurring availability, counted from the search start or, when that is
+ * earlier, from the rule's first day.
+ */
+@ConfigurationProperties(prefix = "scheduler.search")
+public record SearchTimeSlotsProperties(
+        @DefaultValue("90d") Duration recurrenceHorizon
+) {
+}
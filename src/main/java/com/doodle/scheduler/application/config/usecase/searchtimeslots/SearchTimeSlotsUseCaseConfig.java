@@ -1,26 +1,38 @@
 package com.doodle.scheduler.application.config.usecase.searchtimeslots;
 
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
 import com.doodle.scheduler.application.config.usecase.searchtimeslots.decorators.LoggedSearchTimeSlotsUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.searchtimeslots.decorators.ReplicaRoutedSearchTimeSlotsUseCaseDecorator;
 import com.doodle.scheduler.application.config.usecase.searchtimeslots.decorators.TransactionalSearchTimeSlotsUseCaseDecorator;
 import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadStoredTimeSlotIdsPort;
 import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.SearchTimeSlotsPort;
 import com.doodle.scheduler.application.domain.calendar.service.SearchTimeSlotsServiceImpl;
 import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(SearchTimeSlotsProperties.class)
 public class SearchTimeSlotsUseCaseConfig {
 
     @Bean
     public SearchTimeSlotsUseCase coreSearchTimeSlotsUseCase(
             LoadUserByUsernamePort loadUserByUsernamePort,
-            SearchTimeSlotsPort searchTimeSlotsPort) {
-        return new SearchTimeSlotsServiceImpl(loadUserByUsernamePort, searchTimeSlotsPort);
+            SearchTimeSlotsPort searchTimeSlotsPort,
+            LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+            LoadStoredTimeSlotIdsPort loadStoredTimeSlotIdsPort,
+            SearchTimeSlotsProperties properties) {
+        return new SearchTimeSlotsServiceImpl(
+                loadUserByUsernamePort, searchTimeSlotsPort, loadRecurringAvailabilitiesByUserPort, loadStoredTimeSlotIdsPort,
+                properties.recurrenceHorizon());
     }
 
     @Bean
@@ -31,8 +43,11 @@ public class SearchTimeSlotsUseCaseConfig {
 
     @Bean
     public SearchTimeSlotsUseCase loggedSearchTimeSlotsUseCase(
-            @Qualifier("transactionalSearchTimeSlotsUseCase") SearchTimeSlotsUseCase transactional) {
-        return new LoggedSearchTimeSlotsUseCaseDecorator(transactional);
+            @Qualifier("transactionalSearchTimeSlotsUseCase") SearchTimeSlotsUseCase transactional,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        return new LoggedSearchTimeSlotsUseCaseDecorator(readYourWritesTracker.getIfAvailable() == null
+                ? transactional
+                : new ReplicaRoutedSearchTimeSlotsUseCaseDecorator(transactional));
     }
 
     @Bean
@@ -0,0 +1,18 @@
+package com.doodle.scheduler.application.config.usecase.searchtimeslots.decorators;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReplicaRoutingContext;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsUseCase;
+
+public class ReplicaRoutedSearchTimeSlotsUseCaseDecorator extends BaseSearchTimeSlotsUseCaseDecorator {
+
+    public ReplicaRoutedSearchTimeSlotsUseCaseDecorator(SearchTimeSlotsUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public SearchTimeSlotsQueryResult execute(SearchTimeSlotsCommand command) {
+        return ReplicaRoutingContext.callAs(command.username(), () -> super.execute(command));
+    }
+}
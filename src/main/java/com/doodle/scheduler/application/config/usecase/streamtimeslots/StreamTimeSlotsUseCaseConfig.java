@@ -0,0 +1,40 @@
+package com.doodle.scheduler.application.config.usecase.streamtimeslots;
+
+import com.doodle.scheduler.application.config.usecase.streamtimeslots.decorators.LoggedStreamTimeSlotsUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.streamtimeslots.StreamTimeSlotsPort;
+import com.doodle.scheduler.application.domain.calendar.service.StreamTimeSlotsServiceImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * No transactional layer: the use case returns a lazy publisher, so a transaction around
+ * {@code execute} would end before the first row is read.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "scheduler.reactive-read", name = "enabled", havingValue = "true")
+public class StreamTimeSlotsUseCaseConfig {
+
+    @Bean
+    public StreamTimeSlotsUseCase coreStreamTimeSlotsUseCase(StreamTimeSlotsPort streamTimeSlotsPort) {
+        return new StreamTimeSlotsServiceImpl(streamTimeSlotsPort);
+    }
+
+    @Bean
+    public StreamTimeSlotsUseCase loggedStreamTimeSlotsUseCase(
+            @Qualifier("coreStreamTimeSlotsUseCase") StreamTimeSlotsUseCase core) {
+        return new LoggedStreamTimeSlotsUseCaseDecorator(core);
+    }
+
+    @Bean
+    @Primary
+    public StreamTimeSlotsUseCase streamTimeSlotsUseCase(
+            @Qualifier("loggedStreamTimeSlotsUseCase") StreamTimeSlotsUseCase logged) {
+        return logged;
+    }
+}
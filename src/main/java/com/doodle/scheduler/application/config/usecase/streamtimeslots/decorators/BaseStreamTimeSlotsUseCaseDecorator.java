@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.config.usecase.streamtimeslots.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsUseCase;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.Flow;
+
+@RequiredArgsConstructor
+public abstract class BaseStreamTimeSlotsUseCaseDecorator implements StreamTimeSlotsUseCase {
+
+    protected final StreamTimeSlotsUseCase delegate;
+
+    @Override
+    public Flow.Publisher<TimeSlot> execute(StreamTimeSlotsCommand command) {
+        return delegate.execute(command);
+    }
+}
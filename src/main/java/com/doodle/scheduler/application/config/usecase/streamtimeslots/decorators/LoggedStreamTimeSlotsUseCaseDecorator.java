@@ -0,0 +1,33 @@
+package com.doodle.scheduler.application.config.usecase.streamtimeslots.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsUseCase;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Logs when a stream is opened. The publisher is lazy, so rows and errors surface later on the
+ * subscriber; they are not visible here.
+ */
+@Slf4j
+public class LoggedStreamTimeSlotsUseCaseDecorator extends BaseStreamTimeSlotsUseCaseDecorator {
+
+    public LoggedStreamTimeSlotsUseCaseDecorator(StreamTimeSlotsUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public Flow.Publisher<TimeSlot> execute(StreamTimeSlotsCommand command) {
+        log.info("Executing StreamTimeSlotsUseCase for username={}, status={}, startTime={}, endTime={}",
+                command.username(), command.status(), command.startTime(), command.endTime());
+
+        try {
+            return super.execute(command);
+        } catch (Exception e) {
+            log.error("Error opening time slot stream for username={}: {}", command.username(), e.getMessage(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.doodle.scheduler.application.config.usecase.updatetimeslot;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.config.usecase.common.AdaptiveConcurrencyLimiter;
+import com.doodle.scheduler.application.config.usecase.common.OptimisticLockRetrier;
+import com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators.ConcurrencyLimitedUpdateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators.LoggedUpdateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators.ReadYourWritesUpdateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators.RetryingUpdateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators.TransactionalUpdateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.createtimeslot.SaveTimeSlotPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.updatetimeslot.LoadNeighbouringTimeSlotsPort;
+import com.doodle.scheduler.application.domain.calendar.service.UpdateTimeSlotServiceImpl;
+import com.doodle.scheduler.application.domain.meeting.port.out.loadmeetings.LoadMeetingsByTimeSlotIdPort;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@RequiredArgsConstructor
+public class UpdateTimeSlotUseCaseConfig {
+
+    @Bean
+    public UpdateTimeSlotUseCase coreUpdateTimeSlotUseCase(
+            LoadUserByUsernamePort loadUserByUsernamePort,
+            LoadTimeSlotByIdPort loadTimeSlotByIdPort,
+            LoadNeighbouringTimeSlotsPort loadNeighbouringTimeSlotsPort,
+            LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+            LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort,
+            SaveTimeSlotPort saveTimeSlotPort) {
+        return new UpdateTimeSlotServiceImpl(loadUserByUsernamePort, loadTimeSlotByIdPort,
+                loadNeighbouringTimeSlotsPort, loadRecurringAvailabilitiesByUserPort,
+                loadMeetingsByTimeSlotIdPort, saveTimeSlotPort);
+    }
+
+    @Bean
+    public UpdateTimeSlotUseCase transactionalUpdateTimeSlotUseCase(
+            @Qualifier("coreUpdateTimeSlotUseCase") UpdateTimeSlotUseCase core) {
+        return new TransactionalUpdateTimeSlotUseCaseDecorator(core);
+    }
+
+    @Bean
+    public UpdateTimeSlotUseCase retryingUpdateTimeSlotUseCase(
+            @Qualifier("transactionalUpdateTimeSlotUseCase") UpdateTimeSlotUseCase transactional,
+            OptimisticLockRetrier optimisticLockRetrier) {
+        return new RetryingUpdateTimeSlotUseCaseDecorator(transactional, optimisticLockRetrier);
+    }
+
+    @Bean
+    public UpdateTimeSlotUseCase loggedUpdateTimeSlotUseCase(
+            @Qualifier("retryingUpdateTimeSlotUseCase") UpdateTimeSlotUseCase retrying,
+            ObjectProvider<ReadYourWritesTracker> readYourWritesTracker) {
+        ReadYourWritesTracker tracker = readYourWritesTracker.getIfAvailable();
+        return new LoggedUpdateTimeSlotUseCaseDecorator(tracker == null
+                ? retrying
+                : new ReadYourWritesUpdateTimeSlotUseCaseDecorator(retrying, tracker));
+    }
+
+    @Bean
+    @Primary
+    public UpdateTimeSlotUseCase updateTimeSlotUseCase(
+            @Qualifier("loggedUpdateTimeSlotUseCase") UpdateTimeSlotUseCase logged,
+            ObjectProvider<AdaptiveConcurrencyLimiter> writeConcurrencyLimiter) {
+        AdaptiveConcurrencyLimiter limiter = writeConcurrencyLimiter.getIfAvailable();
+        return limiter == null ? logged : new ConcurrencyLimitedUpdateTimeSlotUseCaseDecorator(logged, limiter);
+    }
+}
@@ -0,0 +1,17 @@
+package com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotUseCase;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public abstract class BaseUpdateTimeSlotUseCaseDecorator implements UpdateTimeSlotUseCase {
+
+    protected final UpdateTimeSlotUseCase delegate;
+
+    @Override
+    public TimeSlot execute(UpdateTimeSlotCommand command) {
+        return delegate.execute(command);
+    }
+}
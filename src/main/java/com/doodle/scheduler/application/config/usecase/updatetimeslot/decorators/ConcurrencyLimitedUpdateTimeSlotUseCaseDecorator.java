@@ -0,0 +1,21 @@
+package com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators;
+
+import com.doodle.scheduler.application.config.usecase.common.AdaptiveConcurrencyLimiter;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotUseCase;
+
+public class ConcurrencyLimitedUpdateTimeSlotUseCaseDecorator extends BaseUpdateTimeSlotUseCaseDecorator {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedUpdateTimeSlotUseCaseDecorator(UpdateTimeSlotUseCase delegate, AdaptiveConcurrencyLimiter limiter) {
+        super(delegate);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public TimeSlot execute(UpdateTimeSlotCommand command) {
+        return limiter.execute("UpdateTimeSlotUseCase", () -> super.execute(command));
+    }
+}
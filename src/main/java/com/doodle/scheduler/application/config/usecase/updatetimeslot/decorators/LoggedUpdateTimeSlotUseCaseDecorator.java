@@ -0,0 +1,31 @@
+package com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotUseCase;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoggedUpdateTimeSlotUseCaseDecorator extends BaseUpdateTimeSlotUseCaseDecorator {
+
+    public LoggedUpdateTimeSlotUseCaseDecorator(UpdateTimeSlotUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public TimeSlot execute(UpdateTimeSlotCommand command) {
+        log.info("Executing UpdateTimeSlotUseCase for username={}, timeSlotId={}, start={}, durationMinutes={}",
+                command.username(), command.timeSlotId(), command.start(), command.durationMinutes());
+
+        try {
+            TimeSlot result = super.execute(command);
+            log.info("Successfully moved time slot with id={} to start={} for username={}",
+                    result.getId(), result.getRange().start(), command.username());
+            return result;
+        } catch (Exception e) {
+            log.error("Error moving time slot with id={} for username={}: {}",
+                    command.timeSlotId(), command.username(), e.getMessage(), e);
+            throw e;
+        }
+    }
+}
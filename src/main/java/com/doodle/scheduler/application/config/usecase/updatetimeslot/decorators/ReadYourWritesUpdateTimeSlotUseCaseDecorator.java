@@ -0,0 +1,23 @@
+package com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators;
+
+import com.doodle.scheduler.application.config.datasource.replica.ReadYourWritesTracker;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotUseCase;
+
+public class ReadYourWritesUpdateTimeSlotUseCaseDecorator extends BaseUpdateTimeSlotUseCaseDecorator {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadYourWritesUpdateTimeSlotUseCaseDecorator(UpdateTimeSlotUseCase delegate, ReadYourWritesTracker readYourWritesTracker) {
+        super(delegate);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public TimeSlot execute(UpdateTimeSlotCommand command) {
+        TimeSlot result = super.execute(command);
+        readYourWritesTracker.recordWrite(command.username());
+        return result;
+    }
+}
@@ -0,0 +1,21 @@
+package com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators;
+
+import com.doodle.scheduler.application.config.usecase.common.OptimisticLockRetrier;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotUseCase;
+
+public class RetryingUpdateTimeSlotUseCaseDecorator extends BaseUpdateTimeSlotUseCaseDecorator {
+
+    private final OptimisticLockRetrier retrier;
+
+    public RetryingUpdateTimeSlotUseCaseDecorator(UpdateTimeSlotUseCase delegate, OptimisticLockRetrier retrier) {
+        super(delegate);
+        this.retrier = retrier;
+    }
+
+    @Override
+    public TimeSlot execute(UpdateTimeSlotCommand command) {
+        return retrier.execute("UpdateTimeSlotUseCase", () -> super.execute(command));
+    }
+}
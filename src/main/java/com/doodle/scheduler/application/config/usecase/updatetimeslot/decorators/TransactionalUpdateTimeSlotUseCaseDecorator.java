@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotUseCase;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TransactionalUpdateTimeSlotUseCaseDecorator extends BaseUpdateTimeSlotUseCaseDecorator {
+
+    public TransactionalUpdateTimeSlotUseCaseDecorator(UpdateTimeSlotUseCase delegate) {
+        super(delegate);
+    }
+
+    @Override
+    @Transactional
+    public TimeSlot execute(UpdateTimeSlotCommand command) {
+        return super.execute(command);
+    }
+}
@@ -0,0 +1,9 @@
+package com.doodle.scheduler.application.domain.calendar.exception;
+
+import com.doodle.scheduler.application.domain.common.exception.DomainException;
+
+public class IdempotencyKeyReusedException extends DomainException {
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
@@ -1,16 +1,20 @@
 package com.doodle.scheduler.application.domain.calendar.model;
 
 import com.doodle.scheduler.application.domain.common.model.AggregateRoot;
+import com.doodle.scheduler.application.domain.common.model.IdGenerators;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotInvalidIdException;
 import com.doodle.scheduler.application.domain.calendar.exception.SlotAssignedToMeetingException;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotAvailableException;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotCollisionException;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
 import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
 import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeRange;
 import com.doodle.scheduler.application.domain.meeting.model.Meeting;
 import com.doodle.scheduler.application.domain.meeting.model.MeetingDetails;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.List;
@@ -19,6 +23,12 @@ import java.util.NavigableSet;
 import java.util.TreeSet;
 
 public class Calendar extends AggregateRoot {
+    /**
+     * Weekly rules repeat every week, so two rules that clash do so within their first common week
+     * unless their zones disagree about DST; a year covers every DST transition.
+     */
+    private static final Duration RECURRENCE_COLLISION_HORIZON = Duration.ofDays(7 * 54);
+
     /**
      * Attributes
      */
@@ -34,11 +44,13 @@ public class Calendar extends AggregateRoot {
 
     private final List<Meeting> meetings = new ArrayList<>();
 
+    private final List<RecurringAvailability> recurringAvailabilities = new ArrayList<>();
+
     /**
      * Public API
      */
     public static Calendar create(UUID ownerId) {
-        return new Calendar(UUID.randomUUID(), ownerId);
+        return new Calendar(IdGenerators.INSTANCE.nextId(), ownerId);
     }
 
     public static Calendar createWithSlots(UUID userId, List<TimeSlot> slots) {
@@ -50,17 +62,55 @@ public class Calendar extends AggregateRoot {
         return calendar;
     }
 
+    public static Calendar createWithSlotsAndMeetings(UUID userId, List<TimeSlot> slots, List<Meeting> meetings) {
+        Calendar calendar = createWithSlots(userId, slots);
+        calendar.meetings.addAll(meetings);
+        return calendar;
+    }
+
+    public static Calendar createWithSlotsAndRecurringAvailabilities(UUID userId, List<TimeSlot> slots,
+                                                                     List<RecurringAvailability> recurringAvailabilities) {
+        Calendar calendar = createWithSlots(userId, slots);
+        calendar.recurringAvailabilities.addAll(recurringAvailabilities);
+        return calendar;
+    }
+
+    public static Calendar createWithSlotsMeetingsAndRecurringAvailabilities(
+            UUID userId, List<TimeSlot> slots, List<Meeting> meetings,
+            List<RecurringAvailability> recurringAvailabilities) {
+        Calendar calendar = createWithSlotsAndRecurringAvailabilities(userId, slots, recurringAvailabilities);
+        calendar.meetings.addAll(meetings);
+        return calendar;
+    }
+
     public UUID getOwnerId() {
         return ownerId;
     }
 
     public TimeSlot addTimeSlot(Instant start, int durationMinutes) {
-        UUID id = UUID.randomUUID();
+        UUID id = IdGenerators.INSTANCE.nextId();
         TimeSlot candidate = TimeSlot.create(id, start, durationMinutes);
         addTimeSlotInternal(candidate, true);
         return candidate;
     }
 
+    public RecurringAvailability addRecurringAvailability(RecurrenceRule rule) {
+        RecurringAvailability candidate = RecurringAvailability.create(ownerId, rule);
+        for (TimeSlot slot : slotsByStart) {
+            candidate.occurrencesOverlapping(slot.getRange().start(), slot.getRange().end())
+                    .findFirst()
+                    .ifPresent(occurrence -> {
+                        throw new TimeSlotCollisionException(
+                                "recurring availability overlaps an existing slot: " + slot.getId());
+                    });
+        }
+        for (RecurringAvailability existing : recurringAvailabilities) {
+            validateNoRecurrenceOverlap(candidate, existing);
+        }
+        recurringAvailabilities.add(candidate);
+        return candidate;
+    }
+
     private void addTimeSlotInternal(TimeSlot slot, boolean shouldValidateOverlap) {
         Objects.requireNonNull(slot, "slot must not be null");
         Objects.requireNonNull(slot.getId(), "slot id must not be null");
@@ -79,6 +129,9 @@ public class Calendar extends AggregateRoot {
 
     public void updateTimeSlot(UUID slotId, Instant start, int durationMinutes) {
         TimeSlot slot = findSlotOrThrow(slotId);
+        if (isSlotAssignedToMeeting(slotId)) {
+            throw new SlotAssignedToMeetingException("time slot is used by a meeting and cannot be moved");
+        }
         slotsByStart.remove(slot);
         try {
             TimeSlot candidate = TimeSlot.create(slotId, start, durationMinutes);
@@ -91,8 +144,7 @@ public class Calendar extends AggregateRoot {
 
     public void deleteTimeSlot(UUID slotId) {
         Objects.requireNonNull(slotId, "slotId must not be null");
-        boolean isSlotAssignedToMeeting = meetings.stream().anyMatch(m -> m.getSlotId().equals(slotId));
-        if (isSlotAssignedToMeeting) {
+        if (isSlotAssignedToMeeting(slotId)) {
             throw new SlotAssignedToMeetingException("time slot is used by a meeting and cannot be deleted");
         }
         TimeSlot removed = slots.remove(slotId);
@@ -130,9 +182,46 @@ public class Calendar extends AggregateRoot {
         this.ownerId = Objects.requireNonNull(ownerId, "ownerId must not be null");
     }
 
+    private boolean isSlotAssignedToMeeting(UUID slotId) {
+        return meetings.stream().anyMatch(m -> m.getSlotId().equals(slotId));
+    }
+
     private void validateNoOverlap(TimeSlot candidate, UUID ignoreSlotId) {
         checkNeighbor(candidate, ignoreSlotId, slotsByStart.floor(candidate));
         checkNeighbor(candidate, ignoreSlotId, slotsByStart.ceiling(candidate));
+        for (RecurringAvailability recurring : recurringAvailabilities) {
+            checkOccurrences(candidate, ignoreSlotId, recurring);
+        }
+    }
+
+    private void checkOccurrences(TimeSlot candidate, UUID ignoreSlotId, RecurringAvailability recurring) {
+        // booked occurrences are stored slots under the same id and were checked as neighbors
+        recurring.occurrencesOverlapping(candidate.getRange().start(), candidate.getRange().end())
+                .filter(occurrence -> !slots.containsKey(occurrence.getId()))
+                .filter(occurrence -> !Objects.equals(occurrence.getId(), ignoreSlotId))
+                .findFirst()
+                .ifPresent(occurrence -> {
+                    throw new TimeSlotCollisionException(
+                            "time slot overlaps recurring availability: " + recurring.getId());
+                });
+    }
+
+    private void validateNoRecurrenceOverlap(RecurringAvailability candidate, RecurringAvailability existing) {
+        Instant from = latest(candidate.getRule().firstPossibleStart(), existing.getRule().firstPossibleStart())
+                .minus(Duration.ofDays(1));
+        Instant to = from.plus(RECURRENCE_COLLISION_HORIZON);
+        candidate.occurrencesOverlapping(from, to)
+                .filter(occurrence -> existing.occurrencesOverlapping(
+                        occurrence.getRange().start(), occurrence.getRange().end()).findAny().isPresent())
+                .findFirst()
+                .ifPresent(occurrence -> {
+                    throw new TimeSlotCollisionException(
+                            "recurring availability overlaps recurring availability: " + existing.getId());
+                });
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
     }
 
     private void checkNeighbor(TimeSlot candidate, UUID ignoreSlotId, TimeSlot neighbor) {
@@ -0,0 +1,24 @@
+package com.doodle.scheduler.application.domain.calendar.model.audit;
+
+import com.doodle.scheduler.application.domain.common.events.TimeSlotCreatedEvent;
+import com.doodle.scheduler.application.domain.common.events.TimeSlotDeletedEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One line of the audit trail: what happened to which time slot of which owner, and when.
+ */
+public record TimeSlotAuditEntry(String eventType, UUID timeSlotId, UUID ownerId, Instant occurredAt) {
+
+    public static final String CREATED = "TIME_SLOT_CREATED";
+    public static final String DELETED = "TIME_SLOT_DELETED";
+
+    public static TimeSlotAuditEntry of(TimeSlotCreatedEvent event) {
+        return new TimeSlotAuditEntry(CREATED, event.timeSlot().getId(), event.timeSlot().getOwnerId(), event.timestamp());
+    }
+
+    public static TimeSlotAuditEntry of(TimeSlotDeletedEvent event) {
+        return new TimeSlotAuditEntry(DELETED, event.timeSlotId(), event.ownerId(), event.timestamp());
+    }
+}
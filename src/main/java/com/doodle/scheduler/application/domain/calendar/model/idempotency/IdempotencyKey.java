@@ -0,0 +1,7 @@
+package com.doodle.scheduler.application.domain.calendar.model.idempotency;
+
+/**
+ * A client-chosen {@code Idempotency-Key}, scoped to the user who sent it: two users may pick the same key.
+ */
+public record IdempotencyKey(String username, String value) {
+}
@@ -0,0 +1,16 @@
+package com.doodle.scheduler.application.domain.calendar.model.idempotency;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+
+import java.time.Instant;
+
+/**
+ * What a write sent with an idempotency key did: the request it was sent with and the time slot it
+ * returned. {@code result} is null for writes that return nothing, such as a delete.
+ */
+public record IdempotencyRecord(String requestFingerprint, TimeSlot result, Instant createdAt) {
+
+    public boolean matches(String requestFingerprint) {
+        return this.requestFingerprint.equals(requestFingerprint);
+    }
+}
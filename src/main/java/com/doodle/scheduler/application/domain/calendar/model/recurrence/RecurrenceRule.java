@@ -0,0 +1,196 @@
+package com.doodle.scheduler.application.domain.calendar.model.recurrence;
+
+import com.doodle.scheduler.application.domain.calendar.exception.InvalidRecurrenceRuleException;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeRange;
+import com.doodle.scheduler.application.domain.common.model.ValueObject;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Weekly recurrence in the spirit of {@code RRULE:FREQ=WEEKLY;BYDAY=...}: one occurrence of
+ * {@code durationMinutes} at {@code startTime} local time on each of {@code daysOfWeek}, from
+ * {@code validFrom} to {@code validUntil} inclusive (open-ended when null).
+ *
+ * <p>Occurrences are never stored; they are computed for the window a caller asks about. The
+ * wall-clock start is kept across DST changes, so the UTC start moves with the zone's offset.
+ */
+public record RecurrenceRule(
+        Set<DayOfWeek> daysOfWeek,
+        LocalTime startTime,
+        int durationMinutes,
+        ZoneId zone,
+        LocalDate validFrom,
+        LocalDate validUntil
+) implements ValueObject {
+
+    private static final int MAX_DURATION_MINUTES = 24 * 60;
+
+    /**
+     * Public API
+     */
+    public RecurrenceRule {
+        Objects.requireNonNull(daysOfWeek, "daysOfWeek must not be null");
+        Objects.requireNonNull(startTime, "startTime must not be null");
+        Objects.requireNonNull(zone, "zone must not be null");
+        Objects.requireNonNull(validFrom, "validFrom must not be null");
+        if (daysOfWeek.isEmpty()) throw new InvalidRecurrenceRuleException("daysOfWeek must not be empty");
+        if (durationMinutes <= 0 || durationMinutes > MAX_DURATION_MINUTES) {
+            throw new InvalidRecurrenceRuleException("durationMinutes must be between 1 and " + MAX_DURATION_MINUTES);
+        }
+        if (validUntil != null && validUntil.isBefore(validFrom)) {
+            throw new InvalidRecurrenceRuleException("validUntil must not be before validFrom");
+        }
+        daysOfWeek = Collections.unmodifiableSet(EnumSet.copyOf(daysOfWeek));
+    }
+
+    /**
+     * Lazily yields, in start order, the occurrences that overlap {@code [from, to)}. Expansion walks
+     * one local day at a time and starts a day before {@code from}, since an occurrence is at most
+     * 24 hours long and may begin the previous day.
+     */
+    public Stream<TimeRange> occurrencesOverlapping(Instant from, Instant to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+        LocalDate firstDay = latest(validFrom, from.atZone(zone).toLocalDate().minusDays(1));
+        LocalDate lastDay = to.atZone(zone).toLocalDate();
+        if (validUntil != null && validUntil.isBefore(lastDay)) {
+            lastDay = validUntil;
+        }
+        if (firstDay.isAfter(lastDay)) {
+            return Stream.empty();
+        }
+        return firstDay.datesUntil(lastDay.plusDays(1))
+                .filter(day -> daysOfWeek.contains(day.getDayOfWeek()))
+                .map(this::occurrenceOn)
+                .filter(occurrence -> occurrence.start().isBefore(to) && occurrence.end().isAfter(from));
+    }
+
+    /**
+     * Lazily yields, in start order, the occurrences that start at or after {@code from} and end at or
+     * before {@code to}.
+     */
+    public Stream<TimeRange> occurrencesWithin(Instant from, Instant to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+        Instant lastStart = to.minus(durationMinutes, ChronoUnit.MINUTES);
+        if (lastStart.isBefore(from)) {
+            return Stream.empty();
+        }
+        LocalDate firstDay = latest(validFrom, from.atZone(zone).toLocalDate());
+        LocalDate lastDay = lastStart.atZone(zone).toLocalDate();
+        if (validUntil != null && validUntil.isBefore(lastDay)) {
+            lastDay = validUntil;
+        }
+        if (firstDay.isAfter(lastDay)) {
+            return Stream.empty();
+        }
+        return firstDay.datesUntil(lastDay.plusDays(1))
+                .filter(day -> daysOfWeek.contains(day.getDayOfWeek()))
+                .map(this::occurrenceOn)
+                .filter(occurrence -> startsBetween(occurrence, from, lastStart));
+    }
+
+    /**
+     * Counts {@link #occurrencesWithin(Instant, Instant)} without expanding them. An occurrence starts on
+     * the local day it belongs to, so only the first and the last day need their start compared with
+     * the bounds; the days in between are counted per whole week.
+     */
+    public long countOccurrencesWithin(Instant from, Instant to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+        Instant lastStart = to.minus(durationMinutes, ChronoUnit.MINUTES);
+        if (lastStart.isBefore(from)) {
+            return 0;
+        }
+        LocalDate firstDay = from.atZone(zone).toLocalDate();
+        LocalDate lastDay = lastStart.atZone(zone).toLocalDate();
+        long count = startsBetweenOn(firstDay, from, lastStart) ? 1 : 0;
+        if (lastDay.isAfter(firstDay)) {
+            count += countDays(firstDay.plusDays(1), lastDay.minusDays(1));
+            count += startsBetweenOn(lastDay, from, lastStart) ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * The occurrence that starts exactly at {@code start}, if the rule has one.
+     */
+    public Optional<TimeRange> occurrenceStartingAt(Instant start) {
+        LocalDate day = start.atZone(zone).toLocalDate();
+        if (day.isBefore(validFrom) || (validUntil != null && day.isAfter(validUntil))) {
+            return Optional.empty();
+        }
+        if (!daysOfWeek.contains(day.getDayOfWeek())) {
+            return Optional.empty();
+        }
+        TimeRange occurrence = occurrenceOn(day);
+        return occurrence.start().equals(start) ? Optional.of(occurrence) : Optional.empty();
+    }
+
+    /**
+     * The earliest instant an occurrence can start.
+     */
+    public Instant firstPossibleStart() {
+        return validFrom.atStartOfDay(zone).toInstant();
+    }
+
+    /**
+     * Private methods
+     */
+    private TimeRange occurrenceOn(LocalDate day) {
+        Instant start = ZonedDateTime.of(day, startTime, zone).toInstant();
+        return TimeRange.of(start, durationMinutes);
+    }
+
+    private boolean isActiveOn(LocalDate day) {
+        return !day.isBefore(validFrom)
+                && (validUntil == null || !day.isAfter(validUntil))
+                && daysOfWeek.contains(day.getDayOfWeek());
+    }
+
+    private boolean startsBetweenOn(LocalDate day, Instant from, Instant lastStart) {
+        return isActiveOn(day) && startsBetween(occurrenceOn(day), from, lastStart);
+    }
+
+    private static boolean startsBetween(TimeRange occurrence, Instant from, Instant lastStart) {
+        return !occurrence.start().isBefore(from) && !occurrence.start().isAfter(lastStart);
+    }
+
+    /**
+     * Active days in {@code [first, last]}: whole weeks hold every rule day once, and the remaining
+     * days repeat the weekdays the range starts with.
+     */
+    private long countDays(LocalDate first, LocalDate last) {
+        first = latest(validFrom, first);
+        if (validUntil != null && validUntil.isBefore(last)) {
+            last = validUntil;
+        }
+        if (first.isAfter(last)) {
+            return 0;
+        }
+        long days = ChronoUnit.DAYS.between(first, last) + 1;
+        long count = days / 7 * daysOfWeek.size();
+        for (int i = 0; i < days % 7; i++) {
+            if (daysOfWeek.contains(first.getDayOfWeek().plus(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static LocalDate latest(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
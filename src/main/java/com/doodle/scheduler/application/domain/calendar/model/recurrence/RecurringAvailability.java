@@ -0,0 +1,125 @@
+package com.doodle.scheduler.application.domain.calendar.model.recurrence;
+
+import com.doodle.scheduler.application.domain.calendar.model.Calendar;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeRange;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.common.model.Entity;
+import com.doodle.scheduler.application.domain.common.model.IdGenerators;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * A user's standing availability, stored as one {@link RecurrenceRule} instead of one row per slot.
+ *
+ * <p>Each occurrence is exposed as an AVAILABLE {@link TimeSlot} whose id is derived from the rule
+ * id and the occurrence start (a version 8 UUID: rule fingerprint in the high bits, start epoch
+ * second in the low bits). The id is stable across expansions, so a client can book an occurrence
+ * it found in a search, and the id can be mapped back to its occurrence without any lookup table.
+ * An occurrence is only written to {@code time_slots} once it is booked; from then on the stored
+ * row, with the same id, takes its place.
+ */
+public class RecurringAvailability extends Entity {
+
+    private static final long VERSION_MASK = 0xF000L;
+    private static final long VERSION_8 = 0x8000L;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+    private static final long START_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    /**
+     * Attributes
+     */
+    private final UUID ownerId;
+    private final RecurrenceRule rule;
+    private Calendar ownerCalendar;
+
+    /**
+     * Public API
+     */
+    public static RecurringAvailability create(UUID ownerId, RecurrenceRule rule) {
+        return new RecurringAvailability(IdGenerators.INSTANCE.nextId(), ownerId, rule);
+    }
+
+    public static RecurringAvailability reconstitute(UUID id, UUID ownerId, RecurrenceRule rule) {
+        Objects.requireNonNull(id, "id must not be null");
+        return new RecurringAvailability(id, ownerId, rule);
+    }
+
+    /**
+     * Whether {@code timeSlotId} has the layout of an occurrence id; cheap pre-check before loading rules.
+     */
+    public static boolean isOccurrenceId(UUID timeSlotId) {
+        return timeSlotId.version() == 8 && timeSlotId.variant() == 2;
+    }
+
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public RecurrenceRule getRule() {
+        return rule;
+    }
+
+    /**
+     * Lazily yields the occurrences overlapping {@code [from, to)} as AVAILABLE time slots, in start order.
+     */
+    public Stream<TimeSlot> occurrencesOverlapping(Instant from, Instant to) {
+        return rule.occurrencesOverlapping(from, to).map(this::toTimeSlot);
+    }
+
+    /**
+     * Lazily yields the occurrences inside {@code [from, to]} as AVAILABLE time slots, in start order.
+     */
+    public Stream<TimeSlot> occurrencesWithin(Instant from, Instant to) {
+        return rule.occurrencesWithin(from, to).map(this::toTimeSlot);
+    }
+
+    /**
+     * Resolves an occurrence id produced by this rule back to its time slot.
+     */
+    public Optional<TimeSlot> findOccurrence(UUID timeSlotId) {
+        if (!isOccurrenceId(timeSlotId) || timeSlotId.getMostSignificantBits() != occurrenceIdHighBits()) {
+            return Optional.empty();
+        }
+        Instant start = Instant.ofEpochSecond(timeSlotId.getLeastSignificantBits() & START_MASK);
+        return rule.occurrenceStartingAt(start).map(this::toTimeSlot);
+    }
+
+    public UUID occurrenceId(Instant start) {
+        return new UUID(occurrenceIdHighBits(), VARIANT_RFC | (start.getEpochSecond() & START_MASK));
+    }
+
+    /**
+     * Private methods / constructors
+     */
+    private RecurringAvailability(UUID id, UUID ownerId, RecurrenceRule rule) {
+        super(id);
+        this.ownerId = Objects.requireNonNull(ownerId, "ownerId must not be null");
+        this.rule = Objects.requireNonNull(rule, "rule must not be null");
+    }
+
+    private long occurrenceIdHighBits() {
+        long fingerprint = getId().getMostSignificantBits() ^ getId().getLeastSignificantBits();
+        return (fingerprint & ~VERSION_MASK) | VERSION_8;
+    }
+
+    private TimeSlot toTimeSlot(TimeRange occurrence) {
+        TimeSlot slot = TimeSlot.create(occurrenceId(occurrence.start()), occurrence.start(), rule.durationMinutes());
+        slot.setCalendar(ownerCalendar());
+        return slot;
+    }
+
+    /**
+     * Occurrences only need their owner from the calendar, so all of them share one instead of
+     * creating a calendar per occurrence.
+     */
+    private Calendar ownerCalendar() {
+        if (ownerCalendar == null) {
+            ownerCalendar = Calendar.create(ownerId);
+        }
+        return ownerCalendar;
+    }
+}
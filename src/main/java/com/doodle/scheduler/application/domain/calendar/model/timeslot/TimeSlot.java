@@ -16,6 +16,7 @@ public class TimeSlot extends Entity {
     private TimeRange range;
     private SlotState state;
     private Calendar calendar;
+    private Long version;
 
     /**
      * Public API
@@ -26,7 +27,7 @@ public class TimeSlot extends Entity {
         return new TimeSlot(id, range, AvailableState.INSTANCE);
     }
 
-    public static TimeSlot reconstitute(UUID id, UUID ownerId, Instant start, int durationMinutes, String stateString) {
+    public static TimeSlot reconstitute(UUID id, UUID ownerId, Instant start, int durationMinutes, String stateString, long version) {
         Objects.requireNonNull(id, "id must not be null");
         Objects.requireNonNull(ownerId, "ownerId must not be null");
         Objects.requireNonNull(stateString, "stateString must not be null");
@@ -37,6 +38,7 @@ public class TimeSlot extends Entity {
 
         TimeSlot timeSlot = new TimeSlot(id, range, state);
         timeSlot.setCalendar(calendar);
+        timeSlot.version = version;
         return timeSlot;
     }
 
@@ -52,6 +54,13 @@ public class TimeSlot extends Entity {
         return state.getStateString();
     }
 
+    /**
+     * Optimistic concurrency version of the persisted slot; null until the slot has been stored.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
     public Calendar getCalendar() {
         return calendar;
     }
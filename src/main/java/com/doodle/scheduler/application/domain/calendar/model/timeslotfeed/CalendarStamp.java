@@ -0,0 +1,15 @@
+package com.doodle.scheduler.application.domain.calendar.model.timeslotfeed;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The owner's calendar version together with the instant it last changed; identifies one state of the
+ * calendar for conditional reads.
+ */
+public record CalendarStamp(
+        UUID ownerId,
+        long version,
+        Instant updatedAt
+) {
+}
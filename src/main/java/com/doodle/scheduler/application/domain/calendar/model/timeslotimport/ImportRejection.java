@@ -0,0 +1,4 @@
+package com.doodle.scheduler.application.domain.calendar.model.timeslotimport;
+
+public record ImportRejection(long lineNumber, String reason) {
+}
@@ -0,0 +1,22 @@
+package com.doodle.scheduler.application.domain.calendar.model.timeslotimport;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * An interval seen by the overlap sweep: either a staged import row ({@code lineNumber} set) or a
+ * slot already stored for the same owner ({@code lineNumber} null). {@code ownerId} is null for a
+ * staged row whose username matches no user.
+ */
+public record ImportSweepEntry(
+        UUID ownerId,
+        String username,
+        Long lineNumber,
+        UUID slotId,
+        Instant start,
+        Instant end
+) {
+    public boolean isStaged() {
+        return lineNumber != null;
+    }
+}
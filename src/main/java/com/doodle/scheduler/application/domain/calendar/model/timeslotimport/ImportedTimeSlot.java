@@ -0,0 +1,28 @@
+package com.doodle.scheduler.application.domain.calendar.model.timeslotimport;
+
+import java.time.Instant;
+
+/**
+ * One row of an import file as the parser read it. A row the parser could not read carries only its
+ * line number and an {@code error}; it is reported as rejected without reaching the database.
+ */
+public record ImportedTimeSlot(
+        long lineNumber,
+        String username,
+        Instant start,
+        int durationMinutes,
+        String state,
+        String error
+) {
+    public static ImportedTimeSlot of(long lineNumber, String username, Instant start, int durationMinutes, String state) {
+        return new ImportedTimeSlot(lineNumber, username, start, durationMinutes, state, null);
+    }
+
+    public static ImportedTimeSlot malformed(long lineNumber, String error) {
+        return new ImportedTimeSlot(lineNumber, null, null, 0, null, error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+}
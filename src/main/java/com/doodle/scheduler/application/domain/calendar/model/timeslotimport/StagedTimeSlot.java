@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.domain.calendar.model.timeslotimport;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A validated import row on its way into the staging table, already carrying the id it will be
+ * stored under.
+ */
+public record StagedTimeSlot(
+        long lineNumber,
+        UUID id,
+        String username,
+        Instant start,
+        Instant end,
+        int durationMinutes,
+        String state
+) {
+}
@@ -0,0 +1,10 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate;
+
+import java.util.UUID;
+
+public record ChangeTimeSlotStateCommand(
+        String username,
+        UUID timeSlotId,
+        String state
+) {
+}
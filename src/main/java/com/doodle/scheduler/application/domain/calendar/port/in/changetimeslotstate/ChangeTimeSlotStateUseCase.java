@@ -0,0 +1,7 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+
+public interface ChangeTimeSlotStateUseCase {
+    TimeSlot execute(ChangeTimeSlotStateCommand command);
+}
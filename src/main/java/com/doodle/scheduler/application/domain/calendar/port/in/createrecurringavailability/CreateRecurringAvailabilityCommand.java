@@ -0,0 +1,18 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Set;
+
+public record CreateRecurringAvailabilityCommand(
+        String username,
+        Set<DayOfWeek> daysOfWeek,
+        LocalTime startTime,
+        int durationMinutes,
+        ZoneId zone,
+        LocalDate validFrom,
+        LocalDate validUntil
+) {
+}
@@ -0,0 +1,7 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+
+public interface CreateRecurringAvailabilityUseCase {
+    RecurringAvailability execute(CreateRecurringAvailabilityCommand command);
+}
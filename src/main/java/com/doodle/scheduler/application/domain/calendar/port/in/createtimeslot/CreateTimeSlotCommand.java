@@ -2,9 +2,16 @@ package com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot;
 
 import java.time.Instant;
 
+/**
+ * {@code idempotencyKey} is null when the client did not send one.
+ */
 public record CreateTimeSlotCommand(
         String username,
         Instant start,
-        int durationMinutes
+        int durationMinutes,
+        String idempotencyKey
 ) {
+    public CreateTimeSlotCommand(String username, Instant start, int durationMinutes) {
+        this(username, start, durationMinutes, null);
+    }
 }
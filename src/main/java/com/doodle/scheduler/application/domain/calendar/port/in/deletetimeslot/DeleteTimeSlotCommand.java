@@ -2,8 +2,15 @@ package com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot;
 
 import java.util.UUID;
 
+/**
+ * {@code idempotencyKey} is null when the client did not send one.
+ */
 public record DeleteTimeSlotCommand(
         String username,
-        UUID timeSlotId
+        UUID timeSlotId,
+        String idempotencyKey
 ) {
+    public DeleteTimeSlotCommand(String username, UUID timeSlotId) {
+        this(username, timeSlotId, null);
+    }
 }
@@ -0,0 +1,13 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed;
+
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.WriteTimeSlotFeedPort;
+
+/**
+ * @param username owner of the calendar to export
+ * @param feed     receives the calendar while it is read; supplied by the caller for this one export
+ */
+public record ExportTimeSlotFeedCommand(
+        String username,
+        WriteTimeSlotFeedPort feed
+) {
+}
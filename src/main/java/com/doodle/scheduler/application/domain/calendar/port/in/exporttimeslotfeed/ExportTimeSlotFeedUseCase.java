@@ -0,0 +1,8 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed;
+
+/**
+ * Writes the owner's whole calendar to a feed, one entry at a time, without collecting it first.
+ */
+public interface ExportTimeSlotFeedUseCase {
+    void execute(ExportTimeSlotFeedCommand command);
+}
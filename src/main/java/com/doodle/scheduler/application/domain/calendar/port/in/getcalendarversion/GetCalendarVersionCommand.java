@@ -0,0 +1,6 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion;
+
+public record GetCalendarVersionCommand(
+        String username
+) {
+}
@@ -0,0 +1,8 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion;
+
+/**
+ * Returns the owner's calendar version, a counter that changes on every write to the calendar.
+ */
+public interface GetCalendarVersionUseCase {
+    long execute(GetCalendarVersionCommand command);
+}
@@ -0,0 +1,15 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportedTimeSlot;
+
+import java.util.stream.Stream;
+
+/**
+ * @param source label of the import (e.g. the file format) used in logs
+ * @param rows   lazily parsed rows; consumed exactly once by the use case
+ */
+public record ImportTimeSlotsCommand(
+        String source,
+        Stream<ImportedTimeSlot> rows
+) {
+}
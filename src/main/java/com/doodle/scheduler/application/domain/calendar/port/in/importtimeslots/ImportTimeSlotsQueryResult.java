@@ -0,0 +1,27 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportRejection;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @param rejections the first rejected rows found, ordered by line; {@code rejected} counts all of them
+ * @param owners     usernames of the owners whose calendars the import may have changed
+ */
+public record ImportTimeSlotsQueryResult(
+        UUID importId,
+        long rowsRead,
+        long imported,
+        long rejected,
+        List<ImportRejection> rejections,
+        Set<String> owners,
+        Duration elapsed
+) {
+    public long rowsPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? rowsRead : rowsRead * 1000 / millis;
+    }
+}
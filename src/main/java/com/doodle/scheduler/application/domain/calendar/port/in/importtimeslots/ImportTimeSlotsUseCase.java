@@ -0,0 +1,5 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots;
+
+public interface ImportTimeSlotsUseCase {
+    ImportTimeSlotsQueryResult execute(ImportTimeSlotsCommand command);
+}
@@ -0,0 +1,11 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots;
+
+import java.time.Instant;
+
+public record StreamTimeSlotsCommand(
+        String username,
+        String status,
+        Instant startTime,
+        Instant endTime
+) {
+}
@@ -0,0 +1,9 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+
+import java.util.concurrent.Flow;
+
+public interface StreamTimeSlotsUseCase {
+    Flow.Publisher<TimeSlot> execute(StreamTimeSlotsCommand command);
+}
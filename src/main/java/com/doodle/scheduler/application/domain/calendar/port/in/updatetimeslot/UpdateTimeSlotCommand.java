@@ -0,0 +1,12 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record UpdateTimeSlotCommand(
+        String username,
+        UUID timeSlotId,
+        Instant start,
+        int durationMinutes
+) {
+}
@@ -0,0 +1,7 @@
+package com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+
+public interface UpdateTimeSlotUseCase {
+    TimeSlot execute(UpdateTimeSlotCommand command);
+}
@@ -0,0 +1,15 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.changetimeslotstate;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.state.SlotState;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ChangeTimeSlotStatePort {
+    /**
+     * Atomically moves a slot owned by the given user from one state to another and returns the stored slot.
+     * Returns empty when no row matched, i.e. the slot is missing, foreign, not in {@code from} or held by a meeting.
+     */
+    Optional<TimeSlot> changeTimeSlotState(UUID timeSlotId, UUID ownerId, SlotState from, SlotState to);
+}
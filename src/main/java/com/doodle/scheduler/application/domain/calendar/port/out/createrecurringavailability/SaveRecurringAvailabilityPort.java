@@ -0,0 +1,7 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.createrecurringavailability;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+
+public interface SaveRecurringAvailabilityPort {
+    RecurringAvailability saveRecurringAvailability(RecurringAvailability recurringAvailability);
+}
@@ -0,0 +1,7 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotfeed.CalendarStamp;
+
+public interface LoadCalendarStampPort {
+    CalendarStamp loadCalendarStampByUsername(String username);
+}
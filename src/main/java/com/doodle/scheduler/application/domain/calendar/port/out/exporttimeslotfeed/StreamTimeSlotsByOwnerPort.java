@@ -0,0 +1,14 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface StreamTimeSlotsByOwnerPort {
+    /**
+     * Streams every stored time slot of the owner in start order, reading rows as the stream is consumed.
+     * The caller closes the stream.
+     */
+    Stream<TimeSlot> streamTimeSlotsByOwnerId(UUID ownerId);
+}
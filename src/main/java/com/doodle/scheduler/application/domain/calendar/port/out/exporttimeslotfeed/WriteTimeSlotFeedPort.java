@@ -0,0 +1,32 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotfeed.CalendarStamp;
+
+/**
+ * Target of a feed export. Entries are handed over while the calendar is being read, so an
+ * implementation should write them on rather than keep them.
+ */
+public interface WriteTimeSlotFeedPort {
+
+    /**
+     * Called once before any entry. Returning false ends the export without reading the calendar,
+     * e.g. when the reader already has this state of the calendar.
+     */
+    boolean begin(CalendarStamp stamp);
+
+    void writeRecurringAvailability(RecurringAvailability recurringAvailability);
+
+    void writeTimeSlot(TimeSlot timeSlot);
+
+    /**
+     * A stored slot that took the place of an occurrence of {@code recurringAvailability} when it was booked.
+     */
+    void writeBookedOccurrence(TimeSlot timeSlot, RecurringAvailability recurringAvailability);
+
+    /**
+     * Called once after the last entry; not called when {@link #begin} returned false.
+     */
+    void end();
+}
@@ -0,0 +1,5 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.getcalendarversion;
+
+public interface LoadCalendarVersionPort {
+    long loadCalendarVersionByUsername(String username);
+}
@@ -0,0 +1,12 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.idempotency;
+
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyKey;
+
+public interface ClaimIdempotencyKeyPort {
+    /**
+     * Records {@code key} in the current transaction unless it is recorded already. Returns false when it
+     * is; a claim of the same key that has not committed yet is waited for first, so at most one of two
+     * concurrent requests with the same key gets to run.
+     */
+    boolean claimIdempotencyKey(IdempotencyKey key, String requestFingerprint);
+}
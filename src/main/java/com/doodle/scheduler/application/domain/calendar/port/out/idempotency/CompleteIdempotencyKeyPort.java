@@ -0,0 +1,9 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.idempotency;
+
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyKey;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+
+public interface CompleteIdempotencyKeyPort {
+
+    void completeIdempotencyKey(IdempotencyKey key, TimeSlot result);
+}
@@ -0,0 +1,11 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.idempotency;
+
+import java.time.Instant;
+
+public interface DeleteExpiredIdempotencyKeysPort {
+    /**
+     * Deletes up to {@code batchSize} keys recorded before {@code createdBefore}, oldest first, and returns
+     * how many were deleted.
+     */
+    int deleteExpiredIdempotencyKeys(Instant createdBefore, int batchSize);
+}
@@ -0,0 +1,11 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.idempotency;
+
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyKey;
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyRecord;
+
+import java.util.Optional;
+
+public interface LoadIdempotencyRecordPort {
+
+    Optional<IdempotencyRecord> loadIdempotencyRecord(IdempotencyKey key);
+}
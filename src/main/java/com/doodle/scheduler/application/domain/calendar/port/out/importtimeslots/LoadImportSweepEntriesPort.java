@@ -0,0 +1,14 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportSweepEntry;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface LoadImportSweepEntriesPort {
+    /**
+     * Streams the staged rows of {@code importId} together with the stored slots of their owners, ordered by
+     * owner and start; a stored slot comes before a staged row with the same start. The caller closes the stream.
+     */
+    Stream<ImportSweepEntry> loadImportSweepEntries(UUID importId);
+}
@@ -0,0 +1,13 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots;
+
+import java.util.UUID;
+
+public interface MergeStagedTimeSlotsPort {
+    /**
+     * Moves the staged rows of {@code importId} that were not rejected into the owners' calendars and
+     * clears the staging area.
+     *
+     * @return number of time slots stored
+     */
+    long mergeStagedTimeSlots(UUID importId);
+}
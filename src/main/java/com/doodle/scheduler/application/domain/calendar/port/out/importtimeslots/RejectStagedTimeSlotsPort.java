@@ -0,0 +1,10 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportRejection;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface RejectStagedTimeSlotsPort {
+    void rejectStagedTimeSlots(UUID importId, List<ImportRejection> rejections);
+}
@@ -0,0 +1,15 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.StagedTimeSlot;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface StageImportedTimeSlotsPort {
+    /**
+     * Writes the rows into the staging area of {@code importId}, consuming the stream as it goes.
+     *
+     * @return number of rows staged
+     */
+    long stageTimeSlots(UUID importId, Stream<StagedTimeSlot> timeSlots);
+}
@@ -0,0 +1,10 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface LoadRecurringAvailabilitiesByUserPort {
+    List<RecurringAvailability> loadRecurringAvailabilitiesByUserId(UUID userId);
+}
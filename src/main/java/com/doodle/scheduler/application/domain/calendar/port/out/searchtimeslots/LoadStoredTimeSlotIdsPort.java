@@ -0,0 +1,12 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots;
+
+import java.util.Set;
+import java.util.UUID;
+
+public interface LoadStoredTimeSlotIdsPort {
+    /**
+     * Returns the ids of the owner's stored time slots inside {@code [fromId, toId]}, comparing ids as
+     * unsigned 128-bit numbers.
+     */
+    Set<UUID> loadStoredTimeSlotIdsBetween(UUID ownerId, UUID fromId, UUID toId);
+}
@@ -7,8 +7,14 @@ import java.util.List;
 import java.util.UUID;
 
 public interface SearchTimeSlotsPort {
-    SearchResult searchTimeSlots(UUID ownerId, String status, Instant startTime, Instant endTime, int page, int size);
+    /**
+     * Reads up to {@code limit} matching slots in start order, skipping the first {@code offset}.
+     */
+    SearchResult searchTimeSlots(UUID ownerId, String status, Instant startTime, Instant endTime, long offset, int limit);
 
+    /**
+     * @param totalElements number of matching slots, regardless of offset and limit
+     */
     record SearchResult(
             List<TimeSlot> timeSlots,
             long totalElements
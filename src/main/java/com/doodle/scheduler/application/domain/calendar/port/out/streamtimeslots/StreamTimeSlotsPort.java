@@ -0,0 +1,14 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.streamtimeslots;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+
+import java.time.Instant;
+import java.util.concurrent.Flow;
+
+/**
+ * Emits the matching time slots of a user in start order, at the pace the subscriber requests them.
+ * The user is resolved by username inside the query, so nothing is read before the first demand.
+ */
+public interface StreamTimeSlotsPort {
+    Flow.Publisher<TimeSlot> streamTimeSlots(String username, String status, Instant startTime, Instant endTime);
+}
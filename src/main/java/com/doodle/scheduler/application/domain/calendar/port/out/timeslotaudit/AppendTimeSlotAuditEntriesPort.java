@@ -0,0 +1,10 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.timeslotaudit;
+
+import com.doodle.scheduler.application.domain.calendar.model.audit.TimeSlotAuditEntry;
+
+import java.util.List;
+
+public interface AppendTimeSlotAuditEntriesPort {
+
+    void appendTimeSlotAuditEntries(List<TimeSlotAuditEntry> entries);
+}
@@ -0,0 +1,15 @@
+package com.doodle.scheduler.application.domain.calendar.port.out.updatetimeslot;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface LoadNeighbouringTimeSlotsPort {
+    /**
+     * Loads the owner's slots that can overlap {@code [start, end)}: the last slot starting before {@code start}
+     * and every slot starting inside the range. The slot being moved is left out.
+     */
+    List<TimeSlot> loadNeighbouringTimeSlots(UUID ownerId, UUID excludedTimeSlotId, Instant start, Instant end);
+}
@@ -0,0 +1,76 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.exception.InvalidSlotStateTransitionException;
+import com.doodle.scheduler.application.domain.calendar.exception.SlotAssignedToMeetingException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.state.AvailableState;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.state.BusyState;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.state.SlotState;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.changetimeslotstate.ChangeTimeSlotStatePort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
+import com.doodle.scheduler.application.domain.common.exception.DomainException;
+import com.doodle.scheduler.application.domain.meeting.port.out.loadmeetings.LoadMeetingsByTimeSlotIdPort;
+import com.doodle.scheduler.application.domain.user.model.User;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+
+import java.util.UUID;
+
+/**
+ * Marks a slot busy or available without a load-modify-save cycle: the transition is a single
+ * conditional update on id, owner, current state and the absence of a meeting, so no lock is held
+ * between statements and concurrent requests are decided by the row lock. The slot is only read
+ * again when nothing matched, to tell which of those conditions failed.
+ */
+public class ChangeTimeSlotStateServiceImpl implements ChangeTimeSlotStateUseCase {
+
+    private final LoadUserByUsernamePort loadUserByUsernamePort;
+    private final LoadTimeSlotByIdPort loadTimeSlotByIdPort;
+    private final LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort;
+    private final ChangeTimeSlotStatePort changeTimeSlotStatePort;
+
+    public ChangeTimeSlotStateServiceImpl(
+            LoadUserByUsernamePort loadUserByUsernamePort,
+            LoadTimeSlotByIdPort loadTimeSlotByIdPort,
+            LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort,
+            ChangeTimeSlotStatePort changeTimeSlotStatePort) {
+        this.loadUserByUsernamePort = loadUserByUsernamePort;
+        this.loadTimeSlotByIdPort = loadTimeSlotByIdPort;
+        this.loadMeetingsByTimeSlotIdPort = loadMeetingsByTimeSlotIdPort;
+        this.changeTimeSlotStatePort = changeTimeSlotStatePort;
+    }
+
+    @Override
+    public TimeSlot execute(ChangeTimeSlotStateCommand command) {
+        User user = loadUserByUsernamePort.loadUserByUsername(command.username());
+        UUID userId = user.getId();
+        SlotState target = SlotState.fromString(command.state());
+        SlotState source = target.isBusy() ? AvailableState.INSTANCE : BusyState.INSTANCE;
+        return changeTimeSlotStatePort.changeTimeSlotState(command.timeSlotId(), userId, source, target)
+                .orElseThrow(() -> transitionFailure(command.timeSlotId(), userId, target));
+    }
+
+    private DomainException transitionFailure(UUID timeSlotId, UUID userId, SlotState target) {
+        TimeSlot slot = loadTimeSlotByIdPort.loadTimeSlotById(timeSlotId)
+                .filter(candidate -> userId.equals(candidate.getOwnerId()))
+                .orElse(null);
+        if (slot == null) {
+            return new TimeSlotNotFoundException("Time slot not found with id: " + timeSlotId);
+        }
+        if (!loadMeetingsByTimeSlotIdPort.loadMeetingsByTimeSlotId(timeSlotId).isEmpty()) {
+            return new SlotAssignedToMeetingException("time slot is used by a meeting and its state cannot be changed");
+        }
+        try {
+            if (target.isBusy()) {
+                slot.markBusy();
+            } else {
+                slot.markAvailable();
+            }
+        } catch (InvalidSlotStateTransitionException e) {
+            return e;
+        }
+        return new InvalidSlotStateTransitionException("time slot state changed concurrently: " + timeSlotId);
+    }
+}
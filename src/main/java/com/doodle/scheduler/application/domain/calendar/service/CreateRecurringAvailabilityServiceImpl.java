@@ -0,0 +1,57 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.model.Calendar;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.createrecurringavailability.SaveRecurringAvailabilityPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotsByUserPort;
+import com.doodle.scheduler.application.domain.common.events.Publisher;
+import com.doodle.scheduler.application.domain.common.events.RecurringAvailabilityCreatedEvent;
+import com.doodle.scheduler.application.domain.user.model.User;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class CreateRecurringAvailabilityServiceImpl implements CreateRecurringAvailabilityUseCase {
+
+    private final LoadUserByUsernamePort loadUserByUsernamePort;
+    private final LoadTimeSlotsByUserPort loadTimeSlotsByUserPort;
+    private final LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+    private final SaveRecurringAvailabilityPort saveRecurringAvailabilityPort;
+
+    public CreateRecurringAvailabilityServiceImpl(
+            LoadUserByUsernamePort loadUserByUsernamePort,
+            LoadTimeSlotsByUserPort loadTimeSlotsByUserPort,
+            LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+            SaveRecurringAvailabilityPort saveRecurringAvailabilityPort) {
+        this.loadUserByUsernamePort = loadUserByUsernamePort;
+        this.loadTimeSlotsByUserPort = loadTimeSlotsByUserPort;
+        this.loadRecurringAvailabilitiesByUserPort = loadRecurringAvailabilitiesByUserPort;
+        this.saveRecurringAvailabilityPort = saveRecurringAvailabilityPort;
+    }
+
+    @Override
+    public RecurringAvailability execute(CreateRecurringAvailabilityCommand command) {
+        User user = loadUserByUsernamePort.loadUserByUsername(command.username());
+        UUID userId = user.getId();
+        Calendar calendar = Calendar.createWithSlotsAndRecurringAvailabilities(
+                userId,
+                loadTimeSlotsByUserPort.loadTimeSlotsByUserId(userId),
+                loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(userId));
+        RecurrenceRule rule = new RecurrenceRule(
+                command.daysOfWeek(),
+                command.startTime(),
+                command.durationMinutes(),
+                command.zone(),
+                command.validFrom(),
+                command.validUntil());
+        RecurringAvailability created = calendar.addRecurringAvailability(rule);
+        RecurringAvailability saved = saveRecurringAvailabilityPort.saveRecurringAvailability(created);
+        Publisher.INSTANCE.notifyObservers(new RecurringAvailabilityCreatedEvent(saved, Instant.now()));
+        return saved;
+    }
+}
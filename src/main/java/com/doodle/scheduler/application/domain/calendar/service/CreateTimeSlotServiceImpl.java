@@ -4,6 +4,7 @@ import com.doodle.scheduler.application.domain.calendar.model.Calendar;
 import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
 import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotCommand;
 import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
 import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotsByUserPort;
 import com.doodle.scheduler.application.domain.calendar.port.out.createtimeslot.SaveTimeSlotPort;
 import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
@@ -19,11 +20,14 @@ public class CreateTimeSlotServiceImpl implements CreateTimeSlotUseCase {
 
     private final LoadUserByUsernamePort loadUserByUsernamePort;
     private final LoadTimeSlotsByUserPort loadTimeSlotsByUserPort;
+    private final LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
     private final SaveTimeSlotPort saveTimeSlotPort;
 
-    public CreateTimeSlotServiceImpl(LoadUserByUsernamePort loadUserByUsernamePort, LoadTimeSlotsByUserPort loadTimeSlotsByUserPort, SaveTimeSlotPort saveTimeSlotPort) {
+    public CreateTimeSlotServiceImpl(LoadUserByUsernamePort loadUserByUsernamePort, LoadTimeSlotsByUserPort loadTimeSlotsByUserPort,
+                                     LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort, SaveTimeSlotPort saveTimeSlotPort) {
         this.loadUserByUsernamePort = loadUserByUsernamePort;
         this.loadTimeSlotsByUserPort = loadTimeSlotsByUserPort;
+        this.loadRecurringAvailabilitiesByUserPort = loadRecurringAvailabilitiesByUserPort;
         this.saveTimeSlotPort = saveTimeSlotPort;
     }
 
@@ -32,7 +36,8 @@ public class CreateTimeSlotServiceImpl implements CreateTimeSlotUseCase {
         User user = loadUserByUsernamePort.loadUserByUsername(command.username());
         UUID userId = user.getId();
         List<TimeSlot> existingSlots = loadTimeSlotsByUserPort.loadTimeSlotsByUserId(userId);
-        Calendar calendar = Calendar.createWithSlots(userId, existingSlots);
+        Calendar calendar = Calendar.createWithSlotsAndRecurringAvailabilities(
+                userId, existingSlots, loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(userId));
         TimeSlot newSlot = calendar.addTimeSlot(command.start(), command.durationMinutes());
         TimeSlot savedSlot = saveTimeSlotPort.saveTimeSlot(newSlot);
         Publisher.INSTANCE.notifyObservers(new TimeSlotCreatedEvent(savedSlot, Instant.now()));
@@ -9,6 +9,8 @@ import com.doodle.scheduler.application.domain.calendar.port.out.deletetimeslot.
 import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
 import com.doodle.scheduler.application.domain.common.events.Publisher;
 import com.doodle.scheduler.application.domain.common.events.TimeSlotDeletedEvent;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.port.out.loadmeetings.LoadMeetingsByTimeSlotIdPort;
 import com.doodle.scheduler.application.domain.user.model.User;
 import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
 
@@ -20,14 +22,17 @@ public class DeleteTimeSlotServiceImpl implements DeleteTimeSlotUseCase {
 
     private final LoadUserByUsernamePort loadUserByUsernamePort;
     private final LoadTimeSlotByIdPort loadTimeSlotByIdPort;
+    private final LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort;
     private final DeleteTimeSlotPort deleteTimeSlotPort;
 
     public DeleteTimeSlotServiceImpl(
             LoadUserByUsernamePort loadUserByUsernamePort,
             LoadTimeSlotByIdPort loadTimeSlotByIdPort,
+            LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort,
             DeleteTimeSlotPort deleteTimeSlotPort) {
         this.loadUserByUsernamePort = loadUserByUsernamePort;
         this.loadTimeSlotByIdPort = loadTimeSlotByIdPort;
+        this.loadMeetingsByTimeSlotIdPort = loadMeetingsByTimeSlotIdPort;
         this.deleteTimeSlotPort = deleteTimeSlotPort;
     }
 
@@ -42,7 +47,8 @@ public class DeleteTimeSlotServiceImpl implements DeleteTimeSlotUseCase {
             throw new TimeSlotNotFoundException(
                     "Time slot not found with id: " + command.timeSlotId());
         }
-        Calendar calendar = Calendar.createWithSlots(userId, List.of(timeSlot));
+        List<Meeting> meetings = loadMeetingsByTimeSlotIdPort.loadMeetingsByTimeSlotId(command.timeSlotId());
+        Calendar calendar = Calendar.createWithSlotsAndMeetings(userId, List.of(timeSlot), meetings);
         calendar.deleteTimeSlot(command.timeSlotId());
         deleteTimeSlotPort.deleteTimeSlot(command.timeSlotId());
         Publisher.INSTANCE.notifyObservers(
@@ -0,0 +1,68 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotfeed.CalendarStamp;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.LoadCalendarStampPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.StreamTimeSlotsByOwnerPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.WriteTimeSlotFeedPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Exports a calendar as a feed: recurring availability is written as rules rather than expanded, and
+ * stored slots follow straight from the database cursor. A stored slot carrying an occurrence id is
+ * written as the booked replacement of that occurrence, so feed readers do not see it twice.
+ *
+ * <p>The calendar stamp is read first and handed to the feed, which may stop the export before the
+ * calendar itself is read.
+ */
+public class ExportTimeSlotFeedServiceImpl implements ExportTimeSlotFeedUseCase {
+
+    private final LoadCalendarStampPort loadCalendarStampPort;
+    private final LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+    private final StreamTimeSlotsByOwnerPort streamTimeSlotsByOwnerPort;
+
+    public ExportTimeSlotFeedServiceImpl(LoadCalendarStampPort loadCalendarStampPort,
+                                         LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+                                         StreamTimeSlotsByOwnerPort streamTimeSlotsByOwnerPort) {
+        this.loadCalendarStampPort = loadCalendarStampPort;
+        this.loadRecurringAvailabilitiesByUserPort = loadRecurringAvailabilitiesByUserPort;
+        this.streamTimeSlotsByOwnerPort = streamTimeSlotsByOwnerPort;
+    }
+
+    @Override
+    public void execute(ExportTimeSlotFeedCommand command) {
+        WriteTimeSlotFeedPort feed = command.feed();
+        CalendarStamp stamp = loadCalendarStampPort.loadCalendarStampByUsername(command.username());
+        if (!feed.begin(stamp)) {
+            return;
+        }
+
+        List<RecurringAvailability> recurringAvailabilities =
+                loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(stamp.ownerId());
+        recurringAvailabilities.forEach(feed::writeRecurringAvailability);
+
+        try (Stream<TimeSlot> timeSlots = streamTimeSlotsByOwnerPort.streamTimeSlotsByOwnerId(stamp.ownerId())) {
+            timeSlots.forEach(timeSlot -> write(feed, timeSlot, recurringAvailabilities));
+        }
+        feed.end();
+    }
+
+    private static void write(WriteTimeSlotFeedPort feed, TimeSlot timeSlot,
+                              List<RecurringAvailability> recurringAvailabilities) {
+        if (RecurringAvailability.isOccurrenceId(timeSlot.getId())) {
+            for (RecurringAvailability recurring : recurringAvailabilities) {
+                if (recurring.findOccurrence(timeSlot.getId()).isPresent()) {
+                    feed.writeBookedOccurrence(timeSlot, recurring);
+                    return;
+                }
+            }
+        }
+        feed.writeTimeSlot(timeSlot);
+    }
+}
@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.getcalendarversion.LoadCalendarVersionPort;
+
+public class GetCalendarVersionServiceImpl implements GetCalendarVersionUseCase {
+
+    private final LoadCalendarVersionPort loadCalendarVersionPort;
+
+    public GetCalendarVersionServiceImpl(LoadCalendarVersionPort loadCalendarVersionPort) {
+        this.loadCalendarVersionPort = loadCalendarVersionPort;
+    }
+
+    @Override
+    public long execute(GetCalendarVersionCommand command) {
+        return loadCalendarVersionPort.loadCalendarVersionByUsername(command.username());
+    }
+}
@@ -0,0 +1,93 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportRejection;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportSweepEntry;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Overlap check over the entries of one import, fed in owner and start order.
+ *
+ * <p>The intervals kept for an owner never overlap each other, so each new entry only has to be compared
+ * with the last one kept. A staged row that starts before it ends is rejected. A stored slot that starts
+ * inside the last kept staged row rejects that row instead, since stored slots are never displaced by an
+ * import. A row rejected because of a staged row that a stored slot rejects later stays rejected.
+ *
+ * <p>The owners of the staged rows that were kept are collected; a row kept at first may still be
+ * rejected by a later stored slot, so the set can name an owner who ends up without a new slot.
+ */
+final class ImportOverlapSweep {
+
+    private final Function<UUID, List<RecurringAvailability>> loadRecurringAvailabilities;
+    private final Consumer<ImportRejection> rejected;
+    private final Set<String> owners = new HashSet<>();
+
+    private UUID ownerId;
+    private List<RecurringAvailability> recurringAvailabilities;
+    private ImportSweepEntry lastKept;
+
+    ImportOverlapSweep(Function<UUID, List<RecurringAvailability>> loadRecurringAvailabilities,
+                       Consumer<ImportRejection> rejected) {
+        this.loadRecurringAvailabilities = loadRecurringAvailabilities;
+        this.rejected = rejected;
+    }
+
+    void accept(ImportSweepEntry entry) {
+        if (entry.ownerId() == null) {
+            reject(entry, "user not found: " + entry.username());
+            return;
+        }
+        if (!entry.ownerId().equals(ownerId)) {
+            ownerId = entry.ownerId();
+            recurringAvailabilities = null;
+            lastKept = null;
+        }
+        boolean overlapsLastKept = lastKept != null && entry.start().isBefore(lastKept.end());
+
+        if (!entry.isStaged()) {
+            if (overlapsLastKept && lastKept.isStaged()) {
+                reject(lastKept, "time slot overlaps an existing slot: " + entry.slotId());
+                lastKept = entry;
+            } else if (!overlapsLastKept || entry.end().isAfter(lastKept.end())) {
+                lastKept = entry;
+            }
+            return;
+        }
+
+        if (overlapsLastKept) {
+            reject(entry, lastKept.isStaged()
+                    ? "time slot overlaps line " + lastKept.lineNumber() + " of the import"
+                    : "time slot overlaps an existing slot: " + lastKept.slotId());
+            return;
+        }
+        for (RecurringAvailability recurring : recurringAvailabilities()) {
+            if (recurring.occurrencesOverlapping(entry.start(), entry.end()).findAny().isPresent()) {
+                reject(entry, "time slot overlaps recurring availability: " + recurring.getId());
+                return;
+            }
+        }
+        lastKept = entry;
+        owners.add(entry.username());
+    }
+
+    Set<String> owners() {
+        return owners;
+    }
+
+    private List<RecurringAvailability> recurringAvailabilities() {
+        if (recurringAvailabilities == null) {
+            recurringAvailabilities = loadRecurringAvailabilities.apply(ownerId);
+        }
+        return recurringAvailabilities;
+    }
+
+    private void reject(ImportSweepEntry entry, String reason) {
+        rejected.accept(new ImportRejection(entry.lineNumber(), reason));
+    }
+}
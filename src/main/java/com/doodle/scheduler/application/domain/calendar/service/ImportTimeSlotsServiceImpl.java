@@ -0,0 +1,140 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeRange;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.state.SlotState;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportRejection;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportSweepEntry;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportedTimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.StagedTimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.LoadImportSweepEntriesPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.MergeStagedTimeSlotsPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.RejectStagedTimeSlotsPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.StageImportedTimeSlotsPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.common.exception.DomainException;
+import com.doodle.scheduler.application.domain.common.model.IdGenerators;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Imports time slots in bulk: rows are validated while they stream into a staging area, checked for
+ * overlaps in one ordered pass over the staged rows and the owners' stored slots, and then moved into
+ * the calendars with set-based statements. No per-slot events are published.
+ */
+public class ImportTimeSlotsServiceImpl implements ImportTimeSlotsUseCase {
+
+    private static final int REJECTION_BATCH_SIZE = 1000;
+
+    private final StageImportedTimeSlotsPort stageImportedTimeSlotsPort;
+    private final LoadImportSweepEntriesPort loadImportSweepEntriesPort;
+    private final RejectStagedTimeSlotsPort rejectStagedTimeSlotsPort;
+    private final MergeStagedTimeSlotsPort mergeStagedTimeSlotsPort;
+    private final LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+    private final int maxReportedRejections;
+
+    public ImportTimeSlotsServiceImpl(
+            StageImportedTimeSlotsPort stageImportedTimeSlotsPort,
+            LoadImportSweepEntriesPort loadImportSweepEntriesPort,
+            RejectStagedTimeSlotsPort rejectStagedTimeSlotsPort,
+            MergeStagedTimeSlotsPort mergeStagedTimeSlotsPort,
+            LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+            int maxReportedRejections) {
+        this.stageImportedTimeSlotsPort = stageImportedTimeSlotsPort;
+        this.loadImportSweepEntriesPort = loadImportSweepEntriesPort;
+        this.rejectStagedTimeSlotsPort = rejectStagedTimeSlotsPort;
+        this.mergeStagedTimeSlotsPort = mergeStagedTimeSlotsPort;
+        this.loadRecurringAvailabilitiesByUserPort = loadRecurringAvailabilitiesByUserPort;
+        this.maxReportedRejections = maxReportedRejections;
+    }
+
+    @Override
+    public ImportTimeSlotsQueryResult execute(ImportTimeSlotsCommand command) {
+        long startedAt = System.nanoTime();
+        UUID importId = IdGenerators.INSTANCE.nextId();
+        ImportTally tally = new ImportTally(importId);
+
+        try (Stream<ImportedTimeSlot> rows = command.rows()) {
+            Stream<StagedTimeSlot> staged = rows.<StagedTimeSlot>mapMulti((row, downstream) -> {
+                tally.rowsRead++;
+                StagedTimeSlot stagedTimeSlot = validate(row, tally);
+                if (stagedTimeSlot != null) {
+                    downstream.accept(stagedTimeSlot);
+                }
+            });
+            stageImportedTimeSlotsPort.stageTimeSlots(importId, staged);
+        }
+
+        ImportOverlapSweep sweep = new ImportOverlapSweep(
+                loadRecurringAvailabilitiesByUserPort::loadRecurringAvailabilitiesByUserId, tally::rejectStaged);
+        try (Stream<ImportSweepEntry> entries = loadImportSweepEntriesPort.loadImportSweepEntries(importId)) {
+            entries.forEach(sweep::accept);
+        }
+        tally.flush();
+
+        long imported = mergeStagedTimeSlotsPort.mergeStagedTimeSlots(importId);
+        tally.reported.sort(Comparator.comparingLong(ImportRejection::lineNumber));
+        return new ImportTimeSlotsQueryResult(importId, tally.rowsRead, imported, tally.rejected,
+                List.copyOf(tally.reported), Set.copyOf(sweep.owners()),
+                Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    private StagedTimeSlot validate(ImportedTimeSlot row, ImportTally tally) {
+        if (row.isMalformed()) {
+            tally.reject(new ImportRejection(row.lineNumber(), row.error()));
+            return null;
+        }
+        try {
+            TimeRange range = TimeRange.of(row.start(), row.durationMinutes());
+            SlotState state = SlotState.fromString(row.state());
+            return new StagedTimeSlot(row.lineNumber(), IdGenerators.INSTANCE.nextId(), row.username(),
+                    range.start(), range.end(), row.durationMinutes(), state.getStateString());
+        } catch (DomainException | IllegalArgumentException e) {
+            tally.reject(new ImportRejection(row.lineNumber(), e.getMessage()));
+            return null;
+        }
+    }
+
+    private final class ImportTally {
+
+        private final UUID importId;
+        private final List<ImportRejection> reported = new ArrayList<>();
+        private final List<ImportRejection> pending = new ArrayList<>();
+        private long rowsRead;
+        private long rejected;
+
+        private ImportTally(UUID importId) {
+            this.importId = importId;
+        }
+
+        private void reject(ImportRejection rejection) {
+            rejected++;
+            if (reported.size() < maxReportedRejections) {
+                reported.add(rejection);
+            }
+        }
+
+        private void rejectStaged(ImportRejection rejection) {
+            reject(rejection);
+            pending.add(rejection);
+            if (pending.size() >= REJECTION_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!pending.isEmpty()) {
+                rejectStagedTimeSlotsPort.rejectStagedTimeSlots(importId, List.copyOf(pending));
+                pending.clear();
+            }
+        }
+    }
+}
@@ -1,43 +1,207 @@
 package com.doodle.scheduler.application.domain.calendar.service;
 
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
 import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.state.AvailableState;
 import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsCommand;
 import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsQueryResult;
 import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadStoredTimeSlotIdsPort;
 import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.SearchTimeSlotsPort;
 import com.doodle.scheduler.application.domain.user.model.User;
 import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+/**
+ * Searches stored time slots and, when the user has recurring availability, the occurrences those
+ * rules produce inside the requested window. Each rule is expanded at most {@code recurrenceHorizon}
+ * past the search start (or its first day), and only the occurrences that can land on the requested
+ * page are generated: the rest are counted arithmetically.
+ *
+ * <p>An occurrence that has been booked is a stored slot under the same id and takes the occurrence's
+ * place. Occurrence ids carry the rule in their high bits and the start in their low bits, so the booked
+ * occurrences of a rule are found by one id range lookup and left out of both the counts and the
+ * expansion. The total is exact and every page but the last is full.
+ */
 public class SearchTimeSlotsServiceImpl implements SearchTimeSlotsUseCase {
 
+    private static final Comparator<TimeSlot> BY_START = Comparator.comparing(slot -> slot.getRange().start());
+
     private final LoadUserByUsernamePort loadUserByUsernamePort;
     private final SearchTimeSlotsPort searchTimeSlotsPort;
+    private final LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+    private final LoadStoredTimeSlotIdsPort loadStoredTimeSlotIdsPort;
+    private final Duration recurrenceHorizon;
 
     public SearchTimeSlotsServiceImpl(LoadUserByUsernamePort loadUserByUsernamePort,
-                                      SearchTimeSlotsPort searchTimeSlotsPort) {
+                                      SearchTimeSlotsPort searchTimeSlotsPort,
+                                      LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+                                      LoadStoredTimeSlotIdsPort loadStoredTimeSlotIdsPort,
+                                      Duration recurrenceHorizon) {
         this.loadUserByUsernamePort = loadUserByUsernamePort;
         this.searchTimeSlotsPort = searchTimeSlotsPort;
+        this.loadRecurringAvailabilitiesByUserPort = loadRecurringAvailabilitiesByUserPort;
+        this.loadStoredTimeSlotIdsPort = loadStoredTimeSlotIdsPort;
+        this.recurrenceHorizon = recurrenceHorizon;
     }
 
     @Override
     public SearchTimeSlotsQueryResult execute(SearchTimeSlotsCommand command) {
         User user = loadUserByUsernamePort.loadUserByUsername(command.username());
         UUID userId = user.getId();
+        long offset = Math.multiplyExact((long) command.page(), command.size());
+
+        List<RecurringAvailability> recurringAvailabilities = includesAvailableSlots(command.status())
+                ? loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(userId)
+                : List.of();
+        if (recurringAvailabilities.isEmpty()) {
+            SearchTimeSlotsPort.SearchResult searchResult = searchTimeSlotsPort.searchTimeSlots(
+                    userId,
+                    command.status(),
+                    command.startTime(),
+                    command.endTime(),
+                    offset,
+                    command.size()
+            );
+            return result(searchResult.timeSlots(), searchResult.totalElements(), command);
+        }
+        return searchWithOccurrences(userId, expansions(userId, recurringAvailabilities, command), command, offset);
+    }
+
+    /**
+     * Of the first {@code offset} merged slots at most {@code occurrenceTotal} are unbooked occurrences,
+     * so the stored slots before index {@code offset - occurrenceTotal} precede the page; likewise for the
+     * occurrences before {@code offset - storedTotal}. Both sides are read from there on and merged, and
+     * the page starts {@code offset} minus the skipped slots into the merge.
+     */
+    private SearchTimeSlotsQueryResult searchWithOccurrences(UUID userId,
+                                                             List<Expansion> expansions,
+                                                             SearchTimeSlotsCommand command,
+                                                             long offset) {
+        long occurrenceTotal = expansions.stream().mapToLong(Expansion::total).sum();
+        long pageEnd = Math.addExact(offset, command.size());
 
-        SearchTimeSlotsPort.SearchResult searchResult = searchTimeSlotsPort.searchTimeSlots(
+        long storedFrom = Math.max(0, offset - occurrenceTotal);
+        SearchTimeSlotsPort.SearchResult stored = searchTimeSlotsPort.searchTimeSlots(
                 userId,
                 command.status(),
                 command.startTime(),
                 command.endTime(),
-                command.page(),
-                command.size()
+                storedFrom,
+                Math.toIntExact(pageEnd - storedFrom)
         );
+        long occurrencesFrom = Math.max(0, offset - stored.totalElements());
+        List<TimeSlot> occurrences = occurrences(
+                expansions, occurrencesFrom, Math.min(occurrenceTotal, pageEnd) - occurrencesFrom);
+
+        List<TimeSlot> merged = mergeByStart(stored.timeSlots(), occurrences);
+        int pageStart = (int) Math.min(merged.size(), Math.max(0, offset - storedFrom - occurrencesFrom));
+        List<TimeSlot> page = merged.subList(pageStart, Math.min(pageStart + command.size(), merged.size()));
+        return result(List.copyOf(page), stored.totalElements() + occurrenceTotal, command);
+    }
+
+    private List<Expansion> expansions(UUID userId, List<RecurringAvailability> recurringAvailabilities,
+                                       SearchTimeSlotsCommand command) {
+        List<Expansion> expansions = new ArrayList<>(recurringAvailabilities.size());
+        for (RecurringAvailability recurring : recurringAvailabilities) {
+            Instant firstPossibleStart = recurring.getRule().firstPossibleStart();
+            Instant from = command.startTime() != null ? latest(command.startTime(), firstPossibleStart) : firstPossibleStart;
+            Instant to = from.plus(recurrenceHorizon);
+            if (command.endTime() != null && command.endTime().isBefore(to)) {
+                to = command.endTime();
+            }
+            long total = recurring.getRule().countOccurrencesWithin(from, to);
+            if (total == 0) {
+                continue;
+            }
+            NavigableSet<Instant> booked = bookedOccurrenceStarts(userId, recurring, from, to);
+            if (total > booked.size()) {
+                expansions.add(new Expansion(recurring, from, to, total - booked.size(), booked));
+            }
+        }
+        return expansions;
+    }
 
-        List<TimeSlot> timeSlots = searchResult.timeSlots();
-        long totalElements = searchResult.totalElements();
+    private NavigableSet<Instant> bookedOccurrenceStarts(UUID userId, RecurringAvailability recurring,
+                                                         Instant from, Instant to) {
+        NavigableSet<Instant> booked = new TreeSet<>();
+        loadStoredTimeSlotIdsPort.loadStoredTimeSlotIdsBetween(
+                        userId, recurring.occurrenceId(from), recurring.occurrenceId(to)).stream()
+                .map(recurring::findOccurrence)
+                .flatMap(Optional::stream)
+                .map(occurrence -> occurrence.getRange().start())
+                .filter(start -> !start.isBefore(from) && !start.isAfter(to))
+                .forEach(booked::add);
+        return booked;
+    }
+
+    /**
+     * The occurrences at indexes {@code [from, from + count)} of all rules in start order. The second
+     * the first of them starts in is found by bisection over the arithmetic counts, so no occurrence
+     * before it is generated.
+     */
+    private static List<TimeSlot> occurrences(List<Expansion> expansions, long from, long count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        long low = expansions.stream().mapToLong(expansion -> expansion.from().getEpochSecond()).min().orElseThrow();
+        long high = expansions.stream().mapToLong(expansion -> expansion.to().getEpochSecond()).max().orElseThrow() + 1;
+        while (high - low > 1) {
+            long middle = low + (high - low) / 2;
+            if (countStartingBefore(expansions, Instant.ofEpochSecond(middle)) <= from) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        Instant cursor = Instant.ofEpochSecond(low);
+        long skip = from - countStartingBefore(expansions, cursor);
+
+        List<TimeSlot> occurrences = new ArrayList<>();
+        for (Expansion expansion : expansions) {
+            expansion.occurrencesFrom(cursor).limit(skip + count).forEach(occurrences::add);
+        }
+        occurrences.sort(BY_START);
+        return occurrences.subList((int) Math.min(skip, occurrences.size()), (int) Math.min(skip + count, occurrences.size()));
+    }
+
+    private static long countStartingBefore(List<Expansion> expansions, Instant instant) {
+        return expansions.stream().mapToLong(expansion -> expansion.countStartingBefore(instant)).sum();
+    }
+
+    private static List<TimeSlot> mergeByStart(List<TimeSlot> stored, List<TimeSlot> occurrences) {
+        List<TimeSlot> merged = new ArrayList<>(stored.size() + occurrences.size());
+        int i = 0;
+        int j = 0;
+        while (i < stored.size() && j < occurrences.size()) {
+            merged.add(BY_START.compare(occurrences.get(j), stored.get(i)) < 0 ? occurrences.get(j++) : stored.get(i++));
+        }
+        merged.addAll(stored.subList(i, stored.size()));
+        merged.addAll(occurrences.subList(j, occurrences.size()));
+        return merged;
+    }
+
+    private static boolean includesAvailableSlots(String status) {
+        return status == null || status.isEmpty() || AvailableState.INSTANCE.getStateString().equals(status);
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static SearchTimeSlotsQueryResult result(List<TimeSlot> timeSlots, long totalElements,
+                                                     SearchTimeSlotsCommand command) {
         int totalPages = (int) Math.ceil((double) totalElements / command.size());
 
         return new SearchTimeSlotsQueryResult(
@@ -48,4 +212,26 @@ public class SearchTimeSlotsServiceImpl implements SearchTimeSlotsUseCase {
                 command.size()
         );
     }
+
+    /**
+     * A rule's part of the search: its unbooked occurrences inside {@code [from, to]}, {@code total} of
+     * them, and the starts of the {@code booked} ones.
+     */
+    private record Expansion(RecurringAvailability recurring, Instant from, Instant to, long total,
+                             NavigableSet<Instant> booked) {
+
+        long countStartingBefore(Instant instant) {
+            if (!instant.isAfter(from)) {
+                return 0;
+            }
+            long fromInstantOn = recurring.getRule().countOccurrencesWithin(instant, to)
+                    - booked.tailSet(instant, true).size();
+            return total - fromInstantOn;
+        }
+
+        Stream<TimeSlot> occurrencesFrom(Instant instant) {
+            return recurring.occurrencesWithin(latest(from, instant), to)
+                    .filter(occurrence -> !booked.contains(occurrence.getRange().start()));
+        }
+    }
 }
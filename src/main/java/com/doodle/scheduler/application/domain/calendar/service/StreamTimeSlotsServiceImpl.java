@@ -0,0 +1,32 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.streamtimeslots.StreamTimeSlotsPort;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Streams a user's stored time slots for read-only consumers such as dashboards. Unlike
+ * {@link SearchTimeSlotsServiceImpl} it neither pages nor expands recurring availability: the
+ * stream is a straight, demand-driven read of the stored rows.
+ */
+public class StreamTimeSlotsServiceImpl implements StreamTimeSlotsUseCase {
+
+    private final StreamTimeSlotsPort streamTimeSlotsPort;
+
+    public StreamTimeSlotsServiceImpl(StreamTimeSlotsPort streamTimeSlotsPort) {
+        this.streamTimeSlotsPort = streamTimeSlotsPort;
+    }
+
+    @Override
+    public Flow.Publisher<TimeSlot> execute(StreamTimeSlotsCommand command) {
+        return streamTimeSlotsPort.streamTimeSlots(
+                command.username(),
+                command.status(),
+                command.startTime(),
+                command.endTime()
+        );
+    }
+}
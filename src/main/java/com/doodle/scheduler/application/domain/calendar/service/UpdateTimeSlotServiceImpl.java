@@ -0,0 +1,70 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.calendar.model.Calendar;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeRange;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.createtimeslot.SaveTimeSlotPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.updatetimeslot.LoadNeighbouringTimeSlotsPort;
+import com.doodle.scheduler.application.domain.meeting.port.out.loadmeetings.LoadMeetingsByTimeSlotIdPort;
+import com.doodle.scheduler.application.domain.user.model.User;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves a slot to a new time range. Only the slots that can overlap the new range are loaded: stored
+ * slots never overlap each other, so besides the ones starting inside the range just the last one
+ * starting before it can reach into it. The range the slot leaves needs no check. The slot is saved
+ * with the version it was read with, so a concurrent change of the same slot fails the save. A slot
+ * booked by a meeting cannot be moved, since the meeting's time would change with it.
+ */
+public class UpdateTimeSlotServiceImpl implements UpdateTimeSlotUseCase {
+
+    private final LoadUserByUsernamePort loadUserByUsernamePort;
+    private final LoadTimeSlotByIdPort loadTimeSlotByIdPort;
+    private final LoadNeighbouringTimeSlotsPort loadNeighbouringTimeSlotsPort;
+    private final LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+    private final LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort;
+    private final SaveTimeSlotPort saveTimeSlotPort;
+
+    public UpdateTimeSlotServiceImpl(
+            LoadUserByUsernamePort loadUserByUsernamePort,
+            LoadTimeSlotByIdPort loadTimeSlotByIdPort,
+            LoadNeighbouringTimeSlotsPort loadNeighbouringTimeSlotsPort,
+            LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+            LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort,
+            SaveTimeSlotPort saveTimeSlotPort) {
+        this.loadUserByUsernamePort = loadUserByUsernamePort;
+        this.loadTimeSlotByIdPort = loadTimeSlotByIdPort;
+        this.loadNeighbouringTimeSlotsPort = loadNeighbouringTimeSlotsPort;
+        this.loadRecurringAvailabilitiesByUserPort = loadRecurringAvailabilitiesByUserPort;
+        this.loadMeetingsByTimeSlotIdPort = loadMeetingsByTimeSlotIdPort;
+        this.saveTimeSlotPort = saveTimeSlotPort;
+    }
+
+    @Override
+    public TimeSlot execute(UpdateTimeSlotCommand command) {
+        User user = loadUserByUsernamePort.loadUserByUsername(command.username());
+        UUID userId = user.getId();
+        TimeSlot timeSlot = loadTimeSlotByIdPort.loadTimeSlotById(command.timeSlotId())
+                .filter(slot -> userId.equals(slot.getOwnerId()))
+                .orElseThrow(() -> new TimeSlotNotFoundException(
+                        "Time slot not found with id: " + command.timeSlotId()));
+        TimeRange target = TimeRange.of(command.start(), command.durationMinutes());
+        List<TimeSlot> slots = new ArrayList<>(loadNeighbouringTimeSlotsPort.loadNeighbouringTimeSlots(
+                userId, timeSlot.getId(), target.start(), target.end()));
+        slots.add(timeSlot);
+        Calendar calendar = Calendar.createWithSlotsMeetingsAndRecurringAvailabilities(
+                userId, slots, loadMeetingsByTimeSlotIdPort.loadMeetingsByTimeSlotId(timeSlot.getId()),
+                loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(userId));
+        calendar.updateTimeSlot(timeSlot.getId(), command.start(), command.durationMinutes());
+        return saveTimeSlotPort.saveTimeSlot(timeSlot);
+    }
+}
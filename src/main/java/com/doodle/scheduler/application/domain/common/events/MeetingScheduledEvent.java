@@ -0,0 +1,13 @@
+package com.doodle.scheduler.application.domain.common.events;
+
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record MeetingScheduledEvent(
+        Meeting meeting,
+        UUID ownerId,
+        Instant timestamp
+) implements DomainEvent {
+}
@@ -0,0 +1,8 @@
+package com.doodle.scheduler.application.domain.common.events;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+
+import java.time.Instant;
+
+public record RecurringAvailabilityCreatedEvent(RecurringAvailability recurringAvailability, Instant timestamp) implements DomainEvent {
+}
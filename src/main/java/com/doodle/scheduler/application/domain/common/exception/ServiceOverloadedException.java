@@ -0,0 +1,22 @@
+package com.doodle.scheduler.application.domain.common.exception;
+
+import java.time.Duration;
+
+/**
+ * A use case was refused before it started because the service is already running as many of them as
+ * it can without slowing all of them down. Nothing was changed; the caller may retry after
+ * {@link #getRetryAfter()}.
+ */
+public class ServiceOverloadedException extends DomainException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
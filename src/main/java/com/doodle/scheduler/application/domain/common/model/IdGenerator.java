@@ -0,0 +1,10 @@
+package com.doodle.scheduler.application.domain.common.model;
+
+import java.util.UUID;
+
+/**
+ * Source of identities for new domain objects. The active generator is held by {@link IdGenerators}.
+ */
+public interface IdGenerator {
+    UUID nextId();
+}
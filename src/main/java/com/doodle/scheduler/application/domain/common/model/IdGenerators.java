@@ -0,0 +1,26 @@
+package com.doodle.scheduler.application.domain.common.model;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Holds the {@link IdGenerator} used by the domain factories. Defaults to {@link UuidV7IdGenerator}.
+ */
+public enum IdGenerators {
+    INSTANCE;
+
+    private volatile IdGenerator generator = UuidV7IdGenerator.INSTANCE;
+
+    public UUID nextId() {
+        return generator.nextId();
+    }
+
+    /**
+     * Swaps the active generator and returns the previous one so callers can restore it.
+     */
+    public IdGenerator use(IdGenerator idGenerator) {
+        IdGenerator previous = this.generator;
+        this.generator = Objects.requireNonNull(idGenerator, "idGenerator must not be null");
+        return previous;
+    }
+}
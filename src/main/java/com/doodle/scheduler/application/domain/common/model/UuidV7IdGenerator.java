@@ -0,0 +1,29 @@
+package com.doodle.scheduler.application.domain.common.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by 74 random bits.
+ *
+ * <p>Ids created close together in time sort close together, so inserts append to the right edge
+ * of the primary key B-tree instead of splitting random pages. Randomness comes from
+ * {@link ThreadLocalRandom}, which has no shared state, unlike the {@code SecureRandom} behind
+ * {@link UUID#randomUUID()}. The ids are therefore unique but not unguessable; never use them as secrets.
+ */
+public enum UuidV7IdGenerator implements IdGenerator {
+    INSTANCE;
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long RAND_A_MASK = 0x0FFFL;
+    private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+    private static final long RAND_B_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    @Override
+    public UUID nextId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSignificantBits = (System.currentTimeMillis() << 16) | VERSION_7 | (random.nextLong() & RAND_A_MASK);
+        long leastSignificantBits = VARIANT_RFC | (random.nextLong() & RAND_B_MASK);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -1,8 +1,10 @@
 package com.doodle.scheduler.application.domain.meeting.model;
 
 import com.doodle.scheduler.application.domain.common.model.Entity;
+import com.doodle.scheduler.application.domain.common.model.IdGenerators;
 import com.doodle.scheduler.application.domain.meeting.exception.MeetingCreationException;
 import com.doodle.scheduler.application.domain.meeting.model.meetingstate.MeetingState;
+import com.doodle.scheduler.application.domain.meeting.model.meetingstate.ScheduledState;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +21,15 @@ public class Meeting extends Entity {
         Objects.requireNonNull(slotIds, "slotIds must not be null");
         if (slotIds.isEmpty()) throw new MeetingCreationException("slotIds must not be empty");
         if (slotIds.size() != 1) throw new MeetingCreationException("Meeting must have exactly 1 slot, but got " + slotIds.size());
-        return new Meeting(UUID.randomUUID(), details, List.copyOf(slotIds), com.doodle.scheduler.application.domain.meeting.model.meetingstate.ScheduledState.INSTANCE);
+        return new Meeting(IdGenerators.INSTANCE.nextId(), details, List.copyOf(slotIds), ScheduledState.INSTANCE);
+    }
+
+    public static Meeting reconstitute(UUID id, MeetingDetails details, UUID slotId, String stateString) {
+        Objects.requireNonNull(id, "id must not be null");
+        Objects.requireNonNull(details, "details must not be null");
+        Objects.requireNonNull(slotId, "slotId must not be null");
+        Objects.requireNonNull(stateString, "stateString must not be null");
+        return new Meeting(id, details, List.of(slotId), MeetingState.fromString(stateString));
     }
 
     public UUID getSlotId() {
@@ -46,7 +56,7 @@ public class Meeting extends Entity {
         return details.meetingDescription().value();
     }
 
-    private Meeting(UUID id, MeetingDetails details, List<UUID> slotIds, com.doodle.scheduler.application.domain.meeting.model.meetingstate.MeetingState initialState) {
+    private Meeting(UUID id, MeetingDetails details, List<UUID> slotIds, MeetingState initialState) {
         super(id);
         this.details = details;
         this.slotIds.addAll(slotIds);
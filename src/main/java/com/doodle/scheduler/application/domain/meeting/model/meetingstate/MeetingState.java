@@ -10,6 +10,13 @@ public abstract class MeetingState {
 
     public abstract String getStateString();
 
+    public static MeetingState fromString(String stateString) {
+        return switch (stateString) {
+            case "SCHEDULED" -> ScheduledState.INSTANCE;
+            default -> throw new IllegalArgumentException("Unknown state: " + stateString);
+        };
+    }
+
     protected InvalidMeetingStateTransitionException invalid(String op) {
         return new InvalidMeetingStateTransitionException("Cannot " + op + " from " + this.getClass().getSimpleName());
     }
@@ -0,0 +1,13 @@
+package com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record ScheduleMeetingCommand(
+        String username,
+        UUID timeSlotId,
+        String title,
+        String description,
+        Set<UUID> participants
+) {
+}
@@ -0,0 +1,7 @@
+package com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting;
+
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+
+public interface ScheduleMeetingUseCase {
+    Meeting execute(ScheduleMeetingCommand command);
+}
@@ -0,0 +1,10 @@
+package com.doodle.scheduler.application.domain.meeting.port.out.loadmeetings;
+
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface LoadMeetingsByTimeSlotIdPort {
+    List<Meeting> loadMeetingsByTimeSlotId(UUID timeSlotId);
+}
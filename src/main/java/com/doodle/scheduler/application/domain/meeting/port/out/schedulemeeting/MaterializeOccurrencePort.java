@@ -0,0 +1,11 @@
+package com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+
+public interface MaterializeOccurrencePort {
+    /**
+     * Stores a recurring occurrence as an AVAILABLE time slot under its own id; does nothing if a
+     * slot with that id already exists.
+     */
+    void materializeOccurrence(TimeSlot occurrence);
+}
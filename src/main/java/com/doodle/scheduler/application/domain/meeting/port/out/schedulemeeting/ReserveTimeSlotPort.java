@@ -0,0 +1,11 @@
+package com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting;
+
+import java.util.UUID;
+
+public interface ReserveTimeSlotPort {
+    /**
+     * Atomically flips an AVAILABLE slot owned by the given user to BUSY.
+     * Returns false when no row matched, i.e. the slot is missing, foreign or already taken.
+     */
+    boolean reserveTimeSlot(UUID timeSlotId, UUID ownerId);
+}
@@ -0,0 +1,7 @@
+package com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting;
+
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+
+public interface SaveMeetingPort {
+    Meeting saveMeeting(Meeting meeting);
+}
@@ -0,0 +1,107 @@
+package com.doodle.scheduler.application.domain.meeting.service;
+
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotAvailableException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
+import com.doodle.scheduler.application.domain.common.events.MeetingScheduledEvent;
+import com.doodle.scheduler.application.domain.common.events.Publisher;
+import com.doodle.scheduler.application.domain.common.exception.DomainException;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDescription;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDetails;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingTitle;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingCommand;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingUseCase;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.MaterializeOccurrencePort;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.ReserveTimeSlotPort;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.SaveMeetingPort;
+import com.doodle.scheduler.application.domain.user.model.User;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Books a time slot for a meeting without a load-modify-save cycle: the AVAILABLE -> BUSY
+ * transition is a single conditional update, so concurrent requests for the same slot are
+ * serialised by the row lock and exactly one of them matches. The slot is only read again
+ * when the reservation fails, to tell "not found" apart from "already taken".
+ *
+ * <p>An occurrence of a recurring availability has no row until it is booked. When the id is an
+ * occurrence id the occurrence is first inserted as AVAILABLE (a no-op if a concurrent booking
+ * inserted it already) and then reserved with the same conditional update, so the race is still
+ * decided by that one statement.
+ */
+public class ScheduleMeetingServiceImpl implements ScheduleMeetingUseCase {
+
+    private final LoadUserByUsernamePort loadUserByUsernamePort;
+    private final LoadTimeSlotByIdPort loadTimeSlotByIdPort;
+    private final LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+    private final MaterializeOccurrencePort materializeOccurrencePort;
+    private final ReserveTimeSlotPort reserveTimeSlotPort;
+    private final SaveMeetingPort saveMeetingPort;
+
+    public ScheduleMeetingServiceImpl(
+            LoadUserByUsernamePort loadUserByUsernamePort,
+            LoadTimeSlotByIdPort loadTimeSlotByIdPort,
+            LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort,
+            MaterializeOccurrencePort materializeOccurrencePort,
+            ReserveTimeSlotPort reserveTimeSlotPort,
+            SaveMeetingPort saveMeetingPort) {
+        this.loadUserByUsernamePort = loadUserByUsernamePort;
+        this.loadTimeSlotByIdPort = loadTimeSlotByIdPort;
+        this.loadRecurringAvailabilitiesByUserPort = loadRecurringAvailabilitiesByUserPort;
+        this.materializeOccurrencePort = materializeOccurrencePort;
+        this.reserveTimeSlotPort = reserveTimeSlotPort;
+        this.saveMeetingPort = saveMeetingPort;
+    }
+
+    @Override
+    public Meeting execute(ScheduleMeetingCommand command) {
+        User user = loadUserByUsernamePort.loadUserByUsername(command.username());
+        UUID userId = user.getId();
+        MeetingDetails details = new MeetingDetails(
+                new MeetingTitle(command.title()),
+                new MeetingDescription(command.description() != null ? command.description() : ""),
+                command.participants());
+        Meeting meeting = Meeting.create(details, List.of(command.timeSlotId()));
+        if (!reserveTimeSlotPort.reserveTimeSlot(command.timeSlotId(), userId)
+                && !reserveOccurrence(command.timeSlotId(), userId)) {
+            throw reservationFailure(command.timeSlotId(), userId);
+        }
+        Meeting savedMeeting = saveMeetingPort.saveMeeting(meeting);
+        Publisher.INSTANCE.notifyObservers(new MeetingScheduledEvent(savedMeeting, userId, Instant.now()));
+        return savedMeeting;
+    }
+
+    private boolean reserveOccurrence(UUID timeSlotId, UUID userId) {
+        if (!RecurringAvailability.isOccurrenceId(timeSlotId)) {
+            return false;
+        }
+        Optional<TimeSlot> occurrence = loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(userId)
+                .stream()
+                .map(recurring -> recurring.findOccurrence(timeSlotId))
+                .flatMap(Optional::stream)
+                .findFirst();
+        if (occurrence.isEmpty()) {
+            return false;
+        }
+        materializeOccurrencePort.materializeOccurrence(occurrence.get());
+        return reserveTimeSlotPort.reserveTimeSlot(timeSlotId, userId);
+    }
+
+    private DomainException reservationFailure(UUID timeSlotId, UUID userId) {
+        boolean ownedSlotExists = loadTimeSlotByIdPort.loadTimeSlotById(timeSlotId)
+                .filter(slot -> userId.equals(slot.getOwnerId()))
+                .isPresent();
+        if (ownedSlotExists) {
+            return new TimeSlotNotAvailableException("time slot is not available: " + timeSlotId);
+        }
+        return new TimeSlotNotFoundException("Time slot not found with id: " + timeSlotId);
+    }
+}
@@ -1,6 +1,7 @@
 package com.doodle.scheduler.application.domain.user.model;
 
 import com.doodle.scheduler.application.domain.common.model.AggregateRoot;
+import com.doodle.scheduler.application.domain.common.model.IdGenerators;
 import com.doodle.scheduler.application.domain.user.exception.InvalidUsernameException;
 
 import java.util.Objects;
@@ -17,7 +18,7 @@ public class User extends AggregateRoot {
      */
     public static User create(String username) {
         String validUsername = validateUsername(username);
-        return new User(UUID.randomUUID(), validUsername);
+        return new User(IdGenerators.INSTANCE.nextId(), validUsername);
     }
 
     public static User reconstitute(UUID id, String username) {
@@ -0,0 +1,12 @@
+CREATE TABLE recurring_availabilities (
+    id UUID PRIMARY KEY,
+    owner_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    by_day VARCHAR(20) NOT NULL,
+    start_time TIME NOT NULL,
+    duration_minutes INTEGER NOT NULL,
+    time_zone VARCHAR(64) NOT NULL,
+    valid_from DATE NOT NULL,
+    valid_until DATE
+);
+
+CREATE INDEX idx_recurring_availabilities_owner_id ON recurring_availabilities(owner_id);
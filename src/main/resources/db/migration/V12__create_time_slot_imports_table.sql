@@ -0,0 +1,15 @@
+-- Staging area for bulk imports. Rows live only for the duration of the import transaction:
+-- they are loaded with COPY, marked with a rejection reason by the overlap check, and deleted
+-- once the accepted rows have been merged into time_slots.
+CREATE TABLE time_slot_imports (
+    import_id UUID NOT NULL,
+    line_number BIGINT NOT NULL,
+    id UUID NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    start_time TIMESTAMP WITH TIME ZONE NOT NULL,
+    end_time TIMESTAMP WITH TIME ZONE NOT NULL,
+    duration_minutes INTEGER NOT NULL,
+    state VARCHAR(50) NOT NULL,
+    rejection VARCHAR(500),
+    PRIMARY KEY (import_id, line_number)
+);
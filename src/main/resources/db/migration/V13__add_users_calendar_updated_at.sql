@@ -0,0 +1 @@
+ALTER TABLE users ADD COLUMN calendar_updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP;
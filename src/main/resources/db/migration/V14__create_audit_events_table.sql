@@ -0,0 +1,13 @@
+-- Append-only trail of time slot events. Rows are written in batches after the transaction that
+-- raised the event has committed, so recorded_at trails occurred_at by up to one flush interval.
+-- There are no foreign keys: entries outlive the slots and users they refer to.
+CREATE TABLE audit_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    time_slot_id UUID NOT NULL,
+    owner_id UUID NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    recorded_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_audit_events_owner_occurred ON audit_events (owner_id, occurred_at);
@@ -0,0 +1,20 @@
+-- Idempotency keys of creates and deletes. A key is inserted in the transaction of the write it
+-- belongs to, so it exists exactly when the write committed. The request fingerprint tells a retry
+-- from a different request under the same key; the result columns hold the created slot, enough to
+-- answer a retry without loading the calendar, and stay null for deletes. Rows older than the TTL are
+-- deleted in batches, oldest first. There are no foreign keys: a key outlives the slot it created.
+CREATE TABLE idempotency_keys (
+    username VARCHAR(255) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_fingerprint VARCHAR(200) NOT NULL,
+    time_slot_id UUID,
+    owner_id UUID,
+    start_time TIMESTAMP WITH TIME ZONE,
+    duration_minutes INTEGER,
+    state VARCHAR(50),
+    version BIGINT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (username, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys (created_at);
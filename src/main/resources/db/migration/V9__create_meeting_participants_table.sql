@@ -0,0 +1,5 @@
+CREATE TABLE meeting_participants (
+    meeting_id UUID NOT NULL REFERENCES meetings(id) ON DELETE CASCADE,
+    participant_id UUID NOT NULL,
+    PRIMARY KEY (meeting_id, participant_id)
+);
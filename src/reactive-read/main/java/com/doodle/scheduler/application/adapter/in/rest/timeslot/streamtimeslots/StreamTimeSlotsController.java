@@ -0,0 +1,84 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.streamtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.ControllerConstants;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.common.BaseTimeSlotController;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.mapper.TimeSlotDtoMapper;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Pattern;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+
+/**
+ * Non-blocking read endpoint for high fan-out dashboard traffic, served by the {@code reactive-read}
+ * deployment on WebFlux and R2DBC. Rows are written as newline-delimited JSON as they arrive, and
+ * the database cursor only advances as fast as the client reads.
+ */
+@RestController
+@ConditionalOnProperty(prefix = "scheduler.reactive-read", name = "enabled", havingValue = "true")
+public class StreamTimeSlotsController extends BaseTimeSlotController {
+
+    private final StreamTimeSlotsUseCase streamTimeSlotsUseCase;
+    private final TimeSlotDtoMapper timeSlotDtoMapper;
+
+    public StreamTimeSlotsController(StreamTimeSlotsUseCase streamTimeSlotsUseCase,
+                                     TimeSlotDtoMapper timeSlotDtoMapper) {
+        this.streamTimeSlotsUseCase = streamTimeSlotsUseCase;
+        this.timeSlotDtoMapper = timeSlotDtoMapper;
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Stream time slots",
+            description = "Streams the stored time slots of the authenticated user in start order as "
+                    + "newline-delimited JSON, without pagination. Only available on deployments running the "
+                    + "reactive-read profile. Occurrences of recurring availabilities are not included."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "One time slot per line",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = TimeSlotResponseDto.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid request parameters")
+    })
+    public Flux<TimeSlotResponseDto> streamTimeSlots(
+            @Parameter(description = "Filter by time slot status", example = "AVAILABLE")
+            @RequestParam(name = "status", required = false)
+            @Pattern(regexp = "^(AVAILABLE|BUSY)?$", message = "status must be either AVAILABLE or BUSY") String status,
+            @Parameter(description = "Filter time slots starting from this time (ISO 8601)", example = "2026-02-08T00:00:00Z")
+            @RequestParam(name = "start_time", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant startTime,
+            @Parameter(description = "Filter time slots ending before this time (ISO 8601)", example = "2026-02-15T23:59:59Z")
+            @RequestParam(name = "end_time", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant endTime) {
+
+        var command = new StreamTimeSlotsCommand(
+                ControllerConstants.USERNAME,
+                status,
+                startTime,
+                endTime
+        );
+
+        return JdkFlowAdapter.flowPublisherToFlux(streamTimeSlotsUseCase.execute(command))
+                .map(timeSlotDtoMapper::toResponseDto);
+    }
+}
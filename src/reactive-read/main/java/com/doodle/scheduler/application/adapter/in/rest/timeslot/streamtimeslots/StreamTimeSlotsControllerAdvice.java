@@ -0,0 +1,98 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.streamtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.ErrorResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.ValidationErrorResponseDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.Instant;
+
+/**
+ * Exception handler for StreamTimeSlotsController.
+ * Runs on WebFlux, so handlers receive the reactive {@link ServerHttpRequest}. Only failures raised
+ * before the first row is written can still change the status code; later errors abort the stream.
+ */
+@RestControllerAdvice(assignableTypes = StreamTimeSlotsController.class)
+@ConditionalOnProperty(prefix = "scheduler.reactive-read", name = "enabled", havingValue = "true")
+@Slf4j
+public class StreamTimeSlotsControllerAdvice {
+
+    /**
+     * Handles constraint violation exceptions from @Validated query parameters.
+     * Returns 400 Bad Request with field-level error details.
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ValidationErrorResponseDto> handleConstraintViolation(
+            ConstraintViolationException ex,
+            ServerHttpRequest request) {
+
+        log.warn("Constraint violation for request to {}: {}", request.getPath(), ex.getMessage());
+
+        ValidationErrorResponseDto errorResponse = new ValidationErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "Validation failed",
+                request.getPath().value()
+        );
+
+        for (ConstraintViolation<?> violation : ex.getConstraintViolations()) {
+            errorResponse.addFieldError(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles ServerWebInputException (malformed query parameter, e.g. a date).
+     * Returns 400 Bad Request.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponseDto> handleServerWebInput(
+            ServerWebInputException ex,
+            ServerHttpRequest request) {
+
+        log.warn("Invalid input for request to {}: {}", request.getPath(), ex.getMessage());
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                ex.getReason(),
+                request.getPath().value()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    /**
+     * Handles any other exception raised while opening the stream.
+     * Returns 500 Internal Server Error.
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponseDto> handleGenericException(
+            Exception ex,
+            ServerHttpRequest request) {
+
+        log.error("Unexpected error while streaming time slots for request to {}: {}",
+                request.getPath(), ex.getMessage(), ex);
+
+        ErrorResponseDto errorResponse = new ErrorResponseDto(
+                Instant.now(),
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
+                "An unexpected error occurred",
+                request.getPath().value()
+        );
+
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+}
@@ -0,0 +1,86 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.streamtimeslots.StreamTimeSlotsPort;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.Flow;
+
+/**
+ * Streams time slots over R2DBC. The statement runs with a fetch size, so PostgreSQL hands rows
+ * over in batches as the subscriber requests them instead of materializing the whole result;
+ * a slow client holds back the cursor rather than buffering rows in the heap.
+ */
+@Component
+@ConditionalOnProperty(prefix = "scheduler.reactive-read", name = "enabled", havingValue = "true")
+public class StreamTimeSlotsRepositoryAdapter implements StreamTimeSlotsPort {
+
+    private static final String SELECT = "select t.id, t.owner_id, t.start_time, t.duration_minutes, t.state, t.version"
+            + " from time_slots t join users u on u.id = t.owner_id"
+            + " where u.username = :username";
+
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+
+    public StreamTimeSlotsRepositoryAdapter(@Qualifier("reactiveReadDatabaseClient") DatabaseClient databaseClient,
+                                            @Value("${scheduler.reactive-read.fetch-size:256}") int fetchSize) {
+        this.databaseClient = databaseClient;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public Flow.Publisher<TimeSlot> streamTimeSlots(String username, String status, Instant startTime, Instant endTime) {
+        if (username == null) {
+            throw new IllegalArgumentException("username cannot be null");
+        }
+        boolean hasStatus = status != null && !status.isEmpty();
+
+        StringBuilder sql = new StringBuilder(SELECT);
+        if (hasStatus) {
+            sql.append(" and t.state = :state");
+        }
+        if (startTime != null) {
+            sql.append(" and t.start_time >= :startTime");
+        }
+        if (endTime != null) {
+            sql.append(" and t.end_time <= :endTime");
+        }
+        sql.append(" order by t.start_time asc");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .bind("username", username);
+        if (hasStatus) {
+            spec = spec.bind("state", status);
+        }
+        if (startTime != null) {
+            spec = spec.bind("startTime", startTime);
+        }
+        if (endTime != null) {
+            spec = spec.bind("endTime", endTime);
+        }
+
+        Flux<TimeSlot> timeSlots = spec.map(StreamTimeSlotsRepositoryAdapter::toDomain).all();
+        return JdkFlowAdapter.publisherToFlowPublisher(timeSlots);
+    }
+
+    private static TimeSlot toDomain(Readable row) {
+        return TimeSlot.reconstitute(
+                row.get("id", UUID.class),
+                row.get("owner_id", UUID.class),
+                row.get("start_time", Instant.class),
+                row.get("duration_minutes", Integer.class),
+                row.get("state", String.class),
+                row.get("version", Long.class)
+        );
+    }
+}
@@ -0,0 +1,73 @@
+package com.doodle.scheduler.application.config.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Wires the reactive read path enabled by the {@code reactive-read} profile.
+ *
+ * <p>The R2DBC pool is deliberately not exposed as a {@code ConnectionFactory} bean: Spring Boot
+ * backs off its JDBC {@code DataSource} when one exists, and the blocking use cases still need it.
+ * Only the {@link DatabaseClient} built on top of the pool is a bean.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ReactiveReadProperties.class)
+@ConditionalOnProperty(prefix = "scheduler.reactive-read", name = "enabled", havingValue = "true")
+public class ReactiveReadConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+
+    public ReactiveReadConfig(ReactiveReadProperties properties) {
+        if (properties.r2dbcUrl() == null || properties.r2dbcUrl().isBlank()) {
+            throw new IllegalStateException("scheduler.reactive-read.r2dbc-url must be set when the reactive read path is enabled");
+        }
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.r2dbcUrl()).mutate();
+        if (properties.username() != null) {
+            options.option(ConnectionFactoryOptions.USER, properties.username());
+        }
+        if (properties.password() != null) {
+            options.option(ConnectionFactoryOptions.PASSWORD, properties.password());
+        }
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("scheduler-reactive-read")
+                .initialSize(properties.maxPoolSize())
+                .maxSize(properties.maxPoolSize())
+                .maxAcquireTime(properties.maxAcquireTime())
+                .build());
+        log.info("Reactive read path enabled: R2DBC pool max-size={}, fetch-size={}",
+                properties.maxPoolSize(), properties.fetchSize());
+    }
+
+    @Bean
+    public DatabaseClient reactiveReadDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Both Tomcat and Netty are on the classpath and Spring Boot prefers Tomcat for reactive
+     * applications too; the read deployment runs on Netty's event loop.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,22 @@
+package com.doodle.scheduler.application.config.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings of the reactive read path: the R2DBC connection and the size of its pool.
+ * The pool is separate from Hikari; each connection serves many concurrent streams.
+ */
+@ConfigurationProperties(prefix = "scheduler.reactive-read")
+public record ReactiveReadProperties(
+        @DefaultValue("false") boolean enabled,
+        String r2dbcUrl,
+        String username,
+        String password,
+        @DefaultValue("10") int maxPoolSize,
+        @DefaultValue("2s") Duration maxAcquireTime,
+        @DefaultValue("256") int fetchSize
+) {
+}
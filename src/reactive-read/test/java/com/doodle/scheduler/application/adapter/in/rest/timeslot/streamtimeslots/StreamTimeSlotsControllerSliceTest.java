@@ -0,0 +1,111 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.streamtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.mapper.TimeSlotDtoMapperImpl;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(controllers = {StreamTimeSlotsController.class, StreamTimeSlotsControllerAdvice.class})
+@Import(TimeSlotDtoMapperImpl.class)
+@ActiveProfiles("test")
+@TestPropertySource(properties = "scheduler.reactive-read.enabled=true")
+@DisplayName("StreamTimeSlotsController - Slice Test")
+class StreamTimeSlotsControllerSliceTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockitoBean
+    private StreamTimeSlotsUseCase streamTimeSlotsUseCase;
+
+    private static final String STREAM_URL = "/api/v1/timeslots/stream";
+    private static final UUID OWNER_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    @Nested
+    @DisplayName("GIVEN valid query parameters")
+    class SuccessScenarios {
+
+        @Test
+        @DisplayName("WHEN streaming time slots THEN should write one JSON object per line in order")
+        void shouldStreamTimeSlotsAsNdjson() {
+            // GIVEN
+            TimeSlot first = TimeSlot.reconstitute(UUID.randomUUID(), OWNER_ID,
+                    Instant.parse("2026-02-09T09:00:00Z"), 60, "AVAILABLE", 0);
+            TimeSlot second = TimeSlot.reconstitute(UUID.randomUUID(), OWNER_ID,
+                    Instant.parse("2026-02-10T09:00:00Z"), 30, "BUSY", 1);
+            when(streamTimeSlotsUseCase.execute(any(StreamTimeSlotsCommand.class)))
+                    .thenReturn(JdkFlowAdapter.publisherToFlowPublisher(Flux.just(first, second)));
+
+            // WHEN / THEN
+            webTestClient.get()
+                    .uri(STREAM_URL + "?start_time=2026-02-09T00:00:00Z")
+                    .accept(MediaType.APPLICATION_NDJSON)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                    .expectBody(String.class)
+                    .value(body -> {
+                        String[] lines = body.strip().split("\n");
+                        assertThat(lines).hasSize(2);
+                        assertThat(lines[0]).contains(first.getId().toString()).contains("\"state\":\"AVAILABLE\"");
+                        assertThat(lines[1]).contains(second.getId().toString()).contains("\"duration_minutes\":30");
+                    });
+
+            ArgumentCaptor<StreamTimeSlotsCommand> captor = ArgumentCaptor.forClass(StreamTimeSlotsCommand.class);
+            verify(streamTimeSlotsUseCase).execute(captor.capture());
+            assertThat(captor.getValue().username()).isEqualTo("authenticated-user");
+            assertThat(captor.getValue().startTime()).isEqualTo(Instant.parse("2026-02-09T00:00:00Z"));
+            assertThat(captor.getValue().status()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN invalid query parameters")
+    class ValidationScenarios {
+
+        @Test
+        @DisplayName("WHEN status is unknown THEN should return 400 BAD REQUEST")
+        void shouldRejectUnknownStatus() {
+            webTestClient.get()
+                    .uri(STREAM_URL + "?status=PENDING")
+                    .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isBadRequest();
+
+            verifyNoInteractions(streamTimeSlotsUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN start time is malformed THEN should return 400 BAD REQUEST")
+        void shouldRejectMalformedStartTime() {
+            webTestClient.get()
+                    .uri(STREAM_URL + "?start_time=yesterday")
+                    .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                    .exchange()
+                    .expectStatus().isBadRequest();
+
+            verifyNoInteractions(streamTimeSlotsUseCase);
+        }
+    }
+}
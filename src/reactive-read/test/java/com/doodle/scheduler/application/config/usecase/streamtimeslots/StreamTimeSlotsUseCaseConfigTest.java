@@ -0,0 +1,83 @@
+package com.doodle.scheduler.application.config.usecase.streamtimeslots;
+
+import com.doodle.scheduler.application.config.usecase.BaseUseCaseConfigTest;
+import com.doodle.scheduler.application.config.usecase.streamtimeslots.decorators.LoggedStreamTimeSlotsUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsUseCase;
+import com.doodle.scheduler.application.domain.calendar.service.StreamTimeSlotsServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The R2DBC pool connects lazily, so the wiring can be checked without a PostgreSQL server.
+ */
+@TestPropertySource(properties = {
+        "scheduler.reactive-read.enabled=true",
+        "scheduler.reactive-read.r2dbc-url=r2dbc:postgresql://localhost:5432/unused",
+        "scheduler.reactive-read.username=unused"
+})
+@DisplayName("StreamTimeSlotsUseCaseConfig - Decorator Wiring Test")
+class StreamTimeSlotsUseCaseConfigTest extends BaseUseCaseConfigTest {
+
+    @Autowired
+    private StreamTimeSlotsUseCase streamTimeSlotsUseCase;
+
+    @Test
+    @DisplayName("GIVEN configured use case bean WHEN inspecting decorator chain THEN should have correct wiring order")
+    void shouldHaveCorrectDecoratorWiringOrder() throws Exception {
+        final var logged = streamTimeSlotsUseCase;
+        assertThat(logged)
+                .as("Primary bean should be LoggedStreamTimeSlotsUseCaseDecorator")
+                .isInstanceOf(LoggedStreamTimeSlotsUseCaseDecorator.class);
+
+        final var service = getDelegate(logged);
+        assertThat(service)
+                .as("Core layer should be StreamTimeSlotsServiceImpl")
+                .isInstanceOf(StreamTimeSlotsServiceImpl.class);
+
+        assertThrows(NoSuchFieldException.class,
+                () -> getDelegate(service),
+                "Core service should not have a delegate field");
+    }
+
+    /**
+     * Extracts the delegate field from a decorator, unwrapping any proxies.
+     *
+     * @param target the decorator instance
+     * @return the unwrapped delegate
+     * @throws Exception if delegate field is not found or cannot be accessed
+     */
+    private Object getDelegate(Object target) throws Exception {
+        final Object current = unwrapProxy(target);
+
+        Class<?> clazz = current.getClass();
+        while (clazz != null) {
+            try {
+                final Field field = clazz.getDeclaredField("delegate");
+                field.setAccessible(true);
+                final Object value = field.get(current);
+                return value == null ? null : unwrapProxy(value);
+            } catch (final NoSuchFieldException e) {
+                clazz = clazz.getSuperclass();
+            }
+        }
+        throw new NoSuchFieldException("No delegate field found in " + current.getClass());
+    }
+
+    /**
+     * Unwraps Spring AOP proxies to get the actual target object.
+     *
+     * @param candidate the potentially proxied object
+     * @return the unwrapped target object
+     */
+    private Object unwrapProxy(Object candidate) {
+        return AopTestUtils.getTargetObject(candidate);
+    }
+}
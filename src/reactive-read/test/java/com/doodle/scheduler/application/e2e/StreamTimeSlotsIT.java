@@ -0,0 +1,93 @@
+package com.doodle.scheduler.application.e2e;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Runs the application as the read-only WebFlux/R2DBC deployment against the same PostgreSQL container.
+ */
+@ActiveProfiles({"test", "reactive-read"})
+class StreamTimeSlotsIT extends BaseE2E {
+
+    private static final String STREAM_ENDPOINT = "/api/v1/timeslots/stream";
+
+    @DynamicPropertySource
+    static void configureReactiveRead(DynamicPropertyRegistry registry) {
+        registry.add("scheduler.reactive-read.r2dbc-url", StreamTimeSlotsIT::r2dbcUrl);
+        registry.add("scheduler.reactive-read.username", postgres::getUsername);
+        registry.add("scheduler.reactive-read.password", postgres::getPassword);
+        // the test container is migrated and seeded through the JDBC pool
+        registry.add("spring.datasource.hikari.read-only", () -> "false");
+    }
+
+    static String r2dbcUrl() {
+        return "r2dbc:postgresql://" + postgres.getHost() + ":" + postgres.getMappedPort(5432)
+                + "/" + postgres.getDatabaseName();
+    }
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testStreamAllTimeSlots() {
+        // WHEN
+        ResponseEntity<String> response = whenGetStream(STREAM_ENDPOINT);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(response.getHeaders().getContentType()).isNotNull();
+        then(response.getHeaders().getContentType().isCompatibleWith(MediaType.APPLICATION_NDJSON)).isTrue();
+        List<String> lines = lines(response);
+        then(lines).hasSize(12);
+        then(lines.get(0)).contains("111e4567-e89b-41d4-a716-446655440001");
+        then(lines.get(11)).contains("ccce4567-e89b-41d4-a716-446655440012");
+    }
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testStreamWithFilters() {
+        // WHEN - AVAILABLE slots in Feb 8-9, 2026
+        ResponseEntity<String> response = whenGetStream(STREAM_ENDPOINT
+                + "?status=AVAILABLE&start_time=2026-02-08T00:00:00Z&end_time=2026-02-09T23:59:59Z");
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<String> lines = lines(response);
+        then(lines).hasSize(5);
+        then(lines).allSatisfy(line -> then(line).contains("\"state\":\"AVAILABLE\""));
+    }
+
+    @Test
+    void testStreamRejectsUnknownStatus() {
+        // WHEN
+        ResponseEntity<String> response = whenGetStream(STREAM_ENDPOINT + "?status=PENDING");
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private ResponseEntity<String> whenGetStream(String uri) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON));
+
+        return restTemplate.exchange(uri, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private static List<String> lines(ResponseEntity<String> response) {
+        then(response.getBody()).isNotNull();
+        return response.getBody().lines().filter(line -> !line.isBlank()).toList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Read-only WebFlux/R2DBC deployment. Compare its {@code stream} scenario with the {@code search}
+ * scenario of {@link PlatformThreadsLoadIT} (Spring MVC on JPA) at the same {@code load.concurrency};
+ * both read the same seeded calendar. The inherited scenarios run too and show the cost of routing
+ * blocking endpoints to this deployment.
+ */
+@ActiveProfiles({"test", "reactive-read"})
+class ReactiveReadLoadIT extends BaseThreadingModeLoadIT {
+
+    @DynamicPropertySource
+    static void configureReactiveRead(DynamicPropertyRegistry registry) {
+        registry.add("scheduler.reactive-read.r2dbc-url", () -> "r2dbc:postgresql://" + postgres.getHost() + ":"
+                + postgres.getMappedPort(5432) + "/" + postgres.getDatabaseName());
+        registry.add("scheduler.reactive-read.username", postgres::getUsername);
+        registry.add("scheduler.reactive-read.password", postgres::getPassword);
+        // same JDBC pool as the other modes, writable so the inherited create scenario can run
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "10");
+        registry.add("spring.datasource.hikari.minimum-idle", () -> "10");
+        registry.add("spring.datasource.hikari.read-only", () -> "false");
+    }
+
+    @Override
+    protected String mode() {
+        return "reactive-read";
+    }
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testStreamTimeSlotsThroughput() throws Exception {
+        LoadResult result = run("stream", sequence ->
+                get("/api/v1/timeslots/stream?status=AVAILABLE", "application/x-ndjson"));
+
+        then(result.errors()).isZero();
+        then(result.requests()).isPositive();
+    }
+}
@@ -0,0 +1,92 @@
+package com.doodle.scheduler.application.adapter.in.cli.importtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.timeslotimport.parser.CsvTimeSlotImportParser;
+import com.doodle.scheduler.application.adapter.in.timeslotimport.parser.MalformedImportException;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportedTimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportTimeSlotsJobRunner Unit Tests")
+class ImportTimeSlotsJobRunnerTest {
+
+    @Mock
+    private ImportTimeSlotsUseCase importTimeSlotsUseCase;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Should stream the rows of the file into the use case")
+    void shouldImportFile() throws Exception {
+        // Given
+        Path file = Files.writeString(tempDir.resolve("slots.csv"),
+                "username,start,duration_minutes\nalice,2026-02-10T09:00:00Z,30\nbob,soon,30\n");
+        List<ImportedTimeSlot> consumed = new ArrayList<>();
+        when(importTimeSlotsUseCase.execute(any(ImportTimeSlotsCommand.class))).thenAnswer(invocation -> {
+            ImportTimeSlotsCommand command = invocation.getArgument(0);
+            command.rows().forEach(consumed::add);
+            return new ImportTimeSlotsQueryResult(UUID.randomUUID(), 2, 1, 1, List.of(), Set.of("alice"),
+                    Duration.ofMillis(10));
+        });
+
+        // When
+        runner().run(new DefaultApplicationArguments("--file=" + file));
+
+        // Then
+        assertThat(consumed).hasSize(2);
+        assertThat(consumed.get(0)).isEqualTo(
+                ImportedTimeSlot.of(2, "alice", Instant.parse("2026-02-10T09:00:00Z"), 30, "AVAILABLE"));
+        assertThat(consumed.get(1).isMalformed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fail the job when no file is given")
+    void shouldRequireFile() {
+        assertThatThrownBy(() -> runner().run(new DefaultApplicationArguments()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("--file=<path>");
+
+        verifyNoInteractions(importTimeSlotsUseCase);
+    }
+
+    @Test
+    @DisplayName("Should fail the job when the file is missing or has no header")
+    void shouldFailOnUnreadableFile() throws Exception {
+        Path headerless = Files.writeString(tempDir.resolve("headerless.csv"), "alice,2026-02-10T09:00:00Z,30\n");
+
+        assertThatThrownBy(() -> runner().run(new DefaultApplicationArguments("--file=" + tempDir.resolve("none.csv"))))
+                .isInstanceOf(NoSuchFileException.class);
+        assertThatThrownBy(() -> runner().run(new DefaultApplicationArguments("--file=" + headerless)))
+                .isInstanceOf(MalformedImportException.class);
+
+        verifyNoInteractions(importTimeSlotsUseCase);
+    }
+
+    private ImportTimeSlotsJobRunner runner() {
+        return new ImportTimeSlotsJobRunner(importTimeSlotsUseCase, new CsvTimeSlotImportParser());
+    }
+}
@@ -0,0 +1,107 @@
+package com.doodle.scheduler.application.adapter.in.event.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AuditRingBuffer Unit Tests")
+class AuditRingBufferTest {
+
+    @Test
+    @DisplayName("Should reject offers once full and accept them again after a drain")
+    void shouldBeBounded() {
+        // Given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // When
+        boolean offeredWhileFull = buffer.offer(4);
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 3);
+
+        // Then
+        assertThat(offeredWhileFull).isFalse();
+        assertThat(drained).containsExactly(0, 1, 2);
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.offer(5)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep claim order across many laps of the ring")
+    void shouldKeepOrderAcrossLaps() {
+        // Given
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            buffer.offer(i);
+            if (i % 3 == 2) {
+                buffer.drainTo(drained, Integer.MAX_VALUE);
+            }
+        }
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(drained).hasSize(100).isSorted();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand every element of concurrent producers to the consumer exactly once")
+    void shouldNotLoseOrDuplicateUnderContention() throws InterruptedException {
+        // Given
+        int producers = 4;
+        int perProducer = 50_000;
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+
+        // When
+        for (int p = 0; p < producers; p++) {
+            int first = p * perProducer;
+            executor.execute(() -> {
+                for (int i = first; i < first + perProducer; i++) {
+                    while (!buffer.offer(i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        List<Integer> drained = new ArrayList<>(producers * perProducer);
+        while (drained.size() < producers * perProducer) {
+            if (buffer.drainTo(drained, 256) == 0) {
+                Thread.onSpinWait();
+            }
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // Then
+        Set<Integer> distinct = new HashSet<>(drained);
+        assertThat(distinct).hasSize(producers * perProducer);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should require a power of two capacity")
+    void shouldRejectOtherCapacities() {
+        assertThatThrownBy(() -> new AuditRingBuffer<>(1000))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("power of two");
+    }
+}
@@ -0,0 +1,128 @@
+package com.doodle.scheduler.application.adapter.in.event.audit;
+
+import com.doodle.scheduler.application.domain.calendar.model.audit.TimeSlotAuditEntry;
+import com.doodle.scheduler.application.domain.calendar.port.out.timeslotaudit.AppendTimeSlotAuditEntriesPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TimeSlotAuditTrail Unit Tests")
+class TimeSlotAuditTrailTest {
+
+    @Mock
+    private AppendTimeSlotAuditEntriesPort appendTimeSlotAuditEntriesPort;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TimeSlotAuditTrail auditTrail;
+
+    @BeforeEach
+    void setUp() {
+        // an interval this long means only a full batch or shutdown triggers a write
+        auditTrail = new TimeSlotAuditTrail(appendTimeSlotAuditEntriesPort, meterRegistry, 4, 2, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditTrail.stop();
+    }
+
+    @Test
+    @DisplayName("Should write a full batch without waiting for the flush interval")
+    void shouldWriteFullBatch() {
+        // Given
+        auditTrail.start();
+        TimeSlotAuditEntry first = entry();
+        TimeSlotAuditEntry second = entry();
+
+        // When
+        auditTrail.record(first);
+        auditTrail.record(second);
+
+        // Then
+        verify(appendTimeSlotAuditEntriesPort, timeout(5000)).appendTimeSlotAuditEntries(List.of(first, second));
+    }
+
+    @Test
+    @DisplayName("Should drop and count entries while the buffer is full and write the rest on shutdown")
+    void shouldDropWhenFullAndDrainOnStop() {
+        // Given - the writer is not running yet, so nothing leaves the buffer
+        for (int i = 0; i < 5; i++) {
+            auditTrail.record(entry());
+        }
+        assertThat(meterRegistry.get("scheduler.audit.pending").gauge().value()).isEqualTo(4);
+
+        // When
+        auditTrail.start();
+        auditTrail.stop();
+
+        // Then
+        ArgumentCaptor<List<TimeSlotAuditEntry>> batches = ArgumentCaptor.captor();
+        verify(appendTimeSlotAuditEntriesPort, times(2)).appendTimeSlotAuditEntries(batches.capture());
+        assertThat(batches.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSize(2));
+        assertThat(meterRegistry.get("scheduler.audit.written").counter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("scheduler.audit.dropped").tag("reason", "buffer-full").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("scheduler.audit.lag").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("scheduler.audit.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count a batch the database rejects as dropped and keep writing later batches")
+    void shouldCountFailedWrites() {
+        // Given
+        doThrow(new DataAccessResourceFailureException("connection lost"))
+                .doNothing()
+                .when(appendTimeSlotAuditEntriesPort).appendTimeSlotAuditEntries(anyList());
+        auditTrail.record(entry());
+        auditTrail.record(entry());
+        auditTrail.record(entry());
+
+        // When
+        auditTrail.start();
+        auditTrail.stop();
+
+        // Then
+        verify(appendTimeSlotAuditEntriesPort, times(2)).appendTimeSlotAuditEntries(anyList());
+        assertThat(meterRegistry.get("scheduler.audit.dropped").tag("reason", "write-failed").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("scheduler.audit.written").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count entries recorded after shutdown as dropped")
+    void shouldDropAfterStop() {
+        // Given
+        auditTrail.start();
+        auditTrail.stop();
+
+        // When
+        auditTrail.record(entry());
+
+        // Then
+        verifyNoInteractions(appendTimeSlotAuditEntriesPort);
+        assertThat(meterRegistry.get("scheduler.audit.dropped").tag("reason", "shutdown").counter().count())
+                .isEqualTo(1);
+    }
+
+    private static TimeSlotAuditEntry entry() {
+        return new TimeSlotAuditEntry(TimeSlotAuditEntry.CREATED, UUID.randomUUID(), UUID.randomUUID(), Instant.now());
+    }
+}
@@ -0,0 +1,99 @@
+package com.doodle.scheduler.application.adapter.in.rest.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TokenBucket Unit Tests")
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("GIVEN a full bucket WHEN taking more than its capacity at once THEN only the capacity is granted")
+    void shouldGrantBurstUpToCapacity() {
+        // GIVEN
+        TokenBucket bucket = new TokenBucket(10, 3, 0);
+
+        // WHEN & THEN
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isZero();
+        assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND / 10);
+    }
+
+    @Test
+    @DisplayName("GIVEN an empty bucket WHEN one refill interval passes THEN exactly one token is available")
+    void shouldRefillAtTheConfiguredRate() {
+        // GIVEN
+        TokenBucket bucket = new TokenBucket(10, 1, 0);
+        bucket.tryAcquire(0);
+
+        // WHEN & THEN
+        assertThat(bucket.tryAcquire(SECOND / 20)).isEqualTo(SECOND / 20);
+        assertThat(bucket.tryAcquire(SECOND / 10)).isZero();
+        assertThat(bucket.tryAcquire(SECOND / 10)).isPositive();
+    }
+
+    @Test
+    @DisplayName("GIVEN a long idle period WHEN taking tokens THEN the bucket holds no more than its capacity")
+    void shouldNotAccumulateBeyondCapacity() {
+        // GIVEN
+        TokenBucket bucket = new TokenBucket(10, 2, 0);
+
+        // WHEN
+        long later = 60 * SECOND;
+
+        // THEN
+        assertThat(bucket.isFull(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isZero();
+        assertThat(bucket.tryAcquire(later)).isPositive();
+        assertThat(bucket.isFull(later)).isFalse();
+    }
+
+    @Test
+    @DisplayName("GIVEN concurrent takers WHEN racing for tokens THEN no more than the capacity is granted")
+    void shouldNotOverGrantUnderContention() throws InterruptedException {
+        // GIVEN
+        long now = System.nanoTime();
+        TokenBucket bucket = new TokenBucket(0.001, 100, now);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // WHEN
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 1_000; j++) {
+                    if (bucket.tryAcquire(now) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        // THEN
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(granted).hasValue(100);
+    }
+
+    @Test
+    @DisplayName("GIVEN a non-positive rate or capacity WHEN creating THEN it is rejected")
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(1, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,197 @@
+package com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting;
+
+import com.doodle.scheduler.application.adapter.in.rest.BaseRestTest;
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.ScheduleMeetingRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.mapper.MeetingDtoMapperImpl;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotAvailableException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDescription;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDetails;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingTitle;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingCommand;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingUseCase;
+import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = {ScheduleMeetingController.class, ScheduleMeetingControllerAdvice.class})
+@Import(MeetingDtoMapperImpl.class)
+@DisplayName("ScheduleMeetingController - Slice Test")
+class ScheduleMeetingControllerSliceTest extends BaseRestTest {
+
+    @MockitoBean
+    private ScheduleMeetingUseCase scheduleMeetingUseCase;
+
+    private static final String BASE_URL = "/api/v1/meetings";
+    private static final UUID TIME_SLOT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    private static final UUID PARTICIPANT_ID = UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7");
+
+    @Nested
+    @DisplayName("GIVEN valid request data")
+    class SuccessScenarios {
+
+        @Test
+        @DisplayName("WHEN scheduling a meeting THEN should return 201 CREATED with meeting details")
+        void shouldScheduleMeetingSuccessfully() throws Exception {
+            // GIVEN
+            Meeting meeting = Meeting.create(
+                    new MeetingDetails(new MeetingTitle("Sprint planning"), new MeetingDescription("Q3 goals"),
+                            Set.of(PARTICIPANT_ID)),
+                    List.of(TIME_SLOT_ID));
+            when(scheduleMeetingUseCase.execute(any(ScheduleMeetingCommand.class))).thenReturn(meeting);
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest())))
+                    .andExpect(status().isCreated())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.id").value(meeting.getId().toString()))
+                    .andExpect(jsonPath("$.time_slot_id").value(TIME_SLOT_ID.toString()))
+                    .andExpect(jsonPath("$.title").value("Sprint planning"))
+                    .andExpect(jsonPath("$.description").value("Q3 goals"))
+                    .andExpect(jsonPath("$.participants", hasItem(PARTICIPANT_ID.toString())))
+                    .andExpect(jsonPath("$.state").value("SCHEDULED"));
+
+            ArgumentCaptor<ScheduleMeetingCommand> captor = ArgumentCaptor.forClass(ScheduleMeetingCommand.class);
+            verify(scheduleMeetingUseCase).execute(captor.capture());
+            assertThat(captor.getValue().username()).isEqualTo("authenticated-user");
+            assertThat(captor.getValue().timeSlotId()).isEqualTo(TIME_SLOT_ID);
+            assertThat(captor.getValue().participants()).containsExactly(PARTICIPANT_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN invalid request data")
+    class ValidationScenarios {
+
+        @Test
+        @DisplayName("WHEN participants are empty THEN should return 400 BAD REQUEST")
+        void shouldRejectEmptyParticipants() throws Exception {
+            // GIVEN
+            var requestDto = new ScheduleMeetingRequestDto(TIME_SLOT_ID, "Sprint planning", null, Set.of());
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.fieldErrors[0].field").value("participants"));
+
+            verifyNoInteractions(scheduleMeetingUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN time slot id is missing THEN should return 400 BAD REQUEST")
+        void shouldRejectMissingTimeSlotId() throws Exception {
+            // GIVEN
+            var requestDto = new ScheduleMeetingRequestDto(null, "Sprint planning", null, Set.of(PARTICIPANT_ID));
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.fieldErrors[0].field").value("timeSlotId"));
+
+            verifyNoInteractions(scheduleMeetingUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN body is malformed THEN should return 400 BAD REQUEST")
+        void shouldRejectMalformedBody() throws Exception {
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"time_slot_id\": \"not-a-uuid\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Malformed request body"));
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN the use case rejects the booking")
+    class ErrorScenarios {
+
+        @Test
+        @DisplayName("WHEN the slot is already booked THEN should return 409 CONFLICT")
+        void shouldReturn409WhenSlotNotAvailable() throws Exception {
+            // GIVEN
+            when(scheduleMeetingUseCase.execute(any(ScheduleMeetingCommand.class)))
+                    .thenThrow(new TimeSlotNotAvailableException("time slot is not available: " + TIME_SLOT_ID));
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest())))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.status").value(409));
+        }
+
+        @Test
+        @DisplayName("WHEN the slot does not exist THEN should return 404 NOT FOUND")
+        void shouldReturn404WhenSlotNotFound() throws Exception {
+            // GIVEN
+            when(scheduleMeetingUseCase.execute(any(ScheduleMeetingCommand.class)))
+                    .thenThrow(new TimeSlotNotFoundException("Time slot not found with id: " + TIME_SLOT_ID));
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest())))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Time slot not found with id: " + TIME_SLOT_ID));
+        }
+
+        @Test
+        @DisplayName("WHEN the user does not exist THEN should return 404 NOT FOUND")
+        void shouldReturn404WhenUserNotFound() throws Exception {
+            // GIVEN
+            when(scheduleMeetingUseCase.execute(any(ScheduleMeetingCommand.class)))
+                    .thenThrow(new UserNotFoundException("User not found with username: authenticated-user"));
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest())))
+                    .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("WHEN the database fails THEN should return 500 INTERNAL SERVER ERROR")
+        void shouldReturn500WhenDatabaseFails() throws Exception {
+            // GIVEN
+            when(scheduleMeetingUseCase.execute(any(ScheduleMeetingCommand.class)))
+                    .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest())))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.message").value("An error occurred while accessing the database"));
+        }
+    }
+
+    private ScheduleMeetingRequestDto validRequest() {
+        return new ScheduleMeetingRequestDto(TIME_SLOT_ID, "Sprint planning", "Q3 goals", Set.of(PARTICIPANT_ID));
+    }
+}
@@ -0,0 +1,139 @@
+package com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability;
+
+import com.doodle.scheduler.application.adapter.in.rest.BaseRestTest;
+import com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.dto.CreateRecurringAvailabilityRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.mapper.RecurringAvailabilityDtoMapperImpl;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotCollisionException;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.createrecurringavailability.CreateRecurringAvailabilityUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = {CreateRecurringAvailabilityController.class, CreateRecurringAvailabilityControllerAdvice.class})
+@Import(RecurringAvailabilityDtoMapperImpl.class)
+@DisplayName("CreateRecurringAvailabilityController - Slice Test")
+class CreateRecurringAvailabilityControllerSliceTest extends BaseRestTest {
+
+    @MockitoBean
+    private CreateRecurringAvailabilityUseCase createRecurringAvailabilityUseCase;
+
+    private static final String BASE_URL = "/api/v1/recurring-availabilities";
+    private static final UUID OWNER_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    @Nested
+    @DisplayName("GIVEN valid request data")
+    class SuccessScenarios {
+
+        @Test
+        @DisplayName("WHEN creating a recurring availability THEN should return 201 CREATED with the rule")
+        void shouldCreateRecurringAvailabilitySuccessfully() throws Exception {
+            // GIVEN
+            var rule = new RecurrenceRule(Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), LocalTime.of(9, 0), 180,
+                    ZoneId.of("Europe/Berlin"), LocalDate.parse("2026-02-09"), null);
+            var recurringAvailability = RecurringAvailability.create(OWNER_ID, rule);
+            when(createRecurringAvailabilityUseCase.execute(any(CreateRecurringAvailabilityCommand.class)))
+                    .thenReturn(recurringAvailability);
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest("Europe/Berlin"))))
+                    .andExpect(status().isCreated())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.id").value(recurringAvailability.getId().toString()))
+                    .andExpect(jsonPath("$.days_of_week", containsInAnyOrder("MONDAY", "FRIDAY")))
+                    .andExpect(jsonPath("$.duration_minutes").value(180))
+                    .andExpect(jsonPath("$.time_zone").value("Europe/Berlin"))
+                    .andExpect(jsonPath("$.valid_from").value("2026-02-09"));
+
+            ArgumentCaptor<CreateRecurringAvailabilityCommand> captor =
+                    ArgumentCaptor.forClass(CreateRecurringAvailabilityCommand.class);
+            verify(createRecurringAvailabilityUseCase).execute(captor.capture());
+            assertThat(captor.getValue().username()).isEqualTo("authenticated-user");
+            assertThat(captor.getValue().zone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+            assertThat(captor.getValue().validUntil()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN invalid request data")
+    class ValidationScenarios {
+
+        @Test
+        @DisplayName("WHEN days of week are empty THEN should return 400 BAD REQUEST")
+        void shouldRejectEmptyDaysOfWeek() throws Exception {
+            // GIVEN
+            var requestDto = new CreateRecurringAvailabilityRequestDto(Set.of(), LocalTime.of(9, 0), 180,
+                    "Europe/Berlin", LocalDate.parse("2026-02-09"), null);
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.fieldErrors[0].field").value("daysOfWeek"));
+
+            verifyNoInteractions(createRecurringAvailabilityUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN time zone is unknown THEN should return 400 BAD REQUEST")
+        void shouldRejectUnknownTimeZone() throws Exception {
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest("Mars/Olympus"))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+
+            verifyNoInteractions(createRecurringAvailabilityUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN the use case rejects the rule")
+    class ErrorScenarios {
+
+        @Test
+        @DisplayName("WHEN an occurrence collides with an existing slot THEN should return 409 CONFLICT")
+        void shouldReturn409WhenRuleCollides() throws Exception {
+            // GIVEN
+            when(createRecurringAvailabilityUseCase.execute(any(CreateRecurringAvailabilityCommand.class)))
+                    .thenThrow(new TimeSlotCollisionException("recurring availability overlaps an existing slot: " + OWNER_ID));
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(validRequest("Europe/Berlin"))))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.status").value(409));
+        }
+    }
+
+    private CreateRecurringAvailabilityRequestDto validRequest(String timeZone) {
+        return new CreateRecurringAvailabilityRequestDto(Set.of(DayOfWeek.MONDAY, DayOfWeek.FRIDAY),
+                LocalTime.of(9, 0), 180, timeZone, LocalDate.parse("2026-02-09"), null);
+    }
+}
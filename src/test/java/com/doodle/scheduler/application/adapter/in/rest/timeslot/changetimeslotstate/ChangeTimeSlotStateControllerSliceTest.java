@@ -0,0 +1,183 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.changetimeslotstate;
+
+import com.doodle.scheduler.application.adapter.in.rest.BaseRestTest;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.mapper.TimeSlotDtoMapperImpl;
+import com.doodle.scheduler.application.domain.calendar.exception.InvalidSlotStateTransitionException;
+import com.doodle.scheduler.application.domain.calendar.exception.SlotAssignedToMeetingException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateUseCase;
+import com.doodle.scheduler.application.domain.common.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = {ChangeTimeSlotStateController.class, ChangeTimeSlotStateControllerAdvice.class})
+@Import(TimeSlotDtoMapperImpl.class)
+@DisplayName("ChangeTimeSlotStateController - Slice Test")
+class ChangeTimeSlotStateControllerSliceTest extends BaseRestTest {
+
+    @MockitoBean
+    private ChangeTimeSlotStateUseCase changeTimeSlotStateUseCase;
+
+    private static final String BASE_URL = "/api/v1/timeslots";
+    private static final UUID TIME_SLOT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+
+    @Nested
+    @DisplayName("GIVEN valid request data")
+    class SuccessScenarios {
+
+        @Test
+        @DisplayName("WHEN marking time slot busy THEN should return 200 OK with the updated time slot")
+        void shouldChangeStateSuccessfully() throws Exception {
+            // GIVEN
+            TimeSlot busy = TimeSlot.reconstitute(
+                    TIME_SLOT_ID, UUID.randomUUID(), Instant.parse("2026-02-07T10:00:00Z"), 60, "BUSY", 1L);
+            when(changeTimeSlotStateUseCase.execute(any(ChangeTimeSlotStateCommand.class))).thenReturn(busy);
+
+            // WHEN & THEN
+            mockMvc.perform(patchState(TIME_SLOT_ID.toString(), "{\"state\": \"BUSY\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.id").value(TIME_SLOT_ID.toString()))
+                    .andExpect(jsonPath("$.end").value("2026-02-07T11:00:00Z"))
+                    .andExpect(jsonPath("$.state").value("BUSY"));
+
+            ArgumentCaptor<ChangeTimeSlotStateCommand> command = ArgumentCaptor.forClass(ChangeTimeSlotStateCommand.class);
+            verify(changeTimeSlotStateUseCase).execute(command.capture());
+            assertThat(command.getValue().timeSlotId()).isEqualTo(TIME_SLOT_ID);
+            assertThat(command.getValue().state()).isEqualTo("BUSY");
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN invalid request")
+    class ValidationScenarios {
+
+        @Test
+        @DisplayName("WHEN state is unknown THEN should return 400 BAD REQUEST with field error")
+        void shouldRejectUnknownState() throws Exception {
+            mockMvc.perform(patchState(TIME_SLOT_ID.toString(), "{\"state\": \"TENTATIVE\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.fieldErrors[0].field").value("state"))
+                    .andExpect(jsonPath("$.fieldErrors[0].message").value("state must be AVAILABLE or BUSY"));
+
+            verifyNoInteractions(changeTimeSlotStateUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN state is missing THEN should return 400 BAD REQUEST")
+        void shouldRejectMissingState() throws Exception {
+            mockMvc.perform(patchState(TIME_SLOT_ID.toString(), "{}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.fieldErrors[0].message").value("state must not be null"));
+
+            verifyNoInteractions(changeTimeSlotStateUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN body is malformed THEN should return 400 BAD REQUEST")
+        void shouldRejectMalformedBody() throws Exception {
+            mockMvc.perform(patchState(TIME_SLOT_ID.toString(), "{\"state\": "))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Malformed request body"));
+
+            verifyNoInteractions(changeTimeSlotStateUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN ID is not a valid UUID THEN should return 400 BAD REQUEST")
+        void shouldRejectInvalidUuidFormat() throws Exception {
+            mockMvc.perform(patchState("not-a-valid-uuid", "{\"state\": \"BUSY\"}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value(containsString("Invalid UUID format")));
+
+            verifyNoInteractions(changeTimeSlotStateUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN the use case refuses the transition")
+    class DomainErrorScenarios {
+
+        @Test
+        @DisplayName("WHEN time slot is not found THEN should return 404 NOT FOUND")
+        void shouldReturnNotFound() throws Exception {
+            when(changeTimeSlotStateUseCase.execute(any(ChangeTimeSlotStateCommand.class)))
+                    .thenThrow(new TimeSlotNotFoundException("Time slot not found with id: " + TIME_SLOT_ID));
+
+            mockMvc.perform(patchState(TIME_SLOT_ID.toString(), "{\"state\": \"BUSY\"}"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Time slot not found with id: " + TIME_SLOT_ID));
+        }
+
+        @Test
+        @DisplayName("WHEN time slot is already in the requested state THEN should return 409 CONFLICT")
+        void shouldReturnConflictForInvalidTransition() throws Exception {
+            when(changeTimeSlotStateUseCase.execute(any(ChangeTimeSlotStateCommand.class)))
+                    .thenThrow(new InvalidSlotStateTransitionException("Cannot markBusy from BusyState"));
+
+            mockMvc.perform(patchState(TIME_SLOT_ID.toString(), "{\"state\": \"BUSY\"}"))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message").value("Cannot markBusy from BusyState"));
+        }
+
+        @Test
+        @DisplayName("WHEN time slot is assigned to a meeting THEN should return 409 CONFLICT")
+        void shouldReturnConflictForMeetingSlot() throws Exception {
+            when(changeTimeSlotStateUseCase.execute(any(ChangeTimeSlotStateCommand.class)))
+                    .thenThrow(new SlotAssignedToMeetingException("time slot is used by a meeting and its state cannot be changed"));
+
+            mockMvc.perform(patchState(TIME_SLOT_ID.toString(), "{\"state\": \"AVAILABLE\"}"))
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("WHEN the database fails THEN should return 500 INTERNAL SERVER ERROR")
+        void shouldReturnServerErrorForDatabaseFailure() throws Exception {
+            when(changeTimeSlotStateUseCase.execute(any(ChangeTimeSlotStateCommand.class)))
+                    .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+            mockMvc.perform(patchState(TIME_SLOT_ID.toString(), "{\"state\": \"BUSY\"}"))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
+        }
+
+        @Test
+        @DisplayName("WHEN too many writes are in flight THEN should return 503 with Retry-After")
+        void shouldReturnServiceUnavailableWhenOverloaded() throws Exception {
+            when(changeTimeSlotStateUseCase.execute(any(ChangeTimeSlotStateCommand.class)))
+                    .thenThrow(new ServiceOverloadedException("Too many concurrent requests", Duration.ofSeconds(2)));
+
+            mockMvc.perform(patchState(TIME_SLOT_ID.toString(), "{\"state\": \"BUSY\"}"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+        }
+    }
+
+    private static MockHttpServletRequestBuilder patchState(String id, String body) {
+        return patch(BASE_URL + "/" + id + "/state")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+}
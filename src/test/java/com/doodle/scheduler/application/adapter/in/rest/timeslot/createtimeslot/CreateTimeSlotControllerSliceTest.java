@@ -4,6 +4,7 @@ import com.doodle.scheduler.application.adapter.in.rest.BaseRestTest;
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.CreateTimeSlotRequestDto;
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.mapper.TimeSlotDtoMapperImpl;
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.objectmother.TimeSlotMother;
+import com.doodle.scheduler.application.domain.calendar.exception.IdempotencyKeyReusedException;
 import com.doodle.scheduler.application.domain.calendar.exception.InvalidTimeRangeException;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeRangeInvalidDurationException;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotCollisionException;
@@ -11,22 +12,29 @@ import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotInvali
 import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
 import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotCommand;
 import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotUseCase;
+import com.doodle.scheduler.application.domain.common.exception.ServiceOverloadedException;
 import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -66,6 +74,25 @@ class CreateTimeSlotControllerSliceTest extends BaseRestTest {
                     .andExpect(jsonPath("$.state").value("AVAILABLE"));
         }
 
+        @Test
+        @DisplayName("WHEN creating time slot with Idempotency-Key THEN should pass the key to the use case")
+        void shouldPassIdempotencyKeyToUseCase() throws Exception {
+            // GIVEN
+            CreateTimeSlotRequestDto requestDto = TimeSlotMother.createValidRequest();
+            TimeSlot timeSlot = TimeSlotMother.createValidTimeSlot();
+            // WHEN
+            when(createTimeSlotUseCase.execute(any(CreateTimeSlotCommand.class))).thenReturn(timeSlot);
+            // THEN
+            mockMvc.perform(post(BASE_URL)
+                            .header("Idempotency-Key", "5f0c6b2e-8f3a-4c1e-9d2b-7a6e4b1c0d3f")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isCreated());
+            ArgumentCaptor<CreateTimeSlotCommand> command = ArgumentCaptor.forClass(CreateTimeSlotCommand.class);
+            verify(createTimeSlotUseCase).execute(command.capture());
+            assertThat(command.getValue().idempotencyKey()).isEqualTo("5f0c6b2e-8f3a-4c1e-9d2b-7a6e4b1c0d3f");
+        }
+
         @Test
         @DisplayName("WHEN creating time slot with different duration THEN should return 201 with correct end time")
         void shouldCreateTimeSlotWithCustomDuration() throws Exception {
@@ -259,6 +286,44 @@ class CreateTimeSlotControllerSliceTest extends BaseRestTest {
         }
     }
 
+    @Nested
+    @DisplayName("GIVEN an Idempotency-Key")
+    class IdempotencyKeyScenarios {
+
+        @Test
+        @DisplayName("WHEN the key was used for a different request THEN should return 422 UNPROCESSABLE ENTITY")
+        void shouldReturn422WhenKeyReused() throws Exception {
+            // GIVEN
+            CreateTimeSlotRequestDto requestDto = TimeSlotMother.createValidRequest();
+            // WHEN
+            when(createTimeSlotUseCase.execute(any(CreateTimeSlotCommand.class)))
+                    .thenThrow(new IdempotencyKeyReusedException("Idempotency-Key key-1 was already used for a different request"));
+            // THEN
+            mockMvc.perform(post(BASE_URL)
+                            .header("Idempotency-Key", "key-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.status").value(422))
+                    .andExpect(jsonPath("$.message").value(containsString("key-1")))
+                    .andExpect(jsonPath("$.path").value(BASE_URL));
+        }
+
+        @Test
+        @DisplayName("WHEN the key is longer than 255 characters THEN should return 400 BAD REQUEST")
+        void shouldReturn400WhenKeyTooLong() throws Exception {
+            // GIVEN
+            CreateTimeSlotRequestDto requestDto = TimeSlotMother.createValidRequest();
+            // WHEN & THEN
+            mockMvc.perform(post(BASE_URL)
+                            .header("Idempotency-Key", "k".repeat(256))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isBadRequest());
+            verifyNoInteractions(createTimeSlotUseCase);
+        }
+    }
+
     @Nested
     @DisplayName("GIVEN infrastructure errors")
     class InfrastructureErrorScenarios {
@@ -319,6 +384,25 @@ class CreateTimeSlotControllerSliceTest extends BaseRestTest {
                     .andExpect(jsonPath("$.message").value("An error occurred while accessing the database"));
         }
 
+        @Test
+        @DisplayName("WHEN too many writes are in flight THEN should return 503 SERVICE UNAVAILABLE with Retry-After")
+        void shouldHandleServiceOverloadedException() throws Exception {
+            // GIVEN
+            CreateTimeSlotRequestDto requestDto = TimeSlotMother.createValidRequest();
+            // WHEN
+            when(createTimeSlotUseCase.execute(any(CreateTimeSlotCommand.class)))
+                    .thenThrow(new ServiceOverloadedException("Too many concurrent requests", Duration.ofSeconds(2)));
+            // THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDto)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                    .andExpect(jsonPath("$.status").value(503))
+                    .andExpect(jsonPath("$.error").value("Service Unavailable"))
+                    .andExpect(jsonPath("$.path").value(BASE_URL));
+        }
+
         @Test
         @DisplayName("WHEN NullPointerException is thrown THEN should return 500 INTERNAL SERVER ERROR")
         void shouldHandleNullPointerException() throws Exception {
@@ -2,16 +2,20 @@ package com.doodle.scheduler.application.adapter.in.rest.timeslot.deletetimeslot
 
 import com.doodle.scheduler.application.adapter.in.rest.BaseRestTest;
 import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.exception.IdempotencyKeyReusedException;
 import com.doodle.scheduler.application.domain.calendar.exception.SlotAssignedToMeetingException;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
 import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotUseCase;
+import com.doodle.scheduler.application.domain.common.exception.ServiceOverloadedException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.containsString;
@@ -183,4 +187,74 @@ class DeleteTimeSlotControllerSliceTest extends BaseRestTest {
                     .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
         }
     }
+
+    @Nested
+    @DisplayName("GIVEN an Idempotency-Key")
+    class IdempotencyKeyScenarios {
+
+        @Test
+        @DisplayName("WHEN deleting with a key THEN should pass the key to the use case")
+        void shouldPassIdempotencyKeyToUseCase() throws Exception {
+            // GIVEN
+            UUID timeSlotId = UUID.randomUUID();
+
+            // WHEN
+            mockMvc.perform(delete(BASE_URL + "/" + timeSlotId).header("Idempotency-Key", "key-1"))
+                    .andExpect(status().isNoContent());
+
+            // THEN
+            verify(deleteTimeSlotUseCase).execute(new DeleteTimeSlotCommand("authenticated-user", timeSlotId, "key-1"));
+        }
+
+        @Test
+        @DisplayName("WHEN the key was used for a different request THEN should return 422 UNPROCESSABLE ENTITY")
+        void shouldReturn422WhenKeyReused() throws Exception {
+            // GIVEN
+            UUID timeSlotId = UUID.randomUUID();
+
+            doThrow(new IdempotencyKeyReusedException("Idempotency-Key key-1 was already used for a different request"))
+                    .when(deleteTimeSlotUseCase).execute(any(DeleteTimeSlotCommand.class));
+
+            // WHEN & THEN
+            mockMvc.perform(delete(BASE_URL + "/" + timeSlotId).header("Idempotency-Key", "key-1"))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(content().contentType("application/json"))
+                    .andExpect(jsonPath("$.status").value(422))
+                    .andExpect(jsonPath("$.message").value(containsString("key-1")));
+        }
+
+        @Test
+        @DisplayName("WHEN the key is longer than 255 characters THEN should return 400 BAD REQUEST")
+        void shouldReturn400WhenKeyTooLong() throws Exception {
+            // WHEN & THEN
+            mockMvc.perform(delete(BASE_URL + "/" + UUID.randomUUID()).header("Idempotency-Key", "k".repeat(256)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+
+            verifyNoInteractions(deleteTimeSlotUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN too many deletes in flight")
+    class OverloadScenarios {
+
+        @Test
+        @DisplayName("WHEN the concurrency limit is reached THEN should return 503 SERVICE UNAVAILABLE with Retry-After")
+        void shouldReturn503WhenOverloaded() throws Exception {
+            // GIVEN
+            UUID timeSlotId = UUID.randomUUID();
+
+            doThrow(new ServiceOverloadedException("Too many concurrent requests", Duration.ofMillis(300)))
+                    .when(deleteTimeSlotUseCase).execute(any(DeleteTimeSlotCommand.class));
+
+            // WHEN & THEN
+            mockMvc.perform(delete(BASE_URL + "/" + timeSlotId))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                    .andExpect(content().contentType("application/json"))
+                    .andExpect(jsonPath("$.status").value(503))
+                    .andExpect(jsonPath("$.error").value("Service Unavailable"));
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchTimeSlotsCborConverter Unit Tests")
+class SearchTimeSlotsCborConverterTest {
+
+    private final SearchTimeSlotsCborConverter converter = new SearchTimeSlotsCborConverter();
+    private final CBORMapper cborMapper = new CBORMapper();
+
+    @Test
+    @DisplayName("Should encode ids as 16 bytes and instants as epoch milliseconds")
+    void shouldEncodeIdsAndInstantsCompactly() throws IOException {
+        // Given
+        UUID id = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        Instant start = Instant.parse("2026-02-08T10:00:00.250Z");
+        SearchTimeSlotsResponseDto response = new SearchTimeSlotsResponseDto(
+                List.of(new TimeSlotResponseDto(id, start, start.plusSeconds(3_600), 60, "AVAILABLE")), 42L, 5, 0, 10);
+
+        // When
+        JsonNode decoded = cborMapper.readTree(write(response));
+
+        // Then
+        JsonNode timeSlot = decoded.get("time_slots").get(0);
+        ByteBuffer idBytes = ByteBuffer.wrap(timeSlot.get("id").binaryValue());
+        assertThat(idBytes.remaining()).isEqualTo(16);
+        assertThat(new UUID(idBytes.getLong(), idBytes.getLong())).isEqualTo(id);
+        assertThat(timeSlot.get("start").longValue()).isEqualTo(start.toEpochMilli());
+        assertThat(timeSlot.get("end").longValue()).isEqualTo(start.plusSeconds(3_600).toEpochMilli());
+        assertThat(timeSlot.get("duration_minutes").intValue()).isEqualTo(60);
+        assertThat(timeSlot.get("state").textValue()).isEqualTo("AVAILABLE");
+        assertThat(decoded.get("total_elements").longValue()).isEqualTo(42L);
+        assertThat(decoded.get("total_pages").intValue()).isEqualTo(5);
+        assertThat(decoded.get("current_page").intValue()).isZero();
+        assertThat(decoded.get("page_size").intValue()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should encode null fields and rows as CBOR null")
+    void shouldEncodeNulls() throws IOException {
+        // Given
+        SearchTimeSlotsResponseDto response = new SearchTimeSlotsResponseDto(
+                Arrays.asList(new TimeSlotResponseDto(null, null, null, null, null), null), 1L, 1, 0, 10);
+
+        // When
+        JsonNode decoded = cborMapper.readTree(write(response));
+
+        // Then
+        JsonNode timeSlot = decoded.get("time_slots").get(0);
+        assertThat(timeSlot.get("id").isNull()).isTrue();
+        assertThat(timeSlot.get("start").isNull()).isTrue();
+        assertThat(timeSlot.get("duration_minutes").isNull()).isTrue();
+        assertThat(decoded.get("time_slots").get(1).isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should only write search responses as CBOR")
+    void shouldOnlyWriteSearchResponsesAsCbor() {
+        // When & Then
+        assertThat(converter.canWrite(SearchTimeSlotsResponseDto.class, MediaType.APPLICATION_CBOR)).isTrue();
+        assertThat(converter.canWrite(SearchTimeSlotsResponseDto.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(SearchTimeSlotsResponseDto.class, MediaType.APPLICATION_CBOR)).isFalse();
+    }
+
+    private byte[] write(SearchTimeSlotsResponseDto response) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_CBOR, message);
+        assertThat(message.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+        return message.getBodyAsBytes();
+    }
+}
@@ -0,0 +1,151 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SearchTimeSlotsCoalescer Unit Tests")
+class SearchTimeSlotsCoalescerTest {
+
+    private static final SearchTimeSlotsCommand COMMAND =
+            new SearchTimeSlotsCommand("owner", "AVAILABLE", null, null, 0, 10);
+    private static final SearchTimeSlotsQueryResult RESULT =
+            new SearchTimeSlotsQueryResult(Collections.emptyList(), 0L, 0, 0, 10);
+
+    private final SearchTimeSlotsCoalescer coalescer = new SearchTimeSlotsCoalescer();
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should share one execution and its result between concurrent identical searches")
+    void shouldCoalesceConcurrentIdenticalSearches() throws Exception {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        Future<SearchTimeSlotsQueryResult> leader = executor.submit(() -> coalescer.execute(COMMAND, 7L, () -> {
+            executions.incrementAndGet();
+            leaderRunning.countDown();
+            await(release);
+            return RESULT;
+        }));
+        leaderRunning.await();
+        Future<SearchTimeSlotsQueryResult> follower = executor.submit(() -> coalescer.execute(
+                new SearchTimeSlotsCommand("owner", "AVAILABLE", null, null, 0, 10), 7L, () -> {
+                    executions.incrementAndGet();
+                    return RESULT;
+                }));
+        Thread.sleep(50);
+        release.countDown();
+
+        // Then
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(RESULT);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(RESULT);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not join a search running at another calendar version")
+    void shouldNotCoalesceAcrossCalendarVersions() throws Exception {
+        // Given
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        Future<SearchTimeSlotsQueryResult> older = executor.submit(() -> coalescer.execute(COMMAND, 7L, () -> {
+            executions.incrementAndGet();
+            leaderRunning.countDown();
+            await(release);
+            return RESULT;
+        }));
+        leaderRunning.await();
+        SearchTimeSlotsQueryResult newer = coalescer.execute(COMMAND, 8L, () -> {
+            executions.incrementAndGet();
+            return RESULT;
+        });
+        release.countDown();
+
+        // Then
+        assertThat(newer).isSameAs(RESULT);
+        assertThat(older.get(5, TimeUnit.SECONDS)).isSameAs(RESULT);
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should rethrow the failure of a shared execution to every waiting search")
+    void shouldShareFailures() throws Exception {
+        // Given
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        Future<SearchTimeSlotsQueryResult> leader = executor.submit(() -> coalescer.execute(COMMAND, 7L, () -> {
+            leaderRunning.countDown();
+            await(release);
+            throw new UserNotFoundException("owner");
+        }));
+        leaderRunning.await();
+        Future<SearchTimeSlotsQueryResult> follower = executor.submit(() -> coalescer.execute(COMMAND, 7L, () -> RESULT));
+        Thread.sleep(50);
+        release.countDown();
+
+        // Then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(UserNotFoundException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("Should run a new execution once the previous identical search has finished")
+    void shouldNotCacheFinishedSearches() {
+        // Given
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        coalescer.execute(COMMAND, 7L, () -> {
+            executions.incrementAndGet();
+            return RESULT;
+        });
+        coalescer.execute(COMMAND, 7L, () -> {
+            executions.incrementAndGet();
+            return RESULT;
+        });
+
+        // Then
+        assertThat(executions).hasValue(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
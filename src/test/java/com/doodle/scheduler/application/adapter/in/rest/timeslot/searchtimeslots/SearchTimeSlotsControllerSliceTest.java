@@ -5,32 +5,55 @@ import com.doodle.scheduler.application.adapter.in.rest.common.dto.PaginationDto
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsRequestDto;
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchFiltersTimeSlotRequestDto;
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.mapper.SearchTimeSlotsDtoMapperImpl;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionUseCase;
 import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsQueryResult;
 import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsUseCase;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@WebMvcTest(controllers = {SearchTimeSlotsController.class})
-@Import(SearchTimeSlotsDtoMapperImpl.class)
+@WebMvcTest(controllers = {SearchTimeSlotsController.class, SearchTimeSlotsControllerAdvice.class})
+@Import({SearchTimeSlotsDtoMapperImpl.class, SearchTimeSlotsCoalescer.class})
 @DisplayName("SearchTimeSlotsController")
 class SearchTimeSlotsControllerSliceTest extends BaseRestTest {
 
     @MockitoBean
     private SearchTimeSlotsUseCase searchTimeSlotsUseCase;
 
+    @MockitoBean
+    private GetCalendarVersionUseCase getCalendarVersionUseCase;
+
+    private static final SearchTimeSlotsQueryResult EMPTY_RESULT =
+        new SearchTimeSlotsQueryResult(Collections.emptyList(), 0L, 0, 0, 10);
+
     @Nested
     @DisplayName("Success Scenarios")
     class SuccessScenarios {
@@ -121,6 +144,69 @@ class SearchTimeSlotsControllerSliceTest extends BaseRestTest {
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.total_elements").value(3));
         }
+
+        @Test
+        @DisplayName("should write time slot rows with ISO-8601 instants")
+        void shouldReturn200WithTimeSlotRows() throws Exception {
+            // Given
+            UUID id = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            TimeSlot timeSlot = TimeSlot.reconstitute(id, UUID.randomUUID(),
+                    Instant.parse("2026-02-08T10:00:00.250Z"), 60, "AVAILABLE", 0L);
+
+            when(searchTimeSlotsUseCase.execute(any()))
+                    .thenReturn(new SearchTimeSlotsQueryResult(List.of(timeSlot), 1L, 1, 0, 10));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/timeslots"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.time_slots[0].id").value(id.toString()))
+                    .andExpect(jsonPath("$.time_slots[0].start").value("2026-02-08T10:00:00.250Z"))
+                    .andExpect(jsonPath("$.time_slots[0].end").value("2026-02-08T11:00:00.250Z"))
+                    .andExpect(jsonPath("$.time_slots[0].duration_minutes").value(60))
+                    .andExpect(jsonPath("$.time_slots[0].state").value("AVAILABLE"))
+                    .andExpect(jsonPath("$.total_elements").value(1));
+        }
+
+        @Test
+        @DisplayName("should return CBOR with binary ids and epoch-millisecond instants when the client accepts it")
+        void shouldReturnCborWhenAccepted() throws Exception {
+            // Given
+            UUID id = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+            Instant start = Instant.parse("2026-02-08T10:00:00Z");
+            TimeSlot timeSlot = TimeSlot.reconstitute(id, UUID.randomUUID(), start, 60, "AVAILABLE", 0L);
+            when(getCalendarVersionUseCase.execute(any())).thenReturn(7L);
+            when(searchTimeSlotsUseCase.execute(any()))
+                    .thenReturn(new SearchTimeSlotsQueryResult(List.of(timeSlot), 1L, 1, 0, 10));
+
+            // When
+            MvcResult result = mockMvc.perform(get("/api/v1/timeslots").accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andExpect(header().string(HttpHeaders.ETAG, endsWith("-cbor\"")))
+                    .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT)))
+                    .andReturn();
+
+            // Then
+            JsonNode decoded = new CBORMapper().readTree(result.getResponse().getContentAsByteArray());
+            assertThat(decoded.at("/time_slots/0/id").binaryValue()).hasSize(16);
+            assertThat(decoded.at("/time_slots/0/start").longValue()).isEqualTo(start.toEpochMilli());
+            assertThat(decoded.at("/total_elements").longValue()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("should keep JSON as the default when the client accepts both encodings equally")
+        void shouldPreferJsonOnEqualQuality() throws Exception {
+            // Given
+            when(searchTimeSlotsUseCase.execute(any())).thenReturn(EMPTY_RESULT);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/timeslots")
+                            .header(HttpHeaders.ACCEPT, "application/cbor, application/json"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.page_size").value(10));
+        }
     }
 
     @Nested
@@ -180,4 +266,156 @@ class SearchTimeSlotsControllerSliceTest extends BaseRestTest {
                     .andExpect(status().isBadRequest());
         }
     }
+
+    @Nested
+    @DisplayName("Conditional Request Scenarios")
+    class ConditionalRequestScenarios {
+
+        @Test
+        @DisplayName("should return 200 with a strong ETag")
+        void shouldReturnETag() throws Exception {
+            // Given
+            when(getCalendarVersionUseCase.execute(any())).thenReturn(7L);
+            when(searchTimeSlotsUseCase.execute(any())).thenReturn(EMPTY_RESULT);
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/timeslots/search")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(new SearchTimeSlotsRequestDto())))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"7-")));
+        }
+
+        @Test
+        @DisplayName("should return 304 without searching when If-None-Match matches the current ETag")
+        void shouldReturn304WhenCalendarUnchanged() throws Exception {
+            // Given
+            when(getCalendarVersionUseCase.execute(any())).thenReturn(3L);
+            when(searchTimeSlotsUseCase.execute(any())).thenReturn(EMPTY_RESULT);
+            String body = objectMapper.writeValueAsString(new SearchTimeSlotsRequestDto());
+            MvcResult first = mockMvc.perform(post("/api/v1/timeslots/search")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andReturn();
+            String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+            clearInvocations(searchTimeSlotsUseCase);
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/timeslots/search")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag)
+                    .content(body))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, etag))
+                    .andExpect(content().string(""));
+            verify(searchTimeSlotsUseCase, never()).execute(any());
+        }
+
+        @Test
+        @DisplayName("should return 200 when the calendar version changed since the ETag was issued")
+        void shouldReturn200WhenCalendarChanged() throws Exception {
+            // Given
+            when(getCalendarVersionUseCase.execute(any())).thenReturn(3L, 4L);
+            when(searchTimeSlotsUseCase.execute(any())).thenReturn(EMPTY_RESULT);
+            String body = objectMapper.writeValueAsString(new SearchTimeSlotsRequestDto());
+            String etag = mockMvc.perform(post("/api/v1/timeslots/search")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // When & Then
+            mockMvc.perform(post("/api/v1/timeslots/search")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.IF_NONE_MATCH, etag)
+                    .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"4-")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Parameter Scenarios")
+    class QueryParameterScenarios {
+
+        @Test
+        @DisplayName("should return 200 for GET search with query parameters")
+        void shouldReturn200ForGetSearch() throws Exception {
+            // Given
+            when(searchTimeSlotsUseCase.execute(any())).thenReturn(EMPTY_RESULT);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/timeslots")
+                    .param("status", "AVAILABLE")
+                    .param("start_time", "2026-02-08T00:00:00Z")
+                    .param("page", "0")
+                    .param("size", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().exists(HttpHeaders.ETAG))
+                    .andExpect(jsonPath("$.page_size").value(10));
+        }
+
+        @Test
+        @DisplayName("should return 400 for GET search with invalid status")
+        void shouldReturn400ForInvalidStatus() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/v1/timeslots")
+                    .param("status", "INVALID_STATUS"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return 400 for GET search with malformed start_time")
+        void shouldReturn400ForMalformedStartTime() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/v1/timeslots")
+                    .param("start_time", "not-a-date"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("should return only the selected time slot fields")
+        void shouldReturnSelectedFieldsOnly() throws Exception {
+            // Given
+            TimeSlot timeSlot = TimeSlot.reconstitute(UUID.randomUUID(), UUID.randomUUID(),
+                    Instant.parse("2026-02-08T10:00:00Z"), 60, "AVAILABLE", 0L);
+            when(searchTimeSlotsUseCase.execute(any()))
+                    .thenReturn(new SearchTimeSlotsQueryResult(List.of(timeSlot), 1L, 1, 0, 10));
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/timeslots")
+                    .param("fields", "end,id"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.time_slots[0].id").value(timeSlot.getId().toString()))
+                    .andExpect(jsonPath("$.time_slots[0].end").value("2026-02-08T11:00:00Z"))
+                    .andExpect(jsonPath("$.time_slots[0].start").doesNotExist())
+                    .andExpect(jsonPath("$.time_slots[0].duration_minutes").doesNotExist())
+                    .andExpect(jsonPath("$.time_slots[0].state").doesNotExist())
+                    .andExpect(jsonPath("$.total_elements").value(1));
+        }
+
+        @Test
+        @DisplayName("should return a different ETag for a field selection")
+        void shouldTagFieldSelectionSeparately() throws Exception {
+            // Given
+            when(searchTimeSlotsUseCase.execute(any())).thenReturn(EMPTY_RESULT);
+            String fullTag = mockMvc.perform(get("/api/v1/timeslots"))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            // When & Then
+            mockMvc.perform(get("/api/v1/timeslots")
+                    .param("fields", "id,start")
+                    .header(HttpHeaders.IF_NONE_MATCH, fullTag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, not(fullTag)));
+        }
+
+        @Test
+        @DisplayName("should return 400 for GET search with an unknown field")
+        void shouldReturn400ForUnknownField() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/v1/timeslots")
+                    .param("fields", "id,owner_id"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
 }
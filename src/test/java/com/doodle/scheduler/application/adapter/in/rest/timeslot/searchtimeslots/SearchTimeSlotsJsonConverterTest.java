@@ -0,0 +1,132 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchTimeSlotsJsonConverter Unit Tests")
+class SearchTimeSlotsJsonConverterTest {
+
+    // the settings Spring Boot applies to the application ObjectMapper
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final SearchTimeSlotsJsonConverter converter = new SearchTimeSlotsJsonConverter(objectMapper);
+    private final MappingJackson2HttpMessageConverter jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2026-02-08T10:00:00Z",
+            "2026-02-08T10:00:00.500Z",
+            "2026-02-08T10:00:00.000250Z",
+            "2026-02-08T10:00:00.000000001Z",
+            "1970-01-01T00:00:00Z",
+            "1969-12-31T23:59:59.999Z",
+            "2024-02-29T23:59:59Z",
+            "0000-01-01T00:00:00Z",
+            "9999-12-31T23:59:59.999999999Z",
+            "+10000-01-01T00:00:00Z",
+            "-0001-12-31T23:59:59Z"
+    })
+    @DisplayName("Should write instants exactly as the ObjectMapper does")
+    void shouldWriteInstantsLikeObjectMapper(String instant) throws IOException {
+        // Given
+        Instant start = Instant.parse(instant);
+        SearchTimeSlotsResponseDto response = page(new TimeSlotResponseDto(
+                UUID.fromString("550e8400-e29b-41d4-a716-446655440000"), start, start.plusSeconds(3_600), 60, "AVAILABLE"));
+
+        // When & Then
+        assertThat(write(response)).isEqualTo(writeWithObjectMapper(response));
+    }
+
+    @Test
+    @DisplayName("Should write a full page of rows exactly as the ObjectMapper does")
+    void shouldWritePageLikeObjectMapper() throws IOException {
+        // Given
+        List<TimeSlotResponseDto> rows = new ArrayList<>();
+        Instant start = Instant.parse("2026-02-08T08:00:00Z");
+        for (int i = 0; i < 100; i++) {
+            rows.add(new TimeSlotResponseDto(UUID.randomUUID(), start.plusSeconds(1_800L * i),
+                    start.plusSeconds(1_800L * (i + 1)), 30, i % 2 == 0 ? "AVAILABLE" : "BUSY"));
+        }
+        SearchTimeSlotsResponseDto response = new SearchTimeSlotsResponseDto(rows, 4_321L, 44, 3, 100);
+
+        // When & Then
+        assertThat(write(response)).isEqualTo(writeWithObjectMapper(response));
+    }
+
+    @Test
+    @DisplayName("Should write null fields and rows as the ObjectMapper does")
+    void shouldWriteNullsLikeObjectMapper() throws IOException {
+        // Given
+        SearchTimeSlotsResponseDto response = page(new TimeSlotResponseDto(null, null, null, null, null), null);
+        SearchTimeSlotsResponseDto withoutRows = new SearchTimeSlotsResponseDto(null, 0L, 0, 0, 10);
+
+        // When & Then
+        assertThat(write(response)).isEqualTo(writeWithObjectMapper(response));
+        assertThat(write(withoutRows)).isEqualTo(writeWithObjectMapper(withoutRows));
+    }
+
+    @Test
+    @DisplayName("Should write only the selected fields of each row, in response order")
+    void shouldWriteSelectedFieldsOnly() throws IOException {
+        // Given
+        UUID id = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        TimeSlotResponseDto row = new TimeSlotResponseDto();
+        row.setId(id);
+        row.setEnd(Instant.parse("2026-02-08T11:00:00Z"));
+        SearchTimeSlotsResponseDto response = new SearchTimeSlotsResponseDto(List.of(row), 1L, 1, 0, 10,
+                TimeSlotField.parse("end,id"));
+
+        // When & Then
+        assertThat(write(response)).isEqualTo("""
+                {"time_slots":[{"id":"550e8400-e29b-41d4-a716-446655440000","end":"2026-02-08T11:00:00Z"}],\
+                "total_elements":1,"total_pages":1,"current_page":0,"page_size":10}""");
+    }
+
+    @Test
+    @DisplayName("Should only write search responses as JSON")
+    void shouldOnlyWriteSearchResponsesAsJson() {
+        // When & Then
+        assertThat(converter.canWrite(SearchTimeSlotsResponseDto.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(SearchTimeSlotsResponseDto.class, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(converter.canWrite(TimeSlotResponseDto.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(SearchTimeSlotsResponseDto.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    private static SearchTimeSlotsResponseDto page(TimeSlotResponseDto... rows) {
+        return new SearchTimeSlotsResponseDto(Arrays.asList(rows), rows.length, 1, 0, 10);
+    }
+
+    private String write(SearchTimeSlotsResponseDto response) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, message);
+        assertThat(message.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        return message.getBodyAsString();
+    }
+
+    private String writeWithObjectMapper(SearchTimeSlotsResponseDto response) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        jacksonConverter.write(response, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsString();
+    }
+}
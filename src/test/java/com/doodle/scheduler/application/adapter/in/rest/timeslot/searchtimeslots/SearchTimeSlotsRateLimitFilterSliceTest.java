@@ -0,0 +1,85 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.BaseRestTest;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.mapper.SearchTimeSlotsDtoMapperImpl;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = {SearchTimeSlotsController.class, SearchTimeSlotsControllerAdvice.class})
+@Import({SearchTimeSlotsDtoMapperImpl.class, SearchTimeSlotsCoalescer.class})
+@TestPropertySource(properties = {
+        "scheduler.search.rate-limit.enabled=true",
+        "scheduler.search.rate-limit.requests-per-second=0.01",
+        "scheduler.search.rate-limit.burst=2"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("SearchTimeSlotsRateLimitFilter")
+class SearchTimeSlotsRateLimitFilterSliceTest extends BaseRestTest {
+
+    @MockitoBean
+    private SearchTimeSlotsUseCase searchTimeSlotsUseCase;
+
+    @MockitoBean
+    private GetCalendarVersionUseCase getCalendarVersionUseCase;
+
+    @Test
+    @DisplayName("should return 429 with Retry-After once the owner's burst is spent, without searching")
+    void shouldReturn429OnceBurstIsSpent() throws Exception {
+        // Given
+        when(searchTimeSlotsUseCase.execute(any()))
+                .thenReturn(new SearchTimeSlotsQueryResult(Collections.emptyList(), 0L, 0, 0, 10));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/timeslots")).andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/timeslots/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SearchTimeSlotsRequestDto())))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/timeslots"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"))
+                .andExpect(jsonPath("$.path").value("/api/v1/timeslots"));
+
+        verify(searchTimeSlotsUseCase, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("should not count requests to other endpoints")
+    void shouldNotLimitOtherEndpoints() throws Exception {
+        // Given
+        when(searchTimeSlotsUseCase.execute(any()))
+                .thenReturn(new SearchTimeSlotsQueryResult(Collections.emptyList(), 0L, 0, 0, 10));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            mockMvc.perform(get("/api/v1/timeslots/search"));
+        }
+
+        // Then
+        mockMvc.perform(get("/api/v1/timeslots")).andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,261 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.timeslotfeed;
+
+import com.doodle.scheduler.application.adapter.in.rest.BaseRestTest;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotfeed.CalendarStamp;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.WriteTimeSlotFeedPort;
+import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = {TimeSlotFeedController.class, TimeSlotFeedControllerAdvice.class})
+@Import(TimeSlotFeedCache.class)
+@DisplayName("TimeSlotFeedController - Slice Test")
+// every test starts with an empty feed cache
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class TimeSlotFeedControllerSliceTest extends BaseRestTest {
+
+    @MockitoBean
+    private ExportTimeSlotFeedUseCase exportTimeSlotFeedUseCase;
+
+    private static final String FEED_URL = "/api/v1/timeslots/feed.ics";
+    private static final UUID OWNER_ID = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+    private static final UUID SLOT_ID = UUID.fromString("0190b3a2-7c1e-7d4a-9f00-2b6c5f4e8a11");
+    private static final UUID RULE_ID = UUID.fromString("0190b3a2-7c1e-7d4a-9f00-2b6c5f4e8a22");
+    private static final Instant UPDATED_AT = Instant.parse("2026-02-01T12:00:00Z");
+    private static final CalendarStamp STAMP = new CalendarStamp(OWNER_ID, 7, UPDATED_AT);
+
+    private final List<Boolean> begun = new ArrayList<>();
+
+    @Nested
+    @DisplayName("GIVEN a calendar the client does not have yet")
+    class FullFeedScenarios {
+
+        @Test
+        @DisplayName("WHEN requesting the feed THEN should write one VEVENT per entry with validators")
+        void shouldWriteFeed() throws Exception {
+            // GIVEN
+            RecurringAvailability recurring = RecurringAvailability.reconstitute(RULE_ID, OWNER_ID, new RecurrenceRule(
+                    Set.of(DayOfWeek.WEDNESDAY, DayOfWeek.MONDAY), LocalTime.of(9, 0), 60, ZoneId.of("Europe/Berlin"),
+                    LocalDate.parse("2026-02-09"), LocalDate.parse("2026-02-28")));
+            TimeSlot booked = TimeSlot.reconstitute(recurring.occurrenceId(Instant.parse("2026-02-11T08:00:00Z")),
+                    OWNER_ID, Instant.parse("2026-02-11T08:00:00Z"), 60, "BUSY", 1);
+            TimeSlot slot = TimeSlot.reconstitute(SLOT_ID, OWNER_ID, Instant.parse("2026-03-02T10:00:00Z"), 30, "AVAILABLE", 0);
+            exportWith(feed -> {
+                feed.writeRecurringAvailability(recurring);
+                feed.writeBookedOccurrence(booked, recurring);
+                feed.writeTimeSlot(slot);
+            });
+
+            // WHEN / THEN
+            mockMvc.perform(get(FEED_URL))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/calendar"))
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                    .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, UPDATED_AT.toEpochMilli()))
+                    .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                    .andExpect(content().string("""
+                            BEGIN:VCALENDAR\r
+                            VERSION:2.0\r
+                            PRODID:-//Doodle Scheduler//Time Slot Feed//EN\r
+                            CALSCALE:GREGORIAN\r
+                            METHOD:PUBLISH\r
+                            X-WR-CALNAME:authenticated-user\r
+                            BEGIN:VEVENT\r
+                            UID:0190b3a2-7c1e-7d4a-9f00-2b6c5f4e8a22\r
+                            DTSTAMP:20260201T120000Z\r
+                            DTSTART;TZID=Europe/Berlin:20260209T090000\r
+                            DURATION:PT60M\r
+                            RRULE:FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20260228T225959Z\r
+                            SUMMARY:Available\r
+                            TRANSP:TRANSPARENT\r
+                            END:VEVENT\r
+                            BEGIN:VEVENT\r
+                            UID:0190b3a2-7c1e-7d4a-9f00-2b6c5f4e8a22\r
+                            RECURRENCE-ID;TZID=Europe/Berlin:20260211T090000\r
+                            DTSTAMP:20260201T120000Z\r
+                            DTSTART:20260211T080000Z\r
+                            DTEND:20260211T090000Z\r
+                            SEQUENCE:1\r
+                            SUMMARY:Busy\r
+                            TRANSP:OPAQUE\r
+                            END:VEVENT\r
+                            BEGIN:VEVENT\r
+                            UID:0190b3a2-7c1e-7d4a-9f00-2b6c5f4e8a11\r
+                            DTSTAMP:20260201T120000Z\r
+                            DTSTART:20260302T100000Z\r
+                            DTEND:20260302T103000Z\r
+                            SEQUENCE:0\r
+                            SUMMARY:Available\r
+                            TRANSP:TRANSPARENT\r
+                            END:VEVENT\r
+                            END:VCALENDAR\r
+                            """));
+
+            assertThat(begun).containsExactly(true);
+        }
+
+        @Test
+        @DisplayName("WHEN a rule has a fixed UTC offset THEN should write it in UTC with the weekdays shifted")
+        void shouldWriteFixedOffsetRuleInUtc() throws Exception {
+            // GIVEN - Mondays 01:00 at +02:00 are Sundays 23:00 UTC
+            RecurringAvailability recurring = RecurringAvailability.reconstitute(RULE_ID, OWNER_ID, new RecurrenceRule(
+                    Set.of(DayOfWeek.MONDAY), LocalTime.of(1, 0), 30, ZoneOffset.ofHours(2),
+                    LocalDate.parse("2026-02-09"), null));
+            exportWith(feed -> feed.writeRecurringAvailability(recurring));
+
+            // WHEN / THEN
+            mockMvc.perform(get(FEED_URL))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString(
+                            "DTSTART:20260208T230000Z\r\nDURATION:PT30M\r\nRRULE:FREQ=WEEKLY;BYDAY=SU\r\n")));
+        }
+
+        @Test
+        @DisplayName("WHEN the same calendar version is requested again THEN should serve it from the cache")
+        void shouldServeCachedFeed() throws Exception {
+            // GIVEN
+            exportWith(feed -> feed.writeTimeSlot(
+                    TimeSlot.reconstitute(SLOT_ID, OWNER_ID, Instant.parse("2026-03-02T10:00:00Z"), 30, "AVAILABLE", 0)));
+            String first = mockMvc.perform(get(FEED_URL)).andReturn().getResponse().getContentAsString();
+
+            // WHEN / THEN
+            mockMvc.perform(get(FEED_URL))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                    .andExpect(content().string(first));
+
+            assertThat(begun).containsExactly(true, false);
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN a client that already has the calendar version")
+    class NotModifiedScenarios {
+
+        @Test
+        @DisplayName("WHEN If-None-Match carries the ETag THEN should return 304 NOT MODIFIED without reading the calendar")
+        void shouldReturnNotModifiedForETag() throws Exception {
+            // GIVEN
+            exportWith(feed -> {
+                throw new AssertionError("the calendar must not be read");
+            });
+
+            // WHEN / THEN
+            mockMvc.perform(get(FEED_URL).header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"7\""))
+                    .andExpect(content().string(not(containsString("VCALENDAR"))));
+
+            assertThat(begun).containsExactly(false);
+        }
+
+        @Test
+        @DisplayName("WHEN If-Modified-Since is not before the last change THEN should return 304 NOT MODIFIED")
+        void shouldReturnNotModifiedForDate() throws Exception {
+            // GIVEN
+            exportWith(feed -> {
+                throw new AssertionError("the calendar must not be read");
+            });
+            HttpHeaders headers = new HttpHeaders();
+            headers.setIfModifiedSince(UPDATED_AT.toEpochMilli());
+
+            // WHEN / THEN
+            mockMvc.perform(get(FEED_URL).headers(headers))
+                    .andExpect(status().isNotModified());
+
+            assertThat(begun).containsExactly(false);
+        }
+
+        @Test
+        @DisplayName("WHEN the ETag is outdated THEN should return the feed")
+        void shouldReturnFeedForOutdatedETag() throws Exception {
+            // GIVEN
+            exportWith(feed -> {
+            });
+
+            // WHEN / THEN
+            mockMvc.perform(get(FEED_URL).header(HttpHeaders.IF_NONE_MATCH, "\"6\""))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string(containsString("END:VCALENDAR")));
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN a failing export")
+    class ErrorScenarios {
+
+        @Test
+        @DisplayName("WHEN the user does not exist THEN should return 404 NOT FOUND")
+        void shouldHandleUserNotFound() throws Exception {
+            // GIVEN
+            doThrow(new UserNotFoundException("User not found with username: authenticated-user"))
+                    .when(exportTimeSlotFeedUseCase).execute(any(ExportTimeSlotFeedCommand.class));
+
+            // WHEN / THEN
+            mockMvc.perform(get(FEED_URL))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.status").value(404))
+                    .andExpect(jsonPath("$.message").value("User not found with username: authenticated-user"));
+        }
+
+        @Test
+        @DisplayName("WHEN the database fails THEN should return 500 INTERNAL SERVER ERROR")
+        void shouldHandleDataAccessException() throws Exception {
+            // GIVEN
+            doThrow(new DataAccessResourceFailureException("connection lost"))
+                    .when(exportTimeSlotFeedUseCase).execute(any(ExportTimeSlotFeedCommand.class));
+
+            // WHEN / THEN
+            mockMvc.perform(get(FEED_URL))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
+        }
+    }
+
+    private void exportWith(Consumer<WriteTimeSlotFeedPort> entries) {
+        doAnswer(invocation -> {
+            ExportTimeSlotFeedCommand command = invocation.getArgument(0);
+            assertThat(command.username()).isEqualTo("authenticated-user");
+            boolean proceed = command.feed().begin(STAMP);
+            begun.add(proceed);
+            if (proceed) {
+                entries.accept(command.feed());
+                command.feed().end();
+            }
+            return null;
+        }).when(exportTimeSlotFeedUseCase).execute(any(ExportTimeSlotFeedCommand.class));
+    }
+}
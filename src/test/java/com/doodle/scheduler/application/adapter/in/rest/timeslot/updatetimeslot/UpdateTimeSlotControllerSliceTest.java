@@ -0,0 +1,199 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslot.updatetimeslot;
+
+import com.doodle.scheduler.application.adapter.in.rest.BaseRestTest;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.mapper.TimeSlotDtoMapperImpl;
+import com.doodle.scheduler.application.domain.calendar.exception.SlotAssignedToMeetingException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotCollisionException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotUseCase;
+import com.doodle.scheduler.application.domain.common.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = {UpdateTimeSlotController.class, UpdateTimeSlotControllerAdvice.class})
+@Import(TimeSlotDtoMapperImpl.class)
+@DisplayName("UpdateTimeSlotController - Slice Test")
+class UpdateTimeSlotControllerSliceTest extends BaseRestTest {
+
+    @MockitoBean
+    private UpdateTimeSlotUseCase updateTimeSlotUseCase;
+
+    private static final String BASE_URL = "/api/v1/timeslots";
+    private static final UUID TIME_SLOT_ID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    private static final String VALID_BODY = "{\"start\": \"2026-02-07T12:00:00Z\", \"duration_minutes\": 45}";
+
+    @Nested
+    @DisplayName("GIVEN valid request data")
+    class SuccessScenarios {
+
+        @Test
+        @DisplayName("WHEN rescheduling a time slot THEN should return 200 OK with the moved time slot")
+        void shouldUpdateTimeSlotSuccessfully() throws Exception {
+            // GIVEN
+            TimeSlot moved = TimeSlot.reconstitute(
+                    TIME_SLOT_ID, UUID.randomUUID(), Instant.parse("2026-02-07T12:00:00Z"), 45, "AVAILABLE", 1L);
+            when(updateTimeSlotUseCase.execute(any(UpdateTimeSlotCommand.class))).thenReturn(moved);
+
+            // WHEN & THEN
+            mockMvc.perform(putTimeSlot(TIME_SLOT_ID.toString(), VALID_BODY))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.id").value(TIME_SLOT_ID.toString()))
+                    .andExpect(jsonPath("$.start").value("2026-02-07T12:00:00Z"))
+                    .andExpect(jsonPath("$.end").value("2026-02-07T12:45:00Z"))
+                    .andExpect(jsonPath("$.duration_minutes").value(45));
+
+            ArgumentCaptor<UpdateTimeSlotCommand> command = ArgumentCaptor.forClass(UpdateTimeSlotCommand.class);
+            verify(updateTimeSlotUseCase).execute(command.capture());
+            assertThat(command.getValue().timeSlotId()).isEqualTo(TIME_SLOT_ID);
+            assertThat(command.getValue().start()).isEqualTo(Instant.parse("2026-02-07T12:00:00Z"));
+            assertThat(command.getValue().durationMinutes()).isEqualTo(45);
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN invalid request")
+    class ValidationScenarios {
+
+        @Test
+        @DisplayName("WHEN duration is not positive THEN should return 400 BAD REQUEST with field error")
+        void shouldRejectNonPositiveDuration() throws Exception {
+            mockMvc.perform(putTimeSlot(TIME_SLOT_ID.toString(), "{\"start\": \"2026-02-07T12:00:00Z\", \"duration_minutes\": 0}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.fieldErrors[0].field").value("durationMinutes"))
+                    .andExpect(jsonPath("$.fieldErrors[0].message").value("duration in minutes must be positive"));
+
+            verifyNoInteractions(updateTimeSlotUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN start is missing THEN should return 400 BAD REQUEST")
+        void shouldRejectMissingStart() throws Exception {
+            mockMvc.perform(putTimeSlot(TIME_SLOT_ID.toString(), "{\"duration_minutes\": 45}"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.fieldErrors[0].message").value("start time must not be null"));
+
+            verifyNoInteractions(updateTimeSlotUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN body is malformed THEN should return 400 BAD REQUEST")
+        void shouldRejectMalformedBody() throws Exception {
+            mockMvc.perform(putTimeSlot(TIME_SLOT_ID.toString(), "{\"start\": "))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Malformed request body"));
+
+            verifyNoInteractions(updateTimeSlotUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN ID is not a valid UUID THEN should return 400 BAD REQUEST")
+        void shouldRejectInvalidUuidFormat() throws Exception {
+            mockMvc.perform(putTimeSlot("not-a-valid-uuid", VALID_BODY))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value(containsString("Invalid UUID format")));
+
+            verifyNoInteractions(updateTimeSlotUseCase);
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN the use case refuses the move")
+    class DomainErrorScenarios {
+
+        @Test
+        @DisplayName("WHEN time slot is not found THEN should return 404 NOT FOUND")
+        void shouldReturnNotFound() throws Exception {
+            when(updateTimeSlotUseCase.execute(any(UpdateTimeSlotCommand.class)))
+                    .thenThrow(new TimeSlotNotFoundException("Time slot not found with id: " + TIME_SLOT_ID));
+
+            mockMvc.perform(putTimeSlot(TIME_SLOT_ID.toString(), VALID_BODY))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Time slot not found with id: " + TIME_SLOT_ID));
+        }
+
+        @Test
+        @DisplayName("WHEN the new range overlaps another slot THEN should return 409 CONFLICT")
+        void shouldReturnConflictForCollision() throws Exception {
+            when(updateTimeSlotUseCase.execute(any(UpdateTimeSlotCommand.class)))
+                    .thenThrow(new TimeSlotCollisionException("time slot overlaps an existing slot: " + TIME_SLOT_ID));
+
+            mockMvc.perform(putTimeSlot(TIME_SLOT_ID.toString(), VALID_BODY))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message").value(containsString("overlaps an existing slot")));
+        }
+
+        @Test
+        @DisplayName("WHEN the slot is booked by a meeting THEN should return 409 CONFLICT")
+        void shouldReturnConflictForBookedSlot() throws Exception {
+            when(updateTimeSlotUseCase.execute(any(UpdateTimeSlotCommand.class)))
+                    .thenThrow(new SlotAssignedToMeetingException("time slot is used by a meeting and cannot be moved"));
+
+            mockMvc.perform(putTimeSlot(TIME_SLOT_ID.toString(), VALID_BODY))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message").value("time slot is used by a meeting and cannot be moved"));
+        }
+
+        @Test
+        @DisplayName("WHEN the slot keeps changing concurrently THEN should return 409 CONFLICT")
+        void shouldReturnConflictForConcurrentModification() throws Exception {
+            when(updateTimeSlotUseCase.execute(any(UpdateTimeSlotCommand.class)))
+                    .thenThrow(new ObjectOptimisticLockingFailureException(TimeSlot.class, TIME_SLOT_ID));
+
+            mockMvc.perform(putTimeSlot(TIME_SLOT_ID.toString(), VALID_BODY))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message").value("time slot was modified concurrently, please retry"));
+        }
+
+        @Test
+        @DisplayName("WHEN the database fails THEN should return 500 INTERNAL SERVER ERROR")
+        void shouldReturnServerErrorForDatabaseFailure() throws Exception {
+            when(updateTimeSlotUseCase.execute(any(UpdateTimeSlotCommand.class)))
+                    .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+            mockMvc.perform(putTimeSlot(TIME_SLOT_ID.toString(), VALID_BODY))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
+        }
+
+        @Test
+        @DisplayName("WHEN too many writes are in flight THEN should return 503 with Retry-After")
+        void shouldReturnServiceUnavailableWhenOverloaded() throws Exception {
+            when(updateTimeSlotUseCase.execute(any(UpdateTimeSlotCommand.class)))
+                    .thenThrow(new ServiceOverloadedException("Too many concurrent requests", Duration.ofSeconds(2)));
+
+            mockMvc.perform(putTimeSlot(TIME_SLOT_ID.toString(), VALID_BODY))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+        }
+    }
+
+    private static MockHttpServletRequestBuilder putTimeSlot(String id, String body) {
+        return put(BASE_URL + "/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+}
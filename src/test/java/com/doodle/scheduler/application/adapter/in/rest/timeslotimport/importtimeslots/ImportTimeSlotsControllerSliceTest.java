@@ -0,0 +1,141 @@
+package com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots;
+
+import com.doodle.scheduler.application.adapter.in.rest.BaseRestTest;
+import com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots.mapper.ImportTimeSlotsDtoMapperImpl;
+import com.doodle.scheduler.application.adapter.in.timeslotimport.parser.IcsTimeSlotImportParser;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportRejection;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportedTimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = {ImportTimeSlotsController.class, ImportTimeSlotsControllerAdvice.class})
+@Import({ImportTimeSlotsDtoMapperImpl.class, IcsTimeSlotImportParser.class})
+@DisplayName("ImportTimeSlotsController - Slice Test")
+class ImportTimeSlotsControllerSliceTest extends BaseRestTest {
+
+    @MockitoBean
+    private ImportTimeSlotsUseCase importTimeSlotsUseCase;
+
+    private static final String BASE_URL = "/api/v1/timeslot-imports";
+    private static final UUID IMPORT_ID = UUID.fromString("0190b3a2-7c1e-7d4a-9f00-2b6c5f4e8a11");
+
+    @Nested
+    @DisplayName("GIVEN a readable import body")
+    class SuccessScenarios {
+
+        @Test
+        @DisplayName("WHEN importing iCalendar THEN should assign the events to the caller")
+        void shouldImportIcs() throws Exception {
+            // GIVEN
+            List<ImportedTimeSlot> consumed = new ArrayList<>();
+            when(importTimeSlotsUseCase.execute(any(ImportTimeSlotsCommand.class))).thenAnswer(invocation -> {
+                ImportTimeSlotsCommand command = invocation.getArgument(0);
+                command.rows().forEach(consumed::add);
+                return new ImportTimeSlotsQueryResult(IMPORT_ID, 2, 1, 1,
+                        List.of(new ImportRejection(6, "all-day events are not imported")),
+                        Set.of("authenticated-user"), Duration.ofMillis(500));
+            });
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType("text/calendar")
+                            .content("BEGIN:VCALENDAR\r\nBEGIN:VEVENT\r\nDTSTART:20260210T090000Z\r\n"
+                                    + "DTEND:20260210T100000Z\r\nEND:VEVENT\r\nBEGIN:VEVENT\r\n"
+                                    + "DTSTART;VALUE=DATE:20260211\r\nEND:VEVENT\r\nEND:VCALENDAR\r\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.import_id").value(IMPORT_ID.toString()))
+                    .andExpect(jsonPath("$.rows_read").value(2))
+                    .andExpect(jsonPath("$.imported").value(1))
+                    .andExpect(jsonPath("$.rejected").value(1))
+                    .andExpect(jsonPath("$.rejections[0].line").value(6))
+                    .andExpect(jsonPath("$.rejections[0].reason").value("all-day events are not imported"))
+                    .andExpect(jsonPath("$.elapsed_ms").value(500))
+                    .andExpect(jsonPath("$.rows_per_second").value(4));
+
+            assertThat(consumed).hasSize(2);
+            assertThat(consumed.get(0)).isEqualTo(
+                    ImportedTimeSlot.of(2, "authenticated-user", Instant.parse("2026-02-10T09:00:00Z"), 60, "BUSY"));
+            assertThat(consumed.get(1).isMalformed()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("GIVEN an unusable import body")
+    class ErrorScenarios {
+
+        @Test
+        @DisplayName("WHEN the body is not an iCalendar object THEN should return 400 BAD REQUEST")
+        void shouldRejectMissingCalendar() throws Exception {
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType("text/calendar")
+                            .content("BEGIN:VEVENT\r\nEND:VEVENT\r\n"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.status").value(400));
+
+            verifyNoInteractions(importTimeSlotsUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN the content type is not supported THEN should return 415 UNSUPPORTED MEDIA TYPE")
+        void shouldRejectUnsupportedContentType() throws Exception {
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("[]"))
+                    .andExpect(status().isUnsupportedMediaType());
+
+            verifyNoInteractions(importTimeSlotsUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN posting CSV rows of any owner THEN should return 415 UNSUPPORTED MEDIA TYPE")
+        void shouldNotAcceptCsv() throws Exception {
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType("text/csv")
+                            .content("username,start,duration_minutes\nalice,2026-02-10T09:00:00Z,30\n"))
+                    .andExpect(status().isUnsupportedMediaType());
+
+            verifyNoInteractions(importTimeSlotsUseCase);
+        }
+
+        @Test
+        @DisplayName("WHEN the database fails THEN should return 500 INTERNAL SERVER ERROR")
+        void shouldHandleDataAccessException() throws Exception {
+            // GIVEN
+            when(importTimeSlotsUseCase.execute(any(ImportTimeSlotsCommand.class)))
+                    .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+            // WHEN / THEN
+            mockMvc.perform(post(BASE_URL)
+                            .contentType("text/calendar")
+                            .content("BEGIN:VCALENDAR\r\nEND:VCALENDAR\r\n"))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.message").value("An error occurred while accessing the database"));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.doodle.scheduler.application.adapter.in.timeslotimport.parser;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportedTimeSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CsvTimeSlotImportParser Unit Tests")
+class CsvTimeSlotImportParserTest {
+
+    private final CsvTimeSlotImportParser parser = new CsvTimeSlotImportParser();
+
+    @Test
+    @DisplayName("Should read rows with and without state and number them by line")
+    void shouldReadRows() {
+        // Given
+        String csv = """
+                username,start,duration_minutes,state
+                alice,2026-02-10T09:00:00Z,30,busy
+
+                bob,2026-02-10T10:00:00Z,45,
+                """;
+
+        // When
+        List<ImportedTimeSlot> rows = parser.parse(new StringReader(csv)).toList();
+
+        // Then
+        assertThat(rows).containsExactly(
+                ImportedTimeSlot.of(2, "alice", Instant.parse("2026-02-10T09:00:00Z"), 30, "BUSY"),
+                ImportedTimeSlot.of(4, "bob", Instant.parse("2026-02-10T10:00:00Z"), 45, "AVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("Should turn unreadable rows into malformed rows instead of failing the import")
+    void shouldReportMalformedRows() {
+        // Given
+        String csv = """
+                username,start,duration_minutes
+                alice,tomorrow,30
+                alice,2026-02-10T09:00:00Z,half an hour
+                ,2026-02-10T09:00:00Z,30
+                alice,2026-02-10T09:00:00Z
+                """;
+
+        // When
+        List<ImportedTimeSlot> rows = parser.parse(new StringReader(csv)).toList();
+
+        // Then
+        assertThat(rows).allMatch(ImportedTimeSlot::isMalformed);
+        assertThat(rows).extracting(ImportedTimeSlot::error).containsExactly(
+                "start is not an ISO-8601 instant: tomorrow",
+                "duration_minutes is not a number: half an hour",
+                "username is missing",
+                "expected 3 columns but found 2");
+    }
+
+    @Test
+    @DisplayName("Should refuse a body without the expected header")
+    void shouldRejectMissingHeader() {
+        assertThatThrownBy(() -> parser.parse(new StringReader("alice,2026-02-10T09:00:00Z,30\n")))
+                .isInstanceOf(MalformedImportException.class)
+                .hasMessageContaining("CSV header");
+    }
+}
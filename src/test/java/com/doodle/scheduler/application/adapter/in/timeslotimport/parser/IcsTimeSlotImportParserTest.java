@@ -0,0 +1,101 @@
+package com.doodle.scheduler.application.adapter.in.timeslotimport.parser;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportedTimeSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IcsTimeSlotImportParser Unit Tests")
+class IcsTimeSlotImportParserTest {
+
+    private final IcsTimeSlotImportParser parser = new IcsTimeSlotImportParser();
+
+    @Test
+    @DisplayName("Should read UTC and TZID events, unfold lines and ignore nested alarms")
+    void shouldReadEvents() {
+        // Given
+        String ics = """
+                BEGIN:VCALENDAR\r
+                VERSION:2.0\r
+                BEGIN:VEVENT\r
+                UID:1\r
+                DTSTART:20260210T090000Z\r
+                DTEND:20260210T093000Z\r
+                BEGIN:VALARM\r
+                TRIGGER:-PT15M\r
+                DURATION:PT5M\r
+                END:VALARM\r
+                END:VEVENT\r
+                BEGIN:VEVENT\r
+                UID:2\r
+                DTSTART;TZID="Europe/Ber\r
+                 lin":20260210T110000\r
+                DURATION:PT1H\r
+                TRANSP:TRANSPARENT\r
+                END:VEVENT\r
+                END:VCALENDAR\r
+                """;
+
+        // When
+        List<ImportedTimeSlot> rows = parser.parse(new StringReader(ics), "alice").toList();
+
+        // Then
+        assertThat(rows).containsExactly(
+                ImportedTimeSlot.of(3, "alice", Instant.parse("2026-02-10T09:00:00Z"), 30, "BUSY"),
+                ImportedTimeSlot.of(12, "alice", Instant.parse("2026-02-10T10:00:00Z"), 60, "AVAILABLE"));
+    }
+
+    @Test
+    @DisplayName("Should reject events that have no fixed start and end")
+    void shouldRejectUnsupportedEvents() {
+        // Given
+        String ics = """
+                BEGIN:VCALENDAR
+                BEGIN:VEVENT
+                DTSTART;VALUE=DATE:20260210
+                END:VEVENT
+                BEGIN:VEVENT
+                DTSTART:20260210T090000
+                DURATION:PT1H
+                END:VEVENT
+                BEGIN:VEVENT
+                DTSTART:20260210T090000Z
+                DURATION:PT1H
+                RRULE:FREQ=WEEKLY
+                END:VEVENT
+                BEGIN:VEVENT
+                DTSTART:20260210T090000Z
+                END:VEVENT
+                BEGIN:VEVENT
+                DTSTART:20260210T090000Z
+                DURATION:PT1H
+                """;
+
+        // When
+        List<ImportedTimeSlot> rows = parser.parse(new StringReader(ics), "alice").toList();
+
+        // Then
+        assertThat(rows).allMatch(ImportedTimeSlot::isMalformed);
+        assertThat(rows).extracting(ImportedTimeSlot::lineNumber).containsExactly(2L, 5L, 9L, 14L, 17L);
+        assertThat(rows).extracting(ImportedTimeSlot::error).containsExactly(
+                "all-day events are not imported",
+                "DTSTART is a floating time without TZID: 20260210T090000",
+                "recurring events are not imported",
+                "event has neither DTEND nor DURATION",
+                "event is not terminated by END:VEVENT");
+    }
+
+    @Test
+    @DisplayName("Should refuse a body that is not an iCalendar object")
+    void shouldRejectNonCalendarBody() {
+        assertThatThrownBy(() -> parser.parse(new StringReader("username,start,duration_minutes\n"), "alice"))
+                .isInstanceOf(MalformedImportException.class)
+                .hasMessageContaining("BEGIN:VCALENDAR");
+    }
+}
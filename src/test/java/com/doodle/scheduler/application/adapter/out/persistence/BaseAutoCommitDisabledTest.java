@@ -0,0 +1,31 @@
+package com.doodle.scheduler.application.adapter.out.persistence;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.aot.DisabledInAotMode;
+
+/**
+ * Starts the application on H2 with the pool and Hibernate settings of application-production.yaml
+ * (the PgJDBC driver properties aside): Hikari hands out connections with autocommit disabled and
+ * Hibernate relies on it. A write that runs outside a Spring transaction is rolled back when its
+ * connection returns to the pool, so these tests only see what was actually committed. No test
+ * transaction is opened around the test methods.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+@DisabledInAotMode
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.datasource.hikari.minimum-idle=10",
+        "spring.datasource.hikari.connection-timeout=2000",
+        "spring.datasource.hikari.auto-commit=false",
+        "spring.jpa.properties.hibernate.connection.provider_disables_autocommit=true",
+        "spring.jpa.properties.hibernate.jdbc.fetch_size=100",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true",
+        "spring.jpa.properties.hibernate.query.in_clause_parameter_padding=true"
+})
+public abstract class BaseAutoCommitDisabledTest {
+}
@@ -0,0 +1,56 @@
+package com.doodle.scheduler.application.adapter.out.persistence.audit;
+
+import com.doodle.scheduler.application.adapter.out.persistence.BaseAutoCommitDisabledTest;
+import com.doodle.scheduler.application.domain.calendar.model.audit.TimeSlotAuditEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AppendTimeSlotAuditEntriesRepositoryAdapter - Autocommit Disabled Test")
+class AppendTimeSlotAuditEntriesRepositoryAdapterTest extends BaseAutoCommitDisabledTest {
+
+    private static final UUID OWNER_ID = UUID.fromString("a0d1e2f3-0000-4000-8000-000000000001");
+
+    @Autowired
+    private AppendTimeSlotAuditEntriesRepositoryAdapter appendAuditEntriesAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.update("DELETE FROM audit_events WHERE owner_id = ?", OWNER_ID));
+    }
+
+    @Test
+    @DisplayName("GIVEN no surrounding transaction WHEN appending entries THEN the batch is committed")
+    void shouldCommitBatchWithoutSurroundingTransaction() {
+        // GIVEN
+        Instant occurredAt = Instant.parse("2026-02-10T09:00:00Z");
+        List<TimeSlotAuditEntry> entries = List.of(
+                new TimeSlotAuditEntry(TimeSlotAuditEntry.CREATED, UUID.randomUUID(), OWNER_ID, occurredAt),
+                new TimeSlotAuditEntry(TimeSlotAuditEntry.DELETED, UUID.randomUUID(), OWNER_ID, occurredAt));
+
+        // WHEN
+        appendAuditEntriesAdapter.appendTimeSlotAuditEntries(entries);
+
+        // THEN - read on a fresh connection after the writing one went back to the pool
+        Integer stored = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM audit_events WHERE owner_id = ?", Integer.class, OWNER_ID);
+        assertThat(stored).isEqualTo(2);
+    }
+}
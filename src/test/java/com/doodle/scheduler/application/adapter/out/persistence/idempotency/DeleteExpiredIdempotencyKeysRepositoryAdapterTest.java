@@ -0,0 +1,74 @@
+package com.doodle.scheduler.application.adapter.out.persistence.idempotency;
+
+import com.doodle.scheduler.application.adapter.out.persistence.BaseAutoCommitDisabledTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DeleteExpiredIdempotencyKeysRepositoryAdapter - Autocommit Disabled Test")
+class DeleteExpiredIdempotencyKeysRepositoryAdapterTest extends BaseAutoCommitDisabledTest {
+
+    private static final String USERNAME = "cleanup-user";
+    private static final Instant CUTOFF = Instant.parse("2026-02-10T00:00:00Z");
+
+    @Autowired
+    private DeleteExpiredIdempotencyKeysRepositoryAdapter deleteExpiredKeysAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void seed() {
+        inTransaction(() -> {
+            for (String key : List.of("expired-1", "expired-2", "expired-3")) {
+                insertKey(key, CUTOFF.minusSeconds(3600));
+            }
+            insertKey("fresh", CUTOFF.plusSeconds(3600));
+        });
+    }
+
+    @AfterEach
+    void cleanUp() {
+        inTransaction(() -> jdbcTemplate.update("DELETE FROM idempotency_keys WHERE username = ?", USERNAME));
+    }
+
+    @Test
+    @DisplayName("GIVEN no surrounding transaction WHEN deleting a batch THEN the deletion is committed")
+    void shouldCommitEachBatchWithoutSurroundingTransaction() {
+        // WHEN
+        int first = deleteExpiredKeysAdapter.deleteExpiredIdempotencyKeys(CUTOFF, 2);
+        int second = deleteExpiredKeysAdapter.deleteExpiredIdempotencyKeys(CUTOFF, 2);
+
+        // THEN - read on a fresh connection after the deleting ones went back to the pool
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT idempotency_key FROM idempotency_keys WHERE username = ?", String.class, USERNAME))
+                .containsExactly("fresh");
+    }
+
+    private void insertKey(String key, Instant createdAt) {
+        jdbcTemplate.update(
+                "INSERT INTO idempotency_keys (username, idempotency_key, request_fingerprint, created_at) VALUES (?, ?, ?, ?)",
+                USERNAME, key, "fingerprint", OffsetDateTime.ofInstant(createdAt, ZoneOffset.UTC));
+    }
+
+    private void inTransaction(Runnable action) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> action.run());
+    }
+}
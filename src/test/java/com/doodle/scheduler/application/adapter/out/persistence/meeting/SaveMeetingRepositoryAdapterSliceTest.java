@@ -0,0 +1,94 @@
+package com.doodle.scheduler.application.adapter.out.persistence.meeting;
+
+import com.doodle.scheduler.application.adapter.out.persistence.BaseJpaSliceTest;
+import com.doodle.scheduler.application.adapter.out.persistence.meeting.common.MeetingJpaMapperImpl;
+import com.doodle.scheduler.application.adapter.out.persistence.user.common.UserJpaRepository;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDescription;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDetails;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingTitle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({
+        SaveMeetingRepositoryAdapter.class,
+        LoadMeetingsByTimeSlotIdRepositoryAdapter.class,
+        MeetingJpaMapperImpl.class
+})
+@DisplayName("SaveMeetingRepositoryAdapter - Slice Test")
+class SaveMeetingRepositoryAdapterSliceTest extends BaseJpaSliceTest {
+
+    private static final UUID TIME_SLOT_ID = UUID.fromString("111e4567-e89b-41d4-a716-446655440001");
+    private static final Set<UUID> PARTICIPANTS = Set.of(
+            UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7"),
+            UUID.fromString("16fd2706-8baf-433b-82eb-8c7fada847da"));
+
+    @Autowired
+    private SaveMeetingRepositoryAdapter saveAdapter;
+
+    @Autowired
+    private LoadMeetingsByTimeSlotIdRepositoryAdapter loadAdapter;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Test
+    @DisplayName("GIVEN new Meeting WHEN saveMeeting THEN it is loadable by time slot with all participants")
+    @Sql(scripts = "/sql/timeslot/seed-user-with-multiple-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/meeting/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldSaveMeetingAndLoadItByTimeSlot() {
+        // GIVEN
+        Meeting meeting = Meeting.create(
+                new MeetingDetails(new MeetingTitle("Sprint planning"), new MeetingDescription("Q3 goals"), PARTICIPANTS),
+                List.of(TIME_SLOT_ID));
+        // WHEN
+        Meeting saved = saveAdapter.saveMeeting(meeting);
+        List<Meeting> loaded = loadAdapter.loadMeetingsByTimeSlotId(TIME_SLOT_ID);
+        // THEN
+        assertEquals(meeting.getId(), saved.getId(), "Meeting ID should be preserved");
+        assertEquals(1, loaded.size(), "Exactly one meeting should be booked on the slot");
+        Meeting reloaded = loaded.get(0);
+        assertEquals(meeting.getId(), reloaded.getId());
+        assertEquals("Sprint planning", reloaded.getTitle());
+        assertEquals("Q3 goals", reloaded.getDescription());
+        assertEquals(PARTICIPANTS, reloaded.getDetails().participants());
+        assertEquals("SCHEDULED", reloaded.getStateString());
+    }
+
+    @Test
+    @DisplayName("GIVEN new Meeting WHEN saveMeeting THEN the owner's calendar version is bumped")
+    @Sql(scripts = "/sql/timeslot/seed-user-with-multiple-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/meeting/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldBumpCalendarVersion() {
+        // GIVEN
+        long before = userJpaRepository.findCalendarVersionByUsername("authenticated-user").orElseThrow();
+        Meeting meeting = Meeting.create(
+                new MeetingDetails(new MeetingTitle("1:1"), new MeetingDescription(""), PARTICIPANTS),
+                List.of(TIME_SLOT_ID));
+        // WHEN
+        saveAdapter.saveMeeting(meeting);
+        // THEN
+        long after = userJpaRepository.findCalendarVersionByUsername("authenticated-user").orElseThrow();
+        assertEquals(before + 1, after, "Scheduling a meeting should bump the calendar version");
+    }
+
+    @Test
+    @DisplayName("GIVEN slot without meetings WHEN loadMeetingsByTimeSlotId THEN returns empty list")
+    @Sql(scripts = "/sql/timeslot/seed-user-with-multiple-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/meeting/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldReturnEmptyListWhenNoMeetings() {
+        // WHEN
+        List<Meeting> loaded = loadAdapter.loadMeetingsByTimeSlotId(TIME_SLOT_ID);
+        // THEN
+        assertTrue(loaded.isEmpty(), "No meeting is booked on the slot");
+    }
+}
@@ -0,0 +1,77 @@
+package com.doodle.scheduler.application.adapter.out.persistence.recurringavailability;
+
+import com.doodle.scheduler.application.adapter.out.persistence.BaseJpaSliceTest;
+import com.doodle.scheduler.application.adapter.out.persistence.recurringavailability.common.RecurringAvailabilityJpaMapperImpl;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({SaveRecurringAvailabilityRepositoryAdapter.class, LoadRecurringAvailabilitiesByUserRepositoryAdapter.class,
+        RecurringAvailabilityJpaMapperImpl.class})
+@DisplayName("RecurringAvailability repository adapters - Slice Test")
+@Sql(scripts = "/sql/timeslot/seed-user.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/sql/recurringavailability/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class RecurringAvailabilityRepositoryAdapterSliceTest extends BaseJpaSliceTest {
+
+    private static final UUID OWNER_ID = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+
+    @Autowired
+    private SaveRecurringAvailabilityRepositoryAdapter saveAdapter;
+
+    @Autowired
+    private LoadRecurringAvailabilitiesByUserRepositoryAdapter loadAdapter;
+
+    @Test
+    @DisplayName("GIVEN a saved rule WHEN loadRecurringAvailabilitiesByUserId THEN returns the rule with all fields round-tripped")
+    void shouldRoundTripRule() {
+        // GIVEN
+        RecurrenceRule rule = new RecurrenceRule(Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY),
+                LocalTime.of(9, 30), 90, ZoneId.of("Europe/Berlin"),
+                LocalDate.parse("2026-02-09"), LocalDate.parse("2026-06-30"));
+        RecurringAvailability saved = saveAdapter.saveRecurringAvailability(RecurringAvailability.create(OWNER_ID, rule));
+        // WHEN
+        List<RecurringAvailability> loaded = loadAdapter.loadRecurringAvailabilitiesByUserId(OWNER_ID);
+        // THEN
+        assertEquals(1, loaded.size(), "Exactly one rule should be stored for the owner");
+        assertEquals(saved.getId(), loaded.get(0).getId(), "Rule ID should be preserved");
+        assertEquals(OWNER_ID, loaded.get(0).getOwnerId(), "Owner ID should be preserved");
+        assertEquals(rule, loaded.get(0).getRule(), "Rule should round-trip unchanged");
+    }
+
+    @Test
+    @DisplayName("GIVEN an open-ended rule WHEN saved and loaded THEN validUntil stays null")
+    void shouldKeepOpenEndedRuleOpenEnded() {
+        // GIVEN
+        RecurrenceRule rule = new RecurrenceRule(Set.of(DayOfWeek.SUNDAY), LocalTime.of(18, 0), 60,
+                ZoneId.of("UTC"), LocalDate.parse("2026-02-09"), null);
+        saveAdapter.saveRecurringAvailability(RecurringAvailability.create(OWNER_ID, rule));
+        // WHEN
+        List<RecurringAvailability> loaded = loadAdapter.loadRecurringAvailabilitiesByUserId(OWNER_ID);
+        // THEN
+        assertNull(loaded.get(0).getRule().validUntil(), "Open-ended rule should have no end date");
+        assertEquals(Set.of(DayOfWeek.SUNDAY), loaded.get(0).getRule().daysOfWeek());
+    }
+
+    @Test
+    @DisplayName("GIVEN rules of another user WHEN loadRecurringAvailabilitiesByUserId THEN returns empty list")
+    void shouldNotLoadRulesOfOtherUsers() {
+        // WHEN
+        List<RecurringAvailability> loaded = loadAdapter.loadRecurringAvailabilitiesByUserId(UUID.randomUUID());
+        // THEN
+        assertTrue(loaded.isEmpty(), "Unknown owner should have no rules");
+    }
+}
@@ -0,0 +1,88 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.adapter.out.persistence.BaseJpaSliceTest;
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaMapperImpl;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({LoadNeighbouringTimeSlotsRepositoryAdapter.class, TimeSlotJpaMapperImpl.class})
+@DisplayName("LoadNeighbouringTimeSlotsRepositoryAdapter - Slice Test")
+class LoadNeighbouringTimeSlotsRepositoryAdapterSliceTest extends BaseJpaSliceTest {
+
+    @Autowired
+    private LoadNeighbouringTimeSlotsRepositoryAdapter loadAdapter;
+
+    private static final UUID TEST_USER_ID = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+    private static final UUID ANOTHER_USER_ID = UUID.fromString("b0eebc99-9c0b-4ef8-bb6d-6bb9bd380a22");
+    private static final UUID FIRST_SLOT_ID = UUID.fromString("111e4567-e89b-41d4-a716-446655440001");
+    private static final UUID SECOND_SLOT_ID = UUID.fromString("222e4567-e89b-41d4-a716-446655440002");
+    private static final UUID THIRD_SLOT_ID = UUID.fromString("333e4567-e89b-41d4-a716-446655440003");
+
+    @Test
+    @DisplayName("GIVEN slots around a range WHEN loadNeighbouringTimeSlots THEN returns the predecessor and the slots starting inside")
+    @Sql(scripts = "/sql/timeslot/seed-user-with-multiple-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldLoadPredecessorAndSlotsStartingInRange() {
+        // WHEN
+        List<TimeSlot> neighbours = loadAdapter.loadNeighbouringTimeSlots(TEST_USER_ID, SECOND_SLOT_ID,
+                Instant.parse("2026-02-08T10:30:00Z"), Instant.parse("2026-02-09T12:00:00Z"));
+
+        // THEN
+        assertEquals(List.of(FIRST_SLOT_ID, THIRD_SLOT_ID), neighbours.stream().map(TimeSlot::getId).toList(),
+                "Should return the slot before the range followed by the slot starting inside it");
+    }
+
+    @Test
+    @DisplayName("GIVEN several earlier slots WHEN loadNeighbouringTimeSlots THEN returns only the closest one before the range")
+    @Sql(scripts = "/sql/timeslot/seed-user-with-multiple-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldLoadOnlyClosestPredecessor() {
+        // WHEN
+        List<TimeSlot> neighbours = loadAdapter.loadNeighbouringTimeSlots(TEST_USER_ID, THIRD_SLOT_ID,
+                Instant.parse("2026-02-08T16:00:00Z"), Instant.parse("2026-02-08T17:00:00Z"));
+
+        // THEN
+        assertEquals(List.of(SECOND_SLOT_ID), neighbours.stream().map(TimeSlot::getId).toList(),
+                "Should skip slots that end before the closest predecessor starts");
+    }
+
+    @Test
+    @DisplayName("GIVEN the moved slot is the only one nearby WHEN loadNeighbouringTimeSlots THEN returns empty list")
+    @Sql(scripts = "/sql/timeslot/seed-user-with-multiple-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldExcludeMovedSlot() {
+        // WHEN
+        List<TimeSlot> neighbours = loadAdapter.loadNeighbouringTimeSlots(TEST_USER_ID, FIRST_SLOT_ID,
+                Instant.parse("2026-02-08T10:30:00Z"), Instant.parse("2026-02-08T11:30:00Z"));
+
+        // THEN
+        assertTrue(neighbours.isEmpty(), "The moved slot must not be returned as its own neighbour");
+    }
+
+    @Test
+    @DisplayName("GIVEN multiple users with time slots WHEN loadNeighbouringTimeSlots THEN returns only the owner's slots")
+    @Sql(scripts = "/sql/timeslot/seed-multiple-users-with-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldReturnOnlyOwnerTimeSlots() {
+        // WHEN
+        List<TimeSlot> neighbours = loadAdapter.loadNeighbouringTimeSlots(ANOTHER_USER_ID, UUID.randomUUID(),
+                Instant.parse("2026-02-08T12:00:00Z"), Instant.parse("2026-02-10T00:00:00Z"));
+
+        // THEN
+        assertEquals(List.of(THIRD_SLOT_ID), neighbours.stream().map(TimeSlot::getId).toList(),
+                "Should not return slots of other users");
+        neighbours.forEach(slot ->
+            assertEquals(ANOTHER_USER_ID, slot.getOwnerId(), "All slots should belong to user 2")
+        );
+    }
+}
@@ -0,0 +1,59 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.adapter.out.persistence.BaseJpaSliceTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link MaterializeOccurrenceRepositoryAdapter} inserts with PostgreSQL's {@code ON CONFLICT DO NOTHING},
+ * which H2 does not parse; booking an occurrence twice is covered by {@code RecurringAvailabilityIT}.
+ */
+@Import(LoadStoredTimeSlotIdsRepositoryAdapter.class)
+@DisplayName("LoadStoredTimeSlotIdsRepositoryAdapter - Slice Test")
+@Sql(scripts = "/sql/timeslot/seed-timeslot-for-deletion.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class LoadStoredTimeSlotIdsRepositoryAdapterSliceTest extends BaseJpaSliceTest {
+
+    private static final UUID OWNER_ID = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+    private static final UUID FIRST_ID = UUID.fromString("111e4567-e89b-41d4-a716-446655440001");
+    private static final UUID SECOND_ID = UUID.fromString("222e4567-e89b-41d4-a716-446655440002");
+
+    @Autowired
+    private LoadStoredTimeSlotIdsRepositoryAdapter loadStoredIdsAdapter;
+
+    @Test
+    @DisplayName("GIVEN stored slots WHEN loadStoredTimeSlotIdsBetween THEN returns the ids inside the range, bounds included")
+    void shouldReturnIdsInsideRange() {
+        // WHEN
+        Set<UUID> stored = loadStoredIdsAdapter.loadStoredTimeSlotIdsBetween(OWNER_ID, FIRST_ID, SECOND_ID);
+        // THEN
+        assertEquals(Set.of(FIRST_ID, SECOND_ID), stored, "Both bounds should be included");
+    }
+
+    @Test
+    @DisplayName("GIVEN ids sharing their high bits WHEN loadStoredTimeSlotIdsBetween THEN compares the low bits")
+    void shouldCompareLowBits() {
+        // WHEN
+        Set<UUID> stored = loadStoredIdsAdapter.loadStoredTimeSlotIdsBetween(OWNER_ID,
+                new UUID(FIRST_ID.getMostSignificantBits(), FIRST_ID.getLeastSignificantBits() - 1),
+                new UUID(FIRST_ID.getMostSignificantBits(), -1L));
+        // THEN
+        assertEquals(Set.of(FIRST_ID), stored, "Only the slot under the shared high bits should be reported");
+    }
+
+    @Test
+    @DisplayName("GIVEN another owner WHEN loadStoredTimeSlotIdsBetween THEN returns an empty set")
+    void shouldOnlyReturnTheOwnersIds() {
+        // WHEN / THEN
+        assertTrue(loadStoredIdsAdapter.loadStoredTimeSlotIdsBetween(UUID.randomUUID(), FIRST_ID, SECOND_ID).isEmpty(),
+                "Another owner's slots should not be reported");
+    }
+}
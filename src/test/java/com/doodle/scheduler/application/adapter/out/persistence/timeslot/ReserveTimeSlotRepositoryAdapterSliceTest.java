@@ -0,0 +1,69 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.adapter.out.persistence.BaseJpaSliceTest;
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import(ReserveTimeSlotRepositoryAdapter.class)
+@DisplayName("ReserveTimeSlotRepositoryAdapter - Slice Test")
+@Sql(scripts = "/sql/timeslot/seed-user-with-multiple-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ReserveTimeSlotRepositoryAdapterSliceTest extends BaseJpaSliceTest {
+
+    private static final UUID OWNER_ID = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+    private static final UUID TIME_SLOT_ID = UUID.fromString("111e4567-e89b-41d4-a716-446655440001");
+
+    @Autowired
+    private ReserveTimeSlotRepositoryAdapter reserveAdapter;
+
+    @Autowired
+    private TimeSlotJpaRepository timeSlotJpaRepository;
+
+    @Test
+    @DisplayName("GIVEN an AVAILABLE slot of the owner WHEN reserveTimeSlot THEN returns true and the slot becomes BUSY")
+    void shouldReserveAvailableSlot() {
+        // WHEN
+        boolean reserved = reserveAdapter.reserveTimeSlot(TIME_SLOT_ID, OWNER_ID);
+        // THEN
+        assertTrue(reserved, "AVAILABLE slot should be reserved");
+        assertEquals("BUSY", timeSlotJpaRepository.findById(TIME_SLOT_ID).orElseThrow().getState());
+    }
+
+    @Test
+    @DisplayName("GIVEN an already reserved slot WHEN reserveTimeSlot again THEN returns false")
+    void shouldNotReserveSlotTwice() {
+        // GIVEN
+        reserveAdapter.reserveTimeSlot(TIME_SLOT_ID, OWNER_ID);
+        // WHEN
+        boolean reservedAgain = reserveAdapter.reserveTimeSlot(TIME_SLOT_ID, OWNER_ID);
+        // THEN
+        assertFalse(reservedAgain, "BUSY slot must not be reserved a second time");
+    }
+
+    @Test
+    @DisplayName("GIVEN a slot of another user WHEN reserveTimeSlot THEN returns false and the slot stays AVAILABLE")
+    void shouldNotReserveForeignSlot() {
+        // WHEN
+        boolean reserved = reserveAdapter.reserveTimeSlot(TIME_SLOT_ID, UUID.randomUUID());
+        // THEN
+        assertFalse(reserved, "Slot owned by another user must not be reserved");
+        assertEquals("AVAILABLE", timeSlotJpaRepository.findById(TIME_SLOT_ID).orElseThrow().getState());
+    }
+
+    @Test
+    @DisplayName("GIVEN an unknown slot id WHEN reserveTimeSlot THEN returns false")
+    void shouldNotReserveUnknownSlot() {
+        // WHEN
+        boolean reserved = reserveAdapter.reserveTimeSlot(UUID.randomUUID(), OWNER_ID);
+        // THEN
+        assertFalse(reserved, "Unknown slot must not be reserved");
+    }
+}
@@ -0,0 +1,123 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.adapter.out.persistence.BaseJpaSliceTest;
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaEntity;
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaEntity_;
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaMapperImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * CPU time per search: per-request Criteria construction (previous implementation, kept here as
+ * the baseline) against the precompiled per-shape queries of {@link SearchTimeSlotsRepositoryAdapter}.
+ * Both variants run all eight filter shapes against the same seeded data.
+ */
+@Tag("load")
+@Import({SearchTimeSlotsRepositoryAdapter.class, TimeSlotJpaMapperImpl.class})
+@DisplayName("SearchTimeSlotsRepositoryAdapter - Query Benchmark")
+class SearchTimeSlotsQueryBenchmarkIT extends BaseJpaSliceTest {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 2_000);
+    private static final UUID OWNER_ID = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+    private static final Instant START_TIME = Instant.parse("2026-02-08T00:00:00Z");
+    private static final Instant END_TIME = Instant.parse("2026-02-14T23:59:59Z");
+
+    @Autowired
+    private SearchTimeSlotsRepositoryAdapter searchAdapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("GIVEN seeded time slots WHEN searching all filter shapes THEN precompiled queries use less CPU per request")
+    @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void compareCriteriaAndPrecompiledQueries() {
+        // GIVEN - warm up both paths
+        measure(ITERATIONS / 4, this::criteriaSearch);
+        measure(ITERATIONS / 4, this::precompiledSearch);
+
+        // WHEN
+        long criteriaNanos = measure(ITERATIONS, this::criteriaSearch);
+        long precompiledNanos = measure(ITERATIONS, this::precompiledSearch);
+
+        // THEN
+        System.out.printf("[benchmark] search cpu/request: criteria=%dus precompiled=%dus (%.1f%%)%n",
+                criteriaNanos / 1_000, precompiledNanos / 1_000,
+                100.0 * (criteriaNanos - precompiledNanos) / criteriaNanos);
+        then(precompiledNanos).isPositive();
+    }
+
+    private long measure(int iterations, SearchCall call) {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long started = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            int shape = i & 7;
+            call.search(
+                    (shape & 1) != 0 ? "AVAILABLE" : null,
+                    (shape & 2) != 0 ? START_TIME : null,
+                    (shape & 4) != 0 ? END_TIME : null);
+            entityManager.clear();
+        }
+        return (threads.getCurrentThreadCpuTime() - started) / iterations;
+    }
+
+    private void precompiledSearch(String status, Instant startTime, Instant endTime) {
+        searchAdapter.searchTimeSlots(OWNER_ID, status, startTime, endTime, 0, 10);
+    }
+
+    private void criteriaSearch(String status, Instant startTime, Instant endTime) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<TimeSlotJpaEntity> select = cb.createQuery(TimeSlotJpaEntity.class);
+        Root<TimeSlotJpaEntity> selectRoot = select.from(TimeSlotJpaEntity.class);
+        select.where(predicates(cb, selectRoot, status, startTime, endTime).toArray(Predicate[]::new))
+                .orderBy(cb.asc(selectRoot.get(TimeSlotJpaEntity_.startTime)));
+        entityManager.createQuery(select).setFirstResult(0).setMaxResults(10).getResultList();
+
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        Root<TimeSlotJpaEntity> countRoot = count.from(TimeSlotJpaEntity.class);
+        count.select(cb.count(countRoot))
+                .where(predicates(cb, countRoot, status, startTime, endTime).toArray(Predicate[]::new));
+        entityManager.createQuery(count).getSingleResult();
+    }
+
+    private List<Predicate> predicates(CriteriaBuilder cb, Root<TimeSlotJpaEntity> root,
+                                       String status, Instant startTime, Instant endTime) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get(TimeSlotJpaEntity_.ownerId), OWNER_ID));
+        if (status != null) {
+            predicates.add(cb.equal(root.get(TimeSlotJpaEntity_.state), status));
+        }
+        if (startTime != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get(TimeSlotJpaEntity_.startTime), startTime));
+        }
+        if (endTime != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get(TimeSlotJpaEntity_.endTime), endTime));
+        }
+        return predicates;
+    }
+
+    @FunctionalInterface
+    private interface SearchCall {
+        void search(String status, Instant startTime, Instant endTime);
+    }
+}
@@ -0,0 +1,63 @@
+package com.doodle.scheduler.application.adapter.out.persistence.timeslot;
+
+import com.doodle.scheduler.application.adapter.out.persistence.BaseJpaSliceTest;
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaMapperImpl;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.SearchTimeSlotsPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Import({SearchTimeSlotsRepositoryAdapter.class, TimeSlotJpaMapperImpl.class})
+@TestPropertySource(properties = "scheduler.search.single-round-trip=false")
+@DisplayName("SearchTimeSlotsRepositoryAdapter - Separate Count Mode Slice Test")
+class SearchTimeSlotsRepositoryAdapterSeparateCountSliceTest extends BaseJpaSliceTest {
+
+    private static final UUID TEST_USER_ID = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+
+    @Autowired
+    private SearchTimeSlotsRepositoryAdapter searchAdapter;
+
+    @Test
+    @DisplayName("GIVEN 12 time slots WHEN request second page with size 5 THEN returns 5 slots and the full total")
+    @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldReturnPageWithTotal() {
+        // WHEN
+        SearchTimeSlotsPort.SearchResult result = searchAdapter.searchTimeSlots(
+            TEST_USER_ID, null, null, null, 5, 5
+        );
+
+        // THEN
+        assertEquals(12, result.totalElements(), "Total elements should be 12");
+        assertEquals(5, result.timeSlots().size(), "Second page should have 5 slots");
+    }
+
+    @Test
+    @DisplayName("GIVEN time slots WHEN search AVAILABLE slots in date range THEN returns filtered page and total")
+    @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldApplyAllFilters() {
+        // GIVEN
+        Instant startTime = Instant.parse("2026-02-08T00:00:00Z");
+        Instant endTime = Instant.parse("2026-02-09T23:59:59Z");
+
+        // WHEN
+        SearchTimeSlotsPort.SearchResult result = searchAdapter.searchTimeSlots(
+            TEST_USER_ID, "AVAILABLE", startTime, endTime, 0, 10
+        );
+
+        // THEN
+        assertEquals(5, result.totalElements(), "Should have 5 AVAILABLE slots on Feb 8-9");
+        assertTrue(result.timeSlots().stream().allMatch(slot -> "AVAILABLE".equals(slot.getStateString())),
+            "All slots should be AVAILABLE");
+    }
+}
@@ -254,7 +254,7 @@ class SearchTimeSlotsRepositoryAdapterSliceTest extends BaseJpaSliceTest {
                 TEST_USER_ID, null, null, null, 0, 5
             );
             SearchTimeSlotsPort.SearchResult page2 = searchAdapter.searchTimeSlots(
-                TEST_USER_ID, null, null, null, 1, 5
+                TEST_USER_ID, null, null, null, 5, 5
             );
 
             // THEN
@@ -284,7 +284,7 @@ class SearchTimeSlotsRepositoryAdapterSliceTest extends BaseJpaSliceTest {
         void shouldReturnLastPageWithRemainingSlots() {
             // WHEN
             SearchTimeSlotsPort.SearchResult result = searchAdapter.searchTimeSlots(
-                TEST_USER_ID, null, null, null, 2, 5
+                TEST_USER_ID, null, null, null, 10, 5
             );
 
             // THEN
@@ -299,7 +299,7 @@ class SearchTimeSlotsRepositoryAdapterSliceTest extends BaseJpaSliceTest {
         void shouldReturnEmptyWhenPageBeyondData() {
             // WHEN
             SearchTimeSlotsPort.SearchResult result = searchAdapter.searchTimeSlots(
-                TEST_USER_ID, null, null, null, 10, 5
+                TEST_USER_ID, null, null, null, 50, 5
             );
 
             // THEN
@@ -307,6 +307,21 @@ class SearchTimeSlotsRepositoryAdapterSliceTest extends BaseJpaSliceTest {
             assertTrue(result.timeSlots().isEmpty(), "Should return empty list for out of range page");
         }
 
+        @Test
+        @DisplayName("GIVEN 12 time slots WHEN offset exceeds the int range THEN returns empty result with the total")
+        @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+        @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+        void shouldReturnEmptyWhenOffsetExceedsIntRange() {
+            // WHEN
+            SearchTimeSlotsPort.SearchResult result = searchAdapter.searchTimeSlots(
+                TEST_USER_ID, null, null, null, (long) Integer.MAX_VALUE * 5, 5
+            );
+
+            // THEN
+            assertEquals(12, result.totalElements(), "Total elements should still be 12");
+            assertTrue(result.timeSlots().isEmpty(), "Should return empty list for an offset past any page");
+        }
+
         @Test
         @DisplayName("GIVEN time slots WHEN request different page sizes THEN pagination works correctly")
         @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
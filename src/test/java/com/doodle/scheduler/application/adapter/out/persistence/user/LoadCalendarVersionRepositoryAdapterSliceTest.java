@@ -0,0 +1,84 @@
+package com.doodle.scheduler.application.adapter.out.persistence.user;
+
+import com.doodle.scheduler.application.adapter.out.persistence.BaseJpaSliceTest;
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.DeleteTimeSlotRepositoryAdapter;
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.SaveTimeSlotRepositoryAdapter;
+import com.doodle.scheduler.application.adapter.out.persistence.timeslot.common.TimeSlotJpaMapperImpl;
+import com.doodle.scheduler.application.domain.calendar.model.Calendar;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Import({
+        LoadCalendarVersionRepositoryAdapter.class,
+        SaveTimeSlotRepositoryAdapter.class,
+        DeleteTimeSlotRepositoryAdapter.class,
+        TimeSlotJpaMapperImpl.class
+})
+@DisplayName("LoadCalendarVersionRepositoryAdapter - Slice Test")
+class LoadCalendarVersionRepositoryAdapterSliceTest extends BaseJpaSliceTest {
+
+    private static final UUID TEST_USER_ID = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+    private static final String TEST_USERNAME = "authenticated-user";
+
+    @Autowired
+    private LoadCalendarVersionRepositoryAdapter loadAdapter;
+
+    @Autowired
+    private SaveTimeSlotRepositoryAdapter saveAdapter;
+
+    @Autowired
+    private DeleteTimeSlotRepositoryAdapter deleteAdapter;
+
+    @Test
+    @DisplayName("GIVEN new user WHEN loadCalendarVersionByUsername THEN returns initial version 0")
+    @Sql(scripts = "/sql/timeslot/seed-user.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldReturnInitialVersion() {
+        // WHEN
+        long version = loadAdapter.loadCalendarVersionByUsername(TEST_USERNAME);
+
+        // THEN
+        assertEquals(0L, version, "A calendar without writes should be at version 0");
+    }
+
+    @Test
+    @DisplayName("GIVEN user WHEN a time slot is saved and then deleted THEN each write bumps the version")
+    @Sql(scripts = "/sql/timeslot/seed-user.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void shouldBumpVersionOnSaveAndDelete() {
+        // GIVEN
+        TimeSlot timeSlot = Calendar.create(TEST_USER_ID).addTimeSlot(Instant.parse("2026-02-07T10:00:00Z"), 60);
+
+        // WHEN
+        saveAdapter.saveTimeSlot(timeSlot);
+        long afterSave = loadAdapter.loadCalendarVersionByUsername(TEST_USERNAME);
+        deleteAdapter.deleteTimeSlot(timeSlot.getId());
+        long afterDelete = loadAdapter.loadCalendarVersionByUsername(TEST_USERNAME);
+
+        // THEN
+        assertEquals(1L, afterSave, "Saving a time slot should bump the version");
+        assertEquals(2L, afterDelete, "Deleting a time slot should bump the version");
+    }
+
+    @Test
+    @DisplayName("GIVEN non-existent username WHEN loadCalendarVersionByUsername THEN throws UserNotFoundException")
+    void shouldThrowUserNotFoundExceptionWhenUsernameDoesNotExist() {
+        // WHEN & THEN
+        assertThrows(
+                UserNotFoundException.class,
+                () -> loadAdapter.loadCalendarVersionByUsername("non-existent-user"),
+                "Expected UserNotFoundException when username doesn't exist"
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package com.doodle.scheduler.application.config.datasource;
+
+import com.doodle.scheduler.application.adapter.out.persistence.BaseAutoCommitDisabledTest;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotUseCase;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Production datasource settings - Context Test")
+@Sql(scripts = "/sql/user/seed-user.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/sql/user/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ProductionDataSourceSettingsTest extends BaseAutoCommitDisabledTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private CreateTimeSlotUseCase createTimeSlotUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("GIVEN the production pool settings WHEN the context starts THEN connections come without autocommit")
+    void shouldHandOutConnectionsWithoutAutocommit() throws Exception {
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+        assertThat(((HikariDataSource) dataSource).isAutoCommit()).isFalse();
+        try (var connection = dataSource.getConnection()) {
+            assertThat(connection.getAutoCommit()).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("GIVEN autocommit disabled WHEN a use case writes THEN its transactional decorator commits the slot")
+    void shouldCommitWritesOfTheTransactionalDecoratorChain() {
+        // WHEN
+        TimeSlot created = createTimeSlotUseCase.execute(new CreateTimeSlotCommand(
+                "test-user", Instant.parse("2030-03-04T09:00:00Z"), 30));
+
+        // THEN - read on a fresh connection after the use case's one went back to the pool
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM time_slots WHERE id = ?", Integer.class, created.getId())).isEqualTo(1);
+    }
+}
@@ -0,0 +1,99 @@
+package com.doodle.scheduler.application.config.datasource.replica;
+
+import com.doodle.scheduler.application.config.usecase.BaseUseCaseConfigTest;
+import com.doodle.scheduler.application.config.usecase.createtimeslot.decorators.LoggedCreateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.createtimeslot.decorators.ReadYourWritesCreateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.createtimeslot.decorators.TransactionalCreateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.searchtimeslots.decorators.LoggedSearchTimeSlotsUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.searchtimeslots.decorators.ReplicaRoutedSearchTimeSlotsUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.searchtimeslots.decorators.TransactionalSearchTimeSlotsUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The replica pool starts without connecting, so the wiring can be checked against H2 alone. H2 has no
+ * WAL functions, so every lag check fails; checks are spaced out and the context is closed afterwards to
+ * stop the monitor thread rather than leave it failing for the rest of the build.
+ */
+@TestPropertySource(properties = {
+        "scheduler.datasource.read-replicas.enabled=true",
+        "scheduler.datasource.read-replicas.replicas[0].url=jdbc:h2:mem:replica",
+        "scheduler.datasource.read-replicas.lag-check-interval=1h",
+        "scheduler.datasource.read-replicas.read-your-writes-window=2h"
+})
+@DirtiesContext
+@DisplayName("ReadReplicaRoutingConfig - Wiring Test")
+class ReadReplicaRoutingConfigTest extends BaseUseCaseConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private SearchTimeSlotsUseCase searchTimeSlotsUseCase;
+
+    @Autowired
+    private CreateTimeSlotUseCase createTimeSlotUseCase;
+
+    @Test
+    @DisplayName("GIVEN read replicas enabled WHEN resolving the data source THEN connections are fetched lazily")
+    void shouldExposeLazyConnectionProxy() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN read replicas enabled WHEN inspecting the search chain THEN the owner is named outside the transaction")
+    void shouldRouteSearchOutsideTransaction() throws Exception {
+        final var logged = searchTimeSlotsUseCase;
+        assertThat(logged).isInstanceOf(LoggedSearchTimeSlotsUseCaseDecorator.class);
+
+        final var replicaRouted = getDelegate(logged);
+        assertThat(replicaRouted)
+                .as("Second layer should be ReplicaRoutedSearchTimeSlotsUseCaseDecorator")
+                .isInstanceOf(ReplicaRoutedSearchTimeSlotsUseCaseDecorator.class);
+
+        assertThat(getDelegate(replicaRouted)).isInstanceOf(TransactionalSearchTimeSlotsUseCaseDecorator.class);
+    }
+
+    @Test
+    @DisplayName("GIVEN read replicas enabled WHEN inspecting the create chain THEN the write is recorded after commit")
+    void shouldRecordWritesAfterCommit() throws Exception {
+        final var logged = createTimeSlotUseCase;
+        assertThat(logged).isInstanceOf(LoggedCreateTimeSlotUseCaseDecorator.class);
+
+        final var readYourWrites = getDelegate(logged);
+        assertThat(readYourWrites)
+                .as("Second layer should be ReadYourWritesCreateTimeSlotUseCaseDecorator")
+                .isInstanceOf(ReadYourWritesCreateTimeSlotUseCaseDecorator.class);
+
+        assertThat(getDelegate(readYourWrites)).isInstanceOf(TransactionalCreateTimeSlotUseCaseDecorator.class);
+    }
+
+    private Object getDelegate(Object target) throws Exception {
+        final Object current = AopTestUtils.getTargetObject(target);
+
+        Class<?> clazz = current.getClass();
+        while (clazz != null) {
+            try {
+                final Field field = clazz.getDeclaredField("delegate");
+                field.setAccessible(true);
+                final Object value = field.get(current);
+                return value == null ? null : AopTestUtils.getTargetObject(value);
+            } catch (final NoSuchFieldException e) {
+                clazz = clazz.getSuperclass();
+            }
+        }
+        throw new NoSuchFieldException("No delegate field found in " + current.getClass());
+    }
+}
@@ -0,0 +1,142 @@
+package com.doodle.scheduler.application.config.datasource.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReplicaRoutingDataSource Unit Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final ReadYourWritesTracker readYourWritesTracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        when(lagMonitor.replicaDataSources()).thenReturn(Map.of(
+                "replica-0", mock(HikariDataSource.class),
+                "replica-1", mock(HikariDataSource.class),
+                "replica-2", mock(HikariDataSource.class)));
+        routingDataSource = new ReplicaRoutingDataSource(mock(DataSource.class), lagMonitor, readYourWritesTracker);
+    }
+
+    @Test
+    @DisplayName("GIVEN no replica within the lag budget WHEN routing a read THEN uses the primary")
+    void shouldUsePrimaryWithoutHealthyReplica() {
+        // GIVEN
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of());
+
+        // WHEN
+        Object key = ReplicaRoutingContext.callAs("alice", routingDataSource::determineCurrentLookupKey);
+
+        // THEN
+        assertThat(key).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("GIVEN healthy replicas WHEN the same owner reads repeatedly THEN always lands on the same replica")
+    void shouldPinOwnerToOneReplica() {
+        // GIVEN
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of("replica-0", "replica-1"));
+
+        // WHEN
+        Object first = ReplicaRoutingContext.callAs("alice", routingDataSource::determineCurrentLookupKey);
+        Object second = ReplicaRoutingContext.callAs("alice", routingDataSource::determineCurrentLookupKey);
+
+        // THEN
+        assertThat(first).isIn("replica-0", "replica-1");
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("GIVEN owners pinned to replicas WHEN one replica leaves and rejoins rotation THEN only its owners move")
+    void shouldKeepOwnersOfOtherReplicasInPlace() {
+        // GIVEN
+        List<String> all = List.of("replica-0", "replica-1", "replica-2");
+        List<String> owners = IntStream.range(0, 200).mapToObj(i -> "owner-" + i).toList();
+        when(lagMonitor.healthyReplicas()).thenReturn(all);
+        Map<String, Object> before = route(owners);
+
+        // WHEN
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of("replica-0", "replica-2"));
+        Map<String, Object> degraded = route(owners);
+        when(lagMonitor.healthyReplicas()).thenReturn(all);
+        Map<String, Object> after = route(owners);
+
+        // THEN
+        assertThat(new HashSet<>(before.values())).containsExactlyInAnyOrderElementsOf(all);
+        owners.stream()
+                .filter(owner -> !"replica-1".equals(before.get(owner)))
+                .forEach(owner -> assertThat(degraded.get(owner)).as(owner).isEqualTo(before.get(owner)));
+        assertThat(degraded.values()).doesNotContain("replica-1");
+        assertThat(after).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("GIVEN healthy replicas WHEN reading without an owner THEN alternates between them")
+    void shouldSpreadReadsWithoutOwner() {
+        // GIVEN
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of("replica-0", "replica-1"));
+
+        // WHEN
+        Object first = routingDataSource.determineCurrentLookupKey();
+        Object second = routingDataSource.determineCurrentLookupKey();
+
+        // THEN
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder("replica-0", "replica-1");
+    }
+
+    @Test
+    @DisplayName("GIVEN the owner just wrote WHEN they read THEN uses the primary while other owners stay on replicas")
+    void shouldReadYourWritesFromPrimary() {
+        // GIVEN
+        when(lagMonitor.healthyReplicas()).thenReturn(List.of("replica-0", "replica-1"));
+        readYourWritesTracker.recordWrite("alice");
+
+        // WHEN
+        Object writer = ReplicaRoutingContext.callAs("alice", routingDataSource::determineCurrentLookupKey);
+        Object other = ReplicaRoutingContext.callAs("bob", routingDataSource::determineCurrentLookupKey);
+
+        // THEN
+        assertThat(writer).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(other).isIn("replica-0", "replica-1");
+    }
+
+    @Test
+    @DisplayName("GIVEN a nested routing context WHEN it ends THEN the outer owner is restored")
+    void shouldRestoreOuterOwner() {
+        // WHEN
+        String inner = ReplicaRoutingContext.callAs("alice",
+                () -> ReplicaRoutingContext.callAs("bob", ReplicaRoutingContext::currentOwner));
+        String outer = ReplicaRoutingContext.callAs("alice", () -> {
+            ReplicaRoutingContext.callAs("bob", ReplicaRoutingContext::currentOwner);
+            return ReplicaRoutingContext.currentOwner();
+        });
+
+        // THEN
+        assertThat(inner).isEqualTo("bob");
+        assertThat(outer).isEqualTo("alice");
+        assertThat(ReplicaRoutingContext.currentOwner()).isNull();
+    }
+
+    private Map<String, Object> route(List<String> owners) {
+        Map<String, Object> routes = new HashMap<>();
+        owners.forEach(owner -> routes.put(owner,
+                ReplicaRoutingContext.callAs(owner, routingDataSource::determineCurrentLookupKey)));
+        return routes;
+    }
+}
@@ -0,0 +1,53 @@
+package com.doodle.scheduler.application.config.flyway;
+
+import com.doodle.scheduler.application.config.flyway.FlywayStartupProperties.OnStartup;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FlywayStartupConfig Unit Tests")
+class FlywayStartupConfigTest {
+
+    @Mock
+    private Flyway flyway;
+
+    private final FlywayStartupConfig config = new FlywayStartupConfig();
+
+    @Test
+    @DisplayName("GIVEN on-startup migrate WHEN the application starts THEN pending migrations are applied")
+    void shouldMigrate() {
+        // WHEN
+        config.flywayMigrationStrategy(new FlywayStartupProperties(OnStartup.MIGRATE)).migrate(flyway);
+
+        // THEN
+        verify(flyway).migrate();
+        verifyNoMoreInteractions(flyway);
+    }
+
+    @Test
+    @DisplayName("GIVEN on-startup validate WHEN the application starts THEN the schema is only validated")
+    void shouldOnlyValidate() {
+        // WHEN
+        config.flywayMigrationStrategy(new FlywayStartupProperties(OnStartup.VALIDATE)).migrate(flyway);
+
+        // THEN
+        verify(flyway).validate();
+        verifyNoMoreInteractions(flyway);
+    }
+
+    @Test
+    @DisplayName("GIVEN on-startup none WHEN the application starts THEN the database is not touched")
+    void shouldSkip() {
+        // WHEN
+        config.flywayMigrationStrategy(new FlywayStartupProperties(OnStartup.NONE)).migrate(flyway);
+
+        // THEN
+        verifyNoInteractions(flyway);
+    }
+}
@@ -0,0 +1,36 @@
+package com.doodle.scheduler.application.config.startup;
+
+import com.doodle.scheduler.application.config.event.EventSubscriberConfig;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LazyInitializationConfig Unit Tests")
+class LazyInitializationConfigTest {
+
+    private final LazyInitializationExcludeFilter hotPaths = LazyInitializationConfig.eagerHotPaths();
+
+    @Test
+    @DisplayName("GIVEN lazy initialization WHEN a hot-path chain or the event subscribers are defined THEN they stay eager")
+    void shouldKeepHotPathsEager() {
+        assertThat(isEager(hotPaths, SearchTimeSlotsUseCase.class)).isTrue();
+        assertThat(isEager(hotPaths, EventSubscriberConfig.class)).isTrue();
+        assertThat(isEager(LazyInitializationConfig.eagerFlywayMigration(), FlywayMigrationInitializer.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("GIVEN lazy initialization WHEN a rarely used chain is defined THEN it is created on first use")
+    void shouldLeaveOtherChainsLazy() {
+        assertThat(isEager(hotPaths, ImportTimeSlotsUseCase.class)).isFalse();
+    }
+
+    private static boolean isEager(LazyInitializationExcludeFilter filter, Class<?> beanType) {
+        return filter.isExcluded("bean", new RootBeanDefinition(beanType), beanType);
+    }
+}
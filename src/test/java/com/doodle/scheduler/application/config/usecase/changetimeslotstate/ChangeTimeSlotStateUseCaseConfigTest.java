@@ -0,0 +1,44 @@
+package com.doodle.scheduler.application.config.usecase.changetimeslotstate;
+
+import com.doodle.scheduler.application.config.usecase.BaseUseCaseConfigTest;
+import com.doodle.scheduler.application.config.usecase.changetimeslotstate.decorators.LoggedChangeTimeSlotStateUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.changetimeslotstate.decorators.TransactionalChangeTimeSlotStateUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateUseCase;
+import com.doodle.scheduler.application.domain.calendar.service.ChangeTimeSlotStateServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChangeTimeSlotStateUseCaseConfig - Decorator Wiring Test")
+class ChangeTimeSlotStateUseCaseConfigTest extends BaseUseCaseConfigTest {
+
+    @Autowired
+    private ChangeTimeSlotStateUseCase changeTimeSlotStateUseCase;
+
+    @Test
+    @DisplayName("Should wire decorators in correct order: Logged -> Transactional -> Core")
+    void shouldWireDecoratorsInCorrectOrder() {
+        // Given & When
+        final var logged = changeTimeSlotStateUseCase;
+
+        // Then - verify the chain
+        assertThat(logged)
+                .as("Primary bean should be LoggedChangeTimeSlotStateUseCaseDecorator")
+                .isInstanceOf(LoggedChangeTimeSlotStateUseCaseDecorator.class);
+
+        final Object transactional = ReflectionTestUtils.getField(logged, "delegate");
+        assertThat(transactional)
+                .as("Second layer should be TransactionalChangeTimeSlotStateUseCaseDecorator")
+                .isNotNull()
+                .isInstanceOf(TransactionalChangeTimeSlotStateUseCaseDecorator.class);
+
+        final Object core = ReflectionTestUtils.getField(transactional, "delegate");
+        assertThat(core)
+                .as("Third layer should be ChangeTimeSlotStateServiceImpl")
+                .isNotNull()
+                .isInstanceOf(ChangeTimeSlotStateServiceImpl.class);
+    }
+}
@@ -0,0 +1,148 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.common.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveConcurrencyLimiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final String OPERATION = "CreateTimeSlotUseCase";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should refuse calls beyond the limit with the configured Retry-After and count them")
+    void shouldRejectBeyondLimit() throws Exception {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 2, 2);
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> first = executor.submit(() -> limiter.run(OPERATION, () -> hold(running, release)));
+        Future<?> second = executor.submit(() -> limiter.run(OPERATION, () -> hold(running, release)));
+        running.await();
+
+        // When & Then
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThatThrownBy(() -> limiter.execute(OPERATION, () -> "refused"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .extracting(e -> ((ServiceOverloadedException) e).getRetryAfter())
+                .isEqualTo(Duration.ofSeconds(1));
+        assertThat(meterRegistry.counter("scheduler.usecase.concurrency.rejected", "operation", OPERATION).count())
+                .isEqualTo(1.0);
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.execute(OPERATION, () -> "admitted")).isEqualTo("admitted");
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when calls fail with infrastructure errors")
+    void shouldShrinkOnFailure() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 100);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> limiter.execute(OPERATION, () -> {
+                throw new QueryTimeoutException("statement timeout");
+            })).isInstanceOf(QueryTimeoutException.class);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(7);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should leave the limit alone when calls fail with business rule violations")
+    void shouldIgnoreDomainExceptions() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 100);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> limiter.run(OPERATION, () -> {
+                throw new TimeSlotNotFoundException("missing");
+            })).isInstanceOf(TimeSlotNotFoundException.class);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not shrink below the minimum limit")
+    void shouldStayWithinBounds() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(3, 2, 100);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> limiter.execute(OPERATION, () -> {
+                throw new IllegalStateException("pool exhausted");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should expose the limit and in-flight count as gauges")
+    void shouldRegisterGauges() {
+        // Given
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 2, 100);
+
+        // When & Then
+        assertThat(meterRegistry.get("scheduler.usecase.concurrency.limit").gauge().value()).isEqualTo(10.0);
+        assertThat(meterRegistry.get("scheduler.usecase.concurrency.in-flight").gauge().value()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent limits")
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> limiter(1, 2, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> limiter(5, 0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> limiter(5, 2, 4)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties(true, initial, min, max, 1.0, Duration.ofSeconds(1)), meterRegistry);
+    }
+
+    private static void hold(CountDownLatch running, CountDownLatch release) {
+        running.countDown();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.DeleteExpiredIdempotencyKeysPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyKeyCleaner Unit Tests")
+class IdempotencyKeyCleanerTest {
+
+    @Mock
+    private DeleteExpiredIdempotencyKeysPort deleteExpiredIdempotencyKeysPort;
+
+    @Test
+    @DisplayName("Should delete full batches until one comes back short, all with the same TTL cut-off")
+    void shouldDeleteInBatchesUntilShortBatch() {
+        // Given
+        IdempotencyKeyCleaner cleaner = new IdempotencyKeyCleaner(deleteExpiredIdempotencyKeysPort,
+                new IdempotencyProperties(Duration.ofHours(24), 100, Duration.ofMinutes(10), 500));
+        when(deleteExpiredIdempotencyKeysPort.deleteExpiredIdempotencyKeys(any(), eq(500))).thenReturn(500, 500, 42);
+        Instant before = Instant.now().minus(Duration.ofHours(24));
+
+        // When
+        long deleted = cleaner.deleteExpiredKeys();
+
+        // Then
+        assertThat(deleted).isEqualTo(1042);
+        ArgumentCaptor<Instant> cutOffs = ArgumentCaptor.forClass(Instant.class);
+        verify(deleteExpiredIdempotencyKeysPort, times(3)).deleteExpiredIdempotencyKeys(cutOffs.capture(), eq(500));
+        assertThat(cutOffs.getAllValues()).containsOnly(cutOffs.getValue());
+        assertThat(cutOffs.getValue()).isBetween(before, Instant.now().minus(Duration.ofHours(24)));
+    }
+
+    @Test
+    @DisplayName("Should reject a batch size below one")
+    void shouldRejectInvalidBatchSize() {
+        assertThatThrownBy(() -> new IdempotencyKeyCleaner(deleteExpiredIdempotencyKeysPort,
+                new IdempotencyProperties(Duration.ofHours(24), 100, Duration.ofMinutes(10), 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,180 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import com.doodle.scheduler.application.domain.calendar.exception.IdempotencyKeyReusedException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotCollisionException;
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyKey;
+import com.doodle.scheduler.application.domain.calendar.model.idempotency.IdempotencyRecord;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.ClaimIdempotencyKeyPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.CompleteIdempotencyKeyPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.idempotency.LoadIdempotencyRecordPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyKeyStore Unit Tests")
+class IdempotencyKeyStoreTest {
+
+    private static final IdempotencyKey KEY = new IdempotencyKey("authenticated-user", "key-1");
+    private static final String FINGERPRINT = "POST start=2026-02-07T10:00:00Z durationMinutes=60";
+
+    @Mock
+    private ClaimIdempotencyKeyPort claimIdempotencyKeyPort;
+
+    @Mock
+    private LoadIdempotencyRecordPort loadIdempotencyRecordPort;
+
+    @Mock
+    private CompleteIdempotencyKeyPort completeIdempotencyKeyPort;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TimeSlot created = TimeSlot.reconstitute(
+            UUID.randomUUID(), UUID.randomUUID(), Instant.parse("2026-02-07T10:00:00Z"), 60, "AVAILABLE", 0L);
+
+    private IdempotencyKeyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyKeyStore(claimIdempotencyKeyPort, loadIdempotencyRecordPort, completeIdempotencyKeyPort,
+                new IdempotencyProperties(Duration.ofHours(24), 100, Duration.ofMinutes(10), 1000), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should run the write and record its result when the key is new")
+    void shouldRunWriteForNewKey() {
+        // Given
+        when(claimIdempotencyKeyPort.claimIdempotencyKey(KEY, FINGERPRINT)).thenReturn(true);
+
+        // When
+        TimeSlot result = store.execute(KEY, FINGERPRINT, () -> created);
+
+        // Then
+        assertThat(result).isSameAs(created);
+        verify(completeIdempotencyKeyPort).completeIdempotencyKey(KEY, created);
+        verifyNoInteractions(loadIdempotencyRecordPort);
+    }
+
+    @Test
+    @DisplayName("Should answer a retry from memory without claiming, loading or running the write again")
+    void shouldReplayFromCache() {
+        // Given
+        when(claimIdempotencyKeyPort.claimIdempotencyKey(KEY, FINGERPRINT)).thenReturn(true);
+        AtomicInteger writes = new AtomicInteger();
+        store.execute(KEY, FINGERPRINT, () -> {
+            writes.incrementAndGet();
+            return created;
+        });
+
+        // When
+        TimeSlot replayed = store.execute(KEY, FINGERPRINT, () -> {
+            writes.incrementAndGet();
+            return created;
+        });
+
+        // Then
+        assertThat(replayed).isSameAs(created);
+        assertThat(writes).hasValue(1);
+        verify(claimIdempotencyKeyPort, times(1)).claimIdempotencyKey(any(), any());
+        assertThat(meterRegistry.counter("scheduler.idempotency.replayed", "source", "cache").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should answer a retry from the table when another instance ran the write")
+    void shouldReplayFromDatabase() {
+        // Given
+        when(claimIdempotencyKeyPort.claimIdempotencyKey(KEY, FINGERPRINT)).thenReturn(false);
+        when(loadIdempotencyRecordPort.loadIdempotencyRecord(KEY))
+                .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, created, Instant.now())));
+
+        // When
+        TimeSlot replayed = store.execute(KEY, FINGERPRINT, () -> {
+            throw new AssertionError("write must not run for a replay");
+        });
+
+        // Then
+        assertThat(replayed).isSameAs(created);
+        verifyNoInteractions(completeIdempotencyKeyPort);
+        assertThat(meterRegistry.counter("scheduler.idempotency.replayed", "source", "database").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should refuse a key that was used for a different request")
+    void shouldRejectReusedKey() {
+        // Given
+        when(claimIdempotencyKeyPort.claimIdempotencyKey(KEY, "DELETE timeSlotId=" + created.getId())).thenReturn(false);
+        when(loadIdempotencyRecordPort.loadIdempotencyRecord(KEY))
+                .thenReturn(Optional.of(new IdempotencyRecord(FINGERPRINT, created, Instant.now())));
+
+        // When & Then
+        assertThatThrownBy(() -> store.execute(KEY, "DELETE timeSlotId=" + created.getId(), () -> null))
+                .isInstanceOf(IdempotencyKeyReusedException.class)
+                .hasMessageContaining("key-1");
+    }
+
+    @Test
+    @DisplayName("Should not remember a failed write, so that its retry runs again")
+    void shouldNotRememberFailedWrites() {
+        // Given
+        when(claimIdempotencyKeyPort.claimIdempotencyKey(KEY, FINGERPRINT)).thenReturn(true);
+        assertThatThrownBy(() -> store.execute(KEY, FINGERPRINT, () -> {
+            throw new TimeSlotCollisionException("overlaps");
+        })).isInstanceOf(TimeSlotCollisionException.class);
+
+        // When
+        TimeSlot result = store.execute(KEY, FINGERPRINT, () -> created);
+
+        // Then
+        assertThat(result).isSameAs(created);
+        verify(claimIdempotencyKeyPort, times(2)).claimIdempotencyKey(KEY, FINGERPRINT);
+        verify(completeIdempotencyKeyPort, times(1)).completeIdempotencyKey(KEY, created);
+    }
+
+    @Test
+    @DisplayName("Should claim again when the key expired between the claim and the read")
+    void shouldClaimAgainWhenKeyVanished() {
+        // Given
+        when(claimIdempotencyKeyPort.claimIdempotencyKey(KEY, FINGERPRINT)).thenReturn(false, true);
+        when(loadIdempotencyRecordPort.loadIdempotencyRecord(KEY)).thenReturn(Optional.empty());
+
+        // When
+        TimeSlot result = store.execute(KEY, FINGERPRINT, () -> created);
+
+        // Then
+        assertThat(result).isSameAs(created);
+        verify(completeIdempotencyKeyPort).completeIdempotencyKey(KEY, created);
+    }
+
+    @Test
+    @DisplayName("Should not record a result for writes that return nothing")
+    void shouldNotCompleteVoidWrites() {
+        // Given
+        String fingerprint = "DELETE timeSlotId=" + created.getId();
+        when(claimIdempotencyKeyPort.claimIdempotencyKey(KEY, fingerprint)).thenReturn(true);
+
+        // When
+        TimeSlot result = store.execute(KEY, fingerprint, () -> null);
+
+        // Then
+        assertThat(result).isNull();
+        verifyNoInteractions(completeIdempotencyKeyPort);
+        assertThat(store.execute(KEY, fingerprint, () -> {
+            throw new AssertionError("write must not run for a replay");
+        })).isNull();
+    }
+}
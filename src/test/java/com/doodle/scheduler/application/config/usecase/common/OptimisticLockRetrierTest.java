@@ -0,0 +1,84 @@
+package com.doodle.scheduler.application.config.usecase.common;
+
+import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OptimisticLockRetrier Unit Tests")
+class OptimisticLockRetrierTest {
+
+    private final OptimisticLockRetrier retrier = new OptimisticLockRetrier(
+            new OptimisticLockRetryProperties(3, Duration.ZERO, Duration.ZERO));
+
+    @Test
+    @DisplayName("GIVEN a transient optimistic lock failure WHEN executing THEN retries and returns the result")
+    void shouldRetryOptimisticLockFailure() {
+        // GIVEN
+        AtomicInteger calls = new AtomicInteger();
+
+        // WHEN
+        String result = retrier.execute("test", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("TimeSlotJpaEntity", "id");
+            }
+            return "done";
+        });
+
+        // THEN
+        assertThat(result).isEqualTo("done");
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("GIVEN a wrapped JPA OptimisticLockException WHEN executing THEN it is recognised and retried")
+    void shouldRetryWrappedJpaOptimisticLockException() {
+        // GIVEN
+        AtomicInteger calls = new AtomicInteger();
+
+        // WHEN
+        retrier.run("test", () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException(new OptimisticLockException("stale"));
+            }
+        });
+
+        // THEN
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("GIVEN a permanent conflict WHEN executing THEN gives up after maxAttempts and rethrows")
+    void shouldGiveUpAfterMaxAttempts() {
+        // GIVEN
+        AtomicInteger calls = new AtomicInteger();
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> retrier.run("test", () -> {
+            calls.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException("TimeSlotJpaEntity", "id");
+        })).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("GIVEN a non-concurrency failure WHEN executing THEN it is rethrown without retrying")
+    void shouldNotRetryOtherFailures() {
+        // GIVEN
+        AtomicInteger calls = new AtomicInteger();
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> retrier.run("test", () -> {
+            calls.incrementAndGet();
+            throw new DataAccessResourceFailureException("connection refused");
+        })).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(calls).hasValue(1);
+    }
+}
@@ -1,6 +1,7 @@
 package com.doodle.scheduler.application.config.usecase.createtimeslot;
 
 import com.doodle.scheduler.application.config.usecase.BaseUseCaseConfigTest;
+import com.doodle.scheduler.application.config.usecase.createtimeslot.decorators.IdempotentCreateTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.config.usecase.createtimeslot.decorators.LoggedCreateTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.config.usecase.createtimeslot.decorators.TransactionalCreateTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotUseCase;
@@ -34,7 +35,12 @@ class CreateTimeSlotUseCaseConfigTest extends BaseUseCaseConfigTest {
                 .as("Second layer should be TransactionalCreateTimeSlotUseCaseDecorator")
                 .isInstanceOf(TransactionalCreateTimeSlotUseCaseDecorator.class);
 
-        final var service = getDelegate(transactional);
+        final var idempotent = getDelegate(transactional);
+        assertThat(idempotent)
+                .as("Third layer should be IdempotentCreateTimeSlotUseCaseDecorator")
+                .isInstanceOf(IdempotentCreateTimeSlotUseCaseDecorator.class);
+
+        final var service = getDelegate(idempotent);
         assertThat(service)
                 .as("Core layer should be CreateTimeSlotServiceImpl")
                 .isInstanceOf(CreateTimeSlotServiceImpl.class);
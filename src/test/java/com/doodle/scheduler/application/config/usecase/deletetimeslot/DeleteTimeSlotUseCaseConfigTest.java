@@ -1,7 +1,9 @@
 package com.doodle.scheduler.application.config.usecase.deletetimeslot;
 
 import com.doodle.scheduler.application.config.usecase.BaseUseCaseConfigTest;
+import com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators.IdempotentDeleteTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators.LoggedDeleteTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators.RetryingDeleteTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.config.usecase.deletetimeslot.decorators.TransactionalDeleteTimeSlotUseCaseDecorator;
 import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotUseCase;
 import org.junit.jupiter.api.DisplayName;
@@ -18,7 +20,7 @@ class DeleteTimeSlotUseCaseConfigTest extends BaseUseCaseConfigTest {
     private DeleteTimeSlotUseCase deleteTimeSlotUseCase;
 
     @Test
-    @DisplayName("Should wire decorators in correct order: Logged -> Transactional -> Core")
+    @DisplayName("Should wire decorators in correct order: Logged -> Retrying -> Transactional -> Idempotent -> Core")
     void shouldWireDecoratorsInCorrectOrder() {
         // Given & When
         final var logged = deleteTimeSlotUseCase;
@@ -28,15 +30,27 @@ class DeleteTimeSlotUseCaseConfigTest extends BaseUseCaseConfigTest {
                 .as("Primary bean should be LoggedDeleteTimeSlotUseCaseDecorator")
                 .isInstanceOf(LoggedDeleteTimeSlotUseCaseDecorator.class);
 
-        final Object transactional = ReflectionTestUtils.getField(logged, "delegate");
+        final Object retrying = ReflectionTestUtils.getField(logged, "delegate");
+        assertThat(retrying)
+                .as("Second layer should be RetryingDeleteTimeSlotUseCaseDecorator")
+                .isNotNull()
+                .isInstanceOf(RetryingDeleteTimeSlotUseCaseDecorator.class);
+
+        final Object transactional = ReflectionTestUtils.getField(retrying, "delegate");
         assertThat(transactional)
-                .as("Second layer should be TransactionalDeleteTimeSlotUseCaseDecorator")
+                .as("Third layer should be TransactionalDeleteTimeSlotUseCaseDecorator")
                 .isNotNull()
                 .isInstanceOf(TransactionalDeleteTimeSlotUseCaseDecorator.class);
 
-        final Object core = ReflectionTestUtils.getField(transactional, "delegate");
+        final Object idempotent = ReflectionTestUtils.getField(transactional, "delegate");
+        assertThat(idempotent)
+                .as("Fourth layer should be IdempotentDeleteTimeSlotUseCaseDecorator")
+                .isNotNull()
+                .isInstanceOf(IdempotentDeleteTimeSlotUseCaseDecorator.class);
+
+        final Object core = ReflectionTestUtils.getField(idempotent, "delegate");
         assertThat(core)
-                .as("Third layer should be core DeleteTimeSlotUseCase implementation")
+                .as("Fifth layer should be core DeleteTimeSlotUseCase implementation")
                 .isNotNull()
                 .isInstanceOf(DeleteTimeSlotUseCase.class);
     }
@@ -0,0 +1,43 @@
+package com.doodle.scheduler.application.config.usecase.exporttimeslotfeed;
+
+import com.doodle.scheduler.application.config.usecase.BaseUseCaseConfigTest;
+import com.doodle.scheduler.application.config.usecase.exporttimeslotfeed.decorators.LoggedExportTimeSlotFeedUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.exporttimeslotfeed.decorators.TransactionalExportTimeSlotFeedUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExportTimeSlotFeedUseCaseConfig - Decorator Wiring Test")
+class ExportTimeSlotFeedUseCaseConfigTest extends BaseUseCaseConfigTest {
+
+    @Autowired
+    private ExportTimeSlotFeedUseCase exportTimeSlotFeedUseCase;
+
+    @Test
+    @DisplayName("Should wire decorators in correct order: Logged -> Transactional -> Core")
+    void shouldWireDecoratorsInCorrectOrder() {
+        // Given & When
+        final var logged = exportTimeSlotFeedUseCase;
+
+        // Then - verify the chain
+        assertThat(logged)
+                .as("Primary bean should be LoggedExportTimeSlotFeedUseCaseDecorator")
+                .isInstanceOf(LoggedExportTimeSlotFeedUseCaseDecorator.class);
+
+        final Object transactional = ReflectionTestUtils.getField(logged, "delegate");
+        assertThat(transactional)
+                .as("Second layer should be TransactionalExportTimeSlotFeedUseCaseDecorator")
+                .isNotNull()
+                .isInstanceOf(TransactionalExportTimeSlotFeedUseCaseDecorator.class);
+
+        final Object core = ReflectionTestUtils.getField(transactional, "delegate");
+        assertThat(core)
+                .as("Third layer should be core ExportTimeSlotFeedUseCase implementation")
+                .isNotNull()
+                .isInstanceOf(ExportTimeSlotFeedUseCase.class);
+    }
+}
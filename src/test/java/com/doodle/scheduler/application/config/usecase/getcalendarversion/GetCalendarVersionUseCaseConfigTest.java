@@ -0,0 +1,43 @@
+package com.doodle.scheduler.application.config.usecase.getcalendarversion;
+
+import com.doodle.scheduler.application.config.usecase.BaseUseCaseConfigTest;
+import com.doodle.scheduler.application.config.usecase.getcalendarversion.decorators.LoggedGetCalendarVersionUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.getcalendarversion.decorators.TransactionalGetCalendarVersionUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.getcalendarversion.GetCalendarVersionUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GetCalendarVersionUseCaseConfig - Decorator Wiring Test")
+class GetCalendarVersionUseCaseConfigTest extends BaseUseCaseConfigTest {
+
+    @Autowired
+    private GetCalendarVersionUseCase getCalendarVersionUseCase;
+
+    @Test
+    @DisplayName("Should wire decorators in correct order: Logged -> Transactional -> Core")
+    void shouldWireDecoratorsInCorrectOrder() {
+        // Given & When
+        final var logged = getCalendarVersionUseCase;
+
+        // Then - verify the chain
+        assertThat(logged)
+                .as("Primary bean should be LoggedGetCalendarVersionUseCaseDecorator")
+                .isInstanceOf(LoggedGetCalendarVersionUseCaseDecorator.class);
+
+        final Object transactional = ReflectionTestUtils.getField(logged, "delegate");
+        assertThat(transactional)
+                .as("Second layer should be TransactionalGetCalendarVersionUseCaseDecorator")
+                .isNotNull()
+                .isInstanceOf(TransactionalGetCalendarVersionUseCaseDecorator.class);
+
+        final Object core = ReflectionTestUtils.getField(transactional, "delegate");
+        assertThat(core)
+                .as("Third layer should be core GetCalendarVersionUseCase implementation")
+                .isNotNull()
+                .isInstanceOf(GetCalendarVersionUseCase.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.doodle.scheduler.application.config.usecase.schedulemeeting;
+
+import com.doodle.scheduler.application.config.usecase.BaseUseCaseConfigTest;
+import com.doodle.scheduler.application.config.usecase.schedulemeeting.decorators.LoggedScheduleMeetingUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.schedulemeeting.decorators.TransactionalScheduleMeetingUseCaseDecorator;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ScheduleMeetingUseCaseConfig - Decorator Wiring Test")
+class ScheduleMeetingUseCaseConfigTest extends BaseUseCaseConfigTest {
+
+    @Autowired
+    private ScheduleMeetingUseCase scheduleMeetingUseCase;
+
+    @Test
+    @DisplayName("Should wire decorators in correct order: Logged -> Transactional -> Core")
+    void shouldWireDecoratorsInCorrectOrder() {
+        // Given & When
+        final var logged = scheduleMeetingUseCase;
+
+        // Then - verify the chain
+        assertThat(logged)
+                .as("Primary bean should be LoggedScheduleMeetingUseCaseDecorator")
+                .isInstanceOf(LoggedScheduleMeetingUseCaseDecorator.class);
+
+        final Object transactional = ReflectionTestUtils.getField(logged, "delegate");
+        assertThat(transactional)
+                .as("Second layer should be TransactionalScheduleMeetingUseCaseDecorator")
+                .isNotNull()
+                .isInstanceOf(TransactionalScheduleMeetingUseCaseDecorator.class);
+
+        final Object core = ReflectionTestUtils.getField(transactional, "delegate");
+        assertThat(core)
+                .as("Third layer should be core ScheduleMeetingUseCase implementation")
+                .isNotNull()
+                .isInstanceOf(ScheduleMeetingUseCase.class);
+    }
+}
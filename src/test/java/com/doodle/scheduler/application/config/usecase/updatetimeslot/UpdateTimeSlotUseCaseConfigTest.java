@@ -0,0 +1,51 @@
+package com.doodle.scheduler.application.config.usecase.updatetimeslot;
+
+import com.doodle.scheduler.application.config.usecase.BaseUseCaseConfigTest;
+import com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators.LoggedUpdateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators.RetryingUpdateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.config.usecase.updatetimeslot.decorators.TransactionalUpdateTimeSlotUseCaseDecorator;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotUseCase;
+import com.doodle.scheduler.application.domain.calendar.service.UpdateTimeSlotServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UpdateTimeSlotUseCaseConfig - Decorator Wiring Test")
+class UpdateTimeSlotUseCaseConfigTest extends BaseUseCaseConfigTest {
+
+    @Autowired
+    private UpdateTimeSlotUseCase updateTimeSlotUseCase;
+
+    @Test
+    @DisplayName("Should wire decorators in correct order: Logged -> Retrying -> Transactional -> Core")
+    void shouldWireDecoratorsInCorrectOrder() {
+        // Given & When
+        final var logged = updateTimeSlotUseCase;
+
+        // Then - verify the chain
+        assertThat(logged)
+                .as("Primary bean should be LoggedUpdateTimeSlotUseCaseDecorator")
+                .isInstanceOf(LoggedUpdateTimeSlotUseCaseDecorator.class);
+
+        final Object retrying = ReflectionTestUtils.getField(logged, "delegate");
+        assertThat(retrying)
+                .as("Second layer should be RetryingUpdateTimeSlotUseCaseDecorator")
+                .isNotNull()
+                .isInstanceOf(RetryingUpdateTimeSlotUseCaseDecorator.class);
+
+        final Object transactional = ReflectionTestUtils.getField(retrying, "delegate");
+        assertThat(transactional)
+                .as("Third layer should be TransactionalUpdateTimeSlotUseCaseDecorator")
+                .isNotNull()
+                .isInstanceOf(TransactionalUpdateTimeSlotUseCaseDecorator.class);
+
+        final Object core = ReflectionTestUtils.getField(transactional, "delegate");
+        assertThat(core)
+                .as("Fourth layer should be UpdateTimeSlotServiceImpl")
+                .isNotNull()
+                .isInstanceOf(UpdateTimeSlotServiceImpl.class);
+    }
+}
@@ -169,6 +169,25 @@ class CalendarTest {
             assertThrows(TimeSlotNotFoundException.class,
                     () -> calendar.updateTimeSlot(nonExistentSlotId, Instant.now(), 60));
         }
+
+        @Test
+        @DisplayName("Should reject update of slot assigned to meeting")
+        void shouldRejectUpdateOfSlotAssignedToMeeting() {
+            Calendar calendar = Calendar.create(UUID.randomUUID());
+            Instant start = Instant.parse("2026-02-05T10:00:00Z");
+            TimeSlot slot = calendar.addTimeSlot(start, 60);
+
+            MeetingDetails details = new MeetingDetails(
+                    new MeetingTitle("Title"),
+                    new MeetingDescription("Desc"),
+                    Set.of(UUID.randomUUID())
+            );
+            calendar.scheduleMeeting(slot.getId(), details);
+
+            assertThrows(SlotAssignedToMeetingException.class,
+                    () -> calendar.updateTimeSlot(slot.getId(), Instant.parse("2026-02-05T14:00:00Z"), 60));
+            assertEquals(start, slot.getRange().start());
+        }
     }
 
     @Nested
@@ -0,0 +1,155 @@
+package com.doodle.scheduler.application.domain.calendar.model.recurrence;
+
+import com.doodle.scheduler.application.domain.calendar.exception.InvalidRecurrenceRuleException;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecurrenceRule - Value Object")
+class RecurrenceRuleTest {
+
+    private static final Set<DayOfWeek> WEEKDAYS = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+    @Nested
+    @DisplayName("Validation")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should reject an empty set of days")
+        void shouldRejectEmptyDays() {
+            assertThrows(InvalidRecurrenceRuleException.class, () -> new RecurrenceRule(
+                    Set.of(), LocalTime.of(9, 0), 60, ZoneOffset.UTC, LocalDate.parse("2026-02-02"), null));
+        }
+
+        @Test
+        @DisplayName("Should reject durations longer than a day")
+        void shouldRejectDurationLongerThanADay() {
+            assertThrows(InvalidRecurrenceRuleException.class, () -> new RecurrenceRule(
+                    WEEKDAYS, LocalTime.of(9, 0), 24 * 60 + 1, ZoneOffset.UTC, LocalDate.parse("2026-02-02"), null));
+        }
+
+        @Test
+        @DisplayName("Should reject validUntil before validFrom")
+        void shouldRejectInvertedValidity() {
+            assertThrows(InvalidRecurrenceRuleException.class, () -> new RecurrenceRule(
+                    WEEKDAYS, LocalTime.of(9, 0), 60, ZoneOffset.UTC,
+                    LocalDate.parse("2026-02-02"), LocalDate.parse("2026-02-01")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Expansion")
+    class ExpansionTests {
+
+        @Test
+        @DisplayName("Should expand only the weekdays inside the requested window")
+        void shouldExpandWeekdaysInWindow() {
+            // 2026-02-02 is a Monday
+            RecurrenceRule rule = new RecurrenceRule(
+                    WEEKDAYS, LocalTime.of(9, 0), 180, ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null);
+
+            List<TimeRange> occurrences = rule.occurrencesOverlapping(
+                    Instant.parse("2026-02-02T00:00:00Z"), Instant.parse("2026-02-09T00:00:00Z")).toList();
+
+            assertEquals(5, occurrences.size());
+            assertEquals(Instant.parse("2026-02-02T09:00:00Z"), occurrences.get(0).start());
+            assertEquals(Instant.parse("2026-02-06T12:00:00Z"), occurrences.get(4).end());
+        }
+
+        @Test
+        @DisplayName("Should include an occurrence that started before the window and is still running")
+        void shouldIncludeOccurrenceOverlappingWindowStart() {
+            RecurrenceRule rule = new RecurrenceRule(
+                    Set.of(DayOfWeek.MONDAY), LocalTime.of(22, 0), 240, ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null);
+
+            List<TimeRange> occurrences = rule.occurrencesOverlapping(
+                    Instant.parse("2026-02-03T00:00:00Z"), Instant.parse("2026-02-03T06:00:00Z")).toList();
+
+            assertEquals(List.of(new TimeRange(Instant.parse("2026-02-02T22:00:00Z"), Instant.parse("2026-02-03T02:00:00Z"))),
+                    occurrences);
+        }
+
+        @Test
+        @DisplayName("Should respect the validity bounds")
+        void shouldRespectValidity() {
+            RecurrenceRule rule = new RecurrenceRule(
+                    WEEKDAYS, LocalTime.of(9, 0), 60, ZoneOffset.UTC,
+                    LocalDate.parse("2026-02-04"), LocalDate.parse("2026-02-05"));
+
+            List<TimeRange> occurrences = rule.occurrencesOverlapping(
+                    Instant.parse("2026-02-01T00:00:00Z"), Instant.parse("2026-03-01T00:00:00Z")).toList();
+
+            assertEquals(2, occurrences.size());
+        }
+
+        @Test
+        @DisplayName("Should keep the local start time across a DST change")
+        void shouldKeepLocalStartAcrossDst() {
+            // Europe/Berlin switches to CEST on 2026-03-29
+            RecurrenceRule rule = new RecurrenceRule(
+                    Set.of(DayOfWeek.FRIDAY, DayOfWeek.MONDAY), LocalTime.of(9, 0), 60,
+                    ZoneId.of("Europe/Berlin"), LocalDate.parse("2026-01-01"), null);
+
+            List<TimeRange> occurrences = rule.occurrencesOverlapping(
+                    Instant.parse("2026-03-27T00:00:00Z"), Instant.parse("2026-03-31T00:00:00Z")).toList();
+
+            assertEquals(Instant.parse("2026-03-27T08:00:00Z"), occurrences.get(0).start());
+            assertEquals(Instant.parse("2026-03-30T07:00:00Z"), occurrences.get(1).start());
+        }
+
+        @Test
+        @DisplayName("Should find an occurrence by its exact start only")
+        void shouldFindOccurrenceByExactStart() {
+            RecurrenceRule rule = new RecurrenceRule(
+                    WEEKDAYS, LocalTime.of(9, 0), 60, ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null);
+
+            assertTrue(rule.occurrenceStartingAt(Instant.parse("2026-02-02T09:00:00Z")).isPresent());
+            assertTrue(rule.occurrenceStartingAt(Instant.parse("2026-02-02T09:30:00Z")).isEmpty());
+            assertTrue(rule.occurrenceStartingAt(Instant.parse("2026-02-07T09:00:00Z")).isEmpty(), "Saturday");
+        }
+
+        @Test
+        @DisplayName("Should list only occurrences that start and end inside the window")
+        void shouldListOccurrencesWithinWindow() {
+            RecurrenceRule rule = new RecurrenceRule(
+                    WEEKDAYS, LocalTime.of(9, 0), 60, ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null);
+
+            List<TimeRange> occurrences = rule.occurrencesWithin(
+                    Instant.parse("2026-02-02T09:30:00Z"), Instant.parse("2026-02-05T09:30:00Z")).toList();
+
+            assertEquals(List.of(Instant.parse("2026-02-03T09:00:00Z"), Instant.parse("2026-02-04T09:00:00Z")),
+                    occurrences.stream().map(TimeRange::start).toList());
+        }
+
+        @Test
+        @DisplayName("Should count the occurrences within a window without expanding them")
+        void shouldCountOccurrencesWithin() {
+            RecurrenceRule rule = new RecurrenceRule(
+                    EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY, DayOfWeek.SUNDAY), LocalTime.of(23, 30), 90,
+                    ZoneId.of("Europe/Berlin"), LocalDate.parse("2026-02-04"), LocalDate.parse("2026-11-30"));
+            Instant start = Instant.parse("2026-01-15T00:00:00Z");
+
+            for (int days = 0; days < 400; days += 13) {
+                for (int minutes = 0; minutes < 24 * 60; minutes += 170) {
+                    Instant from = start.plusSeconds(days * 86_400L + minutes * 60L);
+                    Instant to = from.plusSeconds((days * 7L + minutes) * 3_600L);
+                    assertEquals(rule.occurrencesWithin(from, to).count(), rule.countOccurrencesWithin(from, to),
+                            from + " - " + to);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.doodle.scheduler.application.domain.calendar.model.recurrence;
+
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotCollisionException;
+import com.doodle.scheduler.application.domain.calendar.model.Calendar;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RecurringAvailability - Entity")
+class RecurringAvailabilityTest {
+
+    private static final UUID OWNER_ID = UUID.randomUUID();
+    private static final RecurrenceRule MONDAYS_9_TO_12 = new RecurrenceRule(
+            Set.of(DayOfWeek.MONDAY), LocalTime.of(9, 0), 180, ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null);
+
+    @Nested
+    @DisplayName("Occurrence ids")
+    class OccurrenceIdTests {
+
+        @Test
+        @DisplayName("Should give an occurrence the same id on every expansion")
+        void shouldProduceStableIds() {
+            RecurringAvailability recurring = RecurringAvailability.create(OWNER_ID, MONDAYS_9_TO_12);
+            Instant from = Instant.parse("2026-02-02T00:00:00Z");
+            Instant to = Instant.parse("2026-02-03T00:00:00Z");
+
+            UUID first = recurring.occurrencesOverlapping(from, to).findFirst().orElseThrow().getId();
+            UUID second = recurring.occurrencesOverlapping(from, to).findFirst().orElseThrow().getId();
+
+            assertEquals(first, second);
+            assertTrue(RecurringAvailability.isOccurrenceId(first));
+        }
+
+        @Test
+        @DisplayName("Should resolve an occurrence id back to its AVAILABLE slot")
+        void shouldResolveOccurrenceId() {
+            RecurringAvailability recurring = RecurringAvailability.create(OWNER_ID, MONDAYS_9_TO_12);
+            UUID occurrenceId = recurring.occurrenceId(Instant.parse("2026-02-02T09:00:00Z"));
+
+            TimeSlot occurrence = recurring.findOccurrence(occurrenceId).orElseThrow();
+
+            assertEquals(occurrenceId, occurrence.getId());
+            assertEquals(OWNER_ID, occurrence.getOwnerId());
+            assertEquals(Instant.parse("2026-02-02T12:00:00Z"), occurrence.getRange().end());
+            assertTrue(occurrence.getState().isAvailable());
+        }
+
+        @Test
+        @DisplayName("Should not resolve ids of other rules, plain ids or starts that are not occurrences")
+        void shouldRejectForeignIds() {
+            RecurringAvailability recurring = RecurringAvailability.create(OWNER_ID, MONDAYS_9_TO_12);
+            RecurringAvailability other = RecurringAvailability.create(OWNER_ID, MONDAYS_9_TO_12);
+
+            assertEquals(Optional.empty(), recurring.findOccurrence(other.occurrenceId(Instant.parse("2026-02-02T09:00:00Z"))));
+            assertEquals(Optional.empty(), recurring.findOccurrence(UUID.randomUUID()));
+            assertEquals(Optional.empty(), recurring.findOccurrence(recurring.occurrenceId(Instant.parse("2026-02-03T09:00:00Z"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("Calendar collision checks")
+    class CollisionTests {
+
+        @Test
+        @DisplayName("Should reject a one-off slot overlapping an occurrence")
+        void shouldRejectSlotOverlappingOccurrence() {
+            RecurringAvailability recurring = RecurringAvailability.create(OWNER_ID, MONDAYS_9_TO_12);
+            Calendar calendar = Calendar.createWithSlotsAndRecurringAvailabilities(OWNER_ID, List.of(), List.of(recurring));
+
+            assertThrows(TimeSlotCollisionException.class,
+                    () -> calendar.addTimeSlot(Instant.parse("2026-02-02T11:30:00Z"), 60));
+            assertDoesNotThrow(() -> calendar.addTimeSlot(Instant.parse("2026-02-02T12:00:00Z"), 60));
+        }
+
+        @Test
+        @DisplayName("Should check a booked occurrence as a stored slot, not twice")
+        void shouldNotDoubleCheckBookedOccurrence() {
+            RecurringAvailability recurring = RecurringAvailability.create(OWNER_ID, MONDAYS_9_TO_12);
+            UUID occurrenceId = recurring.occurrenceId(Instant.parse("2026-02-02T09:00:00Z"));
+            TimeSlot booked = TimeSlot.reconstitute(occurrenceId, OWNER_ID, Instant.parse("2026-02-02T09:00:00Z"), 180, "BUSY", 1L);
+            Calendar calendar = Calendar.createWithSlotsAndRecurringAvailabilities(OWNER_ID, List.of(booked), List.of(recurring));
+
+            TimeSlotCollisionException ex = assertThrows(TimeSlotCollisionException.class,
+                    () -> calendar.addTimeSlot(Instant.parse("2026-02-02T10:00:00Z"), 30));
+            assertTrue(ex.getMessage().contains(occurrenceId.toString()));
+        }
+
+        @Test
+        @DisplayName("Should reject a rule whose occurrences overlap an existing slot")
+        void shouldRejectRuleOverlappingSlot() {
+            Calendar calendar = Calendar.create(OWNER_ID);
+            calendar.addTimeSlot(Instant.parse("2026-03-02T10:00:00Z"), 30);
+
+            assertThrows(TimeSlotCollisionException.class, () -> calendar.addRecurringAvailability(MONDAYS_9_TO_12));
+        }
+
+        @Test
+        @DisplayName("Should reject overlapping rules and accept disjoint ones")
+        void shouldRejectOverlappingRules() {
+            Calendar calendar = Calendar.create(OWNER_ID);
+            calendar.addRecurringAvailability(MONDAYS_9_TO_12);
+
+            assertThrows(TimeSlotCollisionException.class, () -> calendar.addRecurringAvailability(new RecurrenceRule(
+                    Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY), LocalTime.of(11, 0), 60,
+                    ZoneOffset.UTC, LocalDate.parse("2026-06-01"), null)));
+            assertDoesNotThrow(() -> calendar.addRecurringAvailability(new RecurrenceRule(
+                    Set.of(DayOfWeek.MONDAY), LocalTime.of(12, 0), 60,
+                    ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null)));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.exception.InvalidSlotStateTransitionException;
+import com.doodle.scheduler.application.domain.calendar.exception.SlotAssignedToMeetingException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.state.AvailableState;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.state.BusyState;
+import com.doodle.scheduler.application.domain.calendar.port.in.changetimeslotstate.ChangeTimeSlotStateCommand;
+import com.doodle.scheduler.application.domain.calendar.port.out.changetimeslotstate.ChangeTimeSlotStatePort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDescription;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDetails;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingTitle;
+import com.doodle.scheduler.application.domain.meeting.port.out.loadmeetings.LoadMeetingsByTimeSlotIdPort;
+import com.doodle.scheduler.application.domain.user.model.User;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChangeTimeSlotStateServiceImpl Unit Tests")
+class ChangeTimeSlotStateServiceImplTest {
+
+    private static final String USERNAME = "testuser";
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID TIME_SLOT_ID = UUID.randomUUID();
+    private static final Instant START = Instant.parse("2026-02-10T10:00:00Z");
+
+    @Mock
+    private LoadUserByUsernamePort loadUserByUsernamePort;
+
+    @Mock
+    private LoadTimeSlotByIdPort loadTimeSlotByIdPort;
+
+    @Mock
+    private LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort;
+
+    @Mock
+    private ChangeTimeSlotStatePort changeTimeSlotStatePort;
+
+    private ChangeTimeSlotStateServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ChangeTimeSlotStateServiceImpl(
+                loadUserByUsernamePort,
+                loadTimeSlotByIdPort,
+                loadMeetingsByTimeSlotIdPort,
+                changeTimeSlotStatePort
+        );
+        when(loadUserByUsernamePort.loadUserByUsername(USERNAME)).thenReturn(User.reconstitute(USER_ID, USERNAME));
+    }
+
+    @Test
+    @DisplayName("Should mark an available slot busy with one conditional update and no reads")
+    void shouldMarkBusyWithSingleUpdate() {
+        // Given
+        TimeSlot changed = TimeSlot.reconstitute(TIME_SLOT_ID, USER_ID, START, 30, "BUSY", 1L);
+        when(changeTimeSlotStatePort.changeTimeSlotState(TIME_SLOT_ID, USER_ID, AvailableState.INSTANCE, BusyState.INSTANCE))
+                .thenReturn(Optional.of(changed));
+
+        // When
+        TimeSlot result = service.execute(new ChangeTimeSlotStateCommand(USERNAME, TIME_SLOT_ID, "BUSY"));
+
+        // Then
+        assertThat(result).isSameAs(changed);
+        verifyNoInteractions(loadTimeSlotByIdPort, loadMeetingsByTimeSlotIdPort);
+    }
+
+    @Test
+    @DisplayName("Should release a busy slot by updating from BUSY to AVAILABLE")
+    void shouldMarkAvailable() {
+        // Given
+        TimeSlot changed = TimeSlot.reconstitute(TIME_SLOT_ID, USER_ID, START, 30, "AVAILABLE", 2L);
+        when(changeTimeSlotStatePort.changeTimeSlotState(TIME_SLOT_ID, USER_ID, BusyState.INSTANCE, AvailableState.INSTANCE))
+                .thenReturn(Optional.of(changed));
+
+        // When
+        TimeSlot result = service.execute(new ChangeTimeSlotStateCommand(USERNAME, TIME_SLOT_ID, "AVAILABLE"));
+
+        // Then
+        assertThat(result.getStateString()).isEqualTo("AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("Should throw TimeSlotNotFoundException when nothing matched and the slot does not exist")
+    void shouldThrowNotFoundWhenSlotMissing() {
+        // Given
+        when(changeTimeSlotStatePort.changeTimeSlotState(TIME_SLOT_ID, USER_ID, AvailableState.INSTANCE, BusyState.INSTANCE))
+                .thenReturn(Optional.empty());
+        when(loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(new ChangeTimeSlotStateCommand(USERNAME, TIME_SLOT_ID, "BUSY")))
+                .isInstanceOf(TimeSlotNotFoundException.class)
+                .hasMessageContaining("Time slot not found with id: " + TIME_SLOT_ID);
+    }
+
+    @Test
+    @DisplayName("Should throw TimeSlotNotFoundException when nothing matched and the slot belongs to another user")
+    void shouldThrowNotFoundWhenSlotForeign() {
+        // Given
+        when(changeTimeSlotStatePort.changeTimeSlotState(TIME_SLOT_ID, USER_ID, AvailableState.INSTANCE, BusyState.INSTANCE))
+                .thenReturn(Optional.empty());
+        when(loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID)).thenReturn(Optional.of(
+                TimeSlot.reconstitute(TIME_SLOT_ID, UUID.randomUUID(), START, 30, "AVAILABLE", 0L)));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(new ChangeTimeSlotStateCommand(USERNAME, TIME_SLOT_ID, "BUSY")))
+                .isInstanceOf(TimeSlotNotFoundException.class);
+        verifyNoInteractions(loadMeetingsByTimeSlotIdPort);
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidSlotStateTransitionException when the slot is already in the requested state")
+    void shouldThrowInvalidTransitionWhenAlreadyInState() {
+        // Given
+        when(changeTimeSlotStatePort.changeTimeSlotState(TIME_SLOT_ID, USER_ID, AvailableState.INSTANCE, BusyState.INSTANCE))
+                .thenReturn(Optional.empty());
+        when(loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID)).thenReturn(Optional.of(
+                TimeSlot.reconstitute(TIME_SLOT_ID, USER_ID, START, 30, "BUSY", 1L)));
+        when(loadMeetingsByTimeSlotIdPort.loadMeetingsByTimeSlotId(TIME_SLOT_ID)).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(new ChangeTimeSlotStateCommand(USERNAME, TIME_SLOT_ID, "BUSY")))
+                .isInstanceOf(InvalidSlotStateTransitionException.class)
+                .hasMessageContaining("markBusy");
+    }
+
+    @Test
+    @DisplayName("Should throw SlotAssignedToMeetingException when a meeting holds the slot")
+    void shouldThrowWhenSlotAssignedToMeeting() {
+        // Given
+        Meeting meeting = Meeting.create(
+                new MeetingDetails(new MeetingTitle("Standup"), new MeetingDescription(""), Set.of(UUID.randomUUID())),
+                List.of(TIME_SLOT_ID));
+        when(changeTimeSlotStatePort.changeTimeSlotState(TIME_SLOT_ID, USER_ID, BusyState.INSTANCE, AvailableState.INSTANCE))
+                .thenReturn(Optional.empty());
+        when(loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID)).thenReturn(Optional.of(
+                TimeSlot.reconstitute(TIME_SLOT_ID, USER_ID, START, 30, "BUSY", 1L)));
+        when(loadMeetingsByTimeSlotIdPort.loadMeetingsByTimeSlotId(TIME_SLOT_ID)).thenReturn(List.of(meeting));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(new ChangeTimeSlotStateCommand(USERNAME, TIME_SLOT_ID, "AVAILABLE")))
+                .isInstanceOf(SlotAssignedToMeetingException.class);
+    }
+
+    @Test
+    @DisplayName("Should report a concurrent change when the slot allows the transition but the update missed it")
+    void shouldReportConcurrentChange() {
+        // Given
+        when(changeTimeSlotStatePort.changeTimeSlotState(TIME_SLOT_ID, USER_ID, AvailableState.INSTANCE, BusyState.INSTANCE))
+                .thenReturn(Optional.empty());
+        when(loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID)).thenReturn(Optional.of(
+                TimeSlot.reconstitute(TIME_SLOT_ID, USER_ID, START, 30, "AVAILABLE", 2L)));
+        when(loadMeetingsByTimeSlotIdPort.loadMeetingsByTimeSlotId(TIME_SLOT_ID)).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(new ChangeTimeSlotStateCommand(USERNAME, TIME_SLOT_ID, "BUSY")))
+                .isInstanceOf(InvalidSlotStateTransitionException.class)
+                .hasMessageContaining("concurrently");
+    }
+}
@@ -1,7 +1,11 @@
 package com.doodle.scheduler.application.domain.calendar.service;
 
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotCollisionException;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
 import com.doodle.scheduler.application.domain.calendar.port.in.createtimeslot.CreateTimeSlotCommand;
 import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
 import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotsByUserPort;
 import com.doodle.scheduler.application.domain.calendar.port.out.createtimeslot.SaveTimeSlotPort;
 import com.doodle.scheduler.application.domain.common.events.Publisher;
@@ -17,11 +21,17 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.DayOfWeek;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -35,6 +45,9 @@ class CreateTimeSlotServiceImplTest {
     @Mock
     private LoadTimeSlotsByUserPort loadTimeSlotsByUserPort;
 
+    @Mock
+    private LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+
     @Mock
     private SaveTimeSlotPort saveTimeSlotPort;
 
@@ -48,6 +61,7 @@ class CreateTimeSlotServiceImplTest {
         service = new CreateTimeSlotServiceImpl(
                 loadUserByUsernamePort,
                 loadTimeSlotsByUserPort,
+                loadRecurringAvailabilitiesByUserPort,
                 saveTimeSlotPort
         );
 
@@ -112,4 +126,27 @@ class CreateTimeSlotServiceImplTest {
         inOrder.verify(saveTimeSlotPort).saveTimeSlot(any(TimeSlot.class));
         inOrder.verify(eventSubscriber).update(any(TimeSlotCreatedEvent.class));
     }
+
+    @Test
+    @DisplayName("Should reject a time slot that overlaps an occurrence of a recurring availability")
+    void shouldRejectOverlapWithRecurringOccurrence() {
+        // Given - every Tuesday 09:00-12:00 UTC; 2026-02-10 is a Tuesday
+        String username = "testuser";
+        UUID userId = UUID.randomUUID();
+        RecurrenceRule rule = new RecurrenceRule(Set.of(DayOfWeek.TUESDAY), LocalTime.of(9, 0), 180,
+                ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null);
+        RecurringAvailability recurring = RecurringAvailability.create(userId, rule);
+
+        when(loadUserByUsernamePort.loadUserByUsername(username)).thenReturn(User.reconstitute(userId, username));
+        when(loadTimeSlotsByUserPort.loadTimeSlotsByUserId(userId)).thenReturn(List.of());
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(userId)).thenReturn(List.of(recurring));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(
+                new CreateTimeSlotCommand(username, Instant.parse("2026-02-10T10:00:00Z"), 30)))
+                .isInstanceOf(TimeSlotCollisionException.class)
+                .hasMessageContaining(recurring.getId().toString());
+
+        verify(saveTimeSlotPort, never()).saveTimeSlot(any());
+    }
 }
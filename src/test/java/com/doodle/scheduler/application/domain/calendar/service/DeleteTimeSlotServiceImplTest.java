@@ -1,6 +1,7 @@
 package com.doodle.scheduler.application.domain.calendar.service;
 
 import com.doodle.scheduler.application.domain.calendar.port.in.deletetimeslot.DeleteTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.exception.SlotAssignedToMeetingException;
 import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
 import com.doodle.scheduler.application.domain.calendar.model.Calendar;
 import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
@@ -9,6 +10,11 @@ import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots
 import com.doodle.scheduler.application.domain.common.events.Publisher;
 import com.doodle.scheduler.application.domain.common.events.Subscriber;
 import com.doodle.scheduler.application.domain.common.events.TimeSlotDeletedEvent;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDescription;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDetails;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingTitle;
+import com.doodle.scheduler.application.domain.meeting.port.out.loadmeetings.LoadMeetingsByTimeSlotIdPort;
 import com.doodle.scheduler.application.domain.user.model.User;
 import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +28,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +46,9 @@ class DeleteTimeSlotServiceImplTest {
     @Mock
     private LoadTimeSlotByIdPort loadTimeSlotByIdPort;
 
+    @Mock
+    private LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort;
+
     @Mock
     private DeleteTimeSlotPort deleteTimeSlotPort;
 
@@ -52,6 +62,7 @@ class DeleteTimeSlotServiceImplTest {
         service = new DeleteTimeSlotServiceImpl(
                 loadUserByUsernamePort,
                 loadTimeSlotByIdPort,
+                loadMeetingsByTimeSlotIdPort,
                 deleteTimeSlotPort
         );
 
@@ -199,4 +210,34 @@ class DeleteTimeSlotServiceImplTest {
 
         verify(eventSubscriber, never()).update(any());
     }
+
+    @Test
+    @DisplayName("Should throw SlotAssignedToMeetingException when a meeting is booked on the time slot")
+    void shouldThrowExceptionWhenTimeSlotAssignedToMeeting() {
+        // Given
+        String username = "testuser";
+        UUID userId = UUID.randomUUID();
+        UUID timeSlotId = UUID.randomUUID();
+        Instant start = Instant.parse("2026-02-10T10:00:00Z");
+        int durationMinutes = 30;
+
+        User user = User.reconstitute(userId, username);
+        TimeSlot timeSlot = TimeSlot.create(timeSlotId, start, durationMinutes);
+        Calendar.createWithSlots(userId, List.of(timeSlot));
+        Meeting meeting = Meeting.create(
+                new MeetingDetails(new MeetingTitle("Sync"), new MeetingDescription(""), Set.of(UUID.randomUUID())),
+                List.of(timeSlotId));
+        DeleteTimeSlotCommand command = new DeleteTimeSlotCommand(username, timeSlotId);
+
+        when(loadUserByUsernamePort.loadUserByUsername(username)).thenReturn(user);
+        when(loadTimeSlotByIdPort.loadTimeSlotById(timeSlotId)).thenReturn(Optional.of(timeSlot));
+        when(loadMeetingsByTimeSlotIdPort.loadMeetingsByTimeSlotId(timeSlotId)).thenReturn(List.of(meeting));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(command))
+                .isInstanceOf(SlotAssignedToMeetingException.class);
+
+        verify(deleteTimeSlotPort, never()).deleteTimeSlot(any());
+        verify(eventSubscriber, never()).update(any());
+    }
 }
@@ -0,0 +1,116 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotfeed.CalendarStamp;
+import com.doodle.scheduler.application.domain.calendar.port.in.exporttimeslotfeed.ExportTimeSlotFeedCommand;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.LoadCalendarStampPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.StreamTimeSlotsByOwnerPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.exporttimeslotfeed.WriteTimeSlotFeedPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.user.exception.UserNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportTimeSlotFeedServiceImpl Unit Tests")
+class ExportTimeSlotFeedServiceImplTest {
+
+    private static final UUID OWNER_ID = UUID.randomUUID();
+    private static final CalendarStamp STAMP = new CalendarStamp(OWNER_ID, 3, Instant.parse("2026-02-01T12:00:00Z"));
+
+    @Mock
+    private LoadCalendarStampPort loadCalendarStampPort;
+
+    @Mock
+    private LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+
+    @Mock
+    private StreamTimeSlotsByOwnerPort streamTimeSlotsByOwnerPort;
+
+    @Mock
+    private WriteTimeSlotFeedPort feed;
+
+    private ExportTimeSlotFeedServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExportTimeSlotFeedServiceImpl(
+                loadCalendarStampPort, loadRecurringAvailabilitiesByUserPort, streamTimeSlotsByOwnerPort);
+    }
+
+    @Test
+    @DisplayName("Should write rules first, then stored slots, marking booked occurrences")
+    void shouldWriteRulesAndSlots() {
+        // Given - every Tuesday 09:00-10:00 UTC; 2026-02-10 is a Tuesday
+        RecurringAvailability recurring = RecurringAvailability.create(OWNER_ID, new RecurrenceRule(
+                Set.of(DayOfWeek.TUESDAY), LocalTime.of(9, 0), 60, ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null));
+        Instant occurrenceStart = Instant.parse("2026-02-10T09:00:00Z");
+        TimeSlot booked = TimeSlot.reconstitute(recurring.occurrenceId(occurrenceStart), OWNER_ID, occurrenceStart, 60, "BUSY", 1);
+        TimeSlot oneOff = TimeSlot.reconstitute(UUID.randomUUID(), OWNER_ID, Instant.parse("2026-02-11T09:00:00Z"), 30, "AVAILABLE", 0);
+        Runnable onClose = mock(Runnable.class);
+        when(loadCalendarStampPort.loadCalendarStampByUsername("alice")).thenReturn(STAMP);
+        when(feed.begin(STAMP)).thenReturn(true);
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(OWNER_ID)).thenReturn(List.of(recurring));
+        when(streamTimeSlotsByOwnerPort.streamTimeSlotsByOwnerId(OWNER_ID)).thenReturn(Stream.of(booked, oneOff).onClose(onClose));
+
+        // When
+        service.execute(new ExportTimeSlotFeedCommand("alice", feed));
+
+        // Then
+        InOrder inOrder = inOrder(feed, onClose);
+        inOrder.verify(feed).begin(STAMP);
+        inOrder.verify(feed).writeRecurringAvailability(recurring);
+        inOrder.verify(feed).writeBookedOccurrence(booked, recurring);
+        inOrder.verify(feed).writeTimeSlot(oneOff);
+        inOrder.verify(onClose).run();
+        inOrder.verify(feed).end();
+    }
+
+    @Test
+    @DisplayName("Should not read the calendar when the feed declines the stamp")
+    void shouldStopWhenFeedDeclines() {
+        // Given
+        when(loadCalendarStampPort.loadCalendarStampByUsername("alice")).thenReturn(STAMP);
+        when(feed.begin(STAMP)).thenReturn(false);
+
+        // When
+        service.execute(new ExportTimeSlotFeedCommand("alice", feed));
+
+        // Then
+        verifyNoInteractions(loadRecurringAvailabilitiesByUserPort, streamTimeSlotsByOwnerPort);
+        verify(feed, never()).end();
+    }
+
+    @Test
+    @DisplayName("Should propagate UserNotFoundException before anything is written")
+    void shouldPropagateUserNotFound() {
+        // Given
+        when(loadCalendarStampPort.loadCalendarStampByUsername("nobody"))
+                .thenThrow(new UserNotFoundException("User not found with username: nobody"));
+
+        // When / Then
+        assertThatThrownBy(() -> service.execute(new ExportTimeSlotFeedCommand("nobody", feed)))
+                .isInstanceOf(UserNotFoundException.class);
+        verifyNoInteractions(feed);
+    }
+}
@@ -0,0 +1,210 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportRejection;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportSweepEntry;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportedTimeSlot;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.StagedTimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.LoadImportSweepEntriesPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.MergeStagedTimeSlotsPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.RejectStagedTimeSlotsPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.importtimeslots.StageImportedTimeSlotsPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportTimeSlotsServiceImpl Unit Tests")
+class ImportTimeSlotsServiceImplTest {
+
+    private static final UUID OWNER_ID = UUID.randomUUID();
+    private static final Instant NINE = Instant.parse("2026-02-10T09:00:00Z");
+
+    @Mock
+    private StageImportedTimeSlotsPort stageImportedTimeSlotsPort;
+
+    @Mock
+    private LoadImportSweepEntriesPort loadImportSweepEntriesPort;
+
+    @Mock
+    private RejectStagedTimeSlotsPort rejectStagedTimeSlotsPort;
+
+    @Mock
+    private MergeStagedTimeSlotsPort mergeStagedTimeSlotsPort;
+
+    @Mock
+    private LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+
+    private final List<StagedTimeSlot> staged = new ArrayList<>();
+
+    private ImportTimeSlotsServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImportTimeSlotsServiceImpl(stageImportedTimeSlotsPort, loadImportSweepEntriesPort,
+                rejectStagedTimeSlotsPort, mergeStagedTimeSlotsPort, loadRecurringAvailabilitiesByUserPort, 2);
+        lenient().when(stageImportedTimeSlotsPort.stageTimeSlots(any(), any())).thenAnswer(invocation -> {
+            Stream<StagedTimeSlot> rows = invocation.getArgument(1);
+            rows.forEach(staged::add);
+            return (long) staged.size();
+        });
+    }
+
+    @Test
+    @DisplayName("Should stage valid rows and report malformed and invalid rows without staging them")
+    void shouldStageValidRowsOnly() {
+        // Given
+        when(loadImportSweepEntriesPort.loadImportSweepEntries(any())).thenReturn(Stream.empty());
+        when(mergeStagedTimeSlotsPort.mergeStagedTimeSlots(any())).thenReturn(1L);
+
+        // When
+        ImportTimeSlotsQueryResult result = service.execute(command(
+                ImportedTimeSlot.of(2, "alice", NINE, 30, "AVAILABLE"),
+                ImportedTimeSlot.malformed(3, "start is not an ISO-8601 instant: tomorrow"),
+                ImportedTimeSlot.of(4, "alice", NINE.plus(Duration.ofHours(1)), 0, "AVAILABLE"),
+                ImportedTimeSlot.of(5, "alice", NINE.plus(Duration.ofHours(2)), 30, "TENTATIVE")));
+
+        // Then
+        assertThat(staged).singleElement().satisfies(slot -> {
+            assertThat(slot.lineNumber()).isEqualTo(2);
+            assertThat(slot.id()).isNotNull();
+            assertThat(slot.end()).isEqualTo(NINE.plus(Duration.ofMinutes(30)));
+        });
+        assertThat(result.rowsRead()).isEqualTo(4);
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.rejections()).extracting(ImportRejection::lineNumber).containsExactly(3L, 4L);
+        verifyNoInteractions(rejectStagedTimeSlotsPort);
+    }
+
+    @Test
+    @DisplayName("Should reject a staged row that starts before the previous kept row of the same owner ends")
+    void shouldRejectOverlapWithinImport() {
+        // Given
+        when(loadImportSweepEntriesPort.loadImportSweepEntries(any())).thenReturn(Stream.of(
+                staged(2, NINE, 60),
+                staged(3, NINE.plus(Duration.ofMinutes(30)), 60),
+                staged(4, NINE.plus(Duration.ofMinutes(60)), 30)));
+
+        // When
+        ImportTimeSlotsQueryResult result = service.execute(command());
+
+        // Then
+        assertThat(result.rejections()).containsExactly(
+                new ImportRejection(3, "time slot overlaps line 2 of the import"));
+        assertThat(result.owners()).containsExactly("alice");
+        verify(rejectStagedTimeSlotsPort).rejectStagedTimeSlots(eq(result.importId()), eq(result.rejections()));
+        verify(mergeStagedTimeSlotsPort).mergeStagedTimeSlots(result.importId());
+    }
+
+    @Test
+    @DisplayName("Should give way to a stored slot that starts inside a kept staged row")
+    void shouldRejectStagedRowOverlappedByStoredSlot() {
+        // Given
+        UUID storedId = UUID.randomUUID();
+        when(loadImportSweepEntriesPort.loadImportSweepEntries(any())).thenReturn(Stream.of(
+                staged(2, NINE, 60),
+                new ImportSweepEntry(OWNER_ID, null, null, storedId,
+                        NINE.plus(Duration.ofMinutes(30)), NINE.plus(Duration.ofMinutes(90))),
+                staged(3, NINE.plus(Duration.ofMinutes(60)), 60)));
+
+        // When
+        ImportTimeSlotsQueryResult result = service.execute(command());
+
+        // Then
+        assertThat(result.rejections()).containsExactly(
+                new ImportRejection(2, "time slot overlaps an existing slot: " + storedId),
+                new ImportRejection(3, "time slot overlaps an existing slot: " + storedId));
+    }
+
+    @Test
+    @DisplayName("Should reject rows of unknown users and rows overlapping a recurring availability")
+    void shouldRejectUnknownUsersAndRecurringOverlaps() {
+        // Given - every Tuesday 09:00-12:00 UTC; 2026-02-10 is a Tuesday
+        RecurringAvailability recurring = RecurringAvailability.create(OWNER_ID, new RecurrenceRule(
+                Set.of(DayOfWeek.TUESDAY), LocalTime.of(9, 0), 180, ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null));
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(OWNER_ID)).thenReturn(List.of(recurring));
+        when(loadImportSweepEntriesPort.loadImportSweepEntries(any())).thenReturn(Stream.of(
+                staged(2, NINE.plus(Duration.ofHours(1)), 30),
+                staged(3, NINE.plus(Duration.ofHours(4)), 30),
+                new ImportSweepEntry(null, "nobody", 4L, UUID.randomUUID(), NINE, NINE.plus(Duration.ofMinutes(30)))));
+
+        // When
+        ImportTimeSlotsQueryResult result = service.execute(command());
+
+        // Then
+        assertThat(result.rejections()).containsExactly(
+                new ImportRejection(2, "time slot overlaps recurring availability: " + recurring.getId()),
+                new ImportRejection(4, "user not found: nobody"));
+        assertThat(result.owners()).containsExactly("alice");
+        verify(loadRecurringAvailabilitiesByUserPort, times(1)).loadRecurringAvailabilitiesByUserId(OWNER_ID);
+    }
+
+    @Test
+    @DisplayName("Should count every rejection but report only the configured number")
+    void shouldCapReportedRejections() {
+        // Given
+        when(loadImportSweepEntriesPort.loadImportSweepEntries(any())).thenReturn(Stream.empty());
+
+        // When
+        ImportTimeSlotsQueryResult result = service.execute(command(
+                ImportedTimeSlot.malformed(2, "bad"),
+                ImportedTimeSlot.malformed(3, "bad"),
+                ImportedTimeSlot.malformed(4, "bad")));
+
+        // Then
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.rejections()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should close the row stream of the command")
+    void shouldCloseRows() {
+        // Given
+        when(loadImportSweepEntriesPort.loadImportSweepEntries(any())).thenReturn(Stream.empty());
+        Runnable onClose = mock(Runnable.class);
+
+        // When
+        service.execute(new ImportTimeSlotsCommand("text/csv", Stream.<ImportedTimeSlot>empty().onClose(onClose)));
+
+        // Then
+        verify(onClose).run();
+        ArgumentCaptor<UUID> importId = ArgumentCaptor.forClass(UUID.class);
+        verify(stageImportedTimeSlotsPort).stageTimeSlots(importId.capture(), any());
+        verify(loadImportSweepEntriesPort).loadImportSweepEntries(importId.getValue());
+    }
+
+    private static ImportTimeSlotsCommand command(ImportedTimeSlot... rows) {
+        return new ImportTimeSlotsCommand("text/csv", Stream.of(rows));
+    }
+
+    private static ImportSweepEntry staged(long lineNumber, Instant start, int durationMinutes) {
+        return new ImportSweepEntry(OWNER_ID, "alice", lineNumber, UUID.randomUUID(),
+                start, start.plus(Duration.ofMinutes(durationMinutes)));
+    }
+}
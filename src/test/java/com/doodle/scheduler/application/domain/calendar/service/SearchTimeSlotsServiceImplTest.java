@@ -0,0 +1,278 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.in.searchtimeslots.SearchTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadStoredTimeSlotIdsPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.SearchTimeSlotsPort;
+import com.doodle.scheduler.application.domain.user.model.User;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchTimeSlotsServiceImpl Unit Tests")
+class SearchTimeSlotsServiceImplTest {
+
+    private static final String USERNAME = "testuser";
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final Instant MONDAY = Instant.parse("2026-02-02T00:00:00Z");
+    private static final Instant NEXT_MONDAY = Instant.parse("2026-02-09T00:00:00Z");
+
+    @Mock
+    private LoadUserByUsernamePort loadUserByUsernamePort;
+
+    @Mock
+    private SearchTimeSlotsPort searchTimeSlotsPort;
+
+    @Mock
+    private LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+
+    @Mock
+    private LoadStoredTimeSlotIdsPort loadStoredTimeSlotIdsPort;
+
+    private SearchTimeSlotsServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new SearchTimeSlotsServiceImpl(
+                loadUserByUsernamePort,
+                searchTimeSlotsPort,
+                loadRecurringAvailabilitiesByUserPort,
+                loadStoredTimeSlotIdsPort,
+                Duration.ofDays(90)
+        );
+        when(loadUserByUsernamePort.loadUserByUsername(USERNAME)).thenReturn(User.reconstitute(USER_ID, USERNAME));
+    }
+
+    @Test
+    @DisplayName("Should delegate paging to the store when the user has no recurring availability")
+    void shouldUseStorePagingWithoutRecurrences() {
+        // Given
+        when(searchTimeSlotsPort.searchTimeSlots(USER_ID, null, MONDAY, NEXT_MONDAY, 20L, 10))
+                .thenReturn(new SearchTimeSlotsPort.SearchResult(List.of(), 25));
+
+        // When
+        SearchTimeSlotsQueryResult result = service.execute(new SearchTimeSlotsCommand(USERNAME, null, MONDAY, NEXT_MONDAY, 2, 10));
+
+        // Then
+        assertThat(result.totalElements()).isEqualTo(25);
+        assertThat(result.totalPages()).isEqualTo(3);
+        verifyNoInteractions(loadStoredTimeSlotIdsPort);
+    }
+
+    @Test
+    @DisplayName("Should merge weekday occurrences with stored slots by start time and page the union")
+    void shouldMergeOccurrencesWithStoredSlots() {
+        // Given - weekdays 09:00-10:00 plus one stored slot on Tuesday 12:00
+        RecurringAvailability recurring = weekdaysAtNine();
+        TimeSlot stored = TimeSlot.reconstitute(UUID.randomUUID(), USER_ID, Instant.parse("2026-02-03T12:00:00Z"), 30, "AVAILABLE", 0L);
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(USER_ID)).thenReturn(List.of(recurring));
+        when(searchTimeSlotsPort.searchTimeSlots(USER_ID, null, MONDAY, NEXT_MONDAY, 0L, 4))
+                .thenReturn(new SearchTimeSlotsPort.SearchResult(List.of(stored), 1));
+
+        // When - second page of 2
+        SearchTimeSlotsQueryResult result = service.execute(new SearchTimeSlotsCommand(USERNAME, null, MONDAY, NEXT_MONDAY, 1, 2));
+
+        // Then - Mon 09, Tue 09 | Tue 12 (stored), Wed 09 | Thu 09, Fri 09
+        assertThat(result.totalElements()).isEqualTo(6);
+        assertThat(result.totalPages()).isEqualTo(3);
+        assertThat(result.timeSlots()).extracting(slot -> slot.getRange().start())
+                .containsExactly(Instant.parse("2026-02-03T12:00:00Z"), Instant.parse("2026-02-04T09:00:00Z"));
+        verify(loadStoredTimeSlotIdsPort).loadStoredTimeSlotIdsBetween(
+                USER_ID, recurring.occurrenceId(MONDAY), recurring.occurrenceId(NEXT_MONDAY));
+    }
+
+    @Test
+    @DisplayName("Should show a booked occurrence once, as its stored slot, and count it once")
+    void shouldReplaceBookedOccurrenceWithStoredSlot() {
+        // Given
+        RecurringAvailability recurring = weekdaysAtNine();
+        UUID bookedId = recurring.occurrenceId(Instant.parse("2026-02-02T09:00:00Z"));
+        TimeSlot booked = TimeSlot.reconstitute(bookedId, USER_ID, Instant.parse("2026-02-02T09:00:00Z"), 60, "BUSY", 1L);
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(USER_ID)).thenReturn(List.of(recurring));
+        when(loadStoredTimeSlotIdsPort.loadStoredTimeSlotIdsBetween(any(), any(), any())).thenReturn(Set.of(bookedId));
+        when(searchTimeSlotsPort.searchTimeSlots(USER_ID, null, MONDAY, NEXT_MONDAY, 0L, 10))
+                .thenReturn(new SearchTimeSlotsPort.SearchResult(List.of(booked), 1));
+
+        // When
+        SearchTimeSlotsQueryResult result = service.execute(new SearchTimeSlotsCommand(USERNAME, null, MONDAY, NEXT_MONDAY, 0, 10));
+
+        // Then
+        assertThat(result.totalElements()).isEqualTo(5);
+        assertThat(result.timeSlots()).hasSize(5);
+        assertThat(result.timeSlots()).extracting(TimeSlot::getId).containsOnlyOnce(bookedId);
+        assertThat(result.timeSlots().get(0).getStateString()).isEqualTo("BUSY");
+    }
+
+    @Test
+    @DisplayName("Should fill a page after a booked occurrence that precedes it")
+    void shouldFillPageAfterBookedOccurrence() {
+        // Given - Monday's occurrence is booked
+        RecurringAvailability recurring = weekdaysAtNine();
+        UUID bookedId = recurring.occurrenceId(Instant.parse("2026-02-02T09:00:00Z"));
+        TimeSlot booked = TimeSlot.reconstitute(bookedId, USER_ID, Instant.parse("2026-02-02T09:00:00Z"), 60, "BUSY", 1L);
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(USER_ID)).thenReturn(List.of(recurring));
+        when(loadStoredTimeSlotIdsPort.loadStoredTimeSlotIdsBetween(any(), any(), any())).thenReturn(Set.of(bookedId));
+        when(searchTimeSlotsPort.searchTimeSlots(USER_ID, null, MONDAY, NEXT_MONDAY, 0L, 4))
+                .thenReturn(new SearchTimeSlotsPort.SearchResult(List.of(booked), 1));
+
+        // When - second page of 2
+        SearchTimeSlotsQueryResult result = service.execute(new SearchTimeSlotsCommand(USERNAME, null, MONDAY, NEXT_MONDAY, 1, 2));
+
+        // Then - Mon 09 (stored), Tue 09 | Wed 09, Thu 09 | Fri 09
+        assertThat(result.totalElements()).isEqualTo(5);
+        assertThat(result.totalPages()).isEqualTo(3);
+        assertThat(result.timeSlots()).extracting(slot -> slot.getRange().start())
+                .containsExactly(Instant.parse("2026-02-04T09:00:00Z"), Instant.parse("2026-02-05T09:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Should leave a booked occurrence out of a search for AVAILABLE slots")
+    void shouldLeaveBookedOccurrenceOutOfAvailableSearch() {
+        // Given - Monday's occurrence is booked, so its stored slot is BUSY and not found
+        RecurringAvailability recurring = weekdaysAtNine();
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(USER_ID)).thenReturn(List.of(recurring));
+        when(loadStoredTimeSlotIdsPort.loadStoredTimeSlotIdsBetween(any(), any(), any()))
+                .thenReturn(Set.of(recurring.occurrenceId(Instant.parse("2026-02-02T09:00:00Z"))));
+        when(searchTimeSlotsPort.searchTimeSlots(USER_ID, "AVAILABLE", MONDAY, NEXT_MONDAY, 0L, 2))
+                .thenReturn(new SearchTimeSlotsPort.SearchResult(List.of(), 0));
+
+        // When
+        SearchTimeSlotsQueryResult result = service.execute(new SearchTimeSlotsCommand(USERNAME, "AVAILABLE", MONDAY, NEXT_MONDAY, 0, 2));
+
+        // Then
+        assertThat(result.totalElements()).isEqualTo(4);
+        assertThat(result.timeSlots()).extracting(slot -> slot.getRange().start())
+                .containsExactly(Instant.parse("2026-02-03T09:00:00Z"), Instant.parse("2026-02-04T09:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Should not expand recurring availability when searching for BUSY slots")
+    void shouldNotExpandForBusySearch() {
+        // Given
+        when(searchTimeSlotsPort.searchTimeSlots(any(), any(), any(), any(), anyLong(), anyInt()))
+                .thenReturn(new SearchTimeSlotsPort.SearchResult(List.of(), 0));
+
+        // When
+        service.execute(new SearchTimeSlotsCommand(USERNAME, "BUSY", MONDAY, NEXT_MONDAY, 0, 10));
+
+        // Then
+        verifyNoInteractions(loadRecurringAvailabilitiesByUserPort, loadStoredTimeSlotIdsPort);
+    }
+
+    @Test
+    @DisplayName("Should bound an open-ended search to the expansion horizon")
+    void shouldBoundOpenEndedSearch() {
+        // Given
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(USER_ID)).thenReturn(List.of(weekdaysAtNine()));
+        when(searchTimeSlotsPort.searchTimeSlots(USER_ID, "AVAILABLE", MONDAY, null, 0L, 10))
+                .thenReturn(new SearchTimeSlotsPort.SearchResult(List.of(), 0));
+
+        // When
+        SearchTimeSlotsQueryResult result = service.execute(new SearchTimeSlotsCommand(USERNAME, "AVAILABLE", MONDAY, null, 0, 10));
+
+        // Then - 90 days from a Monday hold 65 weekdays
+        assertThat(result.totalElements()).isEqualTo(65);
+    }
+
+    @Test
+    @DisplayName("Should clamp a far end time to the expansion horizon")
+    void shouldClampFarEndTime() {
+        // Given
+        Instant farEnd = Instant.parse("2126-02-02T00:00:00Z");
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(USER_ID)).thenReturn(List.of(weekdaysAtNine()));
+        when(searchTimeSlotsPort.searchTimeSlots(USER_ID, null, MONDAY, farEnd, 0L, 10))
+                .thenReturn(new SearchTimeSlotsPort.SearchResult(List.of(), 0));
+
+        // When
+        SearchTimeSlotsQueryResult result = service.execute(new SearchTimeSlotsCommand(USERNAME, null, MONDAY, farEnd, 0, 10));
+
+        // Then
+        assertThat(result.totalElements()).isEqualTo(65);
+        assertThat(result.timeSlots()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("Should generate only the occurrences of a deep page")
+    void shouldGenerateOnlyTheRequestedPage() {
+        // Given
+        RecurringAvailability recurring = weekdaysAtNine();
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(USER_ID)).thenReturn(List.of(recurring));
+        when(searchTimeSlotsPort.searchTimeSlots(USER_ID, null, MONDAY, null, 0L, 62))
+                .thenReturn(new SearchTimeSlotsPort.SearchResult(List.of(), 0));
+
+        // When - slots 60 and 61: the Monday and Tuesday after twelve full weeks
+        SearchTimeSlotsQueryResult result = service.execute(new SearchTimeSlotsCommand(USERNAME, null, MONDAY, null, 30, 2));
+
+        // Then
+        Instant monday = Instant.parse("2026-04-27T09:00:00Z");
+        Instant tuesday = Instant.parse("2026-04-28T09:00:00Z");
+        assertThat(result.timeSlots()).extracting(slot -> slot.getRange().start()).containsExactly(monday, tuesday);
+        verify(loadStoredTimeSlotIdsPort).loadStoredTimeSlotIdsBetween(
+                USER_ID, recurring.occurrenceId(MONDAY), recurring.occurrenceId(MONDAY.plus(Duration.ofDays(90))));
+    }
+
+    @Test
+    @DisplayName("Should skip stored slots and occurrences that precede the page")
+    void shouldSkipStoredSlotsBeforeThePage() {
+        // Given - five weekday occurrences and 20 stored slots on Saturday
+        RecurringAvailability recurring = weekdaysAtNine();
+        List<TimeSlot> saturday = List.of(
+                TimeSlot.reconstitute(UUID.randomUUID(), USER_ID, Instant.parse("2026-02-07T10:00:00Z"), 30, "AVAILABLE", 0L),
+                TimeSlot.reconstitute(UUID.randomUUID(), USER_ID, Instant.parse("2026-02-07T11:00:00Z"), 30, "AVAILABLE", 0L));
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(USER_ID)).thenReturn(List.of(recurring));
+        when(searchTimeSlotsPort.searchTimeSlots(USER_ID, null, MONDAY, NEXT_MONDAY, 5L, 7))
+                .thenReturn(new SearchTimeSlotsPort.SearchResult(saturday, 20));
+
+        // When - slots 10 and 11
+        SearchTimeSlotsQueryResult result = service.execute(new SearchTimeSlotsCommand(USERNAME, null, MONDAY, NEXT_MONDAY, 5, 2));
+
+        // Then
+        assertThat(result.totalElements()).isEqualTo(25);
+        assertThat(result.timeSlots()).containsExactlyElementsOf(saturday);
+    }
+
+    @Test
+    @DisplayName("Should compute the offset of a far page without int overflow")
+    void shouldComputeFarOffsetAsLong() {
+        // Given
+        when(searchTimeSlotsPort.searchTimeSlots(USER_ID, "BUSY", null, null, (long) Integer.MAX_VALUE * 100, 100))
+                .thenReturn(new SearchTimeSlotsPort.SearchResult(List.of(), 25));
+
+        // When
+        SearchTimeSlotsQueryResult result = service.execute(new SearchTimeSlotsCommand(USERNAME, "BUSY", null, null, Integer.MAX_VALUE, 100));
+
+        // Then
+        assertThat(result.timeSlots()).isEmpty();
+        assertThat(result.totalElements()).isEqualTo(25);
+    }
+
+    private static RecurringAvailability weekdaysAtNine() {
+        return RecurringAvailability.create(USER_ID, new RecurrenceRule(
+                EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), LocalTime.of(9, 0), 60,
+                ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null));
+    }
+}
@@ -0,0 +1,52 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.streamtimeslots.StreamTimeSlotsCommand;
+import com.doodle.scheduler.application.domain.calendar.port.out.streamtimeslots.StreamTimeSlotsPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamTimeSlotsServiceImpl Unit Tests")
+class StreamTimeSlotsServiceImplTest {
+
+    @Mock
+    private StreamTimeSlotsPort streamTimeSlotsPort;
+
+    private StreamTimeSlotsServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StreamTimeSlotsServiceImpl(streamTimeSlotsPort);
+    }
+
+    @Test
+    @DisplayName("Should hand the filters to the port and return its publisher untouched")
+    void shouldDelegateFiltersToPort() {
+        // Given
+        Instant start = Instant.parse("2026-02-09T00:00:00Z");
+        Instant end = Instant.parse("2026-02-16T00:00:00Z");
+        try (SubmissionPublisher<TimeSlot> publisher = new SubmissionPublisher<>()) {
+            when(streamTimeSlotsPort.streamTimeSlots("testuser", "AVAILABLE", start, end)).thenReturn(publisher);
+
+            // When
+            Flow.Publisher<TimeSlot> result = service.execute(new StreamTimeSlotsCommand("testuser", "AVAILABLE", start, end));
+
+            // Then
+            assertThat(result).isSameAs(publisher);
+            verify(streamTimeSlotsPort).streamTimeSlots("testuser", "AVAILABLE", start, end);
+            verifyNoMoreInteractions(streamTimeSlotsPort);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.doodle.scheduler.application.domain.calendar.service;
+
+import com.doodle.scheduler.application.domain.calendar.exception.SlotAssignedToMeetingException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotCollisionException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.in.updatetimeslot.UpdateTimeSlotCommand;
+import com.doodle.scheduler.application.domain.calendar.port.out.createtimeslot.SaveTimeSlotPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.updatetimeslot.LoadNeighbouringTimeSlotsPort;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDescription;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingDetails;
+import com.doodle.scheduler.application.domain.meeting.model.MeetingTitle;
+import com.doodle.scheduler.application.domain.meeting.port.out.loadmeetings.LoadMeetingsByTimeSlotIdPort;
+import com.doodle.scheduler.application.domain.user.model.User;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateTimeSlotServiceImpl Unit Tests")
+class UpdateTimeSlotServiceImplTest {
+
+    private static final String USERNAME = "testuser";
+
+    @Mock
+    private LoadUserByUsernamePort loadUserByUsernamePort;
+
+    @Mock
+    private LoadTimeSlotByIdPort loadTimeSlotByIdPort;
+
+    @Mock
+    private LoadNeighbouringTimeSlotsPort loadNeighbouringTimeSlotsPort;
+
+    @Mock
+    private LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+
+    @Mock
+    private LoadMeetingsByTimeSlotIdPort loadMeetingsByTimeSlotIdPort;
+
+    @Mock
+    private SaveTimeSlotPort saveTimeSlotPort;
+
+    private UpdateTimeSlotServiceImpl service;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID timeSlotId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        service = new UpdateTimeSlotServiceImpl(
+                loadUserByUsernamePort,
+                loadTimeSlotByIdPort,
+                loadNeighbouringTimeSlotsPort,
+                loadRecurringAvailabilitiesByUserPort,
+                loadMeetingsByTimeSlotIdPort,
+                saveTimeSlotPort
+        );
+        when(loadUserByUsernamePort.loadUserByUsername(USERNAME)).thenReturn(User.reconstitute(userId, USERNAME));
+    }
+
+    @Test
+    @DisplayName("Should move the slot and save it with the version it was read with")
+    void shouldMoveSlotAndSaveIt() {
+        // Given
+        when(loadTimeSlotByIdPort.loadTimeSlotById(timeSlotId)).thenReturn(Optional.of(slot(timeSlotId, "2026-02-10T10:00:00Z", 60)));
+        when(loadNeighbouringTimeSlotsPort.loadNeighbouringTimeSlots(any(), any(), any(), any()))
+                .thenReturn(List.of(slot(UUID.randomUUID(), "2026-02-10T08:00:00Z", 60)));
+        when(saveTimeSlotPort.saveTimeSlot(any(TimeSlot.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TimeSlot result = service.execute(new UpdateTimeSlotCommand(USERNAME, timeSlotId, Instant.parse("2026-02-10T12:00:00Z"), 45));
+
+        // Then
+        assertThat(result.getId()).isEqualTo(timeSlotId);
+        assertThat(result.getRange().start()).isEqualTo(Instant.parse("2026-02-10T12:00:00Z"));
+        assertThat(result.getRange().end()).isEqualTo(Instant.parse("2026-02-10T12:45:00Z"));
+        assertThat(result.getVersion()).isEqualTo(3L);
+        verify(loadNeighbouringTimeSlotsPort).loadNeighbouringTimeSlots(userId, timeSlotId,
+                Instant.parse("2026-02-10T12:00:00Z"), Instant.parse("2026-02-10T12:45:00Z"));
+        verify(saveTimeSlotPort).saveTimeSlot(result);
+    }
+
+    @Test
+    @DisplayName("Should allow a move that overlaps the slot's own old range")
+    void shouldIgnoreOwnOldRange() {
+        // Given
+        when(loadTimeSlotByIdPort.loadTimeSlotById(timeSlotId)).thenReturn(Optional.of(slot(timeSlotId, "2026-02-10T10:00:00Z", 60)));
+        when(loadNeighbouringTimeSlotsPort.loadNeighbouringTimeSlots(any(), any(), any(), any())).thenReturn(List.of());
+        when(saveTimeSlotPort.saveTimeSlot(any(TimeSlot.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        TimeSlot result = service.execute(new UpdateTimeSlotCommand(USERNAME, timeSlotId, Instant.parse("2026-02-10T10:30:00Z"), 60));
+
+        // Then
+        assertThat(result.getRange().start()).isEqualTo(Instant.parse("2026-02-10T10:30:00Z"));
+    }
+
+    @Test
+    @DisplayName("Should reject a move onto a neighbouring slot without saving")
+    void shouldRejectOverlapWithNeighbour() {
+        // Given
+        UUID neighbourId = UUID.randomUUID();
+        when(loadTimeSlotByIdPort.loadTimeSlotById(timeSlotId)).thenReturn(Optional.of(slot(timeSlotId, "2026-02-10T10:00:00Z", 60)));
+        when(loadNeighbouringTimeSlotsPort.loadNeighbouringTimeSlots(any(), any(), any(), any()))
+                .thenReturn(List.of(slot(neighbourId, "2026-02-10T14:00:00Z", 90)));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(
+                new UpdateTimeSlotCommand(USERNAME, timeSlotId, Instant.parse("2026-02-10T13:30:00Z"), 60)))
+                .isInstanceOf(TimeSlotCollisionException.class)
+                .hasMessageContaining(neighbourId.toString());
+        verifyNoInteractions(saveTimeSlotPort);
+    }
+
+    @Test
+    @DisplayName("Should reject a move onto an occurrence of a recurring availability")
+    void shouldRejectOverlapWithRecurringOccurrence() {
+        // Given
+        RecurrenceRule rule = new RecurrenceRule(Set.of(DayOfWeek.TUESDAY), LocalTime.of(9, 0), 180,
+                ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null);
+        when(loadTimeSlotByIdPort.loadTimeSlotById(timeSlotId)).thenReturn(Optional.of(slot(timeSlotId, "2026-02-09T10:00:00Z", 60)));
+        when(loadNeighbouringTimeSlotsPort.loadNeighbouringTimeSlots(any(), any(), any(), any())).thenReturn(List.of());
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(userId))
+                .thenReturn(List.of(RecurringAvailability.create(userId, rule)));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(
+                new UpdateTimeSlotCommand(USERNAME, timeSlotId, Instant.parse("2026-02-10T10:00:00Z"), 60)))
+                .isInstanceOf(TimeSlotCollisionException.class);
+        verifyNoInteractions(saveTimeSlotPort);
+    }
+
+    @Test
+    @DisplayName("Should reject moving a slot booked by a meeting without saving")
+    void shouldRejectMoveOfBookedSlot() {
+        // Given
+        when(loadTimeSlotByIdPort.loadTimeSlotById(timeSlotId)).thenReturn(Optional.of(slot(timeSlotId, "2026-02-10T10:00:00Z", 60)));
+        when(loadNeighbouringTimeSlotsPort.loadNeighbouringTimeSlots(any(), any(), any(), any())).thenReturn(List.of());
+        when(loadMeetingsByTimeSlotIdPort.loadMeetingsByTimeSlotId(timeSlotId)).thenReturn(List.of(Meeting.create(
+                new MeetingDetails(new MeetingTitle("Sprint planning"), new MeetingDescription(""),
+                        Set.of(UUID.randomUUID())), List.of(timeSlotId))));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(
+                new UpdateTimeSlotCommand(USERNAME, timeSlotId, Instant.parse("2026-02-10T12:00:00Z"), 60)))
+                .isInstanceOf(SlotAssignedToMeetingException.class);
+        verifyNoInteractions(saveTimeSlotPort);
+    }
+
+    @Test
+    @DisplayName("Should throw TimeSlotNotFoundException when the slot belongs to another user")
+    void shouldThrowWhenSlotBelongsToAnotherUser() {
+        // Given
+        TimeSlot foreign = TimeSlot.reconstitute(timeSlotId, UUID.randomUUID(), Instant.parse("2026-02-10T10:00:00Z"), 60, "AVAILABLE", 0L);
+        when(loadTimeSlotByIdPort.loadTimeSlotById(timeSlotId)).thenReturn(Optional.of(foreign));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(
+                new UpdateTimeSlotCommand(USERNAME, timeSlotId, Instant.parse("2026-02-10T12:00:00Z"), 60)))
+                .isInstanceOf(TimeSlotNotFoundException.class)
+                .hasMessageContaining(timeSlotId.toString());
+        verifyNoInteractions(loadNeighbouringTimeSlotsPort, saveTimeSlotPort);
+    }
+
+    @Test
+    @DisplayName("Should throw TimeSlotNotFoundException when the slot does not exist")
+    void shouldThrowWhenSlotDoesNotExist() {
+        // Given
+        when(loadTimeSlotByIdPort.loadTimeSlotById(timeSlotId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(
+                new UpdateTimeSlotCommand(USERNAME, timeSlotId, Instant.parse("2026-02-10T12:00:00Z"), 60)))
+                .isInstanceOf(TimeSlotNotFoundException.class);
+        verifyNoInteractions(loadNeighbouringTimeSlotsPort, saveTimeSlotPort);
+    }
+
+    private TimeSlot slot(UUID id, String start, int durationMinutes) {
+        return TimeSlot.reconstitute(id, userId, Instant.parse(start), durationMinutes, "AVAILABLE", 3L);
+    }
+}
@@ -0,0 +1,90 @@
+package com.doodle.scheduler.application.domain.common.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UuidV7IdGenerator - Id Generator")
+class UuidV7IdGeneratorTest {
+
+    @Nested
+    @DisplayName("Layout")
+    class LayoutTests {
+
+        @Test
+        @DisplayName("Should produce RFC 9562 version 7 ids")
+        void shouldProduceVersion7Ids() {
+            UUID id = UuidV7IdGenerator.INSTANCE.nextId();
+
+            assertEquals(7, id.version());
+            assertEquals(2, id.variant());
+        }
+
+        @Test
+        @DisplayName("Should embed the current Unix millisecond timestamp")
+        void shouldEmbedCurrentTimestamp() {
+            long before = System.currentTimeMillis();
+            UUID id = UuidV7IdGenerator.INSTANCE.nextId();
+            long after = System.currentTimeMillis();
+
+            long timestamp = id.getMostSignificantBits() >>> 16;
+
+            assertTrue(timestamp >= before && timestamp <= after);
+        }
+    }
+
+    @Nested
+    @DisplayName("Ordering and uniqueness")
+    class OrderingTests {
+
+        @Test
+        @DisplayName("Should order ids generated in different milliseconds by creation time")
+        void shouldOrderIdsByCreationTime() throws InterruptedException {
+            UUID first = UuidV7IdGenerator.INSTANCE.nextId();
+            Thread.sleep(2);
+            UUID second = UuidV7IdGenerator.INSTANCE.nextId();
+
+            assertTrue(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits()) < 0);
+        }
+
+        @Test
+        @DisplayName("Should not repeat ids within a burst")
+        void shouldNotRepeatIds() {
+            Set<UUID> ids = new HashSet<>();
+            for (int i = 0; i < 100_000; i++) {
+                ids.add(UuidV7IdGenerator.INSTANCE.nextId());
+            }
+
+            assertEquals(100_000, ids.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("IdGenerators holder")
+    class HolderTests {
+
+        @Test
+        @DisplayName("Should route domain factories through the active generator")
+        void shouldUseActiveGenerator() {
+            UUID fixed = UUID.fromString("00000000-0000-7000-8000-000000000001");
+            IdGenerator previous = IdGenerators.INSTANCE.use(() -> fixed);
+            try {
+                assertEquals(fixed, IdGenerators.INSTANCE.nextId());
+            } finally {
+                IdGenerators.INSTANCE.use(previous);
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject a null generator")
+        void shouldRejectNullGenerator() {
+            assertThrows(NullPointerException.class, () -> IdGenerators.INSTANCE.use(null));
+        }
+    }
+}
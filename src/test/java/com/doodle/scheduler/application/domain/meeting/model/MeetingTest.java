@@ -202,4 +202,40 @@ class MeetingTest {
             assertEquals(details, meeting.getDetails());
         }
     }
+
+    @Nested
+    @DisplayName("Meeting Reconstitution")
+    class ReconstitutionTests {
+
+        @Test
+        @DisplayName("Should reconstitute Meeting preserving id, slot and state")
+        void shouldReconstituteMeeting() {
+            MeetingDetails details = new MeetingDetails(
+                    new MeetingTitle("Title"),
+                    new MeetingDescription("Desc"),
+                    Set.of(UUID.randomUUID())
+            );
+            UUID id = UUID.randomUUID();
+            UUID slotId = UUID.randomUUID();
+
+            Meeting meeting = Meeting.reconstitute(id, details, slotId, "SCHEDULED");
+
+            assertEquals(id, meeting.getId());
+            assertEquals(slotId, meeting.getSlotId());
+            assertEquals("SCHEDULED", meeting.getStateString());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown persisted state")
+        void shouldRejectUnknownState() {
+            MeetingDetails details = new MeetingDetails(
+                    new MeetingTitle("Title"),
+                    new MeetingDescription("Desc"),
+                    Set.of(UUID.randomUUID())
+            );
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> Meeting.reconstitute(UUID.randomUUID(), details, UUID.randomUUID(), "CANCELLED"));
+        }
+    }
 }
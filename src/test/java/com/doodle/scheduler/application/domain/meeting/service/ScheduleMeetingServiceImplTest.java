@@ -0,0 +1,231 @@
+package com.doodle.scheduler.application.domain.meeting.service;
+
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotAvailableException;
+import com.doodle.scheduler.application.domain.calendar.exception.TimeSlotNotFoundException;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurrenceRule;
+import com.doodle.scheduler.application.domain.calendar.model.recurrence.RecurringAvailability;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadRecurringAvailabilitiesByUserPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
+import com.doodle.scheduler.application.domain.common.events.MeetingScheduledEvent;
+import com.doodle.scheduler.application.domain.common.events.Publisher;
+import com.doodle.scheduler.application.domain.common.events.Subscriber;
+import com.doodle.scheduler.application.domain.meeting.exception.MeetingWithoutParticipantsException;
+import com.doodle.scheduler.application.domain.meeting.model.Meeting;
+import com.doodle.scheduler.application.domain.meeting.port.in.schedulemeeting.ScheduleMeetingCommand;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.MaterializeOccurrencePort;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.ReserveTimeSlotPort;
+import com.doodle.scheduler.application.domain.meeting.port.out.schedulemeeting.SaveMeetingPort;
+import com.doodle.scheduler.application.domain.user.model.User;
+import com.doodle.scheduler.application.domain.user.port.out.LoadUserByUsernamePort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduleMeetingServiceImpl Unit Tests")
+class ScheduleMeetingServiceImplTest {
+
+    private static final String USERNAME = "testuser";
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID TIME_SLOT_ID = UUID.randomUUID();
+    private static final UUID PARTICIPANT_ID = UUID.randomUUID();
+
+    @Mock
+    private LoadUserByUsernamePort loadUserByUsernamePort;
+
+    @Mock
+    private LoadTimeSlotByIdPort loadTimeSlotByIdPort;
+
+    @Mock
+    private LoadRecurringAvailabilitiesByUserPort loadRecurringAvailabilitiesByUserPort;
+
+    @Mock
+    private MaterializeOccurrencePort materializeOccurrencePort;
+
+    @Mock
+    private ReserveTimeSlotPort reserveTimeSlotPort;
+
+    @Mock
+    private SaveMeetingPort saveMeetingPort;
+
+    @Mock
+    private Subscriber<MeetingScheduledEvent> eventSubscriber;
+
+    private ScheduleMeetingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ScheduleMeetingServiceImpl(
+                loadUserByUsernamePort,
+                loadTimeSlotByIdPort,
+                loadRecurringAvailabilitiesByUserPort,
+                materializeOccurrencePort,
+                reserveTimeSlotPort,
+                saveMeetingPort
+        );
+
+        Publisher.INSTANCE.attach(MeetingScheduledEvent.class, eventSubscriber);
+    }
+
+    @Test
+    @DisplayName("Should reserve the slot, save the meeting and publish MeetingScheduledEvent")
+    void shouldScheduleMeetingOnAvailableSlot() {
+        // Given
+        when(loadUserByUsernamePort.loadUserByUsername(USERNAME)).thenReturn(User.reconstitute(USER_ID, USERNAME));
+        when(reserveTimeSlotPort.reserveTimeSlot(TIME_SLOT_ID, USER_ID)).thenReturn(true);
+        when(saveMeetingPort.saveMeeting(any(Meeting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Meeting meeting = service.execute(command(Set.of(PARTICIPANT_ID)));
+
+        // Then
+        assertThat(meeting.getSlotId()).isEqualTo(TIME_SLOT_ID);
+        assertThat(meeting.getTitle()).isEqualTo("Sprint planning");
+        assertThat(meeting.getDescription()).isEmpty();
+        assertThat(meeting.getDetails().participants()).containsExactly(PARTICIPANT_ID);
+        assertThat(meeting.getStateString()).isEqualTo("SCHEDULED");
+
+        var inOrder = inOrder(reserveTimeSlotPort, saveMeetingPort, eventSubscriber);
+        inOrder.verify(reserveTimeSlotPort).reserveTimeSlot(TIME_SLOT_ID, USER_ID);
+        inOrder.verify(saveMeetingPort).saveMeeting(any(Meeting.class));
+        ArgumentCaptor<MeetingScheduledEvent> eventCaptor = ArgumentCaptor.forClass(MeetingScheduledEvent.class);
+        inOrder.verify(eventSubscriber).update(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().ownerId()).isEqualTo(USER_ID);
+        assertThat(eventCaptor.getValue().meeting().getId()).isEqualTo(meeting.getId());
+
+        verifyNoInteractions(loadTimeSlotByIdPort);
+    }
+
+    @Test
+    @DisplayName("Should throw TimeSlotNotAvailableException when the owned slot is already booked")
+    void shouldRejectWhenSlotAlreadyBooked() {
+        // Given
+        TimeSlot busySlot = TimeSlot.reconstitute(
+                TIME_SLOT_ID, USER_ID, Instant.parse("2026-02-10T10:00:00Z"), 30, "BUSY", 0L);
+        when(loadUserByUsernamePort.loadUserByUsername(USERNAME)).thenReturn(User.reconstitute(USER_ID, USERNAME));
+        when(reserveTimeSlotPort.reserveTimeSlot(TIME_SLOT_ID, USER_ID)).thenReturn(false);
+        when(loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID)).thenReturn(Optional.of(busySlot));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(command(Set.of(PARTICIPANT_ID))))
+                .isInstanceOf(TimeSlotNotAvailableException.class)
+                .hasMessageContaining(TIME_SLOT_ID.toString());
+
+        verify(saveMeetingPort, never()).saveMeeting(any());
+        verify(eventSubscriber, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("Should throw TimeSlotNotFoundException when the slot does not exist")
+    void shouldRejectWhenSlotMissing() {
+        // Given
+        when(loadUserByUsernamePort.loadUserByUsername(USERNAME)).thenReturn(User.reconstitute(USER_ID, USERNAME));
+        when(reserveTimeSlotPort.reserveTimeSlot(TIME_SLOT_ID, USER_ID)).thenReturn(false);
+        when(loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(command(Set.of(PARTICIPANT_ID))))
+                .isInstanceOf(TimeSlotNotFoundException.class)
+                .hasMessageContaining("Time slot not found with id: " + TIME_SLOT_ID);
+
+        verify(saveMeetingPort, never()).saveMeeting(any());
+    }
+
+    @Test
+    @DisplayName("Should throw TimeSlotNotFoundException when the slot belongs to another user")
+    void shouldRejectWhenSlotBelongsToAnotherUser() {
+        // Given
+        TimeSlot foreignSlot = TimeSlot.reconstitute(
+                TIME_SLOT_ID, UUID.randomUUID(), Instant.parse("2026-02-10T10:00:00Z"), 30, "AVAILABLE", 0L);
+        when(loadUserByUsernamePort.loadUserByUsername(USERNAME)).thenReturn(User.reconstitute(USER_ID, USERNAME));
+        when(reserveTimeSlotPort.reserveTimeSlot(TIME_SLOT_ID, USER_ID)).thenReturn(false);
+        when(loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID)).thenReturn(Optional.of(foreignSlot));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(command(Set.of(PARTICIPANT_ID))))
+                .isInstanceOf(TimeSlotNotFoundException.class);
+
+        verify(saveMeetingPort, never()).saveMeeting(any());
+    }
+
+    @Test
+    @DisplayName("Should materialize a recurring occurrence and then reserve it")
+    void shouldMaterializeAndReserveRecurringOccurrence() {
+        // Given - every Tuesday 09:00-12:00 UTC; 2026-02-10 is a Tuesday
+        RecurringAvailability recurring = RecurringAvailability.create(USER_ID, new RecurrenceRule(
+                Set.of(DayOfWeek.TUESDAY), LocalTime.of(9, 0), 180, ZoneOffset.UTC, LocalDate.parse("2026-01-01"), null));
+        UUID occurrenceId = recurring.occurrenceId(Instant.parse("2026-02-10T09:00:00Z"));
+        when(loadUserByUsernamePort.loadUserByUsername(USERNAME)).thenReturn(User.reconstitute(USER_ID, USERNAME));
+        when(reserveTimeSlotPort.reserveTimeSlot(occurrenceId, USER_ID)).thenReturn(false, true);
+        when(loadRecurringAvailabilitiesByUserPort.loadRecurringAvailabilitiesByUserId(USER_ID)).thenReturn(List.of(recurring));
+        when(saveMeetingPort.saveMeeting(any(Meeting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Meeting meeting = service.execute(
+                new ScheduleMeetingCommand(USERNAME, occurrenceId, "Sprint planning", null, Set.of(PARTICIPANT_ID)));
+
+        // Then
+        assertThat(meeting.getSlotId()).isEqualTo(occurrenceId);
+        ArgumentCaptor<TimeSlot> occurrenceCaptor = ArgumentCaptor.forClass(TimeSlot.class);
+        var inOrder = inOrder(materializeOccurrencePort, reserveTimeSlotPort, saveMeetingPort);
+        inOrder.verify(materializeOccurrencePort).materializeOccurrence(occurrenceCaptor.capture());
+        inOrder.verify(reserveTimeSlotPort).reserveTimeSlot(occurrenceId, USER_ID);
+        inOrder.verify(saveMeetingPort).saveMeeting(any(Meeting.class));
+        assertThat(occurrenceCaptor.getValue().getId()).isEqualTo(occurrenceId);
+        assertThat(occurrenceCaptor.getValue().getOwnerId()).isEqualTo(USER_ID);
+        assertThat(occurrenceCaptor.getValue().getRange().start()).isEqualTo(Instant.parse("2026-02-10T09:00:00Z"));
+        verifyNoInteractions(loadTimeSlotByIdPort);
+    }
+
+    @Test
+    @DisplayName("Should not look up recurring availability for ids that are not occurrence ids")
+    void shouldSkipRecurrenceLookupForPlainIds() {
+        // Given
+        when(loadUserByUsernamePort.loadUserByUsername(USERNAME)).thenReturn(User.reconstitute(USER_ID, USERNAME));
+        when(reserveTimeSlotPort.reserveTimeSlot(TIME_SLOT_ID, USER_ID)).thenReturn(false);
+        when(loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(command(Set.of(PARTICIPANT_ID))))
+                .isInstanceOf(TimeSlotNotFoundException.class);
+
+        verifyNoInteractions(loadRecurringAvailabilitiesByUserPort, materializeOccurrencePort);
+    }
+
+    @Test
+    @DisplayName("Should validate meeting details before touching the slot")
+    void shouldValidateDetailsBeforeReserving() {
+        // Given
+        when(loadUserByUsernamePort.loadUserByUsername(USERNAME)).thenReturn(User.reconstitute(USER_ID, USERNAME));
+
+        // When & Then
+        assertThatThrownBy(() -> service.execute(command(Set.of())))
+                .isInstanceOf(MeetingWithoutParticipantsException.class);
+
+        verifyNoInteractions(reserveTimeSlotPort, saveMeetingPort);
+    }
+
+    private ScheduleMeetingCommand command(Set<UUID> participants) {
+        return new ScheduleMeetingCommand(USERNAME, TIME_SLOT_ID, "Sprint planning", null, participants);
+    }
+}
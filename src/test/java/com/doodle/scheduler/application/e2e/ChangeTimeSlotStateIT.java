@@ -0,0 +1,109 @@
+package com.doodle.scheduler.application.e2e;
+
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.ScheduleMeetingRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.changetimeslotstate.dto.ChangeTimeSlotStateRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class ChangeTimeSlotStateIT extends BaseE2E {
+
+    private static final String TIME_SLOTS_ENDPOINT = "/api/v1/timeslots";
+    private static final UUID TIME_SLOT_ID = UUID.fromString("444e4567-e89b-41d4-a716-446655440004");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql(scripts = "/sql/meeting/seed-available-timeslot.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/meeting/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testMarkBusyAndAvailableAgain() {
+        // GIVEN
+        long calendarVersion = calendarVersion();
+
+        // WHEN
+        ResponseEntity<TimeSlotResponseDto> busy = whenPatchState(TIME_SLOT_ID, "BUSY", TimeSlotResponseDto.class);
+        ResponseEntity<TimeSlotResponseDto> available = whenPatchState(TIME_SLOT_ID, "AVAILABLE", TimeSlotResponseDto.class);
+
+        // THEN - each transition is stored, bumps the slot version and invalidates cached searches
+        then(busy.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(busy.getBody().getState()).isEqualTo("BUSY");
+        then(busy.getBody().getDurationMinutes()).isEqualTo(60);
+        then(available.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(available.getBody().getState()).isEqualTo("AVAILABLE");
+        then(jdbcTemplate.queryForObject("SELECT version FROM time_slots WHERE id = ?", Long.class, TIME_SLOT_ID))
+                .isEqualTo(2L);
+        then(calendarVersion()).isEqualTo(calendarVersion + 2);
+    }
+
+    @Test
+    @Sql(scripts = "/sql/meeting/seed-available-timeslot.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/meeting/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testRepeatedTransitionIsRejected() {
+        // GIVEN
+        whenPatchState(TIME_SLOT_ID, "BUSY", TimeSlotResponseDto.class);
+
+        // WHEN
+        ResponseEntity<String> response = whenPatchState(TIME_SLOT_ID, "BUSY", String.class);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        then(slotState()).isEqualTo("BUSY");
+    }
+
+    @Test
+    @Sql(scripts = "/sql/meeting/seed-available-timeslot.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/meeting/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testUnknownSlotIsNotFound() {
+        // WHEN
+        ResponseEntity<String> response = whenPatchState(UUID.randomUUID(), "BUSY", String.class);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @Sql(scripts = "/sql/meeting/seed-available-timeslot.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/meeting/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testBookedSlotCannotBeReleased() {
+        // GIVEN
+        restTemplate.postForEntity("/api/v1/meetings", new ScheduleMeetingRequestDto(
+                TIME_SLOT_ID, "Sprint planning", null, Set.of(UUID.randomUUID())), String.class);
+
+        // WHEN
+        ResponseEntity<String> response = whenPatchState(TIME_SLOT_ID, "AVAILABLE", String.class);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        then(slotState()).isEqualTo("BUSY");
+    }
+
+    private <T> ResponseEntity<T> whenPatchState(UUID timeSlotId, String state, Class<T> responseType) {
+        return restTemplate.exchange(
+                TIME_SLOTS_ENDPOINT + "/" + timeSlotId + "/state",
+                HttpMethod.PATCH,
+                new HttpEntity<>(new ChangeTimeSlotStateRequestDto(state)),
+                responseType
+        );
+    }
+
+    private String slotState() {
+        return jdbcTemplate.queryForObject("SELECT state FROM time_slots WHERE id = ?", String.class, TIME_SLOT_ID);
+    }
+
+    private long calendarVersion() {
+        return jdbcTemplate.queryForObject(
+                "SELECT calendar_version FROM users WHERE username = 'authenticated-user'", Long.class);
+    }
+}
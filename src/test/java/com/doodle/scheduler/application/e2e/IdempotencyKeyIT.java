@@ -0,0 +1,152 @@
+package com.doodle.scheduler.application.e2e;
+
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.CreateTimeSlotRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.config.usecase.common.IdempotencyKeyCleaner;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class IdempotencyKeyIT extends BaseE2E {
+
+    private static final String TIME_SLOTS_ENDPOINT = "/api/v1/timeslots";
+    private static final CreateTimeSlotRequestDto REQUEST =
+            new CreateTimeSlotRequestDto(Instant.parse("2026-02-07T10:00:00Z"), 60);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IdempotencyKeyCleaner idempotencyKeyCleaner;
+
+    @Test
+    @Sql(value = {"/sql/idempotency/cleanup.sql", "/sql/timeslot/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testRetriedCreateReturnsOriginalResponse() {
+        // GIVEN
+        ResponseEntity<TimeSlotResponseDto> first = whenPostTimeSlot(REQUEST, "create-1");
+
+        // WHEN
+        ResponseEntity<TimeSlotResponseDto> retry = whenPostTimeSlot(REQUEST, "create-1");
+
+        // THEN - the retry is answered with the original slot instead of a collision
+        then(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        then(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        then(retry.getBody().getId()).isEqualTo(first.getBody().getId());
+        then(retry.getBody().getEnd()).isEqualTo(first.getBody().getEnd());
+        then(countTimeSlots()).isEqualTo(1);
+    }
+
+    @Test
+    @Sql(value = {"/sql/idempotency/cleanup.sql", "/sql/timeslot/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testConcurrentRetriesCreateOneSlot() throws Exception {
+        // GIVEN
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<ResponseEntity<TimeSlotResponseDto>>> responses = new ArrayList<>();
+
+        // WHEN
+        for (int i = 0; i < 4; i++) {
+            responses.add(executor.submit(() -> whenPostTimeSlot(REQUEST, "create-concurrent")));
+        }
+
+        // THEN - one request ran, the others waited for it and got its answer
+        List<UUID> ids = new ArrayList<>();
+        for (Future<ResponseEntity<TimeSlotResponseDto>> response : responses) {
+            ResponseEntity<TimeSlotResponseDto> entity = response.get(30, TimeUnit.SECONDS);
+            then(entity.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            ids.add(entity.getBody().getId());
+        }
+        executor.shutdown();
+        then(ids).containsOnly(ids.get(0));
+        then(countTimeSlots()).isEqualTo(1);
+    }
+
+    @Test
+    @Sql(value = {"/sql/idempotency/cleanup.sql", "/sql/timeslot/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testKeyReusedForDifferentRequestIsRejected() {
+        // GIVEN
+        whenPostTimeSlot(REQUEST, "create-2");
+
+        // WHEN
+        ResponseEntity<String> response = restTemplate.exchange(TIME_SLOTS_ENDPOINT, HttpMethod.POST,
+                new HttpEntity<>(new CreateTimeSlotRequestDto(Instant.parse("2026-02-08T10:00:00Z"), 30),
+                        idempotencyKey("create-2")),
+                String.class);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        then(countTimeSlots()).isEqualTo(1);
+    }
+
+    @Test
+    @Sql(value = {"/sql/idempotency/cleanup.sql", "/sql/timeslot/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testRetriedDeleteReturnsNoContentAgain() {
+        // GIVEN
+        UUID timeSlotId = whenPostTimeSlot(REQUEST, null).getBody().getId();
+        ResponseEntity<Void> first = whenDeleteTimeSlot(timeSlotId, "delete-1");
+
+        // WHEN
+        ResponseEntity<Void> retry = whenDeleteTimeSlot(timeSlotId, "delete-1");
+        ResponseEntity<Void> withoutKey = whenDeleteTimeSlot(timeSlotId, null);
+
+        // THEN
+        then(first.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        then(retry.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        then(withoutKey.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @Sql(value = {"/sql/idempotency/cleanup.sql", "/sql/timeslot/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testExpiredKeysAreDeleted() {
+        // GIVEN
+        whenPostTimeSlot(REQUEST, "fresh");
+        jdbcTemplate.update("INSERT INTO idempotency_keys (username, idempotency_key, request_fingerprint, created_at) "
+                + "VALUES ('authenticated-user', 'expired', 'DELETE timeSlotId=x', CURRENT_TIMESTAMP - INTERVAL '2 days')");
+
+        // WHEN
+        long deleted = idempotencyKeyCleaner.deleteExpiredKeys();
+
+        // THEN
+        then(deleted).isEqualTo(1);
+        then(jdbcTemplate.queryForList("SELECT idempotency_key FROM idempotency_keys", String.class))
+                .containsExactly("fresh");
+    }
+
+    private ResponseEntity<TimeSlotResponseDto> whenPostTimeSlot(CreateTimeSlotRequestDto requestDto, String key) {
+        return restTemplate.exchange(TIME_SLOTS_ENDPOINT, HttpMethod.POST,
+                new HttpEntity<>(requestDto, idempotencyKey(key)), TimeSlotResponseDto.class);
+    }
+
+    private ResponseEntity<Void> whenDeleteTimeSlot(UUID timeSlotId, String key) {
+        return restTemplate.exchange(TIME_SLOTS_ENDPOINT + "/" + timeSlotId, HttpMethod.DELETE,
+                new HttpEntity<>(idempotencyKey(key)), Void.class);
+    }
+
+    private static HttpHeaders idempotencyKey(String key) {
+        HttpHeaders headers = new HttpHeaders();
+        if (key != null) {
+            headers.set("Idempotency-Key", key);
+        }
+        return headers;
+    }
+
+    private Integer countTimeSlots() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM time_slots", Integer.class);
+    }
+}
@@ -0,0 +1,270 @@
+package com.doodle.scheduler.application.e2e;
+
+import com.doodle.scheduler.application.DoodleSchedulerHexagonalApplication;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.CreateTimeSlotRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Runs against a primary and a streaming replica built from it with {@code pg_basebackup}.
+ * Pausing WAL replay on the replica makes it serve a known stale snapshot, so each test can tell
+ * which server answered a search.
+ */
+@Testcontainers
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        classes = DoodleSchedulerHexagonalApplication.class
+)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@ActiveProfiles("test")
+class ReadReplicaRoutingIT {
+
+    private static final String TIME_SLOTS_ENDPOINT = "/api/v1/timeslots";
+    private static final String SEARCH_ALL = TIME_SLOTS_ENDPOINT + "?page=0&size=100";
+    private static final Duration MAX_LAG = Duration.ofSeconds(3);
+
+    private static final String PRIMARY_INIT_SCRIPT = """
+            #!/bin/sh
+            set -e
+            psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" \\
+                 -c "CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD 'replicator'"
+            echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
+            """;
+
+    private static final String REPLICA_ENTRYPOINT = """
+            until pg_basebackup --host=primary --username=replicator --pgdata=/var/lib/postgresql/data \\
+                  --wal-method=stream --write-recovery-conf; do
+              rm -rf /var/lib/postgresql/data/*
+              sleep 1
+            done
+            chown -R postgres:postgres /var/lib/postgresql/data
+            chmod 0700 /var/lib/postgresql/data
+            exec su-exec postgres postgres -c hot_standby=on
+            """;
+
+    private static final Network network = Network.newNetwork();
+
+    @Container
+    static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test")
+            .withNetwork(network)
+            .withNetworkAliases("primary")
+            .withCommand("postgres", "-c", "fsync=off", "-c", "wal_level=replica", "-c", "max_wal_senders=4")
+            .withCopyToContainer(Transferable.of(PRIMARY_INIT_SCRIPT, 0755), "/docker-entrypoint-initdb.d/10-replication.sh");
+
+    @Container
+    static GenericContainer<?> replica = new GenericContainer<>("postgres:16-alpine")
+            .withNetwork(network)
+            .dependsOn(primary)
+            .withEnv("PGPASSWORD", "replicator")
+            .withExposedPorts(5432)
+            .withCreateContainerCmdModifier(cmd -> cmd.withEntrypoint("sh", "-c", REPLICA_ENTRYPOINT))
+            .waitingFor(Wait.forLogMessage(".*database system is ready to accept read-only connections.*\\s", 1)
+                    .withStartupTimeout(Duration.ofMinutes(2)));
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", primary::getJdbcUrl);
+        registry.add("spring.datasource.username", primary::getUsername);
+        registry.add("spring.datasource.password", primary::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+
+        registry.add("scheduler.datasource.read-replicas.enabled", () -> "true");
+        registry.add("scheduler.datasource.read-replicas.replicas[0].url", ReadReplicaRoutingIT::replicaJdbcUrl);
+        registry.add("scheduler.datasource.read-replicas.max-lag", () -> MAX_LAG.toMillis() + "ms");
+        registry.add("scheduler.datasource.read-replicas.lag-check-interval", () -> "200ms");
+        registry.add("scheduler.datasource.read-replicas.read-your-writes-window", () -> "4s");
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @AfterEach
+    void resumeReplayAndCleanUp() throws SQLException {
+        executeOnReplica("SELECT pg_wal_replay_resume()");
+        executeOnPrimary("DELETE FROM time_slots");
+        awaitReplicaCaughtUp();
+    }
+
+    @Test
+    void testSearchIsServedByReplicaWithinLagBudget() throws SQLException {
+        // GIVEN - the replica is current, then stops replaying before a slot is written on the primary
+        givenReplicaFreshlyCaughtUp();
+        executeOnReplica("SELECT pg_wal_replay_pause()");
+        UUID slotId = insertSlotOnPrimary(Instant.parse("2026-04-01T10:00:00Z"));
+
+        // WHEN
+        List<UUID> ids = searchIds();
+
+        // THEN - the stale replica answered
+        then(ids).doesNotContain(slotId);
+    }
+
+    @Test
+    void testSearchFallsBackToPrimaryOnceReplicaLagExceedsBudget() throws Exception {
+        // GIVEN
+        givenReplicaFreshlyCaughtUp();
+        executeOnReplica("SELECT pg_wal_replay_pause()");
+        UUID slotId = insertSlotOnPrimary(Instant.parse("2026-04-01T10:00:00Z"));
+
+        // WHEN - the paused replica falls behind by more than max-lag
+        Thread.sleep(MAX_LAG.plusSeconds(1).toMillis());
+        List<UUID> ids = searchIds();
+
+        // THEN - only the primary has the slot
+        then(ids).contains(slotId);
+    }
+
+    @Test
+    void testOwnerReadsOwnCreateDespiteStaleReplica() throws SQLException {
+        // GIVEN
+        givenReplicaFreshlyCaughtUp();
+        executeOnReplica("SELECT pg_wal_replay_pause()");
+
+        // WHEN
+        ResponseEntity<TimeSlotResponseDto> created = restTemplate.postForEntity(TIME_SLOTS_ENDPOINT,
+                new CreateTimeSlotRequestDto(Instant.parse("2026-04-02T10:00:00Z"), 30), TimeSlotResponseDto.class);
+        List<UUID> ids = searchIds();
+
+        // THEN
+        then(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        then(ids).contains(created.getBody().getId());
+    }
+
+    @Test
+    void testOwnerReadsOwnDeleteDespiteStaleReplica() throws SQLException {
+        // GIVEN - the slot exists on both servers
+        UUID slotId = insertSlotOnPrimary(Instant.parse("2026-04-03T10:00:00Z"));
+        givenReplicaFreshlyCaughtUp();
+        executeOnReplica("SELECT pg_wal_replay_pause()");
+
+        // WHEN
+        ResponseEntity<Void> deleted = restTemplate.exchange(
+                TIME_SLOTS_ENDPOINT + "/" + slotId, HttpMethod.DELETE, null, Void.class);
+        List<UUID> ids = searchIds();
+
+        // THEN
+        then(deleted.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        then(ids).doesNotContain(slotId);
+    }
+
+    private List<UUID> searchIds() {
+        ResponseEntity<SearchTimeSlotsResponseDto> response =
+                restTemplate.getForEntity(SEARCH_ALL, SearchTimeSlotsResponseDto.class);
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody().getTimeSlots().stream().map(TimeSlotResponseDto::getId).toList();
+    }
+
+    /**
+     * Commits a transaction the replica has to replay, so its replay timestamp is recent and the lag
+     * check reports a small lag once replay is paused.
+     */
+    private void givenReplicaFreshlyCaughtUp() throws SQLException {
+        executeOnPrimary("UPDATE users SET calendar_version = calendar_version WHERE username = 'authenticated-user'");
+        awaitReplicaCaughtUp();
+    }
+
+    private UUID insertSlotOnPrimary(Instant start) throws SQLException {
+        UUID id = UUID.randomUUID();
+        try (Connection connection = connect(primary.getJdbcUrl());
+             PreparedStatement statement = connection.prepareStatement("""
+                     INSERT INTO time_slots (id, owner_id, start_time, end_time, duration_minutes, state)
+                     SELECT ?, id, ?, ?, 30, 'AVAILABLE' FROM users WHERE username = 'authenticated-user'
+                     """)) {
+            statement.setObject(1, id);
+            statement.setTimestamp(2, Timestamp.from(start));
+            statement.setTimestamp(3, Timestamp.from(start.plus(Duration.ofMinutes(30))));
+            statement.executeUpdate();
+        }
+        return id;
+    }
+
+    private void awaitReplicaCaughtUp() throws SQLException {
+        String primaryLsn;
+        try (Connection connection = connect(primary.getJdbcUrl());
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT pg_current_wal_lsn()::text")) {
+            resultSet.next();
+            primaryLsn = resultSet.getString(1);
+        }
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        try (Connection connection = connect(replicaJdbcUrl());
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT pg_wal_lsn_diff(?::pg_lsn, pg_last_wal_replay_lsn()) <= 0")) {
+            statement.setString(1, primaryLsn);
+            while (System.nanoTime() < deadline) {
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    if (resultSet.getBoolean(1)) {
+                        return;
+                    }
+                }
+                Thread.onSpinWait();
+            }
+        }
+        throw new IllegalStateException("Replica did not replay up to " + primaryLsn);
+    }
+
+    private static void executeOnPrimary(String sql) throws SQLException {
+        execute(primary.getJdbcUrl(), sql);
+    }
+
+    private static void executeOnReplica(String sql) throws SQLException {
+        execute(replicaJdbcUrl(), sql);
+    }
+
+    private static void execute(String url, String sql) throws SQLException {
+        try (Connection connection = connect(url);
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static Connection connect(String url) throws SQLException {
+        return DriverManager.getConnection(url, primary.getUsername(), primary.getPassword());
+    }
+
+    static String replicaJdbcUrl() {
+        return "jdbc:postgresql://" + replica.getHost() + ":" + replica.getMappedPort(5432)
+                + "/" + primary.getDatabaseName();
+    }
+}
@@ -0,0 +1,131 @@
+package com.doodle.scheduler.application.e2e;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.PaginationDto;
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.MeetingResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.ScheduleMeetingRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.dto.CreateRecurringAvailabilityRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.dto.RecurringAvailabilityResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.CreateTimeSlotRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchFiltersTimeSlotRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class RecurringAvailabilityIT extends BaseE2E {
+
+    private static final String RECURRING_ENDPOINT = "/api/v1/recurring-availabilities";
+    private static final String TIME_SLOTS_ENDPOINT = "/api/v1/timeslots";
+    private static final String SEARCH_ENDPOINT = "/api/v1/timeslots/search";
+    private static final String MEETINGS_ENDPOINT = "/api/v1/meetings";
+    private static final UUID PARTICIPANT_ID = UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7");
+    // Monday 2026-02-09 .. Sunday 2026-02-15
+    private static final Instant WEEK_START = Instant.parse("2026-02-09T00:00:00Z");
+    private static final Instant WEEK_END = Instant.parse("2026-02-16T00:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql(value = "/sql/recurringavailability/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testWeekdayRuleIsExpandedBookedAndEnforced() {
+        // GIVEN - every weekday 09:00-12:00 UTC, stored as a single row
+        ResponseEntity<RecurringAvailabilityResponseDto> created = post(RECURRING_ENDPOINT,
+                new CreateRecurringAvailabilityRequestDto(
+                        Set.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY, DayOfWeek.FRIDAY),
+                        LocalTime.of(9, 0), 180, "UTC", LocalDate.parse("2026-02-09"), null),
+                RecurringAvailabilityResponseDto.class);
+        then(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        then(countRows("recurring_availabilities")).isEqualTo(1);
+        then(countRows("time_slots")).isZero();
+
+        // WHEN - searching one week
+        SearchTimeSlotsResponseDto week = searchWeek();
+
+        // THEN - five lazily expanded occurrences, nothing materialized
+        then(week.getTotalElements()).isEqualTo(5);
+        then(week.getTimeSlots()).extracting(TimeSlotResponseDto::getState).containsOnly("AVAILABLE");
+        then(week.getTimeSlots().get(0).getStart()).isEqualTo(Instant.parse("2026-02-09T09:00:00Z"));
+        then(countRows("time_slots")).isZero();
+
+        // WHEN - booking Wednesday's occurrence by its id
+        UUID wednesday = week.getTimeSlots().get(2).getId();
+        ResponseEntity<MeetingResponseDto> booked = post(MEETINGS_ENDPOINT,
+                new ScheduleMeetingRequestDto(wednesday, "Sprint planning", null, Set.of(PARTICIPANT_ID)),
+                MeetingResponseDto.class);
+
+        // THEN - only that occurrence is stored, and search shows it BUSY exactly once
+        then(booked.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        then(countRows("time_slots")).isEqualTo(1);
+        SearchTimeSlotsResponseDto afterBooking = searchWeek();
+        then(afterBooking.getTotalElements()).isEqualTo(5);
+        then(afterBooking.getTimeSlots()).hasSize(5);
+        then(afterBooking.getTimeSlots()).filteredOn(slot -> slot.getId().equals(wednesday))
+                .singleElement()
+                .extracting(TimeSlotResponseDto::getState)
+                .isEqualTo("BUSY");
+
+        // AND the same occurrence cannot be booked twice
+        ResponseEntity<String> rebooked = post(MEETINGS_ENDPOINT,
+                new ScheduleMeetingRequestDto(wednesday, "Retro", null, Set.of(PARTICIPANT_ID)), String.class);
+        then(rebooked.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+
+        // AND a one-off slot overlapping a future occurrence is rejected
+        ResponseEntity<String> overlapping = post(TIME_SLOTS_ENDPOINT,
+                new CreateTimeSlotRequestDto(Instant.parse("2026-03-02T10:00:00Z"), 30), String.class);
+        then(overlapping.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    @Sql(value = "/sql/recurringavailability/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testOverlappingRulesAreRejected() {
+        // GIVEN
+        post(RECURRING_ENDPOINT, new CreateRecurringAvailabilityRequestDto(Set.of(DayOfWeek.MONDAY),
+                LocalTime.of(9, 0), 120, "UTC", LocalDate.parse("2026-02-09"), null), String.class);
+
+        // WHEN - a second rule hitting the same Mondays in another zone
+        ResponseEntity<String> response = post(RECURRING_ENDPOINT, new CreateRecurringAvailabilityRequestDto(
+                Set.of(DayOfWeek.MONDAY), LocalTime.of(10, 0), 60, "Europe/Berlin",
+                LocalDate.parse("2026-02-09"), null), String.class);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        then(countRows("recurring_availabilities")).isEqualTo(1);
+    }
+
+    private SearchTimeSlotsResponseDto searchWeek() {
+        SearchTimeSlotsRequestDto requestDto = new SearchTimeSlotsRequestDto(
+                new SearchFiltersTimeSlotRequestDto(null, WEEK_START, WEEK_END),
+                new PaginationDto(0, 20));
+        ResponseEntity<SearchTimeSlotsResponseDto> response =
+                post(SEARCH_ENDPOINT, requestDto, SearchTimeSlotsResponseDto.class);
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private Integer countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private <B, T> ResponseEntity<T> post(String endpoint, B body, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+
+        return restTemplate.exchange(endpoint, HttpMethod.POST, new HttpEntity<>(body, headers), responseType);
+    }
+}
@@ -0,0 +1,128 @@
+package com.doodle.scheduler.application.e2e;
+
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.MeetingResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.ScheduleMeetingRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class ScheduleMeetingIT extends BaseE2E {
+
+    private static final String MEETINGS_ENDPOINT = "/api/v1/meetings";
+    private static final String TIME_SLOTS_ENDPOINT = "/api/v1/timeslots";
+    private static final UUID TIME_SLOT_ID = UUID.fromString("444e4567-e89b-41d4-a716-446655440004");
+    private static final UUID PARTICIPANT_ID = UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7");
+    private static final int CONCURRENT_BOOKINGS = 16;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql(scripts = "/sql/meeting/seed-available-timeslot.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/meeting/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testScheduleMeeting() {
+        // GIVEN
+        ScheduleMeetingRequestDto requestDto = new ScheduleMeetingRequestDto(
+                TIME_SLOT_ID, "Sprint planning", "Q3 goals", Set.of(PARTICIPANT_ID));
+
+        // WHEN
+        ResponseEntity<MeetingResponseDto> response = whenPostMeeting(requestDto, MeetingResponseDto.class);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        then(response.getBody()).isNotNull();
+        then(response.getBody().getId()).isNotNull();
+        then(response.getBody().getTimeSlotId()).isEqualTo(TIME_SLOT_ID);
+        then(response.getBody().getParticipants()).containsExactly(PARTICIPANT_ID);
+        then(response.getBody().getState()).isEqualTo("SCHEDULED");
+        then(slotState()).isEqualTo("BUSY");
+
+        // AND the booked slot can no longer be deleted
+        ResponseEntity<String> deleteResponse = restTemplate.exchange(
+                TIME_SLOTS_ENDPOINT + "/" + TIME_SLOT_ID, HttpMethod.DELETE, null, String.class);
+        then(deleteResponse.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    @Sql(scripts = "/sql/meeting/seed-available-timeslot.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/meeting/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testScheduleMeetingOnUnknownSlot() {
+        // GIVEN
+        ScheduleMeetingRequestDto requestDto = new ScheduleMeetingRequestDto(
+                UUID.randomUUID(), "Sprint planning", null, Set.of(PARTICIPANT_ID));
+
+        // WHEN
+        ResponseEntity<String> response = whenPostMeeting(requestDto, String.class);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @Sql(scripts = "/sql/meeting/seed-available-timeslot.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/meeting/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testConcurrentBookingsOfSameSlot() throws Exception {
+        // GIVEN - many requests released at once against the same AVAILABLE slot
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_BOOKINGS);
+        List<Future<HttpStatusCode>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_BOOKINGS; i++) {
+                ScheduleMeetingRequestDto requestDto = new ScheduleMeetingRequestDto(
+                        TIME_SLOT_ID, "Meeting " + i, null, Set.of(PARTICIPANT_ID));
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return whenPostMeeting(requestDto, String.class).getStatusCode();
+                }));
+            }
+
+            // WHEN
+            start.countDown();
+            List<HttpStatusCode> statuses = new ArrayList<>();
+            for (Future<HttpStatusCode> future : futures) {
+                statuses.add(future.get());
+            }
+
+            // THEN - exactly one booking wins, every other one is rejected, nothing is lost
+            then(statuses).filteredOn(status -> status.equals(HttpStatus.CREATED)).hasSize(1);
+            then(statuses).filteredOn(status -> status.equals(HttpStatus.CONFLICT)).hasSize(CONCURRENT_BOOKINGS - 1);
+            then(jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM meetings WHERE time_slot_id = ?", Long.class, TIME_SLOT_ID)).isEqualTo(1L);
+            then(slotState()).isEqualTo("BUSY");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String slotState() {
+        return jdbcTemplate.queryForObject("SELECT state FROM time_slots WHERE id = ?", String.class, TIME_SLOT_ID);
+    }
+
+    private <T> ResponseEntity<T> whenPostMeeting(ScheduleMeetingRequestDto requestDto, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+
+        HttpEntity<ScheduleMeetingRequestDto> request = new HttpEntity<>(requestDto, headers);
+
+        return restTemplate.exchange(
+                MEETINGS_ENDPOINT,
+                HttpMethod.POST,
+                request,
+                responseType
+        );
+    }
+}
@@ -1,15 +1,21 @@
 package com.doodle.scheduler.application.e2e;
 
 import com.doodle.scheduler.application.adapter.in.rest.common.dto.PaginationDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.CreateTimeSlotRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchFiltersTimeSlotRequestDto;
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsRequestDto;
 import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.*;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.BDDAssertions.then;
 
@@ -107,8 +113,115 @@ class SearchTimeSlotsIT extends BaseE2E {
         then(responseBody.getTimeSlots()).isEmpty();
     }
 
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testConditionalSearchReturnsNotModifiedUntilCalendarChanges() {
+        // GIVEN - a first search hands out an ETag
+        SearchTimeSlotsRequestDto requestDto = new SearchTimeSlotsRequestDto(
+                new SearchFiltersTimeSlotRequestDto(),
+                new PaginationDto(0, 10)
+        );
+        String etag = whenPostSearch(requestDto).getHeaders().getETag();
+        then(etag).isNotBlank();
+
+        // WHEN - polling with the same ETag
+        ResponseEntity<SearchTimeSlotsResponseDto> unchanged = whenPostSearch(requestDto, etag);
+
+        // THEN
+        then(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        // WHEN - the calendar changes
+        ResponseEntity<TimeSlotResponseDto> created = restTemplate.postForEntity(
+                "/api/v1/timeslots",
+                new CreateTimeSlotRequestDto(Instant.parse("2026-03-01T10:00:00Z"), 60),
+                TimeSlotResponseDto.class
+        );
+        then(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        ResponseEntity<SearchTimeSlotsResponseDto> changed = whenPostSearch(requestDto, etag);
+
+        // THEN
+        then(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(changed.getHeaders().getETag()).isNotEqualTo(etag);
+        then(changed.getBody().getTotalElements()).isEqualTo(13);
+    }
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testSearchWithQueryParameters() {
+        // WHEN
+        ResponseEntity<SearchTimeSlotsResponseDto> response = restTemplate.getForEntity(
+                "/api/v1/timeslots?status=BUSY&page=0&size=10",
+                SearchTimeSlotsResponseDto.class
+        );
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(response.getHeaders().getETag()).isNotBlank();
+        then(response.getBody().getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testSearchIsGzippedForClientsThatAcceptIt() throws IOException {
+        // GIVEN
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        String url = "/api/v1/timeslots?page=0&size=10";
+
+        // WHEN
+        ResponseEntity<byte[]> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        byte[] json;
+        try (GZIPInputStream gunzip = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            json = gunzip.readAllBytes();
+        }
+        then(response.getBody().length).isLessThan(json.length);
+        then(new ObjectMapper().readTree(json).get("time_slots")).hasSize(10);
+
+        // WHEN - polling with the ETag of the compressed response
+        headers.setIfNoneMatch(response.getHeaders().getETag());
+        ResponseEntity<byte[]> unchanged = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+
+        // THEN
+        then(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testSearchReturnsSelectedFieldsOnly() {
+        // WHEN
+        ResponseEntity<SearchTimeSlotsResponseDto> response = restTemplate.getForEntity(
+                "/api/v1/timeslots?page=0&size=10&fields=id,start",
+                SearchTimeSlotsResponseDto.class
+        );
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(response.getBody().getTimeSlots()).hasSize(10).allSatisfy(slot -> {
+            then(slot.getId()).isNotNull();
+            then(slot.getStart()).isNotNull();
+            then(slot.getEnd()).isNull();
+            then(slot.getDurationMinutes()).isNull();
+            then(slot.getState()).isNull();
+        });
+    }
+
     private ResponseEntity<SearchTimeSlotsResponseDto> whenPostSearch(SearchTimeSlotsRequestDto requestDto) {
+        return whenPostSearch(requestDto, null);
+    }
+
+    private ResponseEntity<SearchTimeSlotsResponseDto> whenPostSearch(SearchTimeSlotsRequestDto requestDto, String ifNoneMatch) {
         HttpHeaders headers = new HttpHeaders();
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
 
@@ -0,0 +1,56 @@
+package com.doodle.scheduler.application.e2e;
+
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.CreateTimeSlotRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class TimeSlotAuditTrailIT extends BaseE2E {
+
+    private static final String TIME_SLOTS_ENDPOINT = "/api/v1/timeslots";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testCreatedAndDeletedSlotsAreAudited() throws InterruptedException {
+        // GIVEN
+        ResponseEntity<TimeSlotResponseDto> created = restTemplate.postForEntity(TIME_SLOTS_ENDPOINT,
+                new CreateTimeSlotRequestDto(Instant.parse("2026-02-07T10:00:00Z"), 60), TimeSlotResponseDto.class);
+        then(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        UUID timeSlotId = created.getBody().getId();
+
+        // WHEN
+        ResponseEntity<Void> deleted = restTemplate.exchange(
+                TIME_SLOTS_ENDPOINT + "/" + timeSlotId, HttpMethod.DELETE, null, Void.class);
+
+        // THEN - entries are written by the background writer, at the latest one flush interval later
+        then(deleted.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        then(awaitAuditedEventTypes(timeSlotId, 2)).containsExactly("TIME_SLOT_CREATED", "TIME_SLOT_DELETED");
+    }
+
+    private List<String> awaitAuditedEventTypes(UUID timeSlotId, int expected) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+        List<String> eventTypes;
+        do {
+            Thread.sleep(50);
+            eventTypes = jdbcTemplate.queryForList(
+                    "SELECT event_type FROM audit_events WHERE time_slot_id = ? ORDER BY occurred_at",
+                    String.class, timeSlotId);
+        } while (eventTypes.size() < expected && Instant.now().isBefore(deadline));
+        return eventTypes;
+    }
+}
@@ -0,0 +1,132 @@
+package com.doodle.scheduler.application.e2e;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.PaginationDto;
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.MeetingResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.ScheduleMeetingRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.dto.CreateRecurringAvailabilityRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.recurringavailability.createrecurringavailability.dto.RecurringAvailabilityResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.CreateTimeSlotRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchFiltersTimeSlotRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.*;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class TimeSlotFeedIT extends BaseE2E {
+
+    private static final String FEED_ENDPOINT = "/api/v1/timeslots/feed.ics";
+    private static final UUID PARTICIPANT_ID = UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7");
+
+    @Test
+    @Sql(value = "/sql/recurringavailability/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testFeedPublishesRulesBookedOccurrencesAndSlots() {
+        // GIVEN - Mondays and Wednesdays 09:00-10:00 Berlin time in February, Wednesday 2026-02-11 booked
+        RecurringAvailabilityResponseDto recurring = post("/api/v1/recurring-availabilities",
+                new CreateRecurringAvailabilityRequestDto(Set.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY),
+                        LocalTime.of(9, 0), 60, "Europe/Berlin", LocalDate.parse("2026-02-09"), LocalDate.parse("2026-02-28")),
+                RecurringAvailabilityResponseDto.class).getBody();
+        SearchTimeSlotsResponseDto week = post("/api/v1/timeslots/search", new SearchTimeSlotsRequestDto(
+                        new SearchFiltersTimeSlotRequestDto(null, Instant.parse("2026-02-09T00:00:00Z"),
+                                Instant.parse("2026-02-16T00:00:00Z")),
+                        new PaginationDto(0, 20)),
+                SearchTimeSlotsResponseDto.class).getBody();
+        UUID wednesday = week.getTimeSlots().get(1).getId();
+        then(post("/api/v1/meetings", new ScheduleMeetingRequestDto(wednesday, "Sprint planning", null, Set.of(PARTICIPANT_ID)),
+                MeetingResponseDto.class).getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        TimeSlotResponseDto oneOff = post("/api/v1/timeslots",
+                new CreateTimeSlotRequestDto(Instant.parse("2026-03-02T10:00:00Z"), 30), TimeSlotResponseDto.class).getBody();
+
+        // WHEN
+        ResponseEntity<String> response = getFeed(new HttpHeaders());
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(response.getHeaders().getContentType().isCompatibleWith(MediaType.parseMediaType("text/calendar"))).isTrue();
+        then(response.getHeaders().getETag()).isNotNull();
+        then(response.getHeaders().getLastModified()).isPositive();
+        then(response.getBody())
+                .startsWith("BEGIN:VCALENDAR\r\n")
+                .endsWith("END:VCALENDAR\r\n")
+                .contains("UID:" + recurring.getId() + "\r\n"
+                        + "DTSTAMP:")
+                .contains("DTSTART;TZID=Europe/Berlin:20260209T090000\r\n"
+                        + "DURATION:PT60M\r\n"
+                        + "RRULE:FREQ=WEEKLY;BYDAY=MO,WE;UNTIL=20260228T225959Z\r\n")
+                .contains("UID:" + recurring.getId() + "\r\n"
+                        + "RECURRENCE-ID;TZID=Europe/Berlin:20260211T090000\r\n")
+                .contains("DTSTART:20260211T080000Z\r\n"
+                        + "DTEND:20260211T090000Z\r\n")
+                .contains("UID:" + oneOff.getId() + "\r\n")
+                .contains("DTSTART:20260302T100000Z\r\n"
+                        + "DTEND:20260302T103000Z\r\n");
+        then(response.getBody().split("BEGIN:VEVENT", -1)).hasSize(4);
+    }
+
+    @Test
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testUnchangedCalendarIsNotSentAgain() {
+        // GIVEN
+        post("/api/v1/timeslots", new CreateTimeSlotRequestDto(Instant.parse("2026-03-02T10:00:00Z"), 30), String.class);
+        ResponseEntity<String> first = getFeed(new HttpHeaders());
+        String etag = first.getHeaders().getETag();
+        long lastModified = first.getHeaders().getLastModified();
+
+        // WHEN / THEN - polls carrying either validator get 304 without a body
+        HttpHeaders ifNoneMatch = new HttpHeaders();
+        ifNoneMatch.setIfNoneMatch(etag);
+        ResponseEntity<String> byETag = getFeed(ifNoneMatch);
+        then(byETag.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        then(byETag.getBody()).isNull();
+
+        HttpHeaders ifModifiedSince = new HttpHeaders();
+        ifModifiedSince.setIfModifiedSince(lastModified);
+        then(getFeed(ifModifiedSince).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        // AND a second full download is served unchanged
+        then(getFeed(new HttpHeaders()).getBody()).isEqualTo(first.getBody());
+
+        // WHEN the calendar changes
+        post("/api/v1/timeslots", new CreateTimeSlotRequestDto(Instant.parse("2026-03-03T10:00:00Z"), 30), String.class);
+        ResponseEntity<String> changed = getFeed(ifNoneMatch);
+
+        // THEN
+        then(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(changed.getHeaders().getETag()).isNotEqualTo(etag);
+        then(changed.getBody()).contains("DTSTART:20260303T100000Z");
+    }
+
+    @Test
+    void testFeedOfCalendarWithoutSlotsIsEmptyCalendar() {
+        // WHEN
+        ResponseEntity<String> response = getFeed(new HttpHeaders());
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(response.getBody()).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n").doesNotContain("VEVENT");
+    }
+
+    private ResponseEntity<String> getFeed(HttpHeaders headers) {
+        headers.setAccept(List.of(MediaType.parseMediaType("text/calendar")));
+        return restTemplate.exchange(FEED_ENDPOINT, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private <B, T> ResponseEntity<T> post(String endpoint, B body, Class<T> responseType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+
+        return restTemplate.exchange(endpoint, HttpMethod.POST, new HttpEntity<>(body, headers), responseType);
+    }
+}
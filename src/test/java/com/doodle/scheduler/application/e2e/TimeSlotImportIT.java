@@ -0,0 +1,176 @@
+package com.doodle.scheduler.application.e2e;
+
+import com.doodle.scheduler.application.adapter.in.cli.importtimeslots.ImportTimeSlotsJobRunner;
+import com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots.dto.ImportRejectionDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslotimport.importtimeslots.dto.ImportTimeSlotsResponseDto;
+import com.doodle.scheduler.application.adapter.in.timeslotimport.parser.CsvTimeSlotImportParser;
+import com.doodle.scheduler.application.domain.calendar.model.timeslotimport.ImportRejection;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsQueryResult;
+import com.doodle.scheduler.application.domain.calendar.port.in.importtimeslots.ImportTimeSlotsUseCase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class TimeSlotImportIT extends BaseE2E {
+
+    private static final String IMPORT_ENDPOINT = "/api/v1/timeslot-imports";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ImportTimeSlotsUseCase importTimeSlotsUseCase;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @Sql(value = "/sql/timeslotimport/seed-user-with-timeslot.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslotimport/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testCsvImportJobStoresValidRowsAndReportsRejectedOnes() throws IOException {
+        // GIVEN - bob already has 10:00-11:00 on 2026-03-02
+        long authenticatedUserVersion = calendarVersion("authenticated-user");
+        long bobVersion = calendarVersion("bob");
+        String csv = """
+                username,start,duration_minutes,state
+                authenticated-user,2026-03-02T09:00:00Z,30,AVAILABLE
+                authenticated-user,2026-03-02T09:15:00Z,30,AVAILABLE
+                bob,2026-03-02T10:30:00Z,30,AVAILABLE
+                bob,2026-03-02T11:00:00Z,30,BUSY
+                carol,2026-03-02T09:00:00Z,30,AVAILABLE
+                authenticated-user,2026-03-02T12:00:00Z,0,AVAILABLE
+                """;
+
+        // WHEN
+        ImportTimeSlotsQueryResult report = importCsvFile(csv);
+
+        // THEN
+        then(report.rowsRead()).isEqualTo(6);
+        then(report.imported()).isEqualTo(2);
+        then(report.rejected()).isEqualTo(4);
+        then(report.rejections()).extracting(ImportRejection::lineNumber).containsExactly(3L, 4L, 6L, 7L);
+        then(report.rejections().get(0).reason()).isEqualTo("time slot overlaps line 2 of the import");
+        then(report.rejections().get(1).reason())
+                .isEqualTo("time slot overlaps an existing slot: 9d8c7b6a-5f4e-4d3c-8b2a-1f0e9d8c7b6a");
+        then(report.rejections().get(2).reason()).isEqualTo("user not found: carol");
+        then(report.owners()).containsExactlyInAnyOrder("authenticated-user", "bob");
+
+        then(countRows("time_slots")).isEqualTo(3);
+        then(countRows("time_slot_imports")).isZero();
+        then(jdbcTemplate.queryForObject(
+                "SELECT state FROM time_slots WHERE start_time = '2026-03-02 11:00:00+00'", String.class))
+                .isEqualTo("BUSY");
+        then(calendarVersion("authenticated-user")).isEqualTo(authenticatedUserVersion + 1);
+        then(calendarVersion("bob")).isEqualTo(bobVersion + 1);
+    }
+
+    @Test
+    @Sql(value = "/sql/timeslotimport/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testIcsImportAssignsEventsToCaller() {
+        // GIVEN
+        String ics = """
+                BEGIN:VCALENDAR\r
+                VERSION:2.0\r
+                BEGIN:VEVENT\r
+                DTSTART;TZID=Europe/Berlin:20260302T100000\r
+                DTEND;TZID=Europe/Berlin:20260302T110000\r
+                END:VEVENT\r
+                BEGIN:VEVENT\r
+                DTSTART:20260303T090000Z\r
+                DURATION:PT45M\r
+                TRANSP:TRANSPARENT\r
+                END:VEVENT\r
+                BEGIN:VEVENT\r
+                DTSTART;VALUE=DATE:20260304\r
+                END:VEVENT\r
+                END:VCALENDAR\r
+                """;
+
+        // WHEN
+        ResponseEntity<ImportTimeSlotsResponseDto> response = importBody("text/calendar", ics);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(response.getBody().getImported()).isEqualTo(2);
+        then(response.getBody().getRejections()).extracting(ImportRejectionDto::getReason)
+                .containsExactly("all-day events are not imported");
+        then(jdbcTemplate.queryForList("""
+                        SELECT t.state FROM time_slots t JOIN users u ON u.id = t.owner_id
+                        WHERE u.username = 'authenticated-user' ORDER BY t.start_time""", String.class))
+                .containsExactly("BUSY", "AVAILABLE");
+    }
+
+    @Test
+    @Sql(value = "/sql/timeslotimport/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testLargeImportIsCopiedAndMergedInOnePass() throws IOException {
+        // GIVEN - more rows than fit in one COPY buffer
+        int rows = 50_000;
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        StringBuilder csv = new StringBuilder("username,start,duration_minutes\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("authenticated-user,").append(start.plus(Duration.ofMinutes(30L * i))).append(",30\n");
+        }
+
+        // WHEN
+        ImportTimeSlotsQueryResult report = importCsvFile(csv.toString());
+
+        // THEN
+        then(report.rowsRead()).isEqualTo(rows);
+        then(report.imported()).isEqualTo(rows);
+        then(report.rowsPerSecond()).isPositive();
+        then(countRows("time_slots")).isEqualTo(rows);
+        then(countRows("time_slot_imports")).isZero();
+    }
+
+    @Test
+    void testCsvIsNotAcceptedOverHttp() {
+        // WHEN
+        ResponseEntity<String> response = restTemplate.postForEntity(IMPORT_ENDPOINT,
+                new HttpEntity<>("username,start,duration_minutes\nbob,2026-03-02T09:00:00Z,30\n", headers("text/csv")),
+                String.class);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+        then(countRows("time_slots")).isZero();
+    }
+
+    private ImportTimeSlotsQueryResult importCsvFile(String csv) throws IOException {
+        Path file = Files.writeString(tempDir.resolve("slots.csv"), csv);
+        return new ImportTimeSlotsJobRunner(importTimeSlotsUseCase, new CsvTimeSlotImportParser()).importFile(file);
+    }
+
+    private static HttpHeaders headers(String contentType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(contentType));
+        return headers;
+    }
+
+    private ResponseEntity<ImportTimeSlotsResponseDto> importBody(String contentType, String body) {
+        return restTemplate.postForEntity(IMPORT_ENDPOINT, new HttpEntity<>(body, headers(contentType)),
+                ImportTimeSlotsResponseDto.class);
+    }
+
+    private long countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class);
+    }
+
+    private long calendarVersion(String username) {
+        return jdbcTemplate.queryForObject(
+                "SELECT calendar_version FROM users WHERE username = ?", Long.class, username);
+    }
+}
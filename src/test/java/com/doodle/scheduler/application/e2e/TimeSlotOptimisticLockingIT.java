@@ -0,0 +1,167 @@
+package com.doodle.scheduler.application.e2e;
+
+import com.doodle.scheduler.application.config.usecase.common.OptimisticLockRetrier;
+import com.doodle.scheduler.application.config.usecase.common.OptimisticLockRetryProperties;
+import com.doodle.scheduler.application.domain.calendar.model.timeslot.TimeSlot;
+import com.doodle.scheduler.application.domain.calendar.port.out.createtimeslot.SaveTimeSlotPort;
+import com.doodle.scheduler.application.domain.calendar.port.out.searchtimeslots.LoadTimeSlotByIdPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.BDDAssertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Hammers a single time slot with read-modify-write state toggles from many threads and checks
+ * that the version column turns lost updates into retried conflicts.
+ */
+class TimeSlotOptimisticLockingIT extends BaseE2E {
+
+    private static final UUID TIME_SLOT_ID = UUID.fromString("111e4567-e89b-41d4-a716-446655440001");
+    private static final int THREADS = 8;
+    private static final int TOGGLES_PER_THREAD = 25;
+
+    @Autowired
+    private LoadTimeSlotByIdPort loadTimeSlotByIdPort;
+
+    @Autowired
+    private SaveTimeSlotPort saveTimeSlotPort;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-timeslot-for-deletion.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testConcurrentTogglesAreNeitherLostNorFailed() throws Exception {
+        // GIVEN - generous retry budget so every toggle eventually commits
+        OptimisticLockRetrier retrier = new OptimisticLockRetrier(
+                new OptimisticLockRetryProperties(100, Duration.ofMillis(1), Duration.ofMillis(20)));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger committed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < TOGGLES_PER_THREAD; i++) {
+                        retrier.run("toggle", () -> tx.executeWithoutResult(status -> toggle()));
+                        committed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            // WHEN
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // THEN - one version bump per committed toggle, and the state parity matches
+        int expected = THREADS * TOGGLES_PER_THREAD;
+        then(committed.get()).isEqualTo(expected);
+        then(slotVersion()).isEqualTo((long) expected);
+        then(slotState()).isEqualTo(expected % 2 == 0 ? "AVAILABLE" : "BUSY");
+    }
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-timeslot-for-deletion.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testStaleWriteIsRejected() throws Exception {
+        // GIVEN - two transactions read the same version before either writes
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CyclicBarrier bothLoaded = new CyclicBarrier(2);
+        CountDownLatch firstCommitted = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> first = executor.submit(() -> tx.executeWithoutResult(status -> {
+                TimeSlot slot = loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID).orElseThrow();
+                await(bothLoaded);
+                slot.markBusy();
+                saveTimeSlotPort.saveTimeSlot(slot);
+            }));
+            Future<?> second = executor.submit(() -> tx.executeWithoutResult(status -> {
+                TimeSlot slot = loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID).orElseThrow();
+                await(bothLoaded);
+                awaitLatch(firstCommitted);
+                slot.markBusy();
+                saveTimeSlotPort.saveTimeSlot(slot);
+            }));
+
+            // WHEN
+            first.get(30, TimeUnit.SECONDS);
+            firstCommitted.countDown();
+            Throwable secondFailure = catchThrowable(() -> second.get(30, TimeUnit.SECONDS));
+
+            // THEN - the second writer is rejected instead of silently overwriting
+            then(secondFailure).hasCauseInstanceOf(OptimisticLockingFailureException.class);
+            then(slotVersion()).isEqualTo(1L);
+            then(slotState()).isEqualTo("BUSY");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void toggle() {
+        TimeSlot slot = loadTimeSlotByIdPort.loadTimeSlotById(TIME_SLOT_ID).orElseThrow();
+        if (slot.getState().isAvailable()) {
+            slot.markBusy();
+        } else {
+            slot.markAvailable();
+        }
+        saveTimeSlotPort.saveTimeSlot(slot);
+    }
+
+    private long slotVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM time_slots WHERE id = ?", Long.class, TIME_SLOT_ID);
+    }
+
+    private String slotState() {
+        return jdbcTemplate.queryForObject("SELECT state FROM time_slots WHERE id = ?", String.class, TIME_SLOT_ID);
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
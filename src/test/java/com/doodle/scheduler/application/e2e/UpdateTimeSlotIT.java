@@ -0,0 +1,110 @@
+package com.doodle.scheduler.application.e2e;
+
+import com.doodle.scheduler.application.adapter.in.rest.meeting.schedulemeeting.dto.ScheduleMeetingRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.updatetimeslot.dto.UpdateTimeSlotRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+class UpdateTimeSlotIT extends BaseE2E {
+
+    private static final String TIME_SLOTS_ENDPOINT = "/api/v1/timeslots";
+    private static final UUID TIME_SLOT_ID = UUID.fromString("111e4567-e89b-41d4-a716-446655440001");
+    private static final UUID BOOKABLE_TIME_SLOT_ID = UUID.fromString("444e4567-e89b-41d4-a716-446655440004");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-timeslot-for-deletion.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testMoveIntoFreeGap() {
+        // GIVEN
+        long calendarVersion = calendarVersion();
+
+        // WHEN
+        ResponseEntity<TimeSlotResponseDto> response = whenPutTimeSlot(TIME_SLOT_ID, "2026-02-08T12:00:00Z", 90,
+                TimeSlotResponseDto.class);
+
+        // THEN - the new range is stored, the slot version is bumped and cached searches are invalidated
+        then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        then(response.getBody().getStart()).isEqualTo(Instant.parse("2026-02-08T12:00:00Z"));
+        then(response.getBody().getEnd()).isEqualTo(Instant.parse("2026-02-08T13:30:00Z"));
+        then(storedTime("end_time")).isEqualTo(Instant.parse("2026-02-08T13:30:00Z"));
+        then(jdbcTemplate.queryForObject("SELECT version FROM time_slots WHERE id = ?", Long.class, TIME_SLOT_ID))
+                .isEqualTo(1L);
+        then(calendarVersion()).isEqualTo(calendarVersion + 1);
+    }
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-timeslot-for-deletion.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testMoveOntoNeighbourIsRejected() {
+        // WHEN
+        ResponseEntity<String> response = whenPutTimeSlot(TIME_SLOT_ID, "2026-02-08T14:30:00Z", 60, String.class);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        then(storedTime("start_time")).isEqualTo(Instant.parse("2026-02-08T10:00:00Z"));
+    }
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-timeslot-for-deletion.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testUnknownSlotIsNotFound() {
+        // WHEN
+        ResponseEntity<String> response = whenPutTimeSlot(UUID.randomUUID(), "2026-02-08T12:00:00Z", 60, String.class);
+
+        // THEN
+        then(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @Sql(scripts = "/sql/meeting/seed-available-timeslot.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/meeting/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testBookedSlotCannotBeMoved() {
+        // GIVEN
+        restTemplate.postForEntity("/api/v1/meetings", new ScheduleMeetingRequestDto(
+                BOOKABLE_TIME_SLOT_ID, "Sprint planning", null, Set.of(UUID.randomUUID())), String.class);
+
+        // WHEN
+        ResponseEntity<String> response = whenPutTimeSlot(BOOKABLE_TIME_SLOT_ID, "2026-02-10T14:00:00Z", 60, String.class);
+
+        // THEN - the meeting keeps its time
+        then(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        then(jdbcTemplate.queryForObject("SELECT start_time FROM time_slots WHERE id = ?", Timestamp.class,
+                BOOKABLE_TIME_SLOT_ID).toInstant()).isEqualTo(Instant.parse("2026-02-10T10:00:00Z"));
+    }
+
+    private <T> ResponseEntity<T> whenPutTimeSlot(UUID timeSlotId, String start, int durationMinutes, Class<T> responseType) {
+        return restTemplate.exchange(
+                TIME_SLOTS_ENDPOINT + "/" + timeSlotId,
+                HttpMethod.PUT,
+                new HttpEntity<>(new UpdateTimeSlotRequestDto(Instant.parse(start), durationMinutes)),
+                responseType
+        );
+    }
+
+    private Instant storedTime(String column) {
+        return jdbcTemplate.queryForObject(
+                "SELECT " + column + " FROM time_slots WHERE id = ?", Timestamp.class, TIME_SLOT_ID).toInstant();
+    }
+
+    private long calendarVersion() {
+        return jdbcTemplate.queryForObject(
+                "SELECT calendar_version FROM users WHERE username = 'authenticated-user'", Long.class);
+    }
+}
@@ -0,0 +1,97 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import com.doodle.scheduler.application.adapter.in.rest.common.dto.PaginationDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.CreateTimeSlotRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchFiltersTimeSlotRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsRequestDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
+import com.doodle.scheduler.application.e2e.BaseE2E;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Sequential latency benchmark of the create, search and delete use cases.
+ * Subclasses differ only in the JDBC/Hibernate settings they activate, so comparing their
+ * printed results shows the effect of statement caching and the other production tunings.
+ * Iterations are set with {@code benchmark.iterations} (default 500).
+ */
+@Tag("load")
+abstract class BaseJdbcSettingsBenchmarkIT extends BaseE2E {
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 500);
+    private static final int WARMUP_ITERATIONS = ITERATIONS / 5;
+    private static final Instant BASE_START = Instant.parse("2030-01-01T00:00:00Z");
+
+    protected abstract String settings();
+
+    @Test
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testUseCaseLatencies() {
+        // GIVEN - warmed up JIT, pool and statement caches
+        runCycle(WARMUP_ITERATIONS, 0, new long[3][WARMUP_ITERATIONS]);
+
+        // WHEN
+        long[][] latencies = new long[3][ITERATIONS];
+        runCycle(ITERATIONS, WARMUP_ITERATIONS, latencies);
+
+        // THEN
+        print("create", latencies[0]);
+        print("search", latencies[1]);
+        print("delete", latencies[2]);
+        then(Arrays.stream(latencies).allMatch(l -> l[ITERATIONS - 1] > 0)).isTrue();
+    }
+
+    private void runCycle(int iterations, int offset, long[][] latencies) {
+        List<UUID> created = new ArrayList<>(iterations);
+        for (int i = 0; i < iterations; i++) {
+            Instant start = BASE_START.plus(Duration.ofHours(2L * (offset + i)));
+            long started = System.nanoTime();
+            ResponseEntity<TimeSlotResponseDto> response = restTemplate.postForEntity(
+                    "/api/v1/timeslots", new CreateTimeSlotRequestDto(start, 60), TimeSlotResponseDto.class);
+            latencies[0][i] = System.nanoTime() - started;
+            then(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            created.add(response.getBody().getId());
+        }
+        for (int i = 0; i < iterations; i++) {
+            SearchTimeSlotsRequestDto request = new SearchTimeSlotsRequestDto(
+                    new SearchFiltersTimeSlotRequestDto("AVAILABLE", BASE_START, BASE_START.plus(Duration.ofDays(30))),
+                    new PaginationDto(i % 10, 20));
+            long started = System.nanoTime();
+            ResponseEntity<SearchTimeSlotsResponseDto> response = restTemplate.postForEntity(
+                    "/api/v1/timeslots/search", request, SearchTimeSlotsResponseDto.class);
+            latencies[1][i] = System.nanoTime() - started;
+            then(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        }
+        for (int i = 0; i < iterations; i++) {
+            long started = System.nanoTime();
+            ResponseEntity<Void> response = restTemplate.exchange(
+                    "/api/v1/timeslots/" + created.get(i), HttpMethod.DELETE, null, Void.class);
+            latencies[2][i] = System.nanoTime() - started;
+            then(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        }
+    }
+
+    private void print(String useCase, long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        double meanMicros = Arrays.stream(sorted).average().orElse(0) / 1_000;
+        System.out.printf("[benchmark] settings=%s use-case=%s iterations=%d mean=%.0fus p50=%dus p99=%dus%n",
+                settings(), useCase, sorted.length, meanMicros,
+                sorted[(int) (sorted.length * 0.50)] / 1_000,
+                sorted[Math.min((int) (sorted.length * 0.99), sorted.length - 1)] / 1_000);
+    }
+}
@@ -0,0 +1,179 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import com.doodle.scheduler.application.e2e.BaseE2E;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Closed-loop load test comparing the request execution modes on the create and search endpoints.
+ * Subclasses select the mode through the active profiles; results are printed so that runs of
+ * all modes can be compared side by side. Tuned through system properties:
+ * {@code load.concurrency} (default 200), {@code load.duration-seconds} (default 20)
+ * and {@code load.warmup-seconds} (default 5).
+ */
+@Tag("load")
+abstract class BaseThreadingModeLoadIT extends BaseE2E {
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 20));
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5));
+    private static final Instant CREATE_BASE_START = Instant.parse("2030-01-01T00:00:00Z");
+
+    @LocalServerPort
+    private int port;
+
+    private final AtomicLong createSequence = new AtomicLong();
+
+    protected abstract String mode();
+
+    @Test
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testCreateTimeSlotThroughput() throws Exception {
+        LoadResult result = run("create", sequence -> {
+            // every request gets its own two-hour window so creates never collide
+            Instant start = CREATE_BASE_START.plus(Duration.ofHours(2 * createSequence.getAndIncrement()));
+            String body = "{\"start\":\"" + start + "\",\"duration_minutes\":60}";
+            return post("/api/v1/timeslots", body);
+        });
+
+        then(result.errors()).isZero();
+        then(result.requests()).isPositive();
+    }
+
+    @Test
+    @Sql(scripts = "/sql/timeslot/seed-user-with-search-timeslots.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testSearchTimeSlotsThroughput() throws Exception {
+        String body = "{\"filters\":{\"status\":\"AVAILABLE\"},\"pagination\":{\"page\":0,\"size\":10}}";
+
+        LoadResult result = run("search", sequence -> post("/api/v1/timeslots/search", body));
+
+        then(result.errors()).isZero();
+        then(result.requests()).isPositive();
+    }
+
+    protected HttpRequest get(String path, String accept) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", accept)
+                .GET()
+                .build();
+    }
+
+    protected HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    protected LoadResult run(String scenario, LongFunction<HttpRequest> requestFactory) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            drive(client, workers, requestFactory, WARMUP);
+            LoadResult result = LoadResult.of(mode(), scenario, drive(client, workers, requestFactory, DURATION), DURATION);
+            System.out.println(result);
+            return result;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private List<WorkerStats> drive(HttpClient client, ExecutorService workers,
+                                    LongFunction<HttpRequest> requestFactory, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<WorkerStats>> futures = new ArrayList<>(CONCURRENCY);
+        for (int i = 0; i < CONCURRENCY; i++) {
+            futures.add(workers.submit(() -> {
+                WorkerStats stats = new WorkerStats();
+                long sequence = 0;
+                while (System.nanoTime() < deadline) {
+                    HttpRequest request = requestFactory.apply(sequence++);
+                    long started = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        stats.record(System.nanoTime() - started, response.statusCode() < 400);
+                    } catch (Exception e) {
+                        stats.record(System.nanoTime() - started, false);
+                    }
+                }
+                return stats;
+            }));
+        }
+        List<WorkerStats> stats = new ArrayList<>(CONCURRENCY);
+        for (Future<WorkerStats> future : futures) {
+            stats.add(future.get());
+        }
+        return stats;
+    }
+
+    private static final class WorkerStats {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        void record(long latencyNanos, boolean success) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+    }
+
+    record LoadResult(String mode, String scenario, long requests, long errors,
+                      double throughput, long p50Micros, long p99Micros, long maxMicros) {
+
+        static LoadResult of(String mode, String scenario, List<WorkerStats> stats, Duration duration) {
+            long[] all = stats.stream()
+                    .flatMapToLong(s -> Arrays.stream(s.latencies, 0, s.count))
+                    .sorted()
+                    .toArray();
+            long errors = stats.stream().mapToLong(s -> s.errors).sum();
+            if (all.length == 0) {
+                return new LoadResult(mode, scenario, 0, errors, 0, 0, 0, 0);
+            }
+            return new LoadResult(mode, scenario, all.length, errors,
+                    all.length / (duration.toMillis() / 1000.0),
+                    percentile(all, 0.50), percentile(all, 0.99), all[all.length - 1] / 1_000);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1_000;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[load] mode=%s scenario=%s requests=%d errors=%d throughput=%.1f req/s "
+                            + "p50=%dus p99=%dus max=%dus",
+                    mode, scenario, requests, errors, throughput, p50Micros, p99Micros, maxMicros);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.doodle.scheduler.application.e2e.load;
+
+/**
+ * Baseline: driver and Hibernate defaults.
+ */
+class DefaultJdbcSettingsBenchmarkIT extends BaseJdbcSettingsBenchmarkIT {
+
+    @Override
+    protected String settings() {
+        return "default";
+    }
+}
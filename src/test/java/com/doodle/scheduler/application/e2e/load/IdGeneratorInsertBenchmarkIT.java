@@ -0,0 +1,78 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import com.doodle.scheduler.application.domain.common.model.IdGenerator;
+import com.doodle.scheduler.application.domain.common.model.UuidV7IdGenerator;
+import com.doodle.scheduler.application.e2e.BaseE2E;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Insert throughput into {@code time_slots} on PostgreSQL with random (v4) versus time-ordered (v7)
+ * primary keys. Random keys land on arbitrary B-tree leaves, so the index splits pages all over and
+ * stops fitting in shared buffers; v7 keys append to the rightmost leaf. Besides rows per second the
+ * printed results include the final primary key index size.
+ * Rows are set with {@code benchmark.id-rows} (default 200000).
+ */
+@Tag("load")
+class IdGeneratorInsertBenchmarkIT extends BaseE2E {
+
+    private static final int ROWS = Integer.getInteger("benchmark.id-rows", 200_000);
+    private static final int BATCH_SIZE = 1_000;
+    private static final UUID OWNER_ID = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+    private static final Instant BASE_START = Instant.parse("2030-01-01T00:00:00Z");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql(value = "/sql/timeslot/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void testInsertThroughputByIdStrategy() {
+        // GIVEN - warmed up pool and statement cache
+        insertRows(UuidV7IdGenerator.INSTANCE, ROWS / 10);
+        jdbcTemplate.update("TRUNCATE time_slots");
+
+        // WHEN
+        long randomIndexBytes = run("uuid-v4", UUID::randomUUID);
+        long timeOrderedIndexBytes = run("uuid-v7", UuidV7IdGenerator.INSTANCE);
+
+        // THEN
+        then(timeOrderedIndexBytes).isLessThanOrEqualTo(randomIndexBytes);
+    }
+
+    private long run(String strategy, IdGenerator generator) {
+        long started = System.nanoTime();
+        insertRows(generator, ROWS);
+        long elapsed = System.nanoTime() - started;
+        Long indexBytes = jdbcTemplate.queryForObject("SELECT pg_relation_size('time_slots_pkey')", Long.class);
+        System.out.printf("[benchmark] ids=%s rows=%d elapsed=%dms throughput=%.0f rows/s pkey-size=%dKiB%n",
+                strategy, ROWS, elapsed / 1_000_000, ROWS / (elapsed / 1e9), indexBytes / 1_024);
+        jdbcTemplate.update("TRUNCATE time_slots");
+        return indexBytes;
+    }
+
+    private void insertRows(IdGenerator generator, int rows) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            Instant start = BASE_START.plusSeconds(3_600L * i);
+            batch.add(new Object[]{generator.nextId(), OWNER_ID,
+                    Timestamp.from(start), Timestamp.from(start.plusSeconds(3_600)), 60});
+            if (batch.size() == BATCH_SIZE || i == rows - 1) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO time_slots (id, owner_id, start_time, end_time, duration_minutes) VALUES (?, ?, ?, ?, ?)",
+                        batch);
+                batch.clear();
+            }
+        }
+    }
+}
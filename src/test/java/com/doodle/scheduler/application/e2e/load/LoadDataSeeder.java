@@ -0,0 +1,79 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Seeds realistic data volumes server-side with {@code generate_series}, in chunks of users so that
+ * no single transaction grows unbounded. User ids are derived from the username ({@code md5}),
+ * which keeps the data set identical across runs.
+ * <p>
+ * Requests are always authenticated as {@code authenticated-user}, so the other users exist to give
+ * tables and indexes production-like size and selectivity; the authenticated user gets the same
+ * number of slots as everybody else.
+ */
+final class LoadDataSeeder {
+
+    static final String AUTHENTICATED_USER_ID = "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11";
+    static final String SEED_WINDOW_START = "2027-01-01T00:00:00Z";
+
+    private static final int USERS_PER_CHUNK = 250;
+    private static final int SLOT_SPACING_MINUTES = 90;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    LoadDataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    void seed(int users, int slotsPerUser) {
+        for (int from = 1; from <= users; from += USERS_PER_CHUNK) {
+            int to = Math.min(from + USERS_PER_CHUNK - 1, users);
+            jdbcTemplate.update("""
+                    INSERT INTO users (id, username)
+                    SELECT md5('load-user-' || g)::uuid, 'load-user-' || g
+                    FROM generate_series(?, ?) g
+                    """, from, to);
+            jdbcTemplate.update("""
+                    INSERT INTO time_slots (id, owner_id, start_time, end_time, duration_minutes, state)
+                    SELECT gen_random_uuid(),
+                           md5('load-user-' || g)::uuid,
+                           ?::timestamptz + s * make_interval(mins => ?),
+                           ?::timestamptz + s * make_interval(mins => ?) + interval '60 minutes',
+                           60,
+                           CASE WHEN s % 4 = 0 THEN 'BUSY' ELSE 'AVAILABLE' END
+                    FROM generate_series(?, ?) g
+                    CROSS JOIN generate_series(0, ? - 1) s
+                    """, SEED_WINDOW_START, SLOT_SPACING_MINUTES, SEED_WINDOW_START, SLOT_SPACING_MINUTES,
+                    from, to, slotsPerUser);
+        }
+        jdbcTemplate.update("""
+                INSERT INTO time_slots (id, owner_id, start_time, end_time, duration_minutes, state)
+                SELECT gen_random_uuid(),
+                       ?::uuid,
+                       ?::timestamptz + s * make_interval(mins => ?),
+                       ?::timestamptz + s * make_interval(mins => ?) + interval '60 minutes',
+                       60,
+                       CASE WHEN s % 4 = 0 THEN 'BUSY' ELSE 'AVAILABLE' END
+                FROM generate_series(0, ? - 1) s
+                """, AUTHENTICATED_USER_ID, SEED_WINDOW_START, SLOT_SPACING_MINUTES,
+                SEED_WINDOW_START, SLOT_SPACING_MINUTES, slotsPerUser);
+        jdbcTemplate.execute("ANALYZE users");
+        jdbcTemplate.execute("ANALYZE time_slots");
+    }
+
+    /**
+     * Ids of the authenticated user's seeded AVAILABLE slots, to be consumed by delete operations.
+     */
+    Queue<UUID> deletableSlotIds(long limit) {
+        return new ConcurrentLinkedQueue<>(jdbcTemplate.queryForList("""
+                SELECT id FROM time_slots
+                WHERE owner_id = ?::uuid AND state = 'AVAILABLE'
+                ORDER BY start_time DESC
+                LIMIT ?
+                """, UUID.class, AUTHENTICATED_USER_ID, limit));
+    }
+}
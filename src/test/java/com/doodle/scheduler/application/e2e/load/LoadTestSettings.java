@@ -0,0 +1,81 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test configuration read from system properties, so runs are reproducible from the command line.
+ * <ul>
+ *   <li>{@code load.seed.users} / {@code load.seed.slots-per-user}: seeded data volume (default 1000 / 500)</li>
+ *   <li>{@code load.rate}: fixed arrival rate in requests per second (default 100)</li>
+ *   <li>{@code load.duration-seconds} / {@code load.warmup-seconds}: measured and warm-up phases (default 60 / 10)</li>
+ *   <li>{@code load.mix}: operation weights, e.g. {@code create=20,search=70,delete=10}</li>
+ *   <li>{@code load.max-in-flight}: requests allowed in flight before new arrivals are counted as dropped (default 2000)</li>
+ *   <li>{@code load.slo.<operation>.p50-ms|p99-ms|p999-ms} and {@code load.slo.error-rate}: pass/fail thresholds</li>
+ * </ul>
+ */
+record LoadTestSettings(
+        int seedUsers,
+        int seedSlotsPerUser,
+        double ratePerSecond,
+        Duration duration,
+        Duration warmup,
+        Map<Operation, Integer> mix,
+        int maxInFlight,
+        Map<Operation, Slo> slos,
+        double maxErrorRate
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        Map<Operation, Slo> slos = new EnumMap<>(Operation.class);
+        slos.put(Operation.CREATE, slo(Operation.CREATE, 100, 500, 1_000));
+        slos.put(Operation.SEARCH, slo(Operation.SEARCH, 50, 250, 500));
+        slos.put(Operation.DELETE, slo(Operation.DELETE, 50, 250, 500));
+
+        return new LoadTestSettings(
+                Integer.getInteger("load.seed.users", 1_000),
+                Integer.getInteger("load.seed.slots-per-user", 500),
+                Double.parseDouble(System.getProperty("load.rate", "100")),
+                Duration.ofSeconds(Long.getLong("load.duration-seconds", 60)),
+                Duration.ofSeconds(Long.getLong("load.warmup-seconds", 10)),
+                parseMix(System.getProperty("load.mix", "create=20,search=70,delete=10")),
+                Integer.getInteger("load.max-in-flight", 2_000),
+                slos,
+                Double.parseDouble(System.getProperty("load.slo.error-rate", "0.01"))
+        );
+    }
+
+    /**
+     * Expected number of operations of the given kind over warm-up and measured phases.
+     */
+    long expectedOperations(Operation operation) {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        double seconds = duration.plus(warmup).toMillis() / 1000.0;
+        return (long) Math.ceil(ratePerSecond * seconds * mix.getOrDefault(operation, 0) / totalWeight);
+    }
+
+    private static Slo slo(Operation operation, long p50, long p99, long p999) {
+        String prefix = "load.slo." + operation.key() + ".";
+        return new Slo(
+                Long.getLong(prefix + "p50-ms", p50),
+                Long.getLong(prefix + "p99-ms", p99),
+                Long.getLong(prefix + "p999-ms", p999)
+        );
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            mix.put(Operation.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+
+    /**
+     * Latency objectives in milliseconds.
+     */
+    record Slo(long p50Millis, long p99Millis, long p999Millis) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Picks the next operation according to the configured weights and builds its request.
+ * Creates go to a window far after the seeded data so they never collide; deletes consume
+ * seeded slot ids and turn into searches once those run out.
+ */
+final class MixedWorkload {
+
+    private static final Instant CREATE_WINDOW_START = Instant.parse("2032-01-01T00:00:00Z");
+    private static final String[] STATUSES = {null, "AVAILABLE", "BUSY"};
+
+    private final String baseUrl;
+    private final Operation[] weightedOperations;
+    private final Queue<UUID> deletableSlotIds;
+    private final Instant searchWindowStart;
+    private final long searchWindowDays;
+    private final AtomicLong createSequence = new AtomicLong();
+
+    MixedWorkload(String baseUrl, Map<Operation, Integer> mix, Queue<UUID> deletableSlotIds,
+                  Instant searchWindowStart, Duration searchWindow) {
+        this.baseUrl = baseUrl;
+        this.weightedOperations = mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+        this.deletableSlotIds = deletableSlotIds;
+        this.searchWindowStart = searchWindowStart;
+        this.searchWindowDays = Math.max(1, searchWindow.toDays());
+    }
+
+    Invocation next() {
+        Operation operation = weightedOperations[ThreadLocalRandom.current().nextInt(weightedOperations.length)];
+        return switch (operation) {
+            case CREATE -> create();
+            case SEARCH -> search();
+            case DELETE -> delete();
+        };
+    }
+
+    private Invocation create() {
+        Instant start = CREATE_WINDOW_START.plus(Duration.ofHours(2 * createSequence.getAndIncrement()));
+        String body = "{\"start\":\"" + start + "\",\"duration_minutes\":60}";
+        return new Invocation(Operation.CREATE, post("/api/v1/timeslots", body));
+    }
+
+    private Invocation search() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Instant from = searchWindowStart.plus(Duration.ofDays(random.nextLong(searchWindowDays)));
+        String status = STATUSES[random.nextInt(STATUSES.length)];
+        String body = "{\"filters\":{"
+                + (status != null ? "\"status\":\"" + status + "\"," : "")
+                + "\"start_time\":\"" + from + "\",\"end_time\":\"" + from.plus(Duration.ofDays(7)) + "\"},"
+                + "\"pagination\":{\"page\":" + random.nextInt(3) + ",\"size\":20}}";
+        return new Invocation(Operation.SEARCH, post("/api/v1/timeslots/search", body));
+    }
+
+    private Invocation delete() {
+        UUID id = deletableSlotIds.poll();
+        if (id == null) {
+            return search();
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/timeslots/" + id))
+                .DELETE()
+                .build();
+        return new Invocation(Operation.DELETE, request);
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    record Invocation(Operation operation, HttpRequest request) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import com.doodle.scheduler.application.e2e.BaseE2E;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.UUID;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Mixed create/search/delete workload at a fixed arrival rate against a seeded PostgreSQL.
+ * Prints the SLO report, writes HDR histograms to {@code target/load-reports} and fails when
+ * any SLO is violated. See {@link LoadTestSettings} for the tunables; the full-size data set is
+ * {@code -Dload.seed.users=10000 -Dload.seed.slots-per-user=5000}.
+ */
+@Tag("load")
+class MixedWorkloadLoadIT extends BaseE2E {
+
+    private static final Path REPORT_DIRECTORY = Path.of("target", "load-reports", "mixed-workload");
+    private static final int SLOT_SPACING_MINUTES = 90;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testMixedWorkloadMeetsSlos() throws Exception {
+        // GIVEN
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadDataSeeder seeder = new LoadDataSeeder(jdbcTemplate);
+        seeder.seed(settings.seedUsers(), settings.seedSlotsPerUser());
+        Queue<UUID> deletable = seeder.deletableSlotIds(settings.expectedOperations(Operation.DELETE));
+
+        Duration seededWindow = Duration.ofMinutes((long) settings.seedSlotsPerUser() * SLOT_SPACING_MINUTES);
+        MixedWorkload workload = new MixedWorkload("http://localhost:" + port, settings.mix(), deletable,
+                Instant.parse(LoadDataSeeder.SEED_WINDOW_START), seededWindow);
+        OpenModelLoadDriver driver = new OpenModelLoadDriver(
+                HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build(),
+                settings.ratePerSecond(),
+                settings.maxInFlight());
+
+        // WHEN
+        driver.run(workload, settings.warmup());
+        OpenModelLoadDriver.PhaseResult result = driver.run(workload, settings.duration());
+
+        // THEN
+        SloReport report = SloReport.evaluate(settings, result);
+        System.out.println(report.render());
+        report.writeTo(REPORT_DIRECTORY);
+        then(report.violations()).as("SLO violations").isEmpty();
+    }
+}
@@ -0,0 +1,107 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator: requests are issued at a fixed arrival rate regardless of how fast
+ * the server answers, like Gatling's constant users-per-second or k6's constant-arrival-rate.
+ * <p>
+ * Latency is measured from each request's <em>intended</em> start time, not from when it was actually
+ * sent, which corrects for coordinated omission: if the generator or the server falls behind, the
+ * waiting time shows up in the histograms instead of silently lowering the offered load.
+ */
+final class OpenModelLoadDriver {
+
+    private final HttpClient client;
+    private final double ratePerSecond;
+    private final int maxInFlight;
+
+    OpenModelLoadDriver(HttpClient client, double ratePerSecond, int maxInFlight) {
+        this.client = client;
+        this.ratePerSecond = ratePerSecond;
+        this.maxInFlight = maxInFlight;
+    }
+
+    PhaseResult run(MixedWorkload workload, Duration phase) throws InterruptedException {
+        Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        Map<Operation, LongAdder> attempts = new EnumMap<>(Operation.class);
+        Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            attempts.put(operation, new LongAdder());
+            errors.put(operation, new LongAdder());
+        }
+        LongAdder dropped = new LongAdder();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime();
+        long end = start + phase.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            MixedWorkload.Invocation invocation = workload.next();
+            Operation operation = invocation.operation();
+            attempts.get(operation).increment();
+            if (!inFlight.tryAcquire()) {
+                dropped.increment();
+                errors.get(operation).increment();
+                continue;
+            }
+
+            client.sendAsync(invocation.request(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, failure) -> {
+                        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                        recorders.get(operation).recordValue(Math.max(latencyMicros, 1));
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.get(operation).increment();
+                        }
+                        inFlight.release();
+                    });
+        }
+
+        // drain: wait for every in-flight request before closing the phase
+        if (inFlight.tryAcquire(maxInFlight, 2, TimeUnit.MINUTES)) {
+            inFlight.release(maxInFlight);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<Operation, OperationResult> results = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            results.put(operation, new OperationResult(
+                    recorders.get(operation).getIntervalHistogram(),
+                    attempts.get(operation).sum(),
+                    errors.get(operation).sum()));
+        }
+        return new PhaseResult(results, dropped.sum(), elapsed);
+    }
+
+    record OperationResult(Histogram latencyMicros, long attempts, long errors) {
+
+        double errorRate() {
+            return attempts == 0 ? 0 : (double) errors / attempts;
+        }
+    }
+
+    record PhaseResult(Map<Operation, OperationResult> operations, long dropped, Duration elapsed) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import java.util.Arrays;
+
+/**
+ * Operations driven by the mixed workload.
+ */
+enum Operation {
+    CREATE,
+    SEARCH,
+    DELETE;
+
+    String key() {
+        return name().toLowerCase();
+    }
+
+    static Operation fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.key().equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown operation in load.mix: " + key));
+    }
+}
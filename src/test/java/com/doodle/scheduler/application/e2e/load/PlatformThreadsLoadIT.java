@@ -0,0 +1,19 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Baseline: default Tomcat platform-thread pool with the same Hikari pool as the virtual-thread run.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.datasource.hikari.minimum-idle=10",
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+class PlatformThreadsLoadIT extends BaseThreadingModeLoadIT {
+
+    @Override
+    protected String mode() {
+        return "platform-threads";
+    }
+}
@@ -0,0 +1,15 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Tuned HikariCP, PgJDBC and Hibernate settings from application-production.yaml.
+ */
+@ActiveProfiles({"test", "production"})
+class ProductionJdbcSettingsBenchmarkIT extends BaseJdbcSettingsBenchmarkIT {
+
+    @Override
+    protected String settings() {
+        return "production";
+    }
+}
@@ -0,0 +1,237 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.createtimeslot.dto.TimeSlotResponseDto;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.SearchTimeSlotsCborConverter;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.SearchTimeSlotsJsonConverter;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.TimeSlotField;
+import com.doodle.scheduler.application.adapter.in.rest.timeslot.searchtimeslots.dto.SearchTimeSlotsResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * JMH comparison of writing one search response page through the default Jackson converter (reflective
+ * ObjectMapper serialization), {@link SearchTimeSlotsJsonConverter} with every field and with a
+ * {@code fields=id,start,end} selection, and {@link SearchTimeSlotsCborConverter}, and of parsing the JSON and CBOR payloads back into a tree as a client would. Writers use a discarding
+ * stream, so the numbers are serialization cost alone; the GC profiler adds the bytes allocated per
+ * operation. The raw and gzipped payload size of each encoding is printed as well. Rows per page are set
+ * with {@code benchmark.serialization.rows} (default 500).
+ * The class is public because the generated JMH harness subclasses the nested state class.
+ */
+@Tag("load")
+public class SearchResponseSerializationBenchmarkIT {
+
+    private static final int ROWS = Integer.getInteger("benchmark.serialization.rows", 500);
+
+    @Test
+    void testSearchResponseSerialization() throws Exception {
+        // GIVEN
+        SerializationBenchmark payloads = new SerializationBenchmark();
+        payloads.rows = ROWS;
+        payloads.setUp();
+        System.out.printf("[benchmark] payload rows=%d json=%dB gzip=%dB sparse-json=%dB gzip=%dB cbor=%dB gzip=%dB%n",
+                ROWS, payloads.jsonPayload.length, gzippedLength(payloads.jsonPayload),
+                payloads.sparseJsonPayload.length, gzippedLength(payloads.sparseJsonPayload),
+                payloads.cborPayload.length, gzippedLength(payloads.cborPayload));
+        Options options = new OptionsBuilder()
+                .include(SearchResponseSerializationBenchmarkIT.class.getSimpleName())
+                .param("rows", String.valueOf(ROWS))
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .build();
+
+        // WHEN
+        Map<String, Double> bytesPerOperation = new HashMap<>();
+        for (RunResult run : new Runner(options).run()) {
+            String benchmark = run.getParams().getBenchmark().replaceAll(".*\\.", "");
+            Result<?> throughput = run.getPrimaryResult();
+            Result<?> allocated = run.getSecondaryResults().get("gc.alloc.rate.norm");
+            bytesPerOperation.put(benchmark, allocated.getScore());
+            System.out.printf("[benchmark] serialization=%s rows=%d throughput=%.0f±%.0f %s alloc=%.0f B/op%n",
+                    benchmark, ROWS, throughput.getScore(), throughput.getScoreError(), throughput.getScoreUnit(),
+                    allocated.getScore());
+        }
+
+        // THEN
+        then(bytesPerOperation).containsOnlyKeys("objectMapper", "jsonGenerator", "sparseJsonGenerator", "cborGenerator",
+                "parseJson", "parseCbor");
+        then(bytesPerOperation.get("jsonGenerator")).isLessThan(bytesPerOperation.get("objectMapper"));
+        then(payloads.sparseJsonPayload.length).isLessThan(payloads.jsonPayload.length);
+        then(gzippedLength(payloads.jsonPayload)).isLessThan(payloads.jsonPayload.length);
+        then(payloads.cborPayload.length).isLessThan(payloads.jsonPayload.length);
+    }
+
+    private static int gzippedLength(byte[] payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload);
+        }
+        return compressed.size();
+    }
+
+    @State(Scope.Benchmark)
+    public static class SerializationBenchmark {
+
+        @Param("500")
+        public int rows;
+
+        private SearchTimeSlotsResponseDto response;
+        private SearchTimeSlotsResponseDto sparseResponse;
+        private HttpMessageConverter<Object> objectMapperConverter;
+        private SearchTimeSlotsJsonConverter jsonGeneratorConverter;
+        private SearchTimeSlotsCborConverter cborGeneratorConverter;
+        private DiscardingOutputMessage outputMessage;
+        private ObjectMapper jsonReader;
+        private CBORMapper cborReader;
+        private byte[] jsonPayload;
+        private byte[] sparseJsonPayload;
+        private byte[] cborPayload;
+
+        @Setup
+        public void setUp() throws IOException {
+            // the settings Spring Boot applies to the application ObjectMapper
+            ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            objectMapperConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+            jsonGeneratorConverter = new SearchTimeSlotsJsonConverter(objectMapper);
+            cborGeneratorConverter = new SearchTimeSlotsCborConverter();
+            outputMessage = new DiscardingOutputMessage();
+            jsonReader = objectMapper;
+            cborReader = new CBORMapper();
+
+            List<TimeSlotResponseDto> timeSlots = new ArrayList<>(rows);
+            List<TimeSlotResponseDto> sparseTimeSlots = new ArrayList<>(rows);
+            Instant start = Instant.parse("2026-02-09T08:00:00Z");
+            for (int i = 0; i < rows; i++) {
+                TimeSlotResponseDto timeSlot = new TimeSlotResponseDto(UUID.randomUUID(), start.plusSeconds(1_800L * i),
+                        start.plusSeconds(1_800L * (i + 1)), 30, i % 3 == 0 ? "BUSY" : "AVAILABLE");
+                timeSlots.add(timeSlot);
+                TimeSlotResponseDto sparseTimeSlot = new TimeSlotResponseDto();
+                sparseTimeSlot.setId(timeSlot.getId());
+                sparseTimeSlot.setStart(timeSlot.getStart());
+                sparseTimeSlot.setEnd(timeSlot.getEnd());
+                sparseTimeSlots.add(sparseTimeSlot);
+            }
+            response = new SearchTimeSlotsResponseDto(timeSlots, 10_000L, 10_000 / rows, 0, rows);
+            sparseResponse = new SearchTimeSlotsResponseDto(sparseTimeSlots, 10_000L, 10_000 / rows, 0, rows,
+                    TimeSlotField.parse("id,start,end"));
+
+            MockHttpOutputMessage json = new MockHttpOutputMessage();
+            jsonGeneratorConverter.write(response, MediaType.APPLICATION_JSON, json);
+            jsonPayload = json.getBodyAsBytes();
+            MockHttpOutputMessage sparseJson = new MockHttpOutputMessage();
+            jsonGeneratorConverter.write(sparseResponse, MediaType.APPLICATION_JSON, sparseJson);
+            sparseJsonPayload = sparseJson.getBodyAsBytes();
+            MockHttpOutputMessage cbor = new MockHttpOutputMessage();
+            cborGeneratorConverter.write(response, MediaType.APPLICATION_CBOR, cbor);
+            cborPayload = cbor.getBodyAsBytes();
+        }
+
+        @Benchmark
+        public long objectMapper() throws IOException {
+            objectMapperConverter.write(response, MediaType.APPLICATION_JSON, outputMessage.reset());
+            return outputMessage.written;
+        }
+
+        @Benchmark
+        public long jsonGenerator() throws IOException {
+            jsonGeneratorConverter.write(response, MediaType.APPLICATION_JSON, outputMessage.reset());
+            return outputMessage.written;
+        }
+
+        @Benchmark
+        public long sparseJsonGenerator() throws IOException {
+            jsonGeneratorConverter.write(sparseResponse, MediaType.APPLICATION_JSON, outputMessage.reset());
+            return outputMessage.written;
+        }
+
+        @Benchmark
+        public long cborGenerator() throws IOException {
+            cborGeneratorConverter.write(response, MediaType.APPLICATION_CBOR, outputMessage.reset());
+            return outputMessage.written;
+        }
+
+        @Benchmark
+        public JsonNode parseJson() throws IOException {
+            return jsonReader.readTree(jsonPayload);
+        }
+
+        @Benchmark
+        public JsonNode parseCbor() throws IOException {
+            return cborReader.readTree(cborPayload);
+        }
+    }
+
+    private static final class DiscardingOutputMessage extends OutputStream implements HttpOutputMessage {
+
+        private HttpHeaders headers;
+        private long written;
+
+        DiscardingOutputMessage reset() {
+            headers = new HttpHeaders();
+            written = 0;
+            return this;
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return this;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public void write(int b) {
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            written += len;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates a measured phase against the configured SLOs and writes the artifacts:
+ * {@code summary.txt}, a percentile distribution ({@code <operation>.hgrm}, plottable with
+ * the HdrHistogram plotter) and a histogram log ({@code <operation>.hlog}) per operation.
+ */
+final class SloReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadTestSettings settings;
+    private final OpenModelLoadDriver.PhaseResult result;
+    private final List<String> violations = new ArrayList<>();
+
+    private SloReport(LoadTestSettings settings, OpenModelLoadDriver.PhaseResult result) {
+        this.settings = settings;
+        this.result = result;
+    }
+
+    static SloReport evaluate(LoadTestSettings settings, OpenModelLoadDriver.PhaseResult result) {
+        SloReport report = new SloReport(settings, result);
+        report.check();
+        return report;
+    }
+
+    boolean passed() {
+        return violations.isEmpty();
+    }
+
+    List<String> violations() {
+        return violations;
+    }
+
+    String render() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("Load test: rate=%.0f req/s, duration=%ss, seed=%d users x %d slots, dropped=%d%n",
+                settings.ratePerSecond(), settings.duration().toSeconds(),
+                settings.seedUsers(), settings.seedSlotsPerUser(), result.dropped()));
+        out.append(String.format("%-8s %9s %9s %8s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "req/s", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)"));
+        double seconds = result.elapsed().toMillis() / 1000.0;
+        for (Map.Entry<Operation, OpenModelLoadDriver.OperationResult> entry : result.operations().entrySet()) {
+            Histogram histogram = entry.getValue().latencyMicros();
+            out.append(String.format("%-8s %9d %9.1f %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    entry.getKey().key(), entry.getValue().attempts(), entry.getValue().attempts() / seconds,
+                    entry.getValue().errors(),
+                    millis(histogram, 50.0), millis(histogram, 90.0), millis(histogram, 99.0),
+                    millis(histogram, 99.9), histogram.getMaxValue() / MICROS_PER_MILLI));
+        }
+        out.append(passed() ? "RESULT: PASS" : "RESULT: FAIL").append(System.lineSeparator());
+        violations.forEach(violation -> out.append("  - ").append(violation).append(System.lineSeparator()));
+        return out.toString();
+    }
+
+    void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("summary.txt"), render(), StandardCharsets.UTF_8);
+        for (Map.Entry<Operation, OpenModelLoadDriver.OperationResult> entry : result.operations().entrySet()) {
+            Histogram histogram = entry.getValue().latencyMicros();
+            try (PrintStream hgrm = new PrintStream(
+                    directory.resolve(entry.getKey().key() + ".hgrm").toFile(), StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+            }
+            try (PrintStream hlog = new PrintStream(
+                    directory.resolve(entry.getKey().key() + ".hlog").toFile(), StandardCharsets.UTF_8)) {
+                HistogramLogWriter writer = new HistogramLogWriter(hlog);
+                writer.outputLogFormatVersion();
+                writer.outputLegend();
+                writer.outputIntervalHistogram(histogram);
+            }
+        }
+    }
+
+    private void check() {
+        result.operations().forEach((operation, measured) -> {
+            if (measured.attempts() == 0) {
+                return;
+            }
+            LoadTestSettings.Slo slo = settings.slos().get(operation);
+            Histogram histogram = measured.latencyMicros();
+            checkPercentile(operation, "p50", millis(histogram, 50.0), slo.p50Millis());
+            checkPercentile(operation, "p99", millis(histogram, 99.0), slo.p99Millis());
+            checkPercentile(operation, "p99.9", millis(histogram, 99.9), slo.p999Millis());
+            if (measured.errorRate() > settings.maxErrorRate()) {
+                violations.add(String.format("%s error rate %.2f%% > %.2f%%",
+                        operation.key(), measured.errorRate() * 100, settings.maxErrorRate() * 100));
+            }
+        });
+    }
+
+    private void checkPercentile(Operation operation, String label, double actualMillis, long objectiveMillis) {
+        if (actualMillis > objectiveMillis) {
+            violations.add(String.format("%s %s %.1fms > %dms", operation.key(), label, actualMillis, objectiveMillis));
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
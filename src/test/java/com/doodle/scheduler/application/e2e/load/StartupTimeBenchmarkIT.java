@@ -0,0 +1,190 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.assertj.core.api.BDDAssertions.then;
+
+/**
+ * Time from process start to the first successful calendar feed request, for the packaged jar as
+ * {@code java -jar} runs it, for the unpacked jar with a CDS archive from a training run, and for the
+ * unpacked jar with CDS and the AOT-generated context. The last variant needs a jar built with the
+ * {@code aot} Maven profile ({@code mvn -Paot,load-test verify}); without it only the first two run.
+ * Every variant starts {@code benchmark.startup.runs} times (default 5) after one unmeasured start
+ * that migrates the database and warms the file system cache.
+ */
+@Tag("load")
+@Testcontainers
+class StartupTimeBenchmarkIT {
+
+    private static final int RUNS = Integer.getInteger("benchmark.startup.runs", 5);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String AOT_INITIALIZER = "BOOT-INF/classes/com/doodle/scheduler/application/"
+            + "DoodleSchedulerHexagonalApplication__ApplicationContextInitializer.class";
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @TempDir
+    private static Path workDirectory;
+
+    private static Path packagedJar;
+    private static Path unpackedJar;
+    private static Path cdsArchive;
+    private static boolean aotProcessed;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+
+    @BeforeAll
+    static void unpackAndTrain() throws Exception {
+        packagedJar = findPackagedJar();
+        Path unpacked = workDirectory.resolve("unpacked");
+        run(List.of(java(), "-Djarmode=tools", "-jar", packagedJar.toString(), "extract", "--destination", unpacked.toString()));
+        unpackedJar = unpacked.resolve(packagedJar.getFileName());
+        try (JarFile jar = new JarFile(packagedJar.toFile())) {
+            aotProcessed = jar.getEntry(AOT_INITIALIZER) != null;
+        }
+        cdsArchive = workDirectory.resolve("app.jsa");
+        // the same training run as docker/Dockerfile: no database
+        run(List.of(java(), "-XX:ArchiveClassesAtExit=" + cdsArchive, "-Dspring.context.exit=onRefresh",
+                "-Dspring.aot.enabled=" + aotProcessed, "-Dspring.profiles.active=standalone",
+                "-Dscheduler.flyway.on-startup=none", "-Dspring.jpa.hibernate.ddl-auto=none",
+                "-Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false",
+                "-jar", unpackedJar.toString()));
+    }
+
+    @Test
+    void testExecutableJar() throws Exception {
+        benchmark("jar", List.of("-jar", packagedJar.toString()));
+    }
+
+    @Test
+    void testUnpackedJarWithCds() throws Exception {
+        benchmark("cds", List.of("-XX:SharedArchiveFile=" + cdsArchive, "-jar", unpackedJar.toString()));
+    }
+
+    @Test
+    void testUnpackedJarWithCdsAndAot() throws Exception {
+        assumeThat(aotProcessed).as("jar built with the aot profile").isTrue();
+        benchmark("cds+aot", List.of("-XX:SharedArchiveFile=" + cdsArchive, "-Dspring.aot.enabled=true",
+                "-jar", unpackedJar.toString()));
+    }
+
+    private void benchmark(String variant, List<String> launch) throws Exception {
+        // GIVEN - migrated schema and warm file system cache
+        timeToFirstRequest(launch);
+
+        // WHEN
+        long[] millis = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            millis[i] = timeToFirstRequest(launch);
+        }
+
+        // THEN
+        Arrays.sort(millis);
+        System.out.printf("[benchmark] startup=%s runs=%d mean=%.0fms min=%dms max=%dms%n",
+                variant, RUNS, Arrays.stream(millis).average().orElse(0), millis[0], millis[RUNS - 1]);
+        then(millis[0]).isPositive();
+    }
+
+    private long timeToFirstRequest(List<String> launch) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.addAll(launch);
+        command.addAll(List.of(
+                "--server.port=" + port,
+                "--spring.profiles.active=standalone",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.jpa.show-sql=false"));
+        HttpRequest firstRequest = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/v1/timeslots/feed.ics")).build();
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(workDirectory.resolve("startup-" + port + ".log").toFile())
+                .start();
+        try {
+            while (System.nanoTime() - started < STARTUP_TIMEOUT.toNanos()) {
+                then(process.isAlive()).as("application exited during startup").isTrue();
+                if (isOk(firstRequest)) {
+                    return Duration.ofNanos(System.nanoTime() - started).toMillis();
+                }
+                Thread.sleep(10);
+            }
+            throw new AssertionError("no successful request within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private boolean isOk(HttpRequest request) throws InterruptedException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            // nothing listens on the port yet, or Tomcat accepted the connection before it could serve
+            return false;
+        }
+    }
+
+    private static Path findPackagedJar() throws IOException {
+        String configured = System.getProperty("benchmark.startup.jar");
+        if (configured != null) {
+            return Path.of(configured);
+        }
+        try (Stream<Path> candidates = Files.list(Path.of("target"))) {
+            return candidates
+                    .filter(path -> path.getFileName().toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("no packaged jar in target/, run mvn package first"));
+        }
+    }
+
+    private static void run(List<String> command) throws Exception {
+        File log = workDirectory.resolve("prepare.log").toFile();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(log))
+                .start();
+        then(process.waitFor()).as("exit code of %s, see %s", command, log).isZero();
+    }
+
+    private static String java() {
+        return ProcessHandle.current().info().command().orElse("java");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
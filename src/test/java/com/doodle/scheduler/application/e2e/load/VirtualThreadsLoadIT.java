@@ -0,0 +1,18 @@
+package com.doodle.scheduler.application.e2e.load;
+
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Virtual-thread mode; only meaningful on JDK 21+ (build with -Pvirtual-threads).
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@ActiveProfiles({"test", "virtual-threads"})
+class VirtualThreadsLoadIT extends BaseThreadingModeLoadIT {
+
+    @Override
+    protected String mode() {
+        return "virtual-threads";
+    }
+}
@@ -0,0 +1 @@
+DELETE FROM idempotency_keys;
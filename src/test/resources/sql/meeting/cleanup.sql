@@ -0,0 +1,4 @@
+DELETE FROM meeting_participants;
+DELETE FROM meetings;
+DELETE FROM time_slots;
+DELETE FROM users WHERE username != 'authenticated-user';
@@ -0,0 +1,3 @@
+-- Insert an AVAILABLE time slot to book (user 'authenticated-user' already exists from Flyway migration)
+INSERT INTO time_slots (id, owner_id, start_time, end_time, duration_minutes, state)
+VALUES ('444e4567-e89b-41d4-a716-446655440004', 'a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11', '2026-02-10 10:00:00+00', '2026-02-10 11:00:00+00', 60, 'AVAILABLE');
@@ -0,0 +1,5 @@
+DELETE FROM meeting_participants;
+DELETE FROM meetings;
+DELETE FROM time_slots;
+DELETE FROM recurring_availabilities;
+DELETE FROM users WHERE username != 'authenticated-user';
@@ -0,0 +1,3 @@
+DELETE FROM time_slot_imports;
+DELETE FROM time_slots;
+DELETE FROM users WHERE username != 'authenticated-user';
@@ -0,0 +1,6 @@
+INSERT INTO users (id, username)
+VALUES ('5b3c2f8e-1d4a-4c7b-9e6f-0a1b2c3d4e5f', 'bob');
+
+INSERT INTO time_slots (id, owner_id, start_time, end_time, duration_minutes, state)
+VALUES ('9d8c7b6a-5f4e-4d3c-8b2a-1f0e9d8c7b6a', '5b3c2f8e-1d4a-4c7b-9e6f-0a1b2c3d4e5f',
+        '2026-03-02 10:00:00+00', '2026-03-02 11:00:00+00', 60, 'AVAILABLE');